@@ -0,0 +1,140 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
+import com.bizwaresol.loyalty_service_club_api.data.cache.BusinessConfig;
+import com.bizwaresol.loyalty_service_club_api.data.cache.BusinessConfigCache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.OptionalInt;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "cache-invalidation.poll-timeout-ms=100"
+})
+public class DatabaseBusinessConfigIntegrationTest {
+
+    private static final long RELOAD_TIMEOUT_MS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BusinessConfigCache businessConfigCache;
+
+    @Autowired
+    private VerificationProperties verificationProperties;
+
+    @BeforeEach
+    void seedOtpConfig() {
+        setConfig(BusinessConfig.OTP_EXPIRY_MINUTES, "10");
+        setConfig(BusinessConfig.OTP_MAX_ATTEMPTS, "3");
+        setConfig(BusinessConfig.OTP_RESEND_COOLDOWN_MINUTES, "1");
+        setConfig(BusinessConfig.OTP_RATE_LIMIT_PER_HOUR, "10");
+        awaitReload(() -> businessConfigCache.get().getInt(BusinessConfig.OTP_RATE_LIMIT_PER_HOUR).equals(OptionalInt.of(10))
+                && businessConfigCache.get().getInt(BusinessConfig.OTP_EXPIRY_MINUTES).equals(OptionalInt.of(10)));
+    }
+
+    @AfterEach
+    void removeOtpConfig() {
+        // V351 does not seed the otp_* keys; leave the profile values in effect for other test classes
+        jdbcTemplate.update("DELETE FROM business_config WHERE key IN (?, ?, ?, ?)",
+                BusinessConfig.OTP_EXPIRY_MINUTES, BusinessConfig.OTP_MAX_ATTEMPTS,
+                BusinessConfig.OTP_RESEND_COOLDOWN_MINUTES, BusinessConfig.OTP_RATE_LIMIT_PER_HOUR);
+        awaitReload(() -> businessConfigCache.get().getInt(BusinessConfig.OTP_EXPIRY_MINUTES).isEmpty());
+    }
+
+    // ===== LOAD TESTS =====
+
+    @Test
+    void get_AfterStartup_ShouldHoldEveryBusinessConfigRow() {
+        // Arrange
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM business_config", Integer.class);
+
+        // Act
+        BusinessConfig config = businessConfigCache.get();
+
+        // Assert
+        assertThat(config.size()).isEqualTo(rows);
+        assertThat(config.getInt(BusinessConfig.OTP_MAX_ATTEMPTS)).hasValue(3);
+    }
+
+    @Test
+    void verificationProperties_ShouldReadThroughBusinessConfig() {
+        // Act & Assert - business_config wins over the verification.* property values
+        assertThat(verificationProperties.getOtpExpiryMinutes()).isEqualTo(10);
+        assertThat(verificationProperties.getMaxAttempts()).isEqualTo(3);
+        assertThat(verificationProperties.getResendCooldownSeconds()).isEqualTo(60);
+        assertThat(verificationProperties.getOtpRateLimitPerHour()).isEqualTo(10);
+    }
+
+    // ===== NOTIFY TESTS =====
+
+    @Test
+    void update_ShouldBeVisibleWithoutRestart() {
+        // Act
+        setConfig(BusinessConfig.OTP_MAX_ATTEMPTS, "7");
+
+        // Assert
+        awaitReload(() -> verificationProperties.getMaxAttempts() == 7);
+        assertThat(businessConfigCache.get().getInt(BusinessConfig.OTP_MAX_ATTEMPTS)).hasValue(7);
+    }
+
+    @Test
+    void delete_ShouldFallBackToPropertyValue() {
+        // Arrange
+        setConfig(BusinessConfig.OTP_RESEND_COOLDOWN_MINUTES, "5");
+        awaitReload(() -> verificationProperties.getResendCooldownSeconds() == 300);
+
+        // Act
+        jdbcTemplate.update("DELETE FROM business_config WHERE key = ?", BusinessConfig.OTP_RESEND_COOLDOWN_MINUTES);
+
+        // Assert - verification.resend-cooldown-seconds from the properties applies again
+        awaitReload(() -> businessConfigCache.get().getInt(BusinessConfig.OTP_RESEND_COOLDOWN_MINUTES).isEmpty());
+        assertThat(verificationProperties.getResendCooldownSeconds()).isNotEqualTo(300);
+    }
+
+    @Test
+    void nonNumericValue_ShouldFallBackToPropertyValue() {
+        // Act
+        setConfig(BusinessConfig.OTP_EXPIRY_MINUTES, "ten");
+
+        // Assert
+        awaitReload(() -> "ten".equals(businessConfigCache.get().getString(BusinessConfig.OTP_EXPIRY_MINUTES)));
+        assertThat(businessConfigCache.get().getInt(BusinessConfig.OTP_EXPIRY_MINUTES)).isEmpty();
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void setConfig(String key, String value) {
+        jdbcTemplate.update("INSERT INTO business_config (key, value) VALUES (?, ?) " +
+                "ON CONFLICT (key) DO UPDATE SET value = EXCLUDED.value", key, value);
+    }
+
+    private static void awaitReload(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + RELOAD_TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("business_config change not picked up within " + RELOAD_TIMEOUT_MS + " ms");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting for reload");
+            }
+        }
+    }
+}
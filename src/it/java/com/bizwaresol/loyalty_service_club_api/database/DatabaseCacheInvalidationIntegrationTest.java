@@ -0,0 +1,197 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactResolver;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Changes committed in plain SQL (standing in for another node, a trigger or a pg_cron job) reach this
+ * node's caches through NOTIFY contact_changed, without any eviction call on this node.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "cache-invalidation.poll-timeout-ms=100",
+        "cache-invalidation.max-batch-size=5"
+})
+public class DatabaseCacheInvalidationIntegrationTest {
+
+    private static final String CHANNEL = "contact_changed";
+    private static final long DELIVERY_TIMEOUT_MS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomerEmailRepository customerEmailRepository;
+
+    @Autowired
+    private ContactResolver contactResolver;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    // ===== CONTACT CHANGES =====
+
+    @Test
+    void sqlEmailChange_ShouldEvictResolutionOnThisNode() {
+        // Arrange
+        Long emailId = createEmail("before@gmail.com");
+        createAccount(createCustomer(emailId), "before@gmail.com");
+        assertThat(contactResolver.resolveEmail("before@gmail.com")).isPresent();
+
+        // Act
+        jdbcTemplate.update("UPDATE customer_emails SET email = 'after@gmail.com' WHERE id = ?", emailId);
+
+        // Assert
+        awaitDelivery(() -> contactResolver.resolveEmail("before@gmail.com").isEmpty());
+        assertThat(contactResolver.resolveEmail("after@gmail.com")).map(ResolvedContact::contactId).contains(emailId);
+    }
+
+    @Test
+    void sqlVerification_ShouldEvictSecondLevelCacheEntry() {
+        // Arrange
+        Long emailId = createEmail("verified@gmail.com");
+        assertThat(findEmail("verified@gmail.com").isVerified()).isFalse();
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsEntity(CustomerEmail.class, emailId)).isTrue();
+
+        // Act - same write as the OTP verification trigger, with no evictEmail call
+        jdbcTemplate.update("UPDATE customer_emails SET is_verified = true WHERE id = ?", emailId);
+
+        // Assert
+        awaitDelivery(() -> !cache.containsEntity(CustomerEmail.class, emailId));
+        assertThat(findEmail("verified@gmail.com").isVerified()).isTrue();
+        assertThat(lag().count()).isPositive();
+    }
+
+    @Test
+    void sqlLoginTimestamp_ShouldNotPublishChange() {
+        // Arrange
+        Long emailId = createEmail("login@gmail.com");
+        Long accountId = createAccount(createCustomer(emailId), "login@gmail.com");
+        double receivedBefore = received();
+
+        // Act - last_login_at is not cached anywhere; a watched column change follows as a marker
+        jdbcTemplate.update("UPDATE customer_accounts SET last_login_at = CURRENT_TIMESTAMP WHERE id = ?", accountId);
+        jdbcTemplate.update("UPDATE customer_accounts SET activity_status = 'INACTIVE' WHERE id = ?", accountId);
+
+        // Assert - only the status change arrived
+        awaitDelivery(() -> received() > receivedBefore);
+        assertThat(received()).isEqualTo(receivedBefore + 1);
+    }
+
+    // ===== RESYNC =====
+
+    @Test
+    void bulkChange_AboveMaxBatchSize_ShouldResyncInsteadOfApplyingOneByOne() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            Long emailId = createEmail("bulk" + i + "@gmail.com");
+            createAccount(createCustomer(emailId), "bulk" + i + "@gmail.com");
+        }
+        assertThat(contactResolver.resolveEmail("bulk0@gmail.com")).isPresent();
+        double resyncsBefore = burstResyncs();
+
+        // Act - one statement, ten notifications delivered together
+        jdbcTemplate.update("UPDATE customer_accounts SET activity_status = 'INACTIVE'");
+
+        // Assert
+        awaitDelivery(() -> burstResyncs() > resyncsBefore);
+        Long emailId = jdbcTemplate.queryForObject(
+                "SELECT id FROM customer_emails WHERE email = 'bulk0@gmail.com'", Long.class);
+        assertThat(contactResolver.resolveEmail("bulk0@gmail.com")).map(ResolvedContact::contactId).contains(emailId);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private Long createEmail(String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customer_emails (email, is_verified) VALUES (?, false) RETURNING id", Long.class, email);
+    }
+
+    private Long createCustomer(Long emailId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customers (first_name, last_name, email_id) VALUES ('Cache', 'Bus', ?) RETURNING id",
+                Long.class, emailId);
+    }
+
+    private Long createAccount(Long customerId, String username) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customer_accounts (customer_id, username, password, activity_status, verification_status) " +
+                        "VALUES (?, ?, 'hashed', ?::customer_account_activity_status_enum, ?::customer_account_verification_status_enum) RETURNING id",
+                Long.class, customerId, username, "ACTIVE", "UNVERIFIED");
+    }
+
+    private CustomerEmail findEmail(String email) {
+        return transactionTemplate.execute(status -> customerEmailRepository.findByEmail(email).orElseThrow());
+    }
+
+    private double received() {
+        Counter counter = meterRegistry.find(MetricNames.CACHE_INVALIDATION_RECEIVED)
+                .tag(MetricNames.TAG_CHANNEL, CHANNEL).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double burstResyncs() {
+        Counter counter = meterRegistry.find(MetricNames.CACHE_INVALIDATION_RESYNCS)
+                .tags(MetricNames.TAG_CHANNEL, CHANNEL, MetricNames.TAG_REASON, MetricNames.REASON_BURST).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private Timer lag() {
+        return meterRegistry.get(MetricNames.CACHE_INVALIDATION_LAG).tag(MetricNames.TAG_CHANNEL, CHANNEL).timer();
+    }
+
+    private static void awaitDelivery(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Change not delivered within " + DELIVERY_TIMEOUT_MS + " ms");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting for delivery");
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactResolver;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
+import com.bizwaresol.loyalty_service_club_api.service.data.CustomerEmailService;
+import com.bizwaresol.loyalty_service_club_api.service.data.CustomerService;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ContactResolver against the real schema: one query per resolution, cached only when complete, and
+ * evicted when the data services change a contact or customer.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class DatabaseContactResolverIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ContactResolver contactResolver;
+
+    @Autowired
+    private CustomerEmailService customerEmailService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // ===== RESOLUTION =====
+
+    @Test
+    void resolveEmail_ShouldReturnContactCustomerAndAccountIds() {
+        // Arrange
+        Long emailId = createEmail("resolve@gmail.com");
+        Long customerId = createCustomer(emailId, null);
+        Long accountId = createAccount(customerId, "resolve@gmail.com");
+
+        // Act - input is normalised the same way the email was stored
+        Optional<ResolvedContact> resolved = contactResolver.resolveEmail("  Resolve@Gmail.com ");
+
+        // Assert
+        assertThat(resolved).contains(new ResolvedContact(emailId, customerId, accountId));
+    }
+
+    @Test
+    void resolvePhone_ShouldReturnContactCustomerAndAccountIds() {
+        // Arrange
+        Long phoneId = createPhone("+381601234567");
+        Long customerId = createCustomer(null, phoneId);
+        Long accountId = createAccount(customerId, "+381601234567");
+
+        // Act
+        Optional<ResolvedContact> resolved = contactResolver.resolvePhone("+381601234567");
+
+        // Assert
+        assertThat(resolved).contains(new ResolvedContact(phoneId, customerId, accountId));
+    }
+
+    @Test
+    void resolveEmail_UnknownEmail_ShouldReturnEmpty() {
+        // Act & Assert
+        assertThat(contactResolver.resolveEmail("unknown@gmail.com")).isEmpty();
+    }
+
+    // ===== CACHING =====
+
+    @Test
+    void resolveEmail_SecondLookup_ShouldNotHitDatabase() {
+        // Arrange
+        Long emailId = createEmail("cached@gmail.com");
+        createAccount(createCustomer(emailId, null), "cached@gmail.com");
+        contactResolver.resolveEmail("cached@gmail.com");
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        // Act
+        Optional<ResolvedContact> resolved = contactResolver.resolveEmail("cached@gmail.com");
+
+        // Assert
+        assertThat(resolved).map(ResolvedContact::contactId).contains(emailId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+    }
+
+    @Test
+    void resolveEmail_WithoutAccount_ShouldNotBeCached() {
+        // Arrange
+        Long emailId = createEmail("pending@gmail.com");
+        Long customerId = createCustomer(emailId, null);
+        assertThat(contactResolver.resolveEmail("pending@gmail.com"))
+                .contains(new ResolvedContact(emailId, customerId, null));
+
+        // Act - the account created afterwards is visible without any eviction
+        Long accountId = createAccount(customerId, "pending@gmail.com");
+
+        // Assert
+        assertThat(contactResolver.resolveEmail("pending@gmail.com"))
+                .contains(new ResolvedContact(emailId, customerId, accountId));
+    }
+
+    // ===== EVICTION =====
+
+    @Test
+    void updateEmail_ShouldEvictOldResolution() {
+        // Arrange
+        Long emailId = createEmail("before@gmail.com");
+        createAccount(createCustomer(emailId, null), "before@gmail.com");
+        assertThat(contactResolver.resolveEmail("before@gmail.com")).isPresent();
+
+        // Act
+        customerEmailService.updateEmail(emailId, "after@gmail.com");
+
+        // Assert
+        assertThat(contactResolver.resolveEmail("before@gmail.com")).isEmpty();
+        assertThat(contactResolver.resolveEmail("after@gmail.com")).map(ResolvedContact::contactId).contains(emailId);
+    }
+
+    @Test
+    void updateCustomerEmail_ShouldEvictResolutionOfRemovedEmail() {
+        // Arrange
+        Long emailId = createEmail("detached@gmail.com");
+        Long customerId = createCustomer(emailId, null);
+        createAccount(customerId, "detached@gmail.com");
+        assertThat(contactResolver.resolveEmail("detached@gmail.com")).map(ResolvedContact::customerId).contains(customerId);
+
+        // Act
+        customerService.updateCustomerEmail(customerId, null);
+
+        // Assert
+        assertThat(contactResolver.resolveEmail("detached@gmail.com"))
+                .contains(new ResolvedContact(emailId, null, null));
+    }
+
+    // ===== HELPER METHODS =====
+
+    private Long createEmail(String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customer_emails (email, is_verified) VALUES (?, false) RETURNING id", Long.class, email);
+    }
+
+    private Long createPhone(String phone) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customer_phones (phone, is_verified) VALUES (?, false) RETURNING id", Long.class, phone);
+    }
+
+    private Long createCustomer(Long emailId, Long phoneId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customers (first_name, last_name, email_id, phone_id) VALUES ('Contact', 'Resolver', ?, ?) RETURNING id",
+                Long.class, emailId, phoneId);
+    }
+
+    private Long createAccount(Long customerId, String username) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customer_accounts (customer_id, username, password, activity_status, verification_status) " +
+                        "VALUES (?, ?, 'hashed', ?::customer_account_activity_status_enum, ?::customer_account_verification_status_enum) RETURNING id",
+                Long.class, customerId, username, "ACTIVE", "UNVERIFIED");
+    }
+}
@@ -45,6 +45,7 @@ public class DatabaseFunctionsIntegrationTest {
         jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
         jdbcTemplate.execute("TRUNCATE TABLE account_status_audit CASCADE");
         jdbcTemplate.execute("TRUNCATE TABLE job_execution_audit CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE job_watermarks CASCADE");
 
         // Reset sequences
         jdbcTemplate.execute("ALTER SEQUENCE customer_emails_id_seq RESTART WITH 1");
@@ -68,12 +69,14 @@ public class DatabaseFunctionsIntegrationTest {
             ('job_execution_audit_cleanup_days', '90', 'Days to keep job execution audit records'),
             ('account_status_audit_cleanup_days', '365', 'Days to keep account status change audit records'),
             ('unverified_account_cleanup_days', '30', 'Days to keep unverified accounts that never logged in'),
-            ('cleanup_batch_size', '500', 'Batch size for cleanup operations to avoid long locks'),
-            ('otp_expiry_minutes', '10', 'Minutes until OTP tokens expire'),
-            ('otp_max_attempts', '3', 'Maximum verification attempts per OTP'),
-            ('otp_resend_cooldown_minutes', '1', 'Minutes to wait before allowing OTP resend'),
-            ('password_reset_token_cleanup_days', '1', 'Days to keep password reset tokens'),
-            ('otp_rate_limit_per_hour', '10', 'Maximum OTPs that can be sent per contact per hour')
+            ('cleanup_batch_size', '500', 'Initial batch size for cleanup operations to avoid long locks'),
+            ('cleanup_min_batch_size', '50', 'Lower bound for the adaptive cleanup batch size'),
+            ('cleanup_max_batch_size', '5000', 'Upper bound for the adaptive cleanup batch size'),
+            ('cleanup_target_batch_ms', '200', 'Target latency per cleanup batch in milliseconds'),
+            ('cleanup_max_pause_ms', '1000', 'Maximum pause between cleanup batches in milliseconds'),
+            ('cleanup_max_lock_waits', '10', 'Lock timeouts tolerated per cleanup run before it aborts'),
+            ('read_model_check_batch_size', '1000', 'Accounts compared (and repaired) per committed chunk by the read model consistency check'),
+            ('password_reset_token_cleanup_days', '1', 'Days to keep password reset tokens')
             ON CONFLICT (key) DO NOTHING
             """);
     }
@@ -204,7 +207,7 @@ public class DatabaseFunctionsIntegrationTest {
         }).doesNotThrowAnyException();
     }
 
-    // ===== MARK_INACTIVE_ACCOUNTS_BATCHED FUNCTION TESTS =====
+    // ===== MARK_INACTIVE_ACCOUNTS_BATCHED PROCEDURE TESTS =====
 
     @Test
     void markInactiveAccountsBatched_WithOldAccounts_ShouldMarkInactive() throws SQLException {
@@ -223,7 +226,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT mark_inactive_accounts_batched()")) {
+             CallableStatement stmt = conn.prepareCall("CALL mark_inactive_accounts_batched()")) {
             stmt.execute();
         }
 
@@ -270,7 +273,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_otp_tokens()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_otp_tokens()")) {
             stmt.execute();
         }
 
@@ -318,7 +321,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_otp_tokens()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_otp_tokens()")) {
             stmt.execute();
         }
 
@@ -350,7 +353,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_otp_tokens()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_otp_tokens()")) {
             stmt.execute();
         }
 
@@ -390,7 +393,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_account_status_audit()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_account_status_audit()")) {
             stmt.execute();
         }
 
@@ -428,7 +431,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_unverified_accounts()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_unverified_accounts()")) {
             stmt.execute();
         }
 
@@ -458,7 +461,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_unverified_accounts()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_unverified_accounts()")) {
             stmt.execute();
         }
 
@@ -481,7 +484,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_unverified_accounts()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_unverified_accounts()")) {
             stmt.execute();
         }
 
@@ -507,7 +510,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_job_execution_audit()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_job_execution_audit()")) {
             stmt.execute();
         }
 
@@ -552,7 +555,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT run_all_cleanup_jobs()")) {
+             CallableStatement stmt = conn.prepareCall("CALL run_all_cleanup_jobs()")) {
             stmt.execute();
         }
 
@@ -578,7 +581,7 @@ public class DatabaseFunctionsIntegrationTest {
         try {
             // Act
             try (Connection conn = dataSource.getConnection();
-                 CallableStatement stmt = conn.prepareCall("SELECT run_all_cleanup_jobs()")) {
+                 CallableStatement stmt = conn.prepareCall("CALL run_all_cleanup_jobs()")) {
                 stmt.execute();
             }
 
@@ -765,7 +768,7 @@ public class DatabaseFunctionsIntegrationTest {
 
         // Act
         try (Connection conn = dataSource.getConnection();
-             CallableStatement stmt = conn.prepareCall("SELECT cleanup_password_reset_tokens()")) {
+             CallableStatement stmt = conn.prepareCall("CALL cleanup_password_reset_tokens()")) {
             stmt.execute();
         }
 
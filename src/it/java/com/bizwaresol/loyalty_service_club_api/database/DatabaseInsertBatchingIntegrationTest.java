@@ -0,0 +1,157 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+import com.bizwaresol.loyalty_service_club_api.service.auth.AuthenticationService;
+import com.bizwaresol.loyalty_service_club_api.service.data.OtpTokenService;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Checks that pooled sequence ids let Hibernate send inserts as JDBC batches. With IDENTITY every row was
+ * its own INSERT ... RETURNING round trip; with batch_size = 50 a flush of N rows of one entity needs about
+ * N / 50 statements plus one sequence call per 50 ids. Registration flushes once per registration, so it
+ * gains the sequence calls only; flows without an intermediate flush (OTP creation) batch fully.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+public class DatabaseInsertBatchingIntegrationTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int REGISTRATIONS = 1000;
+    // BCrypt dominates registration, so fewer of them
+    private static final int REGISTRATIONS_THROUGH_SERVICE = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomerEmailRepository customerEmailRepository;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private OtpTokenService otpTokenService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE password_reset_tokens CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE otp_tokens CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE account_status_audit CASCADE");
+
+        // Partitions are UTC days, as create_range_partitions makes them
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS otp_tokens_p%s PARTITION OF otp_tokens FOR VALUES FROM ('%s 00:00+00') TO ('%s 00:00+00')",
+                today.toString().replace("-", ""), today, today.plusDays(1)));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // ===== BULK REGISTRATION =====
+
+    @Test
+    void bulkRegistration_ThroughAuthenticationService_ShouldInsertOncePerTable() {
+        // Arrange
+        statistics.clear();
+
+        // Act - the production path; each registration flushes once at its end to map duplicate contacts
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < REGISTRATIONS_THROUGH_SERVICE; i++) {
+                authenticationService.register(new RegistrationRequest("Bulk", "Member", "bulk" + i + "@gmail.com",
+                        String.format("+3816%07d", i), "password123", false));
+            }
+        });
+
+        // Assert - one INSERT per table per registration (its flush has one row of each entity),
+        // and one sequence call per 50 ids instead of a RETURNING round trip per row
+        long rows = REGISTRATIONS_THROUGH_SERVICE * 4L;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("JDBC statements for %d registrations", REGISTRATIONS_THROUGH_SERVICE)
+                .isLessThanOrEqualTo(rows + rows / BATCH_SIZE + 8);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM customer_accounts a JOIN customers c ON c.id = a.customer_id", Long.class))
+                .isEqualTo((long) REGISTRATIONS_THROUGH_SERVICE);
+    }
+
+    // ===== BULK OTP CREATION =====
+
+    @Test
+    void bulkOtpCreation_InOneTransaction_ShouldBatchInserts() {
+        // Arrange
+        List<CustomerEmail> emails = transactionTemplate.execute(status -> {
+            List<CustomerEmail> created = new ArrayList<>();
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                created.add(customerEmailRepository.save(email(i)));
+            }
+            return created;
+        });
+        statistics.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            OffsetDateTime expiresAt = OffsetDateTime.now().plusMinutes(10);
+            for (CustomerEmail email : emails) {
+                otpTokenService.createEmailVerificationOtp(email, "123456", expiresAt, 3);
+            }
+        });
+
+        // Assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(REGISTRATIONS);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("JDBC statements for %d inserted OTPs", REGISTRATIONS)
+                .isLessThanOrEqualTo(2L * REGISTRATIONS / BATCH_SIZE + 2);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM otp_tokens", Long.class))
+                .isEqualTo((long) REGISTRATIONS);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private CustomerEmail email(int i) {
+        CustomerEmail email = new CustomerEmail();
+        email.setEmail("bulk" + i + "@gmail.com");
+        email.setVerified(false);
+        email.setCreatedDate(OffsetDateTime.now());
+        email.setLastModifiedDate(OffsetDateTime.now());
+        return email;
+    }
+}
@@ -0,0 +1,277 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.JobRunnerProperties;
+import com.bizwaresol.loyalty_service_club_api.data.repository.JobRunRepository;
+import com.bizwaresol.loyalty_service_club_api.service.job.ShardedJob;
+import com.bizwaresol.loyalty_service_club_api.service.job.ShardedJobRunner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false"
+})
+public class DatabaseJobRunnerIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE job_runs CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE account_status_audit CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE job_execution_audit CASCADE");
+
+        jdbcTemplate.update("UPDATE business_config SET value = '60' WHERE key = 'account_inactivity_days'");
+        jdbcTemplate.update("INSERT INTO business_config (key, value, description) VALUES " +
+                "('inactivity_batch_size', '1000', 'Batch size for processing inactive accounts') " +
+                "ON CONFLICT (key) DO UPDATE SET value = EXCLUDED.value");
+    }
+
+    @AfterEach
+    void shutdownExecutors() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    // ===== PLANNING TESTS =====
+
+    @Test
+    void planRun_WithAccounts_ShouldSplitIdRangeIntoShards() {
+        // Arrange
+        setupAccounts(10, 90);
+        ShardedJobRunner leader = createNode("node-a", 3);
+
+        // Act
+        boolean planned = leader.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+
+        // Assert
+        assertThat(planned).isTrue();
+        List<Map<String, Object>> shards = jdbcTemplate.queryForList(
+                "SELECT range_start, range_end FROM job_run_shards ORDER BY shard_no");
+        assertThat(shards).hasSize(3);
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM customer_accounts", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM customer_accounts", Long.class);
+        assertThat(shards.getFirst().get("range_start")).isEqualTo(minId - 1);
+        assertThat(shards.getLast().get("range_end")).isEqualTo(maxId);
+        for (int i = 1; i < shards.size(); i++) {
+            assertThat(shards.get(i).get("range_start")).isEqualTo(shards.get(i - 1).get("range_end"));
+        }
+    }
+
+    @Test
+    void planRun_WhenRunAlreadyPlannedToday_ShouldNotPlanAgain() {
+        // Arrange
+        setupAccounts(2, 90);
+        ShardedJobRunner nodeA = createNode("node-a", 2);
+        ShardedJobRunner nodeB = createNode("node-b", 2);
+        nodeA.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+
+        // Act
+        boolean plannedAgain = nodeB.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+
+        // Assert
+        assertThat(plannedAgain).isFalse();
+        Integer runs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_runs", Integer.class);
+        assertThat(runs).isEqualTo(1);
+    }
+
+    @Test
+    void planRun_WhenLeaderLockHeldByAnotherNode_ShouldNotPlan() throws SQLException {
+        // Arrange
+        setupAccounts(2, 90);
+        ShardedJobRunner follower = createNode("node-b", 2);
+
+        try (Connection leaderConnection = dataSource.getConnection()) {
+            assertThat(jobRunRepository.tryAdvisoryLock(leaderConnection, "job_runner_leader:mark_inactive_accounts", 0)).isTrue();
+
+            // Act
+            boolean planned = follower.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+
+            // Assert
+            assertThat(planned).isFalse();
+            jobRunRepository.releaseAdvisoryLock(leaderConnection, "job_runner_leader:mark_inactive_accounts", 0);
+        }
+        Integer runs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_runs", Integer.class);
+        assertThat(runs).isEqualTo(0);
+    }
+
+    // ===== SHARD PROCESSING TESTS =====
+
+    @Test
+    void processOpenShards_OnTwoNodes_ShouldProcessEveryShardOnceAndAuditTheRun() throws Exception {
+        // Arrange
+        setupAccounts(30, 90);
+        setupAccounts(5, 10);
+        ShardedJobRunner nodeA = createNode("node-a", 6);
+        ShardedJobRunner nodeB = createNode("node-b", 6);
+        nodeA.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+
+        // Act
+        ExecutorService nodes = Executors.newFixedThreadPool(2);
+        executors.add(nodes);
+        Future<Integer> processedByA = nodes.submit(nodeA::processOpenShards);
+        Future<Integer> processedByB = nodes.submit(nodeB::processOpenShards);
+
+        // Assert
+        assertThat(processedByA.get() + processedByB.get()).isEqualTo(6);
+        Integer inactive = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM customer_accounts WHERE activity_status = 'INACTIVE'", Integer.class);
+        assertThat(inactive).isEqualTo(30);
+
+        String runStatus = jdbcTemplate.queryForObject("SELECT status FROM job_runs", String.class);
+        assertThat(runStatus).isEqualTo("COMPLETED");
+
+        List<Map<String, Object>> audit = jdbcTemplate.queryForList(
+                "SELECT success, records_processed, details->>'runner' AS runner FROM job_execution_audit " +
+                        "WHERE job_name = 'mark_inactive_accounts'");
+        assertThat(audit).hasSize(1);
+        assertThat(audit.getFirst().get("success")).isEqualTo(true);
+        assertThat(audit.getFirst().get("records_processed")).isEqualTo(30);
+        assertThat(audit.getFirst().get("runner")).isEqualTo("application");
+    }
+
+    @Test
+    void processOpenShards_WithInterruptedShard_ShouldResumeFromCheckpoint() {
+        // Arrange
+        setupAccounts(10, 90);
+        ShardedJobRunner node = createNode("node-a", 1);
+        node.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+
+        // Simulate a node that committed the first 4 accounts and then died mid-shard
+        Long checkpoint = jdbcTemplate.queryForObject(
+                "SELECT id FROM customer_accounts ORDER BY id OFFSET 3 LIMIT 1", Long.class);
+        jdbcTemplate.update("UPDATE customer_accounts SET activity_status = 'INACTIVE' WHERE id <= ?", checkpoint);
+        jdbcTemplate.update("UPDATE job_run_shards SET status = 'RUNNING', claimed_by = 'node-dead', attempts = 1, " +
+                "checkpoint_id = ?, rows_processed = 4", checkpoint);
+
+        // Act
+        int processed = node.processOpenShards();
+
+        // Assert
+        assertThat(processed).isEqualTo(1);
+        Map<String, Object> shard = jdbcTemplate.queryForMap(
+                "SELECT status, rows_processed, attempts, claimed_by FROM job_run_shards");
+        assertThat(shard.get("status")).isEqualTo("COMPLETED");
+        assertThat(shard.get("rows_processed")).isEqualTo(10L);
+        assertThat(shard.get("attempts")).isEqualTo(2);
+        assertThat(shard.get("claimed_by")).isEqualTo("node-a");
+        Integer auditedRows = jdbcTemplate.queryForObject(
+                "SELECT records_processed FROM job_execution_audit WHERE job_name = 'mark_inactive_accounts'", Integer.class);
+        assertThat(auditedRows).isEqualTo(10);
+    }
+
+    @Test
+    void processOpenShards_WhenShardLockedByAnotherNode_ShouldSkipIt() throws SQLException {
+        // Arrange
+        setupAccounts(3, 90);
+        ShardedJobRunner node = createNode("node-a", 1);
+        node.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+        Long runId = jdbcTemplate.queryForObject("SELECT id FROM job_runs", Long.class);
+
+        try (Connection otherNode = dataSource.getConnection()) {
+            jobRunRepository.tryAdvisoryLock(otherNode, "job_run_shard:" + runId, 0);
+
+            // Act
+            int processed = node.processOpenShards();
+
+            // Assert
+            assertThat(processed).isEqualTo(0);
+            String shardStatus = jdbcTemplate.queryForObject("SELECT status FROM job_run_shards", String.class);
+            assertThat(shardStatus).isEqualTo("PENDING");
+            jobRunRepository.releaseAdvisoryLock(otherNode, "job_run_shard:" + runId, 0);
+        }
+    }
+
+    @Test
+    void processOpenShards_WhenShardFunctionFails_ShouldMarkShardFailedForRetry() {
+        // Arrange
+        setupAccounts(3, 90);
+        ShardedJobRunner node = createNode("node-a", 1);
+        node.planRun(ShardedJob.MARK_INACTIVE_ACCOUNTS);
+        jdbcTemplate.update("DELETE FROM business_config WHERE key = 'inactivity_batch_size'");
+
+        // Act
+        node.processOpenShards();
+
+        // Assert
+        Map<String, Object> shard = jdbcTemplate.queryForMap("SELECT status, error_message FROM job_run_shards");
+        assertThat(shard.get("status")).isEqualTo("FAILED");
+        assertThat(shard.get("error_message")).asString().contains("inactivity_batch_size");
+        String runStatus = jdbcTemplate.queryForObject("SELECT status FROM job_runs", String.class);
+        assertThat(runStatus).isEqualTo("RUNNING");
+
+        // Retry succeeds once configuration is back
+        jdbcTemplate.update("INSERT INTO business_config (key, value, description) VALUES " +
+                "('inactivity_batch_size', '1000', 'Batch size for processing inactive accounts')");
+        node.processOpenShards();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM job_runs", String.class)).isEqualTo("COMPLETED");
+    }
+
+    // ===== HELPER METHODS =====
+
+    private ShardedJobRunner createNode(String nodeId, int shardCount) {
+        JobRunnerProperties properties = new JobRunnerProperties();
+        properties.setEnabled(true);
+        properties.setNodeId(nodeId);
+        properties.setShardCount(shardCount);
+        properties.setWorkerThreads(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getWorkerThreads());
+        executors.add(executor);
+        return new ShardedJobRunner(dataSource, jobRunRepository, transactionTemplate, properties, executor);
+    }
+
+    private void setupAccounts(int count, int daysSinceLogin) {
+        OffsetDateTime loginDate = OffsetDateTime.now().minusDays(daysSinceLogin);
+        for (int i = 0; i < count; i++) {
+            String email = "runner" + daysSinceLogin + "_" + i + "_" + System.nanoTime() + "@test.com";
+            Long emailId = jdbcTemplate.queryForObject(
+                    "INSERT INTO customer_emails (email, is_verified) VALUES (?, ?) RETURNING id",
+                    Long.class, email, true);
+            Long customerId = jdbcTemplate.queryForObject(
+                    "INSERT INTO customers (first_name, last_name, email_id, phone_id) VALUES (?, ?, ?, ?) RETURNING id",
+                    Long.class, "Runner", "User", emailId, null);
+            jdbcTemplate.update(
+                    "INSERT INTO customer_accounts (customer_id, username, password, activity_status, verification_status, last_login_at) " +
+                            "VALUES (?, ?, ?, 'ACTIVE'::customer_account_activity_status_enum, " +
+                            "'FULLY_VERIFIED'::customer_account_verification_status_enum, ?)",
+                    customerId, email, "hashedPassword123", loginDate);
+        }
+    }
+}
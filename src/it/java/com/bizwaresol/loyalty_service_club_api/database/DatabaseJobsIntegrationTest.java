@@ -14,9 +14,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.CallableStatement;
 import java.time.OffsetDateTime;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -48,6 +51,8 @@ public class DatabaseJobsIntegrationTest {
         jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
         jdbcTemplate.execute("TRUNCATE TABLE account_status_audit CASCADE");
         jdbcTemplate.execute("TRUNCATE TABLE job_execution_audit CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE job_watermarks CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE security_events");
 
         // Reset sequences
         jdbcTemplate.execute("ALTER SEQUENCE customer_emails_id_seq RESTART WITH 1");
@@ -68,15 +73,20 @@ public class DatabaseJobsIntegrationTest {
                 Map.entry("account_inactivity_days", "60"),
                 Map.entry("inactivity_batch_size", "1000"),
                 Map.entry("otp_token_cleanup_days", "7"),
+                Map.entry("otp_token_partition_premake_days", "7"),
                 Map.entry("job_execution_audit_cleanup_days", "90"),
                 Map.entry("account_status_audit_cleanup_days", "365"),
+                Map.entry("audit_partition_premake_months", "3"),
                 Map.entry("unverified_account_cleanup_days", "30"),
                 Map.entry("cleanup_batch_size", "500"),
-                Map.entry("otp_expiry_minutes", "10"),
-                Map.entry("otp_max_attempts", "3"),
-                Map.entry("otp_resend_cooldown_minutes", "1"),
-                Map.entry("otp_rate_limit_per_hour", "10"),
-                Map.entry("password_reset_token_cleanup_days", "1")
+                Map.entry("cleanup_min_batch_size", "50"),
+                Map.entry("cleanup_max_batch_size", "5000"),
+                Map.entry("cleanup_target_batch_ms", "200"),
+                Map.entry("cleanup_max_pause_ms", "1000"),
+                Map.entry("cleanup_max_lock_waits", "10"),
+                Map.entry("read_model_check_batch_size", "1000"),
+                Map.entry("password_reset_token_cleanup_days", "1"),
+                Map.entry("security_events_cleanup_days", "180")
         );
 
         for (Map.Entry<String, String> config : defaultConfigs.entrySet()) {
@@ -93,15 +103,20 @@ public class DatabaseJobsIntegrationTest {
                 Map.entry("account_inactivity_days", "60"),
                 Map.entry("inactivity_batch_size", "1000"),
                 Map.entry("otp_token_cleanup_days", "7"),
+                Map.entry("otp_token_partition_premake_days", "7"),
                 Map.entry("job_execution_audit_cleanup_days", "90"),
                 Map.entry("account_status_audit_cleanup_days", "365"),
+                Map.entry("audit_partition_premake_months", "3"),
                 Map.entry("unverified_account_cleanup_days", "30"),
                 Map.entry("cleanup_batch_size", "500"),
-                Map.entry("otp_expiry_minutes", "10"),
-                Map.entry("otp_max_attempts", "3"),
-                Map.entry("otp_resend_cooldown_minutes", "1"),
-                Map.entry("otp_rate_limit_per_hour", "10"),
-                Map.entry("password_reset_token_cleanup_days", "1")
+                Map.entry("cleanup_min_batch_size", "50"),
+                Map.entry("cleanup_max_batch_size", "5000"),
+                Map.entry("cleanup_target_batch_ms", "200"),
+                Map.entry("cleanup_max_pause_ms", "1000"),
+                Map.entry("cleanup_max_lock_waits", "10"),
+                Map.entry("read_model_check_batch_size", "1000"),
+                Map.entry("password_reset_token_cleanup_days", "1"),
+                Map.entry("security_events_cleanup_days", "180")
         );
 
         for (Map.Entry<String, String> config : requiredConfigs.entrySet()) {
@@ -126,10 +141,13 @@ public class DatabaseJobsIntegrationTest {
         String[] jobFunctions = {
                 "mark_inactive_accounts_batched",
                 "cleanup_otp_tokens",
+                "maintain_otp_tokens_partitions",
+                "maintain_audit_partitions",
                 "cleanup_password_reset_tokens",
                 "cleanup_job_execution_audit",
                 "cleanup_account_status_audit",
                 "cleanup_unverified_accounts",
+                "cleanup_security_events",
                 "run_all_cleanup_jobs"
         };
 
@@ -163,7 +181,7 @@ public class DatabaseJobsIntegrationTest {
         createPasswordResetToken(accountId2, UUID.randomUUID().toString());
 
         // Act
-        callJobFunction("cleanup_password_reset_tokens");
+        callJobProcedure("cleanup_password_reset_tokens");
 
         // Assert
         Integer processedCount = getLatestAuditRecordCount("cleanup_password_reset_tokens");
@@ -172,6 +190,102 @@ public class DatabaseJobsIntegrationTest {
         assertThat(remainingTokens).isEqualTo(1);
     }
 
+    @Test
+    void cleanupPasswordResetTokens_WithSmallBatchSize_ShouldRecordAdaptiveBatchingDetails() {
+        // Arrange
+        jdbcTemplate.update("UPDATE business_config SET value = '2' WHERE key = 'cleanup_batch_size'");
+        jdbcTemplate.update("UPDATE business_config SET value = '1' WHERE key = 'cleanup_min_batch_size'");
+        jdbcTemplate.update("UPDATE business_config SET value = '3' WHERE key = 'cleanup_max_batch_size'");
+        for (int i = 0; i < 7; i++) {
+            Long accountId = setupAccountForTokenTests("adaptive" + i + "@test.com");
+            Long tokenId = createPasswordResetToken(accountId, UUID.randomUUID().toString());
+            jdbcTemplate.update("UPDATE password_reset_tokens SET created_date = ? WHERE id = ?",
+                    OffsetDateTime.now().minusDays(2), tokenId);
+        }
+
+        // Act
+        callJobProcedure("cleanup_password_reset_tokens");
+
+        // Assert
+        assertThat(getLatestAuditRecordCount("cleanup_password_reset_tokens")).isEqualTo(7);
+        Map<String, Object> details = jdbcTemplate.queryForMap(
+                "SELECT (details->>'initial_batch_size')::INTEGER AS initial_batch_size, " +
+                        "(details->>'max_batch_size_used')::INTEGER AS max_batch_size_used, " +
+                        "(details->>'batches')::INTEGER AS batches, " +
+                        "(details->>'lock_waits')::INTEGER AS lock_waits, " +
+                        "jsonb_array_length(details->'batch_sizes') AS recorded_batch_sizes " +
+                        "FROM job_execution_audit WHERE job_name = 'cleanup_password_reset_tokens' " +
+                        "ORDER BY created_date DESC LIMIT 1");
+        assertThat(details.get("initial_batch_size")).isEqualTo(2);
+        assertThat((Integer) details.get("max_batch_size_used")).isLessThanOrEqualTo(3);
+        assertThat((Integer) details.get("batches")).isGreaterThanOrEqualTo(3);
+        assertThat(details.get("recorded_batch_sizes")).isEqualTo(details.get("batches"));
+        assertThat(details.get("lock_waits")).isEqualTo(0);
+    }
+
+    @Test
+    void cleanupPasswordResetTokens_WhenRowsStayLocked_ShouldAbortAfterMaxLockWaits() throws SQLException {
+        // Arrange
+        jdbcTemplate.update("UPDATE business_config SET value = '50' WHERE key = 'cleanup_target_batch_ms'");
+        jdbcTemplate.update("UPDATE business_config SET value = '0' WHERE key = 'cleanup_max_pause_ms'");
+        jdbcTemplate.update("UPDATE business_config SET value = '1' WHERE key = 'cleanup_max_lock_waits'");
+        Long accountId = setupAccountForTokenTests("locked@test.com");
+        Long tokenId = createPasswordResetToken(accountId, UUID.randomUUID().toString());
+        jdbcTemplate.update("UPDATE password_reset_tokens SET created_date = ? WHERE id = ?",
+                OffsetDateTime.now().minusDays(2), tokenId);
+
+        try (Connection lockingConn = dataSource.getConnection()) {
+            lockingConn.setAutoCommit(false);
+            try (Statement stmt = lockingConn.createStatement()) {
+                stmt.execute("SELECT id FROM password_reset_tokens WHERE id = " + tokenId + " FOR UPDATE");
+            }
+
+            // Act & Assert
+            assertThatThrownBy(() -> callJobProcedure("cleanup_password_reset_tokens"))
+                    .hasMessageContaining("lock timeouts");
+
+            lockingConn.rollback();
+        }
+
+        Integer remainingTokens = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM password_reset_tokens", Integer.class);
+        assertThat(remainingTokens).isEqualTo(1);
+    }
+
+    @Test
+    void cleanupPasswordResetTokens_WhenAborted_ShouldKeepBatchesCommittedBeforeTheAbort() throws SQLException {
+        // Arrange - one row per batch; the last token stays locked, so the run aborts on it
+        jdbcTemplate.update("UPDATE business_config SET value = '1' WHERE key IN " +
+                "('cleanup_batch_size', 'cleanup_min_batch_size', 'cleanup_max_batch_size', 'cleanup_max_lock_waits')");
+        jdbcTemplate.update("UPDATE business_config SET value = '50' WHERE key = 'cleanup_target_batch_ms'");
+        jdbcTemplate.update("UPDATE business_config SET value = '0' WHERE key = 'cleanup_max_pause_ms'");
+        Long lockedTokenId = null;
+        for (int i = 0; i < 4; i++) {
+            Long accountId = setupAccountForTokenTests("committed" + i + "@test.com");
+            lockedTokenId = createPasswordResetToken(accountId, UUID.randomUUID().toString());
+            jdbcTemplate.update("UPDATE password_reset_tokens SET created_date = ? WHERE id = ?",
+                    OffsetDateTime.now().minusDays(2), lockedTokenId);
+        }
+
+        try (Connection lockingConn = dataSource.getConnection()) {
+            lockingConn.setAutoCommit(false);
+            try (Statement stmt = lockingConn.createStatement()) {
+                stmt.execute("SELECT id FROM password_reset_tokens WHERE id = " + lockedTokenId + " FOR UPDATE");
+            }
+
+            // Act
+            assertThatThrownBy(() -> callJobProcedure("cleanup_password_reset_tokens"))
+                    .hasMessageContaining("after 2 lock timeouts");
+
+            lockingConn.rollback();
+        }
+
+        // Assert - every batch before the abort was committed, and so was the failure audit
+        List<Long> remainingTokens = jdbcTemplate.queryForList("SELECT id FROM password_reset_tokens", Long.class);
+        assertThat(remainingTokens).containsExactly(lockedTokenId);
+        assertThat(getLatestAuditRecord("cleanup_password_reset_tokens").get("success")).isEqualTo(false);
+        assertThat(getLatestAuditRecordCount("cleanup_password_reset_tokens")).isEqualTo(3);
+    }
+
     @Test
     void cleanupOtpTokens_WithOldTokens_ShouldProcessCorrectly() {
         // Arrange
@@ -181,7 +295,7 @@ public class DatabaseJobsIntegrationTest {
         createOtpToken(emailId, null, "345678", "EMAIL_VERIFICATION", "EMAIL", OffsetDateTime.now().minusDays(2));
 
         // Act
-        callJobFunction("cleanup_otp_tokens");
+        callJobProcedure("cleanup_otp_tokens");
 
         // Assert
         Integer processedCount = getLatestAuditRecordCount("cleanup_otp_tokens");
@@ -190,13 +304,174 @@ public class DatabaseJobsIntegrationTest {
         assertThat(remainingTokens).isEqualTo(1);
     }
 
+    @Test
+    void cleanupOtpTokens_WithExpiredPartition_ShouldDropWholePartition() {
+        // Arrange
+        LocalDate expiredDay = LocalDate.now(ZoneOffset.UTC).minusDays(20);
+        String partitionName = createOtpTokensPartition(expiredDay);
+        OffsetDateTime expiredNoon = expiredDay.atTime(12, 0).atOffset(ZoneOffset.UTC);
+        Long emailId = createCustomerEmail("partition@gmail.com", true);
+        createOtpToken(emailId, null, "123456", "EMAIL_VERIFICATION", "EMAIL", expiredNoon);
+        createOtpToken(emailId, null, "654321", "EMAIL_VERIFICATION", "EMAIL", expiredNoon.plusHours(1));
+        createOtpToken(emailId, null, "345678", "EMAIL_VERIFICATION", "EMAIL", OffsetDateTime.now());
+
+        Integer tokensInPartition = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partitionName, Integer.class);
+        assertThat(tokensInPartition).isEqualTo(2);
+        // Dropped partitions are counted from their statistics (pg_class.reltuples), not scanned
+        jdbcTemplate.execute("ANALYZE " + partitionName);
+
+        // Act
+        callJobProcedure("cleanup_otp_tokens");
+
+        // Assert
+        assertThat(getLatestAuditRecordCount("cleanup_otp_tokens")).isEqualTo(2);
+        String droppedPartition = jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class, partitionName);
+        assertThat(droppedPartition).isNull();
+        Integer remainingTokens = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM otp_tokens", Integer.class);
+        assertThat(remainingTokens).isEqualTo(1);
+    }
+
+    @Test
+    void maintainOtpTokensPartitions_ShouldPreCreateFuturePartitions() {
+        // Act
+        callJobFunction("maintain_otp_tokens_partitions");
+
+        // Assert
+        for (int day = 0; day <= 7; day++) {
+            String partitionName = "otp_tokens_p" + LocalDate.now(ZoneOffset.UTC).plusDays(day).toString().replace("-", "");
+            String partition = jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class, partitionName);
+            assertThat(partition).isEqualTo(partitionName);
+        }
+        Map<String, Object> auditRecord = getLatestAuditRecord("maintain_otp_tokens_partitions");
+        assertThat(auditRecord.get("success")).isEqualTo(true);
+    }
+
+    @Test
+    void createRangePartitions_InDifferentSessionTimeZones_ShouldCreateSameUtcPartitions() throws SQLException {
+        // Arrange - Flyway runs in the JVM zone, pg_cron in the server zone
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        String todayPartition = "tz_partition_test_p" + today.toString().replace("-", "");
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS tz_partition_test");
+            stmt.execute("CREATE TABLE tz_partition_test (id BIGINT, created_date TIMESTAMPTZ NOT NULL) " +
+                    "PARTITION BY RANGE (created_date)");
+            try {
+                // Act
+                stmt.execute("SET TIME ZONE 'America/Los_Angeles'");
+                int createdWest = createRangePartitions(stmt, "tz_partition_test", 1);
+                stmt.execute("SET TIME ZONE 'Asia/Tokyo'");
+                int createdEast = createRangePartitions(stmt, "tz_partition_test", 2);
+
+                // Assert - the second run only adds the day after, with no gap or overlap
+                assertThat(createdWest).isEqualTo(2);
+                assertThat(createdEast).isEqualTo(1);
+                stmt.execute("SET TIME ZONE 'UTC'");
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c WHERE c.relname = '" + todayPartition + "'")) {
+                    assertThat(rs.next()).isTrue();
+                    assertThat(rs.getString(1)).isEqualTo(String.format(
+                            "FOR VALUES FROM ('%s 00:00:00+00') TO ('%s 00:00:00+00')", today, today.plusDays(1)));
+                }
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'tz_partition_test'::regclass")) {
+                    rs.next();
+                    assertThat(rs.getInt(1)).isEqualTo(3);
+                }
+            } finally {
+                stmt.execute("RESET TIME ZONE");
+                stmt.execute("DROP TABLE tz_partition_test");
+            }
+        }
+    }
+
+    @Test
+    void cleanupAccountStatusAudit_WithExpiredPartition_ShouldDropWholePartition() {
+        // Arrange
+        Long accountId = setupAccountForTokenTests("auditpartition@test.com");
+        YearMonth expiredMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(14);
+        String partitionName = createMonthlyPartition("account_status_audit", expiredMonth);
+        OffsetDateTime expiredDate = expiredMonth.atDay(10).atStartOfDay().atOffset(ZoneOffset.UTC);
+        createAccountStatusAuditRecord(accountId, "ACTIVE", "INACTIVE", expiredDate);
+        createAccountStatusAuditRecord(accountId, "INACTIVE", "ACTIVE", expiredDate.plusDays(1));
+        createAccountStatusAuditRecord(accountId, "ACTIVE", "SUSPENDED", OffsetDateTime.now().minusDays(10));
+        jdbcTemplate.execute("ANALYZE " + partitionName);
+
+        // Act
+        callJobProcedure("cleanup_account_status_audit");
+
+        // Assert
+        assertThat(getLatestAuditRecordCount("cleanup_account_status_audit")).isEqualTo(2);
+        String droppedPartition = jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class, partitionName);
+        assertThat(droppedPartition).isNull();
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_status_audit WHERE account_id = ?", Integer.class, accountId);
+        assertThat(remaining).isEqualTo(1);
+    }
+
+    @Test
+    void cleanupSecurityEvents_WithExpiredPartition_ShouldDropWholePartition() {
+        // Arrange
+        YearMonth expiredMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(8);
+        String partitionName = createMonthlyPartition("security_events", expiredMonth);
+        OffsetDateTime expiredDate = expiredMonth.atDay(10).atStartOfDay().atOffset(ZoneOffset.UTC);
+        createSecurityEvent("expired@test.com", expiredDate);
+        createSecurityEvent("expired@test.com", expiredDate.plusDays(1));
+        createSecurityEvent("recent@test.com", OffsetDateTime.now().minusDays(10));
+        jdbcTemplate.execute("ANALYZE " + partitionName);
+
+        // Act
+        callJobProcedure("cleanup_security_events");
+
+        // Assert
+        assertThat(getLatestAuditRecordCount("cleanup_security_events")).isEqualTo(2);
+        String droppedPartition = jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class, partitionName);
+        assertThat(droppedPartition).isNull();
+        List<String> remaining = jdbcTemplate.queryForList("SELECT identifier FROM security_events", String.class);
+        assertThat(remaining).containsExactly("recent@test.com");
+    }
+
+    @Test
+    void accountStatusAuditQuery_WithCreatedDateRange_ShouldPruneOldPartitions() {
+        // Arrange
+        YearMonth oldMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(6);
+        String oldPartition = createMonthlyPartition("account_status_audit", oldMonth);
+        String recentFrom = YearMonth.now(ZoneOffset.UTC).atDay(1) + " 00:00+00";
+
+        // Act
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM account_status_audit WHERE account_id = 1 AND created_date >= '" + recentFrom + "'",
+                String.class);
+
+        // Assert
+        assertThat(String.join("\n", plan)).doesNotContain(oldPartition);
+    }
+
+    @Test
+    void maintainAuditPartitions_ShouldPreCreateMonthlyPartitions() {
+        // Act
+        callJobFunction("maintain_audit_partitions");
+
+        // Assert
+        for (String table : List.of("account_status_audit", "job_execution_audit", "security_events")) {
+            for (int month = 0; month <= 3; month++) {
+                String partitionName = table + "_p" + YearMonth.now(ZoneOffset.UTC).plusMonths(month).toString().replace("-", "");
+                String partition = jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class, partitionName);
+                assertThat(partition).isEqualTo(partitionName);
+            }
+        }
+        Map<String, Object> auditRecord = getLatestAuditRecord("maintain_audit_partitions");
+        assertThat(auditRecord.get("success")).isEqualTo(true);
+    }
+
     @Test
     void runAllCleanupJobs_ShouldExecuteAllCleanupFunctions() {
         // Arrange
         setupTestDataForCleanupJobs();
 
         // Act
-        callJobFunction("run_all_cleanup_jobs");
+        callJobProcedure("run_all_cleanup_jobs");
 
         // Assert
         Boolean masterJobExists = jdbcTemplate.queryForObject(
@@ -208,7 +483,8 @@ public class DatabaseJobsIntegrationTest {
                 "cleanup_otp_tokens",
                 "cleanup_password_reset_tokens",
                 "cleanup_account_status_audit",
-                "cleanup_unverified_accounts"
+                "cleanup_unverified_accounts",
+                "cleanup_security_events"
         );
 
         for (String jobName : expectedJobs) {
@@ -228,7 +504,7 @@ public class DatabaseJobsIntegrationTest {
         setupOldAccountsForTesting(2, false);
 
         // Act
-        callJobFunction("mark_inactive_accounts_batched");
+        callJobProcedure("mark_inactive_accounts_batched");
 
         // Assert
         Integer inactiveCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_accounts WHERE activity_status = 'INACTIVE'", Integer.class);
@@ -237,6 +513,128 @@ public class DatabaseJobsIntegrationTest {
         assertThat(processedCount).isEqualTo(3);
     }
 
+    @Test
+    void markInactiveAccounts_WithSmallBatchSize_ShouldCommitInChunksAndAuditEachChunk() {
+        // Arrange
+        jdbcTemplate.update("UPDATE business_config SET value = '2' WHERE key = 'inactivity_batch_size'");
+        setupOldAccountsForTesting(5);
+
+        // Act
+        callJobProcedure("mark_inactive_accounts_batched");
+
+        // Assert
+        Integer inactiveCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_accounts WHERE activity_status = 'INACTIVE'", Integer.class);
+        assertThat(inactiveCount).isEqualTo(5);
+
+        List<Integer> chunkSizes = jdbcTemplate.queryForList(
+                "SELECT records_processed FROM job_execution_audit WHERE job_name = 'mark_inactive_accounts_chunk' ORDER BY id",
+                Integer.class);
+        assertThat(chunkSizes).containsExactly(2, 2, 1);
+        assertThat(getLatestAuditRecordCount("mark_inactive_accounts")).isEqualTo(5);
+
+        Map<String, Object> watermark = jdbcTemplate.queryForMap(
+                "SELECT * FROM job_watermarks WHERE job_name = 'mark_inactive_accounts'");
+        assertThat(watermark.get("completed")).isEqualTo(true);
+        assertThat(watermark.get("watermark_id")).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM customer_accounts", Long.class));
+    }
+
+    @Test
+    void markInactiveAccounts_WithOpenWatermark_ShouldResumeAfterLastCommittedChunk() {
+        // Arrange
+        setupOldAccountsForTesting(4);
+        Map<String, Object> secondAccount = jdbcTemplate.queryForMap(
+                "SELECT id, last_login_at FROM customer_accounts ORDER BY last_login_at, id OFFSET 1 LIMIT 1");
+        jdbcTemplate.update(
+                "INSERT INTO job_watermarks (job_name, cutoff_at, watermark_timestamp, watermark_id, completed) " +
+                        "VALUES ('mark_inactive_accounts', ?, ?, ?, FALSE)",
+                OffsetDateTime.now().minusDays(60), secondAccount.get("last_login_at"), secondAccount.get("id"));
+
+        // Act
+        callJobProcedure("mark_inactive_accounts_batched");
+
+        // Assert
+        Integer inactiveCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_accounts WHERE activity_status = 'INACTIVE'", Integer.class);
+        assertThat(inactiveCount).isEqualTo(2);
+        assertThat(getLatestAuditRecordCount("mark_inactive_accounts")).isEqualTo(2);
+        Boolean completed = jdbcTemplate.queryForObject(
+                "SELECT completed FROM job_watermarks WHERE job_name = 'mark_inactive_accounts'", Boolean.class);
+        assertThat(completed).isTrue();
+    }
+
+    // ===== READ MODEL CONSISTENCY CHECK TESTS =====
+
+    @Test
+    void checkAccountReadModel_WhenInSync_ShouldReportNoDrift() {
+        // Arrange - Triggers keep the read model in sync on every write
+        setupOldAccountsForTesting(3);
+
+        // Act
+        callJobProcedure("check_account_read_model");
+
+        // Assert
+        Map<String, Object> auditRecord = jdbcTemplate.queryForMap(
+                "SELECT success, records_processed, details->>'missing' AS missing, details->>'stale' AS stale " +
+                        "FROM job_execution_audit WHERE job_name = 'check_account_read_model' ORDER BY id DESC LIMIT 1");
+        assertThat(auditRecord.get("success")).isEqualTo(true);
+        assertThat(auditRecord.get("records_processed")).isEqualTo(3);
+        assertThat(auditRecord.get("missing")).isEqualTo("0");
+        assertThat(auditRecord.get("stale")).isEqualTo("0");
+    }
+
+    @Test
+    void checkAccountReadModel_WithMissingAndStaleRows_ShouldRepairThemChunkByChunk() {
+        // Arrange
+        jdbcTemplate.update("UPDATE business_config SET value = '2' WHERE key = 'read_model_check_batch_size'");
+        setupOldAccountsForTesting(5);
+        List<Long> accountIds = jdbcTemplate.queryForList("SELECT id FROM customer_accounts ORDER BY id", Long.class);
+        jdbcTemplate.update("DELETE FROM account_read_model WHERE account_id = ?", accountIds.get(0));
+        jdbcTemplate.update("UPDATE account_read_model SET calculated_status = 'FULLY_VERIFIED', last_login_at = NULL " +
+                "WHERE account_id = ?", accountIds.get(3));
+
+        // Act
+        callJobProcedure("check_account_read_model");
+
+        // Assert - Read model matches its source again
+        Integer drift = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM (
+                    (SELECT account_id, customer_id, email_id, phone_id, email_verified, phone_verified, has_email,
+                            has_phone, verification_status, calculated_status, activity_status, last_login_at
+                     FROM account_read_model_source
+                     EXCEPT
+                     SELECT account_id, customer_id, email_id, phone_id, email_verified, phone_verified, has_email,
+                            has_phone, verification_status, calculated_status, activity_status, last_login_at
+                     FROM account_read_model)
+                ) d
+                """, Integer.class);
+        assertThat(drift).isZero();
+
+        Map<String, Object> auditRecord = jdbcTemplate.queryForMap(
+                "SELECT records_processed, details->>'chunks' AS chunks, details->>'missing' AS missing, " +
+                        "details->>'stale' AS stale, details->>'repaired' AS repaired " +
+                        "FROM job_execution_audit WHERE job_name = 'check_account_read_model' ORDER BY id DESC LIMIT 1");
+        assertThat(auditRecord.get("records_processed")).isEqualTo(5);
+        assertThat(auditRecord.get("chunks")).isEqualTo("3");
+        assertThat(auditRecord.get("missing")).isEqualTo("1");
+        assertThat(auditRecord.get("stale")).isEqualTo("1");
+        assertThat(auditRecord.get("repaired")).isEqualTo("2");
+    }
+
+    @Test
+    void checkAccountReadModel_WithMissingConfig_ShouldLogFailure() {
+        // Arrange
+        jdbcTemplate.update("DELETE FROM business_config WHERE key = 'read_model_check_batch_size'");
+
+        // Act
+        callJobProcedure("check_account_read_model");
+
+        // Assert
+        Map<String, Object> auditRecord = getLatestAuditRecord("check_account_read_model");
+        assertThat(auditRecord.get("success")).isEqualTo(false);
+        assertThat(auditRecord.get("error_message")).asString()
+                .contains("Configuration missing: read_model_check_batch_size");
+    }
+
     // ===== JOB EXECUTION AUDIT TESTS =====
 
     @Test
@@ -245,7 +643,7 @@ public class DatabaseJobsIntegrationTest {
         setupOldAccountsForTesting(2);
 
         // Act
-        callJobFunction("mark_inactive_accounts_batched");
+        callJobProcedure("mark_inactive_accounts_batched");
 
         // Assert
         Map<String, Object> auditRecord = getLatestAuditRecord("mark_inactive_accounts");
@@ -260,8 +658,8 @@ public class DatabaseJobsIntegrationTest {
         jdbcTemplate.update("DELETE FROM business_config WHERE key = 'account_inactivity_days'");
 
         // Act
-        // The function will now log the error but not throw an exception that rolls back the transaction
-        callJobFunction("mark_inactive_accounts_batched");
+        // The procedure logs the error but does not throw an exception that rolls back the transaction
+        callJobProcedure("mark_inactive_accounts_batched");
 
         // Assert
         Map<String, Object> auditRecord = getLatestAuditRecord("mark_inactive_accounts");
@@ -280,6 +678,25 @@ public class DatabaseJobsIntegrationTest {
         }
     }
 
+    private static int createRangePartitions(Statement stmt, String table, int daysAhead) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT create_range_partitions('" + table + "', 'day', " + daysAhead + ")")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private void callJobProcedure(String procedureName) {
+        // Procedures that COMMIT internally must be CALLed outside an explicit transaction (auto-commit)
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(true);
+            stmt.execute("CALL " + procedureName + "()");
+        } catch (SQLException e) {
+            throw new RuntimeException("Job procedure '" + procedureName + "' is not callable: " + e.getMessage(), e);
+        }
+    }
+
     private Map<String, Object> getLatestAuditRecord(String jobName) {
         return jdbcTemplate.queryForMap(
                 "SELECT * FROM job_execution_audit WHERE job_name = ? " +
@@ -376,6 +793,29 @@ public class DatabaseJobsIntegrationTest {
         jdbcTemplate.update("UPDATE otp_tokens SET created_date = ? WHERE id = ?", createdDate, tokenId);
     }
 
+    private String createOtpTokensPartition(LocalDate day) {
+        String partitionName = "otp_tokens_p" + day.toString().replace("-", "");
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF otp_tokens FOR VALUES FROM ('%s 00:00+00') TO ('%s 00:00+00')",
+                partitionName, day, day.plusDays(1)));
+        return partitionName;
+    }
+
+    private void createSecurityEvent(String identifier, OffsetDateTime occurredAt) {
+        jdbcTemplate.update(
+                "INSERT INTO security_events (event_type, outcome, identifier, occurred_at) " +
+                        "VALUES ('LOGIN'::security_event_type_enum, 'invalid', ?, ?)",
+                identifier, occurredAt);
+    }
+
+    private String createMonthlyPartition(String table, YearMonth month) {
+        String partitionName = table + "_p" + month.toString().replace("-", "");
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s 00:00+00') TO ('%s 00:00+00')",
+                partitionName, table, month.atDay(1), month.plusMonths(1).atDay(1)));
+        return partitionName;
+    }
+
     private Long createPasswordResetToken(Long accountId, String token) {
         return jdbcTemplate.queryForObject(
                 "INSERT INTO password_reset_tokens (customer_account_id, token, expires_at) " +
@@ -0,0 +1,239 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.LoginResult;
+import com.bizwaresol.loyalty_service_club_api.data.statistics.QueryCounts;
+import com.bizwaresol.loyalty_service_club_api.data.statistics.QueryStatisticsFilter;
+import com.bizwaresol.loyalty_service_club_api.data.statistics.QueryStatisticsRecorder;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
+import com.bizwaresol.loyalty_service_club_api.service.auth.AuthenticationService;
+import com.bizwaresol.loyalty_service_club_api.service.data.CustomerEmailService;
+import com.bizwaresol.loyalty_service_club_api.service.data.OtpTokenService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.bizwaresol.loyalty_service_club_api.data.statistics.QueryCountAssertions.assertQueries;
+import static com.bizwaresol.loyalty_service_club_api.data.statistics.QueryCountAssertions.countQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Query budgets for the OtpTokenService and AuthenticationService flows, so an N+1 (an eager association,
+ * a per-row lookup) fails here instead of surfacing in production. Budgets count JDBC statements; pooled
+ * sequence ids mean an insert costs at most one extra sequence call.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "query-statistics.enabled=true",
+        "query-statistics.slow-query-threshold-ms=100"
+})
+public class DatabaseQueryCountIntegrationTest {
+
+    private static final String OTP_CODE = "123456";
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OtpTokenService otpTokenService;
+
+    @Autowired
+    private CustomerEmailService customerEmailService;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private QueryStatisticsRecorder queryStatisticsRecorder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE password_reset_tokens CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE otp_tokens CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE account_status_audit CASCADE");
+
+        // Partitions are UTC days, as create_range_partitions makes them
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS otp_tokens_p%s PARTITION OF otp_tokens FOR VALUES FROM ('%s 00:00+00') TO ('%s 00:00+00')",
+                today.toString().replace("-", ""), today, today.plusDays(1)));
+    }
+
+    // ===== OTP TOKEN SERVICE =====
+
+    @Test
+    void createEmailVerificationOtp_ShouldIssueInsertAndAtMostOneSequenceCall() {
+        // Arrange
+        CustomerEmail email = customerEmailService.createEmail("otp.create@gmail.com");
+
+        // Act & Assert
+        assertQueries(() -> otpTokenService.createEmailVerificationOtp(email, OTP_CODE, expiresAt(), 3))
+                .issuesAtMost(2)
+                .loadsAtMost(0)
+                .fetchesAtMost(0);
+    }
+
+    @Test
+    void findValidEmailVerificationOtp_ShouldIssueOneQuery() {
+        // Arrange
+        CustomerEmail email = customerEmailService.createEmail("otp.find@gmail.com");
+        otpTokenService.createEmailVerificationOtp(email, OTP_CODE, expiresAt(), 3);
+
+        // Act & Assert - The email is only joined in the WHERE clause, never loaded
+        assertQueries(() -> otpTokenService.findValidEmailVerificationOtp(OTP_CODE, "otp.find@gmail.com"))
+                .issuesAtMost(1)
+                .loadsAtMost(1)
+                .fetchesAtMost(0)
+                .hasNoSlowQueries();
+    }
+
+    @Test
+    void getOtpTokensPage_ShouldIssueOneQueryRegardlessOfPageSize() {
+        // Arrange
+        CustomerEmail email = customerEmailService.createEmail("otp.page@gmail.com");
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 20; i++) {
+                otpTokenService.createEmailVerificationOtp(email, OTP_CODE, expiresAt(), 3);
+            }
+        });
+
+        // Act
+        QueryCounts counts = countQueries(() -> {
+            List<OtpToken> page = otpTokenService.getOtpTokensPage(null, 20);
+            assertThat(page).hasSize(20);
+        });
+
+        // Assert - No per-row selects for the lazy contact associations
+        assertThat(counts.statements()).isEqualTo(1);
+        assertThat(counts.entityLoads()).isEqualTo(20);
+    }
+
+    @Test
+    void markOtpAsUsed_ShouldIssueSingleUpdate() {
+        // Arrange
+        CustomerEmail email = customerEmailService.createEmail("otp.used@gmail.com");
+        OtpToken otpToken = otpTokenService.createEmailVerificationOtp(email, OTP_CODE, expiresAt(), 3);
+
+        // Act & Assert
+        assertQueries(() -> otpTokenService.markOtpAsUsed(otpToken.getId(), otpToken.getCreatedDate()))
+                .issuesAtMost(1)
+                .loadsAtMost(0);
+    }
+
+    // ===== AUTHENTICATION SERVICE =====
+
+    @Test
+    void register_WithEmail_ShouldIssueThreeInsertsAndAtMostThreeSequenceCalls() {
+        // Act & Assert - Email, customer and account rows, each flushed on its own
+        assertQueries(() -> authenticationService.register(registration("auth.register@gmail.com")))
+                .issuesAtMost(6)
+                .fetchesAtMost(0);
+    }
+
+    @Test
+    void authenticate_ShouldStayWithinQueryBudget() {
+        // Arrange
+        authenticationService.register(registration("auth.login@gmail.com"));
+
+        // Act & Assert - Account lookup, its eager customer (and the customer's inverse account side),
+        // the last-login UPDATE and the refresh of the updated account
+        assertQueries(() -> authenticationService.authenticate(new LoginRequest("auth.login@gmail.com", PASSWORD, false)))
+                .issuesAtMost(6)
+                .fetchesAtMost(0)
+                .hasNoSlowQueries();
+    }
+
+    @Test
+    void authenticate_ShouldReturnAccountWithItsNewLastLogin() {
+        // Arrange
+        authenticationService.register(registration("auth.fresh@gmail.com"));
+
+        // Act
+        LoginResult result = authenticationService.authenticate(new LoginRequest("auth.fresh@gmail.com", PASSWORD, false));
+
+        // Assert - The account reflects the targeted UPDATE instead of the state read before it
+        assertThat(result.previousLoginAt()).isNull();
+        assertThat(result.account().getLastLoginAt()).isNotNull();
+        assertThat(result.account().getVersion()).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT version FROM customer_accounts WHERE id = ?", Long.class, result.account().getId()));
+    }
+
+    // ===== REQUEST METRICS =====
+
+    @Test
+    void queryStatisticsFilter_ShouldRecordStatementsOfTheRequest() throws Exception {
+        // Arrange
+        authenticationService.register(registration("auth.request@gmail.com"));
+        long requestsBefore = queryStatisticsRecorder.getRequests();
+        long statementsBefore = queryStatisticsRecorder.getStatements();
+        DistributionSummary perRequest = meterRegistry.get(MetricNames.DB_STATEMENTS_PER_REQUEST).summary();
+        long recordedBefore = perRequest.count();
+
+        // Act
+        new QueryStatisticsFilter(queryStatisticsRecorder).doFilter(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) ->
+                        authenticationService.authenticate(new LoginRequest("auth.request@gmail.com", PASSWORD, false)));
+
+        // Assert
+        assertThat(queryStatisticsRecorder.getRequests()).isEqualTo(requestsBefore + 1);
+        assertThat(queryStatisticsRecorder.getStatements() - statementsBefore).isBetween(1L, 6L);
+        assertThat(perRequest.count()).isEqualTo(recordedBefore + 1);
+        assertThat(perRequest.max()).isPositive();
+    }
+
+    @Test
+    void slowQuery_ShouldBeCountedAndLogged() {
+        // Act
+        QueryCounts counts = countQueries(() -> transactionTemplate.executeWithoutResult(status ->
+                entityManager.createNativeQuery("SELECT 1 FROM pg_sleep(0.2)").getSingleResult()));
+
+        // Assert
+        assertThat(counts.slowQueries()).isEqualTo(1);
+        assertThat(queryStatisticsRecorder.getRecentSlowQueries()).first().asString().contains("pg_sleep");
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static OffsetDateTime expiresAt() {
+        return OffsetDateTime.now().plusMinutes(10);
+    }
+
+    private static RegistrationRequest registration(String email) {
+        return new RegistrationRequest("John", "Doe", email, null, PASSWORD, false);
+    }
+}
@@ -0,0 +1,231 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.data.datasource.ReplicaRoutingDataSource;
+import com.bizwaresol.loyalty_service_club_api.data.datasource.StickyPrimaryFilter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Read-replica routing against two local PostgreSQL instances: the test database on 5432 as primary and
+ * a second instance (TEST_REPLICA_DB_URL, default port 5433) as replica. Routing is observed through the
+ * server port each transaction's connection reports; skipped when the second instance is not running.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.lag-check-interval-ms=600000",
+        // Outside a request nothing sticks, so setup queries on the primary do not pin the test thread
+        "datasource.replicas.sticky-primary-ms=0",
+        "datasource.replicas.pools[0].name=1",
+        "datasource.replicas.pools[0].url=${TEST_REPLICA_DB_URL:jdbc:postgresql://localhost:5433/loyalty_service_club_test}",
+        "datasource.replicas.pools[0].username=${TEST_DB_USERNAME:loyalty_service_club_admin}",
+        "datasource.replicas.pools[0].password=${TEST_DB_PASSWORD:Loyalty16}",
+        "datasource.replicas.pools[0].maximum-pool-size=2"
+})
+public class DatabaseReadReplicaRoutingIntegrationTest {
+
+    private static final String PORT_QUERY = "SELECT current_setting('port')::int";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private HikariDataSource primaryPool;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Value("${datasource.replicas.pools[0].url}")
+    private String replicaUrl;
+
+    @Value("${datasource.replicas.pools[0].username}")
+    private String replicaUsername;
+
+    @Value("${datasource.replicas.pools[0].password}")
+    private String replicaPassword;
+
+    private int primaryPort;
+    private int replicaPort;
+
+    @BeforeEach
+    void requireSecondInstance() {
+        try (Connection connection = DriverManager.getConnection(replicaUrl, replicaUsername, replicaPassword)) {
+            replicaPort = port(connection);
+        } catch (SQLException e) {
+            assumeTrue(false, "Second PostgreSQL instance not reachable at " + replicaUrl);
+        }
+        primaryPort = jdbcTemplate.queryForObject(PORT_QUERY, Integer.class);
+        assumeTrue(primaryPort != replicaPort, "Primary and replica must be different instances");
+
+        replicaRoutingDataSource.checkReplicaLag();
+    }
+
+    // ===== ROUTING =====
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        // Act
+        Integer port = readOnly().execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, Integer.class));
+
+        // Assert
+        assertThat(port).isEqualTo(replicaPort);
+        assertThat(replicaRoutingDataSource.getRoutedConnections().get("replica-1")).isPositive();
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        // Act
+        Integer port = new TransactionTemplate(transactionManager)
+                .execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, Integer.class));
+
+        // Assert
+        assertThat(port).isEqualTo(primaryPort);
+    }
+
+    @Test
+    void readOnlyTransaction_AfterWriteInSameRequest_ShouldStickToPrimary() throws Exception {
+        // Arrange
+        AtomicInteger readPort = new AtomicInteger();
+        long stickyBefore = replicaRoutingDataSource.getStickyPrimaryReads();
+
+        // Act
+        new StickyPrimaryFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    jdbcTemplate.queryForObject("SELECT txid_current()", Long.class));
+            readPort.set(readOnly().execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, Integer.class)));
+        });
+
+        // Assert
+        assertThat(readPort.get()).isEqualTo(primaryPort);
+        assertThat(replicaRoutingDataSource.getStickyPrimaryReads()).isEqualTo(stickyBefore + 1);
+    }
+
+    @Test
+    void readOnlyTransaction_InNextRequest_ShouldUseReplicaAgain() throws Exception {
+        // Arrange - A write in a previous request on the same thread
+        new StickyPrimaryFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        jdbcTemplate.queryForObject("SELECT txid_current()", Long.class)));
+        AtomicInteger readPort = new AtomicInteger();
+
+        // Act
+        new StickyPrimaryFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) ->
+                readPort.set(readOnly().execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, Integer.class))));
+
+        // Assert
+        assertThat(readPort.get()).isEqualTo(replicaPort);
+    }
+
+    @Test
+    void getConnectionWithCredentials_ShouldUseReplica() throws Exception {
+        // Arrange - Neither data source has credentials of its own
+        DriverManagerDataSource primary = new DriverManagerDataSource(primaryPool.getJdbcUrl());
+        DriverManagerDataSource replica = new DriverManagerDataSource(replicaUrl);
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), 1000, 0);
+
+        // Act
+        int port;
+        try (Connection connection = router.getConnection(replicaUsername, replicaPassword)) {
+            port = port(connection);
+        }
+
+        // Assert
+        assertThat(port).isEqualTo(replicaPort);
+        assertThat(router.getRoutedConnections().get("replica-1")).isEqualTo(1);
+    }
+
+    // ===== FALLBACK =====
+
+    @Test
+    void getConnection_WhenReplicaLagsTooFar_ShouldFallBackToPrimary() throws Exception {
+        // Arrange - Any measured lag exceeds a negative limit
+        HikariDataSource replica = replicaPool();
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primaryPool, Map.of("replica-1", replica), -1, 0);
+        router.checkReplicaLag();
+
+        // Act
+        int port;
+        try (Connection connection = router.getConnection()) {
+            port = port(connection);
+        } finally {
+            router.close();
+        }
+
+        // Assert
+        assertThat(port).isEqualTo(primaryPort);
+        assertThat(router.getReplicaAvailable().get("replica-1")).isFalse();
+        assertThat(router.getFallbackPrimaryReads()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_WhenReplicaUnreachable_ShouldFallBackToPrimary() throws Exception {
+        // Arrange
+        DriverManagerDataSource unreachable = new DriverManagerDataSource("jdbc:postgresql://localhost:1/none", "none", "none");
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primaryPool, Map.of("replica-down", unreachable), 1000, 0);
+
+        // Act
+        int port;
+        try (Connection connection = router.getConnection()) {
+            port = port(connection);
+        }
+
+        // Assert
+        assertThat(port).isEqualTo(primaryPort);
+        assertThat(router.getReplicaAvailable().get("replica-down")).isFalse();
+        assertThat(router.getFallbackPrimaryReads()).isEqualTo(1);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private HikariDataSource replicaPool() {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(replicaUrl);
+        pool.setUsername(replicaUsername);
+        pool.setPassword(replicaPassword);
+        pool.setMaximumPoolSize(1);
+        return pool;
+    }
+
+    private static int port(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PORT_QUERY)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
+import com.bizwaresol.loyalty_service_club_api.data.repository.lookup.CustomerContactLookupRepository;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.CustomerContactLookup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Second-level cache behaviour for contacts: natural-id lookups served from the cache, Hibernate writes
+ * keeping it current, and explicit eviction for the OTP trigger that updates is_verified in SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class DatabaseSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomerEmailRepository customerEmailRepository;
+
+    @Autowired
+    private CustomerContactLookupRepository customerContactLookupRepository;
+
+    @Autowired
+    private ContactCacheEvictor contactCacheEvictor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    // ===== NATURAL-ID LOOKUPS =====
+
+    @Test
+    void findByEmail_SecondLookup_ShouldNotHitDatabase() {
+        // Arrange
+        createEmail("cached@gmail.com");
+        findEmail("cached@gmail.com");
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        // Act
+        CustomerEmail cached = findEmail("cached@gmail.com");
+
+        // Assert
+        assertThat(cached.getEmail()).isEqualTo("cached@gmail.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getNaturalIdStatistics(CustomerEmail.class.getName()).getCacheHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.CUSTOMER_EMAIL).getHitCount()).isPositive();
+    }
+
+    @Test
+    void findByEmail_SecondLookup_ShouldPublishRegionHitMeter() {
+        // Arrange
+        createEmail("metered@gmail.com");
+        findEmail("metered@gmail.com");
+        double hitsBefore = regionGets(CacheRegions.CUSTOMER_EMAIL, "hit");
+
+        // Act
+        findEmail("metered@gmail.com");
+
+        // Assert - the same cache.gets meter the ContactResolver caches publish
+        assertThat(regionGets(CacheRegions.CUSTOMER_EMAIL, "hit")).isGreaterThan(hitsBefore);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CacheRegions.CUSTOMER_EMAIL_NATURAL_ID).functionCounters())
+                .isNotEmpty();
+    }
+
+    @Test
+    void findByEmail_AfterHibernateUpdate_ShouldReturnNewState() {
+        // Arrange
+        createEmail("updated@gmail.com");
+        CustomerEmail email = findEmail("updated@gmail.com");
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            CustomerEmail managed = customerEmailRepository.findById(email.getId()).orElseThrow();
+            managed.setVerified(true);
+        });
+
+        // Assert
+        assertThat(findEmail("updated@gmail.com").isVerified()).isTrue();
+    }
+
+    // ===== EXPLICIT EVICTION =====
+
+    @Test
+    void evictEmail_AfterSqlUpdate_ShouldReturnNewStateFromEntityAndLookupCaches() {
+        // Arrange
+        Long emailId = createEmail("trigger@gmail.com");
+        jdbcTemplate.update("INSERT INTO customers (first_name, last_name, email_id) VALUES ('Cache', 'Trigger', ?)", emailId);
+        assertThat(findEmail("trigger@gmail.com").isVerified()).isFalse();
+        assertThat(findLookup("trigger@gmail.com").getEmailVerified()).isFalse();
+
+        // Act - Same path as the OTP verification trigger: SQL write, then eviction after commit
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE customer_emails SET is_verified = true WHERE id = ?", emailId);
+            contactCacheEvictor.evictEmail(emailId);
+        });
+
+        // Assert
+        assertThat(findEmail("trigger@gmail.com").isVerified()).isTrue();
+        assertThat(findLookup("trigger@gmail.com").getEmailVerified()).isTrue();
+    }
+
+    // ===== HELPER METHODS =====
+
+    private Long createEmail(String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO customer_emails (email, is_verified) VALUES (?, false) RETURNING id", Long.class, email);
+    }
+
+    private CustomerEmail findEmail(String email) {
+        return transactionTemplate.execute(status -> customerEmailRepository.findByEmail(email).orElseThrow());
+    }
+
+    private CustomerContactLookup findLookup(String email) {
+        return transactionTemplate.execute(status -> customerContactLookupRepository.findByEmail(email).orElseThrow());
+    }
+
+    private double regionGets(String region, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", result).functionCounter().count();
+    }
+}
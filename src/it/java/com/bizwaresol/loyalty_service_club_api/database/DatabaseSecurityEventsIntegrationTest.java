@@ -0,0 +1,109 @@
+package com.bizwaresol.loyalty_service_club_api.database;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEvent;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventWriter;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "security-events.flush-interval-ms=50"
+})
+public class DatabaseSecurityEventsIntegrationTest {
+
+    private static final long FLUSH_TIMEOUT_MS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SecurityEventWriter securityEventWriter;
+
+    @Autowired
+    private SecurityEventLog securityEventLog;
+
+    @BeforeEach
+    void cleanupDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE security_events");
+    }
+
+    // ===== WRITER TESTS =====
+
+    @Test
+    void write_ShouldInsertEveryEventWithItsColumns() {
+        // Arrange
+        List<SecurityEvent> events = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            events.add(SecurityEvent.login("user" + i, (long) i, MetricNames.OUTCOME_SUCCESS, null));
+        }
+        events.add(SecurityEvent.otpSend("+381601234567", OtpDeliveryMethod.SMS, OtpPurpose.PASSWORD_RESET,
+                MetricNames.OUTCOME_RATE_LIMITED));
+
+        // Act
+        securityEventWriter.write(events);
+
+        // Assert
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM security_events", Integer.class);
+        assertThat(rows).isEqualTo(251);
+        Map<String, Object> otpRow = jdbcTemplate.queryForMap(
+                "SELECT event_type::TEXT AS event_type, outcome, account_id, delivery_method::TEXT AS delivery_method, " +
+                        "otp_purpose::TEXT AS otp_purpose FROM security_events WHERE identifier = '+381601234567'");
+        assertThat(otpRow.get("event_type")).isEqualTo("OTP_SEND");
+        assertThat(otpRow.get("outcome")).isEqualTo(MetricNames.OUTCOME_RATE_LIMITED);
+        assertThat(otpRow.get("account_id")).isNull();
+        assertThat(otpRow.get("delivery_method")).isEqualTo("SMS");
+        assertThat(otpRow.get("otp_purpose")).isEqualTo("PASSWORD_RESET");
+    }
+
+    @Test
+    void write_IdentifierWithNul_ShouldInsertSanitizedRow() {
+        // Arrange - PostgreSQL rejects NUL in text, which used to fail the whole batch
+        List<SecurityEvent> events = List.of(
+                SecurityEvent.login("nul\u0000@test.com", null, MetricNames.OUTCOME_INVALID, null),
+                SecurityEvent.login("plain@test.com", null, MetricNames.OUTCOME_INVALID, null));
+
+        // Act
+        securityEventWriter.write(events);
+
+        // Assert
+        List<String> identifiers = jdbcTemplate.queryForList(
+                "SELECT identifier FROM security_events ORDER BY identifier", String.class);
+        assertThat(identifiers).containsExactly("nul\uFFFD@test.com", "plain@test.com");
+    }
+
+    // ===== LOG TESTS =====
+
+    @Test
+    void record_ShouldBeWrittenByBackgroundFlush() throws InterruptedException {
+        // Act
+        securityEventLog.record(SecurityEvent.login("async@test.com", null, MetricNames.OUTCOME_INVALID, null));
+
+        // Assert
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+        Integer rows = 0;
+        while (rows == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM security_events WHERE identifier = 'async@test.com'", Integer.class);
+        }
+        assertThat(rows).isEqualTo(1);
+    }
+}
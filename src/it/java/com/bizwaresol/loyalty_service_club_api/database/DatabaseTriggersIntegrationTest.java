@@ -1,5 +1,10 @@
 package com.bizwaresol.loyalty_service_club_api.database;
 
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.AccountReadModel;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import com.bizwaresol.loyalty_service_club_api.service.data.CustomerAccountService;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,6 +21,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -33,6 +40,9 @@ public class DatabaseTriggersIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private CustomerAccountService customerAccountService;
+
     @BeforeEach
     void cleanupDatabase() {
         // Clean all tables except business_config
@@ -582,6 +592,261 @@ public class DatabaseTriggersIntegrationTest {
         assertThat(accountStatus).isEqualTo("EMAIL_VERIFIED");
     }
 
+    // ===== BULK (STATEMENT-LEVEL) TRIGGER TESTS =====
+
+    @Test
+    void verificationStatusTrigger_WhenManyEmailsVerifiedInOneStatement_ShouldUpdateEveryAccount() {
+        // Arrange - Three email-only customers and one customer with an unverified phone
+        Long[] accountIds = new Long[4];
+        for (int i = 0; i < 3; i++) {
+            Long emailId = createCustomerEmail("bulk" + i + "@gmail.com", false);
+            Long customerId = createCustomer("Bulk", "Verify", emailId, null);
+            accountIds[i] = createCustomerAccount(customerId, "bulk" + i + "@gmail.com");
+        }
+        Long emailId = createCustomerEmail("bulk-both@gmail.com", false);
+        Long phoneId = createCustomerPhone("+381611000001", false);
+        Long customerId = createCustomer("Bulk", "Both", emailId, phoneId);
+        accountIds[3] = createCustomerAccount(customerId, "bulk-both@gmail.com");
+
+        // Act - Verify all emails with a single statement
+        int updated = jdbcTemplate.update(
+                "UPDATE customer_emails SET is_verified = true WHERE email LIKE 'bulk%@gmail.com'");
+
+        // Assert
+        assertThat(updated).isEqualTo(4);
+        for (Long accountId : accountIds) {
+            String status = jdbcTemplate.queryForObject(
+                    "SELECT verification_status FROM customer_accounts WHERE id = ?",
+                    String.class, accountId);
+            assertThat(status).isEqualTo("EMAIL_VERIFIED");
+        }
+    }
+
+    @Test
+    void verificationStatusTrigger_WhenStatementChangesOtherColumnsOnly_ShouldLeaveStatusUntouched() {
+        // Arrange - Email is verified but account status was set independently
+        Long emailId = createCustomerEmail("untouched@gmail.com", true);
+        Long customerId = createCustomer("Un", "Touched", emailId, null);
+        Long accountId = createCustomerAccount(customerId, "untouched@gmail.com");
+
+        // Act - Update a column other than is_verified
+        jdbcTemplate.update(
+                "UPDATE customer_emails SET email = 'untouched2@gmail.com' WHERE id = ?", emailId);
+
+        // Assert - is_verified did not change, so the status is not recalculated
+        String status = jdbcTemplate.queryForObject(
+                "SELECT verification_status FROM customer_accounts WHERE id = ?",
+                String.class, accountId);
+        assertThat(status).isEqualTo("UNVERIFIED");
+    }
+
+    @Test
+    void contactChangeTrigger_WhenManyCustomersLoseEmailInOneStatement_ShouldSwitchAllUsernamesToPhone() {
+        // Arrange
+        Long[] accountIds = new Long[3];
+        for (int i = 0; i < 3; i++) {
+            Long emailId = createCustomerEmail("migrate" + i + "@gmail.com", false);
+            Long phoneId = createCustomerPhone("+38162000000" + i, false);
+            Long customerId = createCustomer("Bulk", "Migrate", emailId, phoneId);
+            accountIds[i] = createCustomerAccount(customerId, "migrate" + i + "@gmail.com");
+        }
+        // Customer without a phone keeps its current username
+        Long emailOnlyId = createCustomerEmail("migrate-only@gmail.com", false);
+        Long emailOnlyCustomerId = createCustomer("Bulk", "Migrate", emailOnlyId, null);
+        Long emailOnlyAccountId = createCustomerAccount(emailOnlyCustomerId, "migrate-only@gmail.com");
+
+        // Act - Drop every email link in a single statement
+        jdbcTemplate.update("UPDATE customers SET email_id = NULL WHERE last_name = 'Migrate'");
+
+        // Assert
+        for (int i = 0; i < 3; i++) {
+            String username = jdbcTemplate.queryForObject(
+                    "SELECT username FROM customer_accounts WHERE id = ?",
+                    String.class, accountIds[i]);
+            assertThat(username).isEqualTo("+38162000000" + i);
+        }
+        String emailOnlyUsername = jdbcTemplate.queryForObject(
+                "SELECT username FROM customer_accounts WHERE id = ?",
+                String.class, emailOnlyAccountId);
+        assertThat(emailOnlyUsername).isEqualTo("migrate-only@gmail.com");
+    }
+
+    @Test
+    void otpVerificationTrigger_WhenManyOtpsUsedInOneStatement_ShouldVerifyOnlyVerificationPurposes() {
+        // Arrange
+        Long emailId = createCustomerEmail("bulk-otp@gmail.com", false);
+        Long phoneId = createCustomerPhone("+381630000001", false);
+        Long customerId = createCustomer("Bulk", "Otp", emailId, phoneId);
+        Long accountId = createCustomerAccount(customerId, "bulk-otp@gmail.com");
+
+        Long resetEmailId = createCustomerEmail("bulk-reset@gmail.com", false);
+        Long resetCustomerId = createCustomer("Bulk", "Reset", resetEmailId, null);
+        createCustomerAccount(resetCustomerId, "bulk-reset@gmail.com");
+
+        createOTPToken(emailId, null, "100001", "EMAIL_VERIFICATION", "EMAIL");
+        createOTPToken(null, phoneId, "100002", "PHONE_VERIFICATION", "SMS");
+        createOTPToken(resetEmailId, null, "100003", "PASSWORD_RESET", "EMAIL");
+
+        // Act - Mark every token as used in a single statement
+        int updated = jdbcTemplate.update("UPDATE otp_tokens SET used_at = CURRENT_TIMESTAMP WHERE used_at IS NULL");
+
+        // Assert
+        assertThat(updated).isEqualTo(3);
+        String accountStatus = jdbcTemplate.queryForObject(
+                "SELECT verification_status FROM customer_accounts WHERE id = ?", String.class, accountId);
+        assertThat(accountStatus).isEqualTo("FULLY_VERIFIED");
+
+        Boolean resetEmailVerified = jdbcTemplate.queryForObject(
+                "SELECT is_verified FROM customer_emails WHERE id = ?", Boolean.class, resetEmailId);
+        assertThat(resetEmailVerified).isFalse();
+    }
+
+    // ===== ACCOUNT READ MODEL TRIGGER TESTS =====
+
+    @Test
+    void readModelTrigger_WhenAccountCreated_ShouldInsertReadModelRow() {
+        // Arrange
+        Long emailId = createCustomerEmail("read-model@gmail.com", true);
+        Long customerId = createCustomer("Read", "Model", emailId, null);
+
+        // Act
+        Long accountId = createCustomerAccount(customerId, "read-model@gmail.com");
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT * FROM account_read_model WHERE account_id = ?", accountId);
+        assertThat(row.get("customer_id")).isEqualTo(customerId);
+        assertThat(row.get("email_verified")).isEqualTo(true);
+        assertThat(row.get("has_phone")).isEqualTo(false);
+        assertThat(row.get("verification_status")).asString().isEqualTo("UNVERIFIED");
+        assertThat(row.get("calculated_status")).asString().isEqualTo("EMAIL_VERIFIED");
+        assertThat(row.get("status_needs_update")).isEqualTo(true);
+        assertThat(row.get("activity_status")).asString().isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void readModelTrigger_WhenEmailVerified_ShouldRefreshVerificationColumns() {
+        // Arrange
+        Long emailId = createCustomerEmail("read-verify@gmail.com", false);
+        Long customerId = createCustomer("Read", "Verify", emailId, null);
+        Long accountId = createCustomerAccount(customerId, "read-verify@gmail.com");
+
+        // Act - Email verification cascades into customer_accounts.verification_status
+        jdbcTemplate.update("UPDATE customer_emails SET is_verified = true WHERE id = ?", emailId);
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT * FROM account_read_model WHERE account_id = ?", accountId);
+        assertThat(row.get("email_verified")).isEqualTo(true);
+        assertThat(row.get("verification_status")).asString().isEqualTo("EMAIL_VERIFIED");
+        assertThat(row.get("calculated_status")).asString().isEqualTo("EMAIL_VERIFIED");
+        assertThat(row.get("status_needs_update")).isEqualTo(false);
+    }
+
+    @Test
+    void readModelTrigger_WhenContactAndLoginChange_ShouldRefreshContactAndActivityColumns() {
+        // Arrange
+        Long emailId = createCustomerEmail("read-contact@gmail.com", false);
+        Long phoneId = createCustomerPhone("+381640000001", true);
+        Long customerId = createCustomer("Read", "Contact", emailId, null);
+        Long accountId = createCustomerAccount(customerId, "read-contact@gmail.com");
+        OffsetDateTime loginAt = OffsetDateTime.now().minusDays(3);
+
+        // Act
+        jdbcTemplate.update("UPDATE customers SET phone_id = ? WHERE id = ?", phoneId, customerId);
+        jdbcTemplate.update("UPDATE customer_accounts SET last_login_at = ?, activity_status = 'INACTIVE' WHERE id = ?",
+                loginAt, accountId);
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT * FROM account_read_model WHERE account_id = ?", accountId);
+        assertThat(row.get("phone_id")).isEqualTo(phoneId);
+        assertThat(row.get("phone_verified")).isEqualTo(true);
+        assertThat(row.get("calculated_status")).asString().isEqualTo("PHONE_VERIFIED");
+        assertThat(row.get("activity_status")).asString().isEqualTo("INACTIVE");
+        assertThat(row.get("last_login_at")).isNotNull();
+    }
+
+    @Test
+    void readModelTrigger_WhenAccountDeleted_ShouldRemoveReadModelRow() {
+        // Arrange
+        Long emailId = createCustomerEmail("read-delete@gmail.com", false);
+        Long customerId = createCustomer("Read", "Delete", emailId, null);
+        Long accountId = createCustomerAccount(customerId, "read-delete@gmail.com");
+
+        // Act
+        jdbcTemplate.update("DELETE FROM customer_accounts WHERE id = ?", accountId);
+
+        // Assert
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_read_model WHERE account_id = ?", Integer.class, accountId);
+        assertThat(rows).isZero();
+    }
+
+    @Test
+    void readModelQueries_ShouldAnswerFromTriggerMaintainedRows() {
+        // Arrange - One account whose verified email is not yet reflected in its status, one unverified
+        Long verifiedEmailId = createCustomerEmail("read-query-verified@gmail.com", true);
+        Long verifiedAccountId = createCustomerAccount(
+                createCustomer("Read", "Verified", verifiedEmailId, null), "read-query-verified@gmail.com");
+        Long unverifiedEmailId = createCustomerEmail("read-query-unverified@gmail.com", false);
+        createCustomerAccount(createCustomer("Read", "Unverified", unverifiedEmailId, null), "read-query-unverified@gmail.com");
+        jdbcTemplate.update("UPDATE customer_accounts SET last_login_at = ? WHERE id = ?",
+                OffsetDateTime.now().minusDays(100), verifiedAccountId);
+
+        // Act
+        long emailVerified = customerAccountService.countByCalculatedStatus(CustomerAccountVerificationStatus.EMAIL_VERIFIED);
+        long active = customerAccountService.countByActivityStatus(CustomerAccountActivityStatus.ACTIVE);
+        long dormant = customerAccountService.countByActivityStatusWithLastLoginBefore(
+                CustomerAccountActivityStatus.ACTIVE, OffsetDateTime.now().minusDays(30));
+        List<AccountReadModel> stale = customerAccountService.findAccountsWithStaleVerificationStatus();
+
+        // Assert
+        assertThat(emailVerified).isEqualTo(1);
+        assertThat(active).isEqualTo(2);
+        assertThat(dormant).isEqualTo(1);
+        assertThat(stale).extracting(AccountReadModel::getAccountId).containsExactly(verifiedAccountId);
+    }
+
+    // ===== ACCOUNT VERSION TRIGGER TESTS =====
+
+    @Test
+    void versionTrigger_WhenSqlWriterLeavesVersionUnchanged_ShouldBumpVersion() {
+        // Arrange
+        Long emailId = createCustomerEmail("version-sql@gmail.com", false);
+        Long customerId = createCustomer("Version", "Sql", emailId, null);
+        Long accountId = createCustomerAccount(customerId, "version-sql@gmail.com");
+
+        // Act - Email verification cascades into customer_accounts without touching version
+        jdbcTemplate.update("UPDATE customer_emails SET is_verified = true WHERE id = ?", emailId);
+
+        // Assert
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM customer_accounts WHERE id = ?", Long.class, accountId);
+        assertThat(version).isEqualTo(1L);
+    }
+
+    @Test
+    void versionTrigger_WhenWriterSetsVersion_ShouldNotBumpTwice() {
+        // Arrange
+        Long emailId = createCustomerEmail("version-orm@gmail.com", false);
+        Long customerId = createCustomer("Version", "Orm", emailId, null);
+        Long accountId = createCustomerAccount(customerId, "version-orm@gmail.com");
+
+        // Act - Same shape as the targeted updates in CustomerAccountRepository
+        int updated = jdbcTemplate.update(
+                "UPDATE customer_accounts SET activity_status = 'INACTIVE', version = version + 1 WHERE id = ?",
+                accountId);
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT version, password, verification_status FROM customer_accounts WHERE id = ?", accountId);
+        assertThat(updated).isEqualTo(1);
+        assertThat(row.get("version")).isEqualTo(1L);
+        assertThat(row.get("password")).isEqualTo("hashedPassword123");
+        assertThat(row.get("verification_status")).asString().isEqualTo("UNVERIFIED");
+    }
+
     // ===== HELPER METHODS =====
 
     private Long createCustomerEmail(String email, boolean verified) {
@@ -0,0 +1,111 @@
+package com.bizwaresol.loyalty_service_club_api.load;
+
+import com.bizwaresol.loyalty_service_club_api.client.aws.ses.SesClient;
+import com.bizwaresol.loyalty_service_club_api.client.aws.ses.dto.request.SesEmailRequest;
+import com.bizwaresol.loyalty_service_club_api.client.aws.ses.dto.response.SesEmailResponse;
+import com.bizwaresol.loyalty_service_club_api.client.aws.sns.SnsClient;
+import com.bizwaresol.loyalty_service_club_api.client.aws.sns.dto.request.SnsMessageRequest;
+import com.bizwaresol.loyalty_service_club_api.client.aws.sns.dto.response.SnsMessageResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process SES and SNS clients for load tests: nothing leaves the JVM, each send waits
+ * load.fake-aws-latency-ms (a stand-in for the AWS round trip) and the OTP code of the last message per
+ * recipient is kept so a flow can verify it.
+ */
+@TestConfiguration
+public class FakeMessagingConfig {
+
+    private static final Pattern OTP_CODE = Pattern.compile("\\b\\d{6}\\b");
+
+    @Bean
+    @Primary
+    public FakeSesClient fakeSesClient(@Value("${load.fake-aws-latency-ms:0}") long latencyMs) {
+        return new FakeSesClient(latencyMs);
+    }
+
+    @Bean
+    @Primary
+    public FakeSnsClient fakeSnsClient(@Value("${load.fake-aws-latency-ms:0}") long latencyMs) {
+        return new FakeSnsClient(latencyMs);
+    }
+
+    public static class FakeSesClient extends SesClient {
+
+        private final long latencyMs;
+        private final Map<String, String> lastCodes = new ConcurrentHashMap<>();
+
+        FakeSesClient(long latencyMs) {
+            super(null);
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public SesEmailResponse sendEmail(SesEmailRequest request) {
+            simulateLatency(latencyMs);
+            String body = request.getTextContent() != null ? request.getTextContent() : request.getHtmlContent();
+            capture(lastCodes, request.getDestinationEmail(), body);
+            return SesEmailResponse.success(UUID.randomUUID().toString());
+        }
+
+        public String lastCode(String email) {
+            return lastCodes.get(email);
+        }
+    }
+
+    public static class FakeSnsClient extends SnsClient {
+
+        private final long latencyMs;
+        private final Map<String, String> lastCodes = new ConcurrentHashMap<>();
+
+        FakeSnsClient(long latencyMs) {
+            super(null);
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public SnsMessageResponse sendMessage(SnsMessageRequest request) {
+            simulateLatency(latencyMs);
+            capture(lastCodes, request.getPhoneNumber(), request.getMessage());
+            return SnsMessageResponse.success(UUID.randomUUID().toString());
+        }
+
+        public String lastCode(String phone) {
+            return lastCodes.get(phone);
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static void capture(Map<String, String> lastCodes, String recipient, String message) {
+        if (recipient == null || message == null) {
+            return;
+        }
+        Matcher matcher = OTP_CODE.matcher(message);
+        if (matcher.find()) {
+            lastCodes.put(recipient, matcher.group());
+        }
+    }
+
+    private static void simulateLatency(long latencyMs) {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.bizwaresol.loyalty_service_club_api.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drives one flow from a fixed number of threads, each calling it back to back (closed loop). Calls
+ * started during the warmup are not recorded; latency percentiles and throughput come from the
+ * calls started in the measurement window.
+ */
+final class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final int threads;
+    private final Duration warmup;
+    private final Duration measurement;
+
+    LoadRunner(int threads, Duration warmup, Duration measurement) {
+        this.threads = threads;
+        this.warmup = warmup;
+        this.measurement = measurement;
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        void run() throws Exception;
+    }
+
+    FlowResult run(String flow, Operation operation) throws Exception {
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + measurement.toNanos();
+        AtomicReference<Exception> firstError = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Recorded>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> drive(operation, measureStart, measureEnd, firstError)));
+            }
+
+            long[] latencies = new long[0];
+            long errors = 0;
+            for (Future<Recorded> worker : workers) {
+                Recorded recorded = worker.get();
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + recorded.count);
+                System.arraycopy(recorded.latencies, 0, latencies, offset, recorded.count);
+                errors += recorded.errors;
+            }
+            Arrays.sort(latencies);
+
+            FlowResult result = new FlowResult(flow, latencies, errors, measurement, firstError.get());
+            log.info("{}", result);
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static Recorded drive(Operation operation, long measureStart, long measureEnd,
+                                  AtomicReference<Exception> firstError) {
+        Recorded recorded = new Recorded();
+        long start;
+        while ((start = System.nanoTime()) < measureEnd) {
+            boolean failed = false;
+            try {
+                operation.run();
+            } catch (Exception e) {
+                failed = true;
+                firstError.compareAndSet(null, e);
+            }
+            if (start >= measureStart) {
+                recorded.add(System.nanoTime() - start, failed);
+            }
+        }
+        return recorded;
+    }
+
+    private static final class Recorded {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private void add(long latencyNanos, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (failed) {
+                errors++;
+            }
+        }
+    }
+
+    /**
+     * Latencies (sorted, in nanoseconds) of the calls started in the measurement window
+     */
+    record FlowResult(String flow, long[] latencies, long errors, Duration measurement, Exception firstError) {
+
+        long operations() {
+            return latencies.length;
+        }
+
+        double throughputPerSecond() {
+            return latencies.length / (measurement.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s ops=%d errors=%d throughput=%.1f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    flow, operations(), errors, throughputPerSecond(),
+                    percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
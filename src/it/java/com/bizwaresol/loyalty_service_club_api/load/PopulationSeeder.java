@@ -0,0 +1,88 @@
+package com.bizwaresol.loyalty_service_club_api.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Seeds a synthetic population directly in SQL (generate_series), since going through the services
+ * would take hours for millions of rows. Customer n has the email load_n@load.test, the phone
+ * +3817nnnnnnn (zero-padded), an account with the given password hash and one unused
+ * EMAIL_VERIFICATION code {@value #OTP_CODE}.
+ */
+final class PopulationSeeder {
+
+    static final String OTP_CODE = "123456";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PopulationSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    static String email(int n) {
+        return "load_" + n + "@load.test";
+    }
+
+    /**
+     * Replaces all customer data with {@code customers} seeded customers
+     */
+    void seed(int customers, String passwordHash) {
+        truncate();
+
+        jdbcTemplate.update("""
+                INSERT INTO customer_emails (email, is_verified)
+                SELECT 'load_' || g || '@load.test', false
+                FROM generate_series(1, ?) g""", customers);
+
+        jdbcTemplate.update("""
+                INSERT INTO customer_phones (phone, is_verified)
+                SELECT '+3817' || lpad(g::TEXT, 7, '0'), false
+                FROM generate_series(1, ?) g""", customers);
+
+        jdbcTemplate.update("""
+                INSERT INTO customers (first_name, last_name, email_id, phone_id)
+                SELECT 'Load', 'User', ce.id, cp.id
+                FROM customer_emails ce
+                         JOIN customer_phones cp ON cp.phone = '+3817' || lpad(split_part(substring(ce.email FROM 6), '@', 1), 7, '0')
+                WHERE ce.email LIKE 'load\\_%@load.test'""");
+
+        // username is derived by the set_customer_account_username trigger
+        jdbcTemplate.update("""
+                INSERT INTO customer_accounts (customer_id, username, password)
+                SELECT c.id, ce.email, ?
+                FROM customers c
+                         JOIN customer_emails ce ON ce.id = c.email_id""", passwordHash);
+
+        jdbcTemplate.update("""
+                INSERT INTO otp_tokens (customer_email_id, otp_code, purpose, delivery_method, expires_at)
+                SELECT ce.id, ?, 'EMAIL_VERIFICATION', 'EMAIL', CURRENT_TIMESTAMP + INTERVAL '1 day'
+                FROM customer_emails ce""", OTP_CODE);
+
+        jdbcTemplate.execute("ANALYZE customer_emails");
+        jdbcTemplate.execute("ANALYZE customer_phones");
+        jdbcTemplate.execute("ANALYZE customers");
+        jdbcTemplate.execute("ANALYZE customer_accounts");
+        jdbcTemplate.execute("ANALYZE otp_tokens");
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE password_reset_tokens CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE otp_tokens CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_accounts CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customers CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_emails CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE customer_phones CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE account_status_audit CASCADE");
+
+        // Today's partition, so the seeded and the generated codes do not land in the default partition
+        // Partitions are UTC days, as create_range_partitions makes them
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS otp_tokens_p%s PARTITION OF otp_tokens FOR VALUES FROM ('%s 00:00+00') TO ('%s 00:00+00')",
+                today.toString().replace("-", ""), today, today.plusDays(1)));
+    }
+}
@@ -0,0 +1,218 @@
+package com.bizwaresol.loyalty_service_club_api.load;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.load.FakeMessagingConfig.FakeSesClient;
+import com.bizwaresol.loyalty_service_club_api.load.LoadRunner.FlowResult;
+import com.bizwaresol.loyalty_service_club_api.service.auth.AuthenticationService;
+import com.bizwaresol.loyalty_service_club_api.service.auth.PasswordResetService;
+import com.bizwaresol.loyalty_service_club_api.service.verification.EmailVerificationService;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concurrent login, registration, OTP send/verify and password reset flows through the service layer
+ * against a seeded population (see {@link PopulationSeeder}), with SES/SNS replaced by
+ * {@link FakeMessagingConfig}. Each flow fails when its p99 latency or throughput misses the budget in
+ * load/load-test.properties.
+ * <p>
+ * Not part of integrationTest; run with {@code ./gradlew loadTest} (or {@code ./gradlew check -PwithLoadTests})
+ * against a migrated test database.
+ * The population is split into disjoint slices so flows that consume state (codes, reset requests)
+ * never hit the same customer twice.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test-postgres")
+@Import(FakeMessagingConfig.class)
+@TestPropertySource(locations = "classpath:load/load-test.properties", properties = {
+        "spring.flyway.enabled=false",
+        // Every customer already holds a seeded code; resend cooldown and rate limiting are not under test,
+        // so the verification.* values below apply instead of the business_config limits
+        "business-config.enabled=false",
+        "verification.resend-cooldown-seconds=0",
+        "verification.otp-rate-limit-wait-seconds=0,0,0,0,0"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ServiceFlowsLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceFlowsLoadTest.class);
+
+    private static final String PASSWORD = "password123";
+    private static final String NEW_PASSWORD = "newPassword123";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private EmailVerificationService emailVerificationService;
+
+    @Autowired
+    private PasswordResetService passwordResetService;
+
+    @Autowired
+    private FakeSesClient fakeSesClient;
+
+    @Value("${load.population}")
+    private int population;
+
+    @Value("${load.threads}")
+    private int threads;
+
+    @Value("${load.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${load.measurement-seconds}")
+    private int measurementSeconds;
+
+    @BeforeAll
+    void seedPopulation() {
+        long start = System.nanoTime();
+        new PopulationSeeder(jdbcTemplate).seed(population, passwordEncoder.encode(PASSWORD));
+        log.info("Seeded {} customers in {} ms", population, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    // ===== AUTHENTICATION =====
+
+    @Test
+    void login_ShouldStayWithinBudget(@Value("${load.budget.login.p99-ms}") double p99Ms,
+                                      @Value("${load.budget.login.min-throughput}") double minThroughput) throws Exception {
+        // Act - Random customers from the first quarter (logins only touch last_login_at)
+        FlowResult result = runner().run("login", () -> {
+            int customer = ThreadLocalRandom.current().nextInt(1, population / 4 + 1);
+            authenticationService.authenticate(new LoginRequest(PopulationSeeder.email(customer), PASSWORD, false));
+        });
+
+        // Assert
+        assertWithinBudget(result, p99Ms, minThroughput);
+    }
+
+    @Test
+    void register_ShouldStayWithinBudget(@Value("${load.budget.register.p99-ms}") double p99Ms,
+                                         @Value("${load.budget.register.min-throughput}") double minThroughput) throws Exception {
+        // Arrange
+        AtomicInteger next = new AtomicInteger();
+
+        // Act - New contacts, outside the seeded population
+        FlowResult result = runner().run("register", () -> {
+            String email = "register_" + next.incrementAndGet() + "@load.test";
+            authenticationService.register(new RegistrationRequest("Load", "User", email, null, PASSWORD, false));
+        });
+
+        // Assert
+        assertWithinBudget(result, p99Ms, minThroughput);
+    }
+
+    // ===== OTP =====
+
+    @Test
+    void otpSend_ShouldStayWithinBudget(@Value("${load.budget.otp-send.p99-ms}") double p99Ms,
+                                        @Value("${load.budget.otp-send.min-throughput}") double minThroughput) throws Exception {
+        // Arrange - Second quarter, one send per customer
+        AtomicInteger next = new AtomicInteger(population / 4);
+
+        // Act
+        FlowResult result = runner().run("otp-send", () -> {
+            String email = PopulationSeeder.email(nextCustomer(next, population / 2));
+            SendVerificationResponse response = emailVerificationService.sendVerificationCode(email);
+            if (!response.success()) {
+                throw new IllegalStateException("Send rejected for " + email + ": " + response.message());
+            }
+        });
+
+        // Assert
+        assertWithinBudget(result, p99Ms, minThroughput);
+    }
+
+    @Test
+    void otpVerify_ShouldStayWithinBudget(@Value("${load.budget.otp-verify.p99-ms}") double p99Ms,
+                                          @Value("${load.budget.otp-verify.min-throughput}") double minThroughput) throws Exception {
+        // Arrange - Third quarter, each seeded code is used once
+        AtomicInteger next = new AtomicInteger(population / 2);
+
+        // Act
+        FlowResult result = runner().run("otp-verify", () -> {
+            String email = PopulationSeeder.email(nextCustomer(next, population / 4 * 3));
+            VerifyCodeResponse response = emailVerificationService.verifyCode(email, PopulationSeeder.OTP_CODE);
+            if (!response.success()) {
+                throw new IllegalStateException("Verification failed for " + email + ": " + response.message());
+            }
+        });
+
+        // Assert
+        assertWithinBudget(result, p99Ms, minThroughput);
+    }
+
+    // ===== PASSWORD RESET =====
+
+    @Test
+    void passwordReset_ShouldStayWithinBudget(@Value("${load.budget.password-reset.p99-ms}") double p99Ms,
+                                              @Value("${load.budget.password-reset.min-throughput}") double minThroughput) throws Exception {
+        // Arrange - Last quarter, one reset per customer (an active reset token blocks a second request)
+        AtomicInteger next = new AtomicInteger(population / 4 * 3);
+
+        // Act - Request, verify the emailed code, set the new password
+        FlowResult result = runner().run("password-reset", () -> {
+            String email = PopulationSeeder.email(nextCustomer(next, population));
+            passwordResetService.requestPasswordReset(email, OtpDeliveryMethod.EMAIL);
+            String token = passwordResetService.verifyOtpAndCreateResetToken(
+                    email, OtpDeliveryMethod.EMAIL, fakeSesClient.lastCode(email));
+            passwordResetService.resetPassword(token, NEW_PASSWORD);
+        });
+
+        // Assert
+        assertWithinBudget(result, p99Ms, minThroughput);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private LoadRunner runner() {
+        return new LoadRunner(threads, Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(measurementSeconds));
+    }
+
+    private static int nextCustomer(AtomicInteger next, int lastInSlice) {
+        int customer = next.incrementAndGet();
+        if (customer > lastInSlice) {
+            throw new IllegalStateException("Population slice exhausted; raise load.population");
+        }
+        return customer;
+    }
+
+    private static void assertWithinBudget(FlowResult result, double p99Ms, double minThroughput) {
+        assertThat(result.errors())
+                .as("%s errors (first: %s)", result.flow(), result.firstError())
+                .isZero();
+        assertThat(result.percentileMillis(99))
+                .as("%s p99 latency in ms", result.flow())
+                .isLessThanOrEqualTo(p99Ms);
+        assertThat(result.throughputPerSecond())
+                .as("%s throughput per second", result.flow())
+                .isGreaterThanOrEqualTo(minThroughput);
+    }
+}
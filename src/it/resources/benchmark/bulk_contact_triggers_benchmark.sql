@@ -0,0 +1,238 @@
+-- bulk_contact_triggers_benchmark.sql
+-- Benchmark of bulk contact/verification updates (100k rows) through the statement-level cascade
+-- triggers (V253/V254/V256) against the former row-level triggers.
+--
+-- Run against a migrated test database (not part of the Flyway locations):
+--   psql -h localhost -U loyalty_service_club_admin -d loyalty_service_club_test \
+--        -f src/it/resources/benchmark/bulk_contact_triggers_benchmark.sql
+--
+-- Everything runs in one transaction that is rolled back at the end, including the temporary
+-- swap to the legacy row-level triggers, so the database is left untouched.
+-- Timings are printed as NOTICEs.
+
+\set rows 100000
+
+BEGIN;
+
+-- ===== DATA SETUP =====
+
+CREATE TEMP TABLE bench_timings
+(
+    scenario   TEXT,
+    triggers   TEXT,
+    rows       BIGINT,
+    elapsed_ms NUMERIC
+) ON COMMIT DROP;
+
+INSERT INTO customer_emails (email, is_verified)
+SELECT 'bench_' || g || '@bench.test', false
+FROM generate_series(1, :rows) g;
+
+INSERT INTO customer_phones (phone, is_verified)
+SELECT '+3816' || lpad(g::TEXT, 7, '0'), false
+FROM generate_series(1, :rows) g;
+
+INSERT INTO customers (first_name, last_name, email_id, phone_id)
+SELECT 'Bench', 'User', ce.id, cp.id
+FROM customer_emails ce
+         JOIN customer_phones cp ON cp.phone = '+3816' || lpad(substring(ce.email FROM 'bench_(\d+)@'), 7, '0')
+WHERE ce.email LIKE 'bench\_%@bench.test';
+
+-- Original contact links, used to restore state between scenarios
+CREATE TEMP TABLE bench_customers ON COMMIT DROP AS
+SELECT c.id AS customer_id, c.email_id, ce.email
+FROM customers c
+         JOIN customer_emails ce ON ce.id = c.email_id
+WHERE ce.email LIKE 'bench\_%@bench.test';
+
+-- username is derived by the set_customer_account_username trigger
+INSERT INTO customer_accounts (customer_id, username, password)
+SELECT customer_id, email, 'hashedPassword123'
+FROM bench_customers;
+
+INSERT INTO otp_tokens (customer_email_id, otp_code, purpose, delivery_method, expires_at)
+SELECT ce.id, '123456', 'EMAIL_VERIFICATION', 'EMAIL', CURRENT_TIMESTAMP + INTERVAL '10 minutes'
+FROM customer_emails ce
+WHERE ce.email LIKE 'bench\_%@bench.test';
+
+ANALYZE customer_emails;
+ANALYZE customer_phones;
+ANALYZE customers;
+ANALYZE customer_accounts;
+ANALYZE otp_tokens;
+
+-- Resets verification state between scenarios without firing any cascade
+CREATE FUNCTION pg_temp.reset_bench_state() RETURNS VOID AS
+$$
+BEGIN
+    ALTER TABLE customer_emails DISABLE TRIGGER USER;
+    ALTER TABLE customer_phones DISABLE TRIGGER USER;
+    ALTER TABLE customers DISABLE TRIGGER USER;
+    ALTER TABLE otp_tokens DISABLE TRIGGER USER;
+    ALTER TABLE customer_accounts DISABLE TRIGGER USER;
+
+    UPDATE customer_emails SET is_verified = false WHERE email LIKE 'bench\_%@bench.test';
+    UPDATE customer_phones SET is_verified = false WHERE phone LIKE '+3816%';
+    UPDATE customers c SET email_id = bc.email_id
+    FROM bench_customers bc
+    WHERE c.id = bc.customer_id;
+    UPDATE otp_tokens SET used_at = NULL WHERE otp_code = '123456' AND purpose = 'EMAIL_VERIFICATION';
+    UPDATE customer_accounts ca SET verification_status = 'UNVERIFIED', username = bc.email
+    FROM bench_customers bc
+    WHERE ca.customer_id = bc.customer_id;
+
+    ALTER TABLE customer_emails ENABLE TRIGGER USER;
+    ALTER TABLE customer_phones ENABLE TRIGGER USER;
+    ALTER TABLE customers ENABLE TRIGGER USER;
+    ALTER TABLE otp_tokens ENABLE TRIGGER USER;
+    ALTER TABLE customer_accounts ENABLE TRIGGER USER;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Runs the three bulk scenarios and records their timings under the given label
+CREATE FUNCTION pg_temp.run_bench_scenarios(label TEXT) RETURNS VOID AS
+$$
+DECLARE
+    started TIMESTAMPTZ;
+    affected BIGINT;
+BEGIN
+    -- 1. Bulk email verification -> account verification_status cascade
+    PERFORM pg_temp.reset_bench_state();
+    started := clock_timestamp();
+    UPDATE customer_emails SET is_verified = true WHERE email LIKE 'bench\_%@bench.test';
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    INSERT INTO bench_timings
+    VALUES ('bulk email verification', label, affected, EXTRACT(EPOCH FROM clock_timestamp() - started) * 1000);
+
+    -- 2. Bulk OTP use -> contact verification -> account verification_status cascade
+    PERFORM pg_temp.reset_bench_state();
+    started := clock_timestamp();
+    UPDATE otp_tokens SET used_at = CURRENT_TIMESTAMP WHERE otp_code = '123456' AND purpose = 'EMAIL_VERIFICATION';
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    INSERT INTO bench_timings
+    VALUES ('bulk otp use', label, affected, EXTRACT(EPOCH FROM clock_timestamp() - started) * 1000);
+
+    -- 3. Bulk contact migration (drop email) -> username switches to phone
+    PERFORM pg_temp.reset_bench_state();
+    started := clock_timestamp();
+    UPDATE customers SET email_id = NULL WHERE id IN (SELECT customer_id FROM bench_customers);
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    INSERT INTO bench_timings
+    VALUES ('bulk contact migration', label, affected, EXTRACT(EPOCH FROM clock_timestamp() - started) * 1000);
+END;
+$$ LANGUAGE plpgsql;
+
+-- ===== STATEMENT-LEVEL TRIGGERS (current schema) =====
+
+SELECT pg_temp.run_bench_scenarios('statement-level');
+
+-- Sanity check: the cascade reached every account
+SELECT COUNT(*) AS phone_usernames
+FROM customer_accounts
+WHERE username LIKE '+3816%';
+
+-- ===== ROW-LEVEL TRIGGERS (previous schema, recreated inside this transaction) =====
+
+CREATE FUNCTION pg_temp.legacy_email_verification_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    customer_id_value BIGINT;
+BEGIN
+    SELECT id INTO customer_id_value FROM customers WHERE email_id = NEW.id;
+    IF FOUND THEN
+        PERFORM update_verification_status_for_customer(customer_id_value);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION pg_temp.legacy_phone_verification_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    customer_id_value BIGINT;
+BEGIN
+    SELECT id INTO customer_id_value FROM customers WHERE phone_id = NEW.id;
+    IF FOUND THEN
+        PERFORM update_verification_status_for_customer(customer_id_value);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION pg_temp.legacy_username_on_contact_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    new_username TEXT;
+    account_id_value BIGINT;
+BEGIN
+    SELECT id INTO account_id_value FROM customer_accounts WHERE customer_id = NEW.id;
+    IF FOUND THEN
+        SELECT preferred_username INTO new_username FROM customer_contact_lookup WHERE customer_id = NEW.id;
+        IF new_username IS NOT NULL THEN
+            UPDATE customer_accounts
+            SET username = new_username, last_modified_date = CURRENT_TIMESTAMP
+            WHERE id = account_id_value;
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION pg_temp.legacy_contact_verification_on_otp_use() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF NEW.purpose = 'EMAIL_VERIFICATION' AND NEW.customer_email_id IS NOT NULL THEN
+        UPDATE customer_emails SET is_verified = true, last_modified_date = CURRENT_TIMESTAMP
+        WHERE id = NEW.customer_email_id AND is_verified = false;
+    ELSIF NEW.purpose = 'PHONE_VERIFICATION' AND NEW.customer_phone_id IS NOT NULL THEN
+        UPDATE customer_phones SET is_verified = true, last_modified_date = CURRENT_TIMESTAMP
+        WHERE id = NEW.customer_phone_id AND is_verified = false;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER update_username_on_contact_change ON customers;
+DROP TRIGGER update_account_status_on_email_verification ON customer_emails;
+DROP TRIGGER update_account_status_on_phone_verification ON customer_phones;
+DROP TRIGGER update_contact_verification_on_otp_use ON otp_tokens;
+
+CREATE TRIGGER update_username_on_contact_change
+    AFTER UPDATE ON customers
+    FOR EACH ROW
+    WHEN (OLD.email_id IS DISTINCT FROM NEW.email_id OR OLD.phone_id IS DISTINCT FROM NEW.phone_id)
+EXECUTE FUNCTION pg_temp.legacy_username_on_contact_change();
+
+CREATE TRIGGER update_account_status_on_email_verification
+    AFTER UPDATE ON customer_emails
+    FOR EACH ROW
+    WHEN (OLD.is_verified IS DISTINCT FROM NEW.is_verified)
+EXECUTE FUNCTION pg_temp.legacy_email_verification_change();
+
+CREATE TRIGGER update_account_status_on_phone_verification
+    AFTER UPDATE ON customer_phones
+    FOR EACH ROW
+    WHEN (OLD.is_verified IS DISTINCT FROM NEW.is_verified)
+EXECUTE FUNCTION pg_temp.legacy_phone_verification_change();
+
+CREATE TRIGGER update_contact_verification_on_otp_use
+    AFTER UPDATE ON otp_tokens
+    FOR EACH ROW
+    WHEN (OLD.used_at IS NULL AND NEW.used_at IS NOT NULL)
+EXECUTE FUNCTION pg_temp.legacy_contact_verification_on_otp_use();
+
+SELECT pg_temp.run_bench_scenarios('row-level');
+
+-- ===== RESULTS =====
+
+SELECT s.scenario,
+       s.rows,
+       round(r.elapsed_ms)                        AS row_level_ms,
+       round(s.elapsed_ms)                        AS statement_level_ms,
+       round(r.elapsed_ms / NULLIF(s.elapsed_ms, 0), 1) AS speedup
+FROM bench_timings s
+         JOIN bench_timings r ON r.scenario = s.scenario AND r.triggers = 'row-level'
+WHERE s.triggers = 'statement-level'
+ORDER BY s.scenario;
+
+ROLLBACK;
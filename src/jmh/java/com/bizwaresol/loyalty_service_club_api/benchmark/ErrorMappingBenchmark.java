@@ -0,0 +1,116 @@
+package com.bizwaresol.loyalty_service_club_api.benchmark;
+
+import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.util.mappers.AwsErrorMapper;
+import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.DataIntegrityViolationException;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.ses.model.SesException;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of repository and AWS SDK exceptions by {@link RepositoryErrorMapper} and
+ * {@link AwsErrorMapper}, one benchmark per branch a request can realistically hit. The source
+ * exceptions are built once; only the mapping and the resulting service exception are measured.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=ErrorMappingBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ErrorMappingBenchmark {
+
+    private static final String DUPLICATE_PHONE_MESSAGE =
+            "duplicate key value violates unique constraint \"customer_phones_phone_key\" " +
+                    "Key (phone)=(+381641234567) already exists.";
+
+    private Exception namedConstraint;
+    private Exception messageConstraint;
+    private Exception unknownConstraint;
+    private Exception entityNotFound;
+    private Exception sesQuota;
+    private Exception snsThrottling;
+    private Exception snsInvalidPhone;
+    private Exception sdkClient;
+
+    @Setup
+    public void setUp() {
+        // Hibernate reports the constraint name; no message parsing
+        namedConstraint = new DataIntegrityViolationException(DUPLICATE_PHONE_MESSAGE, new ConstraintViolationException(
+                DUPLICATE_PHONE_MESSAGE, new SQLException(DUPLICATE_PHONE_MESSAGE, "23505"), "customer_phones_phone_key"));
+        // Constraint name taken from the PostgreSQL message
+        messageConstraint = new DataIntegrityViolationException(DUPLICATE_PHONE_MESSAGE);
+        // Not in the constraint table, described by SQLState
+        unknownConstraint = new DataIntegrityViolationException(
+                "new row violates check constraint \"chk_unknown\"",
+                new SQLException("new row violates check constraint \"chk_unknown\"", "23514"));
+        entityNotFound = new EntityNotFoundException("Unable to find CustomerAccount with id 42");
+
+        sesQuota = awsException(SesException.builder(), "DailyQuotaExceeded", "Daily sending quota exceeded");
+        snsThrottling = awsException(SnsException.builder(), "Throttling", "Request was throttled");
+        snsInvalidPhone = awsException(SnsException.builder(), "InvalidParameter", "Invalid parameter: PhoneNumber");
+        sdkClient = SdkClientException.create("Unable to execute HTTP request: Connect timed out");
+    }
+
+    // ===== REPOSITORY =====
+
+    @Benchmark
+    public ServiceException repositoryNamedConstraint() {
+        return RepositoryErrorMapper.mapException(namedConstraint);
+    }
+
+    @Benchmark
+    public ServiceException repositoryMessageConstraint() {
+        return RepositoryErrorMapper.mapException(messageConstraint);
+    }
+
+    @Benchmark
+    public ServiceException repositoryUnknownConstraint() {
+        return RepositoryErrorMapper.mapException(unknownConstraint);
+    }
+
+    @Benchmark
+    public ServiceException repositoryEntityNotFound() {
+        return RepositoryErrorMapper.mapException(entityNotFound);
+    }
+
+    // ===== AWS =====
+
+    @Benchmark
+    public ServiceException awsSesQuota() {
+        return AwsErrorMapper.mapException(sesQuota);
+    }
+
+    @Benchmark
+    public ServiceException awsSnsThrottling() {
+        return AwsErrorMapper.mapException(snsThrottling);
+    }
+
+    @Benchmark
+    public ServiceException awsSnsInvalidPhone() {
+        return AwsErrorMapper.mapException(snsInvalidPhone);
+    }
+
+    @Benchmark
+    public ServiceException awsSdkClient() {
+        return AwsErrorMapper.mapException(sdkClient);
+    }
+
+    // ===== HELPERS =====
+
+    private static Exception awsException(AwsServiceException.Builder builder, String errorCode, String message) {
+        return builder
+                .message(message)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).errorMessage(message).build())
+                .requestId("benchmark-request-id")
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.bizwaresol.loyalty_service_club_api.benchmark;
+
+import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.business.resource.CustomerAccountNotFoundException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.login.InvalidLoginCredentialsException;
+import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the failed-login exception path (account lookup miss translated to invalid credentials,
+ * as in AuthenticationService) with the stackless exceptions against the same path with stack-filling
+ * exceptions ({@link FilledNotFoundException}, {@link FilledInvalidCredentialsException}), plus the
+ * duplicate-contact translation in {@link RepositoryErrorMapper}.
+ * <p>
+ * Exceptions are thrown {@code callDepth} frames below the catch site, since stack capture cost grows
+ * with depth and a request thread sits well below the controller.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=FailedLoginBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FailedLoginBenchmark {
+
+    @Param({"20", "120"})
+    private int callDepth;
+
+    private String identifier = "marko.markovic@gmail.com";
+
+    private DataIntegrityViolationException duplicateEmail = new DataIntegrityViolationException(
+            "duplicate key value violates unique constraint \"customer_emails_email_key\" " +
+                    "Key (email)=(marko.markovic@gmail.com) already exists.");
+
+    // ===== FAILED LOGIN =====
+
+    @Benchmark
+    public ServiceException stacklessFailedLogin() {
+        try {
+            lookUp(callDepth, false);
+            return null;
+        } catch (CustomerAccountNotFoundException e) {
+            return new InvalidLoginCredentialsException(identifier);
+        }
+    }
+
+    @Benchmark
+    public RuntimeException filledFailedLogin() {
+        try {
+            lookUp(callDepth, true);
+            return null;
+        } catch (FilledNotFoundException e) {
+            return new FilledInvalidCredentialsException(identifier);
+        }
+    }
+
+    // ===== CONSTRAINT MAPPING =====
+
+    @Benchmark
+    public ServiceException mapDuplicateEmail() {
+        return RepositoryErrorMapper.mapException(duplicateEmail);
+    }
+
+    // ===== HELPERS =====
+
+    private void lookUp(int depth, boolean filled) {
+        if (depth > 0) {
+            lookUp(depth - 1, filled);
+            return;
+        }
+        if (filled) {
+            throw new FilledNotFoundException("Customer account not found: " + identifier);
+        }
+        throw new CustomerAccountNotFoundException(identifier);
+    }
+
+    /**
+     * Baselines with the previous behaviour: a full stack trace captured on construction
+     */
+    static final class FilledNotFoundException extends RuntimeException {
+        FilledNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    static final class FilledInvalidCredentialsException extends RuntimeException {
+        FilledInvalidCredentialsException(String identifier) {
+            super("Invalid login credentials for identifier: " + identifier);
+        }
+    }
+}
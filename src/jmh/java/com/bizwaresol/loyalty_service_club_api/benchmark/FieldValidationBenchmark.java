@@ -0,0 +1,146 @@
+package com.bizwaresol.loyalty_service_club_api.benchmark;
+
+import com.bizwaresol.loyalty_service_club_api.constant.ValidationConstants;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.*;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.format.*;
+import com.bizwaresol.loyalty_service_club_api.util.validators.DataValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the single-pass {@link DataValidator} field validation against the
+ * previous regex implementation ({@link RegexValidator}, kept here verbatim as the baseline).
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=FieldValidationBenchmark}; the gc profiler configured
+ * in build.gradle reports {@code gc.alloc.rate.norm} (bytes per operation).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FieldValidationBenchmark {
+
+    // Padded like typical form input, so both implementations have to trim
+    private String email = "  marko.markovic+loyalty@gmail.com ";
+    private String phone = " +381641234567 ";
+    private String otpCode = " 123456";
+    private String token = "123e4567-e89b-12d3-a456-426614174000 ";
+    private String name = " Ana-Marija O'Neil ";
+
+    // ===== SINGLE-PASS (CURRENT) =====
+
+    @Benchmark
+    public void scannerEmail() {
+        DataValidator.validateEmail(email, "email");
+    }
+
+    @Benchmark
+    public void scannerPhone() {
+        DataValidator.validatePhone(phone, "phone");
+    }
+
+    @Benchmark
+    public void scannerOtpCode() {
+        DataValidator.validateOtpCode(otpCode, "otpCode");
+    }
+
+    @Benchmark
+    public void scannerPasswordResetToken() {
+        DataValidator.validatePasswordResetToken(token, "token");
+    }
+
+    @Benchmark
+    public void scannerName() {
+        DataValidator.validateName(name, "firstName");
+    }
+
+    // ===== REGEX (BASELINE) =====
+
+    @Benchmark
+    public void regexEmail() {
+        RegexValidator.validateEmail(email, "email");
+    }
+
+    @Benchmark
+    public void regexPhone() {
+        RegexValidator.validatePhone(phone, "phone");
+    }
+
+    @Benchmark
+    public void regexOtpCode() {
+        RegexValidator.validateOtpCode(otpCode, "otpCode");
+    }
+
+    @Benchmark
+    public void regexPasswordResetToken() {
+        RegexValidator.validatePasswordResetToken(token, "token");
+    }
+
+    @Benchmark
+    public void regexName() {
+        RegexValidator.validateName(name, "firstName");
+    }
+
+    /**
+     * The DataValidator field checks as they were before the single-pass rewrite
+     */
+    static final class RegexValidator {
+
+        private RegexValidator() {}
+
+        static void checkField(String value, String fieldName, int minLength, int maxLength) {
+            if (value == null) {
+                throw new NullFieldException(fieldName);
+            }
+            if (value.trim().isEmpty()) {
+                throw new EmptyFieldException(fieldName);
+            }
+            if (value.trim().length() < minLength) {
+                throw new FieldTooShortException(fieldName, minLength, value.trim().length());
+            }
+            if (value.trim().length() > maxLength) {
+                throw new FieldTooLongException(fieldName, maxLength, value.trim().length());
+            }
+        }
+
+        static void validateEmail(String email, String fieldName) {
+            checkField(email, fieldName, ValidationConstants.MIN_EMAIL_LENGTH, ValidationConstants.MAX_EMAIL_LENGTH);
+            if (!ValidationConstants.EMAIL_PATTERN.matcher(email.trim()).matches()) {
+                throw new InvalidEmailFormatException(email);
+            }
+        }
+
+        static void validatePhone(String phone, String fieldName) {
+            checkField(phone, fieldName, ValidationConstants.MIN_PHONE_LENGTH, ValidationConstants.MAX_PHONE_LENGTH);
+            if (!ValidationConstants.PHONE_PATTERN.matcher(phone.trim()).matches()) {
+                throw new InvalidPhoneFormatException(phone + " (Expected format: +381xxxxxxxx)");
+            }
+        }
+
+        static void validateOtpCode(String otpCode, String fieldName) {
+            checkField(otpCode, fieldName, ValidationConstants.OTP_CODE_LENGTH, ValidationConstants.OTP_CODE_LENGTH);
+            if (!ValidationConstants.OTP_CODE_PATTERN.matcher(otpCode.trim()).matches()) {
+                throw new InvalidOtpFormatException(otpCode);
+            }
+        }
+
+        static void validatePasswordResetToken(String token, String fieldName) {
+            if (token == null) {
+                throw new NullFieldException(fieldName);
+            }
+            if (token.trim().isEmpty()) {
+                throw new EmptyFieldException(fieldName);
+            }
+            if (!ValidationConstants.UUID_PATTERN.matcher(token.trim()).matches()) {
+                throw new InvalidPasswordResetTokenFormatException();
+            }
+        }
+
+        static void validateName(String name, String fieldName) {
+            checkField(name, fieldName, ValidationConstants.MIN_NAME_LENGTH, ValidationConstants.MAX_NAME_LENGTH);
+            if (!ValidationConstants.NAME_PATTERN.matcher(name.trim()).matches()) {
+                throw new InvalidCharacterException(fieldName, "Only letters, spaces, hyphens, and apostrophes are allowed");
+            }
+        }
+    }
+}
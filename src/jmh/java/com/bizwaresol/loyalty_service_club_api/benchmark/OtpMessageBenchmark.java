@@ -0,0 +1,82 @@
+package com.bizwaresol.loyalty_service_club_api.benchmark;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTemplateProperties;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building an OTP message: {@link OtpToken#generateOtpCode()} and the
+ * {@link VerificationTemplateProperties} rendering of the email and SMS bodies, with the templates from
+ * application.properties and with the built-in defaults (used when no template is configured).
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=OtpMessageBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OtpMessageBenchmark {
+
+    private static final int EXPIRY_MINUTES = 10;
+
+    private VerificationTemplateProperties configured;
+    private VerificationTemplateProperties defaults;
+    private String otpCode = "482913";
+
+    @Setup
+    public void setUp() {
+        // Same values as application.properties
+        configured = new VerificationTemplateProperties();
+        configured.setEmailSubject("Verify Your Email Address");
+        configured.setEmailHtmlTemplate("<html><body><h2>Email Verification</h2><p>Your verification code is: " +
+                "<strong>{otpCode}</strong></p><p>This code will expire in {expiryMinutes} minutes.</p>" +
+                "<p>If you didn't request this code, please ignore this email.</p></body></html>");
+        configured.setEmailTextTemplate("Your verification code is {otpCode}. This code expires in {expiryMinutes} " +
+                "minutes. If you didn't request this code, please ignore this email.");
+        configured.setSmsTemplate("Your verification code is {otpCode}");
+
+        defaults = new VerificationTemplateProperties();
+    }
+
+    // ===== CODE GENERATION =====
+
+    @Benchmark
+    public String generateOtpCode() {
+        return OtpToken.generateOtpCode();
+    }
+
+    // ===== CONFIGURED TEMPLATES =====
+
+    @Benchmark
+    public String configuredEmailHtml() {
+        return configured.formatEmailHtml(otpCode, EXPIRY_MINUTES);
+    }
+
+    @Benchmark
+    public String configuredEmailText() {
+        return configured.formatEmailText(otpCode, EXPIRY_MINUTES);
+    }
+
+    @Benchmark
+    public String configuredSms() {
+        return configured.formatSms(otpCode);
+    }
+
+    // ===== DEFAULT TEMPLATES =====
+
+    @Benchmark
+    public String defaultEmailHtml() {
+        return defaults.formatEmailHtml(otpCode, EXPIRY_MINUTES);
+    }
+
+    @Benchmark
+    public String defaultEmailText() {
+        return defaults.formatEmailText(otpCode, EXPIRY_MINUTES);
+    }
+
+    @Benchmark
+    public String defaultSms() {
+        return defaults.formatSms(otpCode);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bizwaresol.loyalty_service_club_api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per BCrypt hash and check at the current cost factor (10, the {@link BCryptPasswordEncoder}
+ * default used by PasswordConfig) and the next two, i.e. what each login and registration spends on
+ * the password and what raising the cost would add.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=PasswordHashingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12"})
+    private int cost;
+
+    private String password = "password123";
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(cost);
+        hash = encoder.encode(password);
+    }
+
+    // ===== BCRYPT =====
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(password);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(password, hash);
+    }
+}
@@ -2,12 +2,18 @@ package com.bizwaresol.loyalty_service_club_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class LoyaltyServiceClubApiApplication {
 
+	// Startup steps kept for /actuator/startup and StartupMetrics (one per bean, so well above the bean count)
+	private static final int STARTUP_STEP_CAPACITY = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(LoyaltyServiceClubApiApplication.class, args);
+		SpringApplication application = new SpringApplication(LoyaltyServiceClubApiApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -11,11 +11,17 @@ import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTem
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 
+/**
+ * AWS SDK clients and their wrappers. All four are lazy: building an SDK client (HTTP client, credential
+ * and region resolution) is a noticeable part of startup and only OTP delivery needs one; SesClientService
+ * and SnsClientService take the wrappers through lazy proxies.
+ */
 @Configuration
 @EnableConfigurationProperties({
         AwsProperties.class,
@@ -29,6 +35,7 @@ public class AwsConfig {
     // ===== AWS SDK CLIENT BEANS (LOW-LEVEL) =====
 
     @Bean
+    @Lazy
     public software.amazon.awssdk.services.sns.SnsClient awsSnsClient(AwsProperties awsProperties) {
         return software.amazon.awssdk.services.sns.SnsClient.builder()
                 .region(Region.of(awsProperties.getRegion()))
@@ -37,6 +44,7 @@ public class AwsConfig {
     }
 
     @Bean
+    @Lazy
     public software.amazon.awssdk.services.ses.SesClient awsSesClient(AwsProperties awsProperties, SesProperties sesProperties) {
         String sesRegion = sesProperties.getRegion() != null ?
                 sesProperties.getRegion() : awsProperties.getRegion();
@@ -50,11 +58,13 @@ public class AwsConfig {
     // ===== CUSTOM WRAPPER CLIENT BEANS (APPLICATION-LEVEL) =====
 
     @Bean
+    @Lazy
     public SnsClient snsClient(software.amazon.awssdk.services.sns.SnsClient awsSnsClient) {
         return new SnsClient(awsSnsClient);
     }
 
     @Bean
+    @Lazy
     public SesClient sesClient(software.amazon.awssdk.services.ses.SesClient awsSesClient) {
         return new SesClient(awsSesClient);
     }
@@ -0,0 +1,75 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.CacheProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JCache (Caffeine) regions for Hibernate's second-level and query cache. Every region Hibernate asks for
+ * must be created here (missing_cache_strategy=fail), each with a size bound and statistics enabled, so
+ * hits, misses and evictions per region are published as javax.cache:type=CacheStatistics MXBeans and,
+ * through {@link JCacheMetrics}, as cache.* meters tagged with the region name, next to those of
+ * ContactResolver.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        long ttl = cacheProperties.getTimeToLiveSeconds();
+        createRegion(cacheManager, CacheRegions.CUSTOMER, cacheProperties.getEntityMaxSize(), ttl);
+        createRegion(cacheManager, CacheRegions.CUSTOMER_EMAIL, cacheProperties.getEntityMaxSize(), ttl);
+        createRegion(cacheManager, CacheRegions.CUSTOMER_PHONE, cacheProperties.getEntityMaxSize(), ttl);
+        createRegion(cacheManager, CacheRegions.CUSTOMER_EMAIL_NATURAL_ID, cacheProperties.getNaturalIdMaxSize(), ttl);
+        createRegion(cacheManager, CacheRegions.CUSTOMER_PHONE_NATURAL_ID, cacheProperties.getNaturalIdMaxSize(), ttl);
+        createRegion(cacheManager, CacheRegions.CONTACT_LOOKUP_QUERIES, cacheProperties.getQueryMaxSize(), ttl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, cacheProperties.getQueryMaxSize(), ttl);
+
+        // One entry per table; must never expire or be evicted, or cached queries could outlive an update
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, 0);
+
+        for (String region : cacheManager.getCacheNames()) {
+            JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void createRegion(CacheManager cacheManager, String region, long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        configuration.setStatisticsEnabled(true);
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.JobRunnerProperties;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Application-side maintenance job runner (alternative to pg_cron). Only active with jobs.runner.enabled=true;
+ * when enabled, unschedule the matching pg_cron jobs so the work does not run twice.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(JobRunnerProperties.class)
+@ConditionalOnProperty(prefix = "jobs.runner", name = "enabled", havingValue = "true")
+public class JobRunnerConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService jobShardExecutor(JobRunnerProperties jobRunnerProperties) {
+        return Executors.newFixedThreadPool(jobRunnerProperties.getWorkerThreads());
+    }
+}
@@ -0,0 +1,28 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Native image support: registers {@link NativeRuntimeHints} for the AOT build, and inside a native image
+ * switches Hibernate to the entities enhanced at build time (see build.gradle), since no proxy classes can
+ * be generated at runtime. No effect on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class)
+public class NativeImageConfig {
+
+    private static final String BYTECODE_PROVIDER = "hibernate.bytecode.provider";
+
+    @Bean
+    public HibernatePropertiesCustomizer nativeImageBytecodeCustomizer() {
+        return properties -> {
+            if (NativeDetector.inNativeImage()) {
+                properties.put(BYTECODE_PROVIDER, "none");
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.AwsProperties;
+import com.bizwaresol.loyalty_service_club_api.config.properties.SesProperties;
+import com.bizwaresol.loyalty_service_club_api.config.properties.SnsProperties;
+import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
+import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTemplateProperties;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.PasswordResetToken;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.AccountReadModel;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.CustomerContactLookup;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountIdentifierType;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.aot.BindingReflectionHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image (./gradlew nativeCompile). Spring's AOT processing
+ * already covers the beans, repositories and Spring Security; this adds what is looked up by name at
+ * runtime: entity and enum members Hibernate reads (the NAMED_ENUM columns map enum constants by name),
+ * the verification @ConfigurationProperties, the AWS SDK interceptor lists and HTTP client, and the
+ * Caffeine JCache provider. Libraries with entries in the GraalVM reachability metadata repository
+ * (Hibernate, PostgreSQL driver, AWS SDK core, Caffeine) are covered by that repository.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> ENTITIES = List.of(
+            Customer.class,
+            CustomerAccount.class,
+            CustomerEmail.class,
+            CustomerPhone.class,
+            OtpToken.class,
+            PasswordResetToken.class,
+            AccountReadModel.class,
+            CustomerContactLookup.class
+    );
+
+    // Instantiated by JPQL constructor expressions (SELECT new ...)
+    static final List<Class<?>> QUERY_RESULTS = List.of(
+            ResolvedContact.class
+    );
+
+    static final List<Class<?>> NAMED_ENUMS = List.of(
+            CustomerAccountActivityStatus.class,
+            CustomerAccountIdentifierType.class,
+            CustomerAccountVerificationStatus.class,
+            OtpDeliveryMethod.class,
+            OtpPurpose.class
+    );
+
+    static final List<Class<?>> CONFIGURATION_PROPERTIES = List.of(
+            AwsProperties.class,
+            SesProperties.class,
+            SnsProperties.class,
+            VerificationProperties.class,
+            VerificationTemplateProperties.class
+    );
+
+    // Read by the SDK client builders (ClasspathInterceptorChainFactory, partition metadata, ServiceLoader)
+    static final List<String> AWS_SDK_RESOURCES = List.of(
+            "software/amazon/awssdk/global/handlers/execution.interceptors",
+            "software/amazon/awssdk/services/ses/execution.interceptors",
+            "software/amazon/awssdk/services/sns/execution.interceptors",
+            "software/amazon/awssdk/global/partitions.json",
+            "META-INF/services/software.amazon.awssdk.http.SdkHttpService"
+    );
+
+    static final String AWS_SDK_HTTP_SERVICE = "software.amazon.awssdk.http.apache.ApacheSdkHttpService";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        registerEntities(hints);
+        registerConfigurationProperties(hints);
+        registerAwsSdk(hints);
+        registerSecondLevelCache(hints);
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void registerEntities(RuntimeHints hints) {
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        QUERY_RESULTS.forEach(result -> hints.reflection().registerType(result,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+
+        // EnumJavaType resolves constants through values()/valueOf() for the PostgreSQL enum columns
+        NAMED_ENUMS.forEach(namedEnum -> hints.reflection().registerType(namedEnum,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+    }
+
+    private void registerConfigurationProperties(RuntimeHints hints) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                CONFIGURATION_PROPERTIES.toArray(Class<?>[]::new));
+    }
+
+    private void registerAwsSdk(RuntimeHints hints) {
+        AWS_SDK_RESOURCES.forEach(resource -> hints.resources().registerPattern(resource));
+        hints.reflection().registerType(TypeReference.of(AWS_SDK_HTTP_SERVICE),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+
+    private void registerSecondLevelCache(RuntimeHints hints) {
+        // CacheConfig asks javax.cache.Caching for the provider by class name
+        hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("META-INF/services/javax.cache.spi.CachingProvider");
+        // Caffeine's JCache module reads its defaults through Typesafe Config
+        hints.resources().registerPattern("reference.conf");
+    }
+}
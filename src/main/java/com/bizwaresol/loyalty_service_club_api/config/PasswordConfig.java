@@ -1,5 +1,8 @@
 package com.bizwaresol.loyalty_service_club_api.config;
 
+import com.bizwaresol.loyalty_service_club_api.metrics.TimedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -22,12 +25,14 @@ public class PasswordConfig {
      * - Built-in salt generation
      * - Resistant to timing attacks
      * - Industry standard for password hashing
+     * Hashing and checking are timed (auth.password.hashing), since BCrypt's cost dominates login latency.
      *
+     * @param meterRegistry registry for the hashing timers
      * @return PasswordEncoder instance using BCrypt algorithm
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     // Future password-related beans can be added here:
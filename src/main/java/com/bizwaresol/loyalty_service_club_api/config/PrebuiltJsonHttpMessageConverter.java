@@ -0,0 +1,64 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON converter for a fixed set of API records. The ObjectReader and ObjectWriter of every type are
+ * built once from the application's ObjectMapper, so a request skips the per-call type and view lookups
+ * of MappingJackson2HttpMessageConverter. Responses are serialised to a byte array first and sent with
+ * a Content-Length instead of chunked. Any other type falls through to the default converters.
+ */
+public class PrebuiltJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final Map<Class<?>, ObjectReader> readers = new HashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+    public PrebuiltJsonHttpMessageConverter(ObjectMapper objectMapper, Collection<Class<?>> types) {
+        super(MediaType.APPLICATION_JSON);
+        for (Class<?> type : types) {
+            readers.put(type, objectMapper.readerFor(type));
+            writers.put(type, objectMapper.writerFor(type));
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return readers.containsKey(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return readers.get(clazz).readValue(inputMessage.getBody());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Malformed JSON request body", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body;
+        try {
+            body = writers.get(value.getClass()).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON response body", e);
+        }
+        // Headers are still writable until the body stream is opened
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.QueryStatisticsProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.statistics.InstrumentedStatistics;
+import com.bizwaresol.loyalty_service_club_api.data.statistics.QueryStatisticsFilter;
+import com.bizwaresol.loyalty_service_club_api.data.statistics.QueryStatisticsRecorder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.internal.StatisticsInitiator;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Statement-count and slow-query instrumentation. Turns on Hibernate statistics with
+ * {@link InstrumentedStatistics} as the implementation, which also counts statements, entity loads,
+ * collection fetches and flushes per thread. Per-request totals and slow queries are on the
+ * {@value #QUERY_STATISTICS_MBEAN_NAME} MXBean and published to Micrometer as db.*. Disable with
+ * query-statistics.enabled=false.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "query-statistics", name = "enabled", havingValue = "true")
+public class QueryStatisticsConfig {
+
+    static final String QUERY_STATISTICS_MBEAN_NAME = "com.bizwaresol.loyalty_service_club_api:type=QueryStatistics";
+
+    @Bean
+    public QueryStatisticsRecorder queryStatisticsRecorder(QueryStatisticsProperties queryStatisticsProperties,
+                                                           MeterRegistry meterRegistry) throws JMException {
+        QueryStatisticsRecorder recorder = new QueryStatisticsRecorder(queryStatisticsProperties.getSlowQueryLogSize(), meterRegistry);
+
+        // Replaces the registration of a previous context in the same JVM (integration tests)
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(QUERY_STATISTICS_MBEAN_NAME);
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+        mBeanServer.registerMBean(recorder, objectName);
+        return recorder;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsCustomizer(QueryStatisticsRecorder queryStatisticsRecorder,
+                                                                   QueryStatisticsProperties queryStatisticsProperties) {
+        long slowQueryThresholdMs = queryStatisticsProperties.getSlowQueryThresholdMs();
+        StatisticsFactory statisticsFactory = sessionFactory ->
+                new InstrumentedStatistics(sessionFactory, queryStatisticsRecorder, slowQueryThresholdMs);
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(StatisticsInitiator.STATS_BUILDER, statisticsFactory);
+        };
+    }
+
+    @Bean
+    public MeterBinder queryStatisticsMetrics(QueryStatisticsRecorder recorder) {
+        return registry -> {
+            FunctionCounter.builder(MetricNames.DB_REQUESTS, recorder, QueryStatisticsRecorder::getRequests).register(registry);
+            FunctionCounter.builder(MetricNames.DB_STATEMENTS, recorder, QueryStatisticsRecorder::getStatements).register(registry);
+            FunctionCounter.builder(MetricNames.DB_ENTITY_LOADS, recorder, QueryStatisticsRecorder::getEntityLoads).register(registry);
+            FunctionCounter.builder(MetricNames.DB_COLLECTION_FETCHES, recorder, QueryStatisticsRecorder::getCollectionFetches).register(registry);
+            FunctionCounter.builder(MetricNames.DB_FLUSHES, recorder, QueryStatisticsRecorder::getFlushes).register(registry);
+            FunctionCounter.builder(MetricNames.DB_SLOW_QUERIES, recorder, QueryStatisticsRecorder::getSlowQueries).register(registry);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatisticsFilter> queryStatisticsFilter(QueryStatisticsRecorder queryStatisticsRecorder) {
+        FilterRegistrationBean<QueryStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatisticsFilter(queryStatisticsRecorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,136 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.ReplicaDataSourceProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.datasource.PrimaryWriteTrackingDataSource;
+import com.bizwaresol.loyalty_service_club_api.data.datasource.ReplicaRoutingDataSource;
+import com.bizwaresol.loyalty_service_club_api.data.datasource.StickyPrimaryFilter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-replica routing. Only active with datasource.replicas.enabled=true; otherwise Spring Boot's single
+ * spring.datasource pool is used as before.
+ * <p>
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy}: Spring marks the connection of a
+ * {@code @Transactional(readOnly = true)} transaction read-only before its first statement, and the proxy
+ * then takes the physical connection from the replica router instead of the primary pool. Every pool
+ * registers its HikariCP MXBean (com.zaxxer.hikari:type=Pool (name)); routing counts and replica lag are
+ * on the {@value #ROUTING_MBEAN_NAME} MXBean. The same figures are published to Micrometer: hikaricp_* per
+ * pool and datasource.replica.* / datasource.primary.reads for routing.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    static final String ROUTING_MBEAN_NAME = "com.bizwaresol.loyalty_service_club_api:type=ReplicaRouting";
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(DataSourceProperties dataSourceProperties) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("primary");
+        pool.setRegisterMbeans(true);
+        return pool;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryPool,
+                                                             ReplicaDataSourceProperties replicaProperties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) throws JMException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaDataSourceProperties.Pool poolProperties : replicaProperties.getPools()) {
+            String name = "replica-" + poolProperties.getName();
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(poolProperties.getUrl());
+            pool.setUsername(poolProperties.getUsername());
+            pool.setPassword(poolProperties.getPassword());
+            pool.setMaximumPoolSize(poolProperties.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            pool.setRegisterMbeans(true);
+            // Not beans, so Spring Boot's pool metrics do not pick them up on their own
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(name, pool);
+        }
+
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primaryPool, replicas,
+                replicaProperties.getMaxLagMs(), replicaProperties.getStickyPrimaryMs());
+
+        // Replaces the registration of a previous context in the same JVM (integration tests)
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(ROUTING_MBEAN_NAME);
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+        mBeanServer.registerMBean(router, objectName);
+        return router;
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource router) {
+        return registry -> {
+            for (String replica : router.getReplicaLagMs().keySet()) {
+                Gauge.builder(MetricNames.DATASOURCE_REPLICA_LAG, router, r -> r.getReplicaLagMs().get(replica))
+                        .tag(MetricNames.TAG_REPLICA, replica)
+                        .baseUnit("milliseconds")
+                        .register(registry);
+                Gauge.builder(MetricNames.DATASOURCE_REPLICA_AVAILABLE, router, r -> r.getReplicaAvailable().get(replica) ? 1 : 0)
+                        .tag(MetricNames.TAG_REPLICA, replica)
+                        .register(registry);
+                FunctionCounter.builder(MetricNames.DATASOURCE_REPLICA_CONNECTIONS, router, r -> r.getRoutedConnections().get(replica))
+                        .tag(MetricNames.TAG_REPLICA, replica)
+                        .register(registry);
+            }
+            FunctionCounter.builder(MetricNames.DATASOURCE_PRIMARY_READS, router, ReplicaRoutingDataSource::getStickyPrimaryReads)
+                    .tag(MetricNames.TAG_REASON, MetricNames.REASON_STICKY)
+                    .register(registry);
+            FunctionCounter.builder(MetricNames.DATASOURCE_PRIMARY_READS, router, ReplicaRoutingDataSource::getFallbackPrimaryReads)
+                    .tag(MetricNames.TAG_REASON, MetricNames.REASON_FALLBACK)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryPool, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new PrimaryWriteTrackingDataSource(primaryPool));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    // Outermost, so writes made by the security filters (remember-me tokens) also count
+    @Bean
+    public FilterRegistrationBean<StickyPrimaryFilter> stickyPrimaryFilter() {
+        FilterRegistrationBean<StickyPrimaryFilter> registration = new FilterRegistrationBean<>(new StickyPrimaryFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
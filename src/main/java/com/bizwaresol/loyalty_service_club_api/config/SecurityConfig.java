@@ -1,18 +1,25 @@
 package com.bizwaresol.loyalty_service_club_api.config;
 
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
 import com.bizwaresol.loyalty_service_club_api.security.auth.CustomAuthenticationProvider;
 import com.bizwaresol.loyalty_service_club_api.security.auth.CustomerUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import javax.sql.DataSource;
 
@@ -23,14 +30,20 @@ public class SecurityConfig {
     private final CustomAuthenticationProvider customAuthenticationProvider;
     private final CustomerUserDetailsService customerUserDetailsService;
     private final DataSource dataSource;
+    private final int serverPort;
+    private final int managementPort;
 
     public SecurityConfig(
             CustomAuthenticationProvider customAuthenticationProvider,
             CustomerUserDetailsService customerUserDetailsService,
-            DataSource dataSource) {
+            DataSource dataSource,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:-1}") int managementPort) {
         this.customAuthenticationProvider = customAuthenticationProvider;
         this.customerUserDetailsService = customerUserDetailsService;
         this.dataSource = dataSource;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     // PasswordEncoder bean moved to PasswordConfig.java to break circular dependency
@@ -48,12 +61,39 @@ public class SecurityConfig {
         return tokenRepository;
     }
 
+    /**
+     * Login, registration, verification and password reset: anonymous JSON calls that never create or
+     * read an HTTP session, so they skip the session, request cache and remember-me filters of the
+     * main chain.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain publicApiFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(ApiPaths.PUBLIC_PATTERNS)
+                .authorizeHttpRequests(authz -> authz.anyRequest().permitAll())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .securityContext(context -> context.requireExplicitSave(true))
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .csrf(CsrfConfigurer::disable);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .authenticationProvider(customAuthenticationProvider)
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/auth/login", "/auth/register").permitAll()
+                        // Error responses of the public API are rendered on a forward to /error
+                        .requestMatchers("/error").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "info")).permitAll()
+                        // Scraped without a session, but only on a separate management port kept off the public network
+                        .requestMatchers(new AndRequestMatcher(EndpointRequest.to("prometheus"), onManagementPort())).permitAll()
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form
@@ -78,4 +118,13 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * Matches requests received on the management port; matches nothing when actuator shares the
+     * application port, so its endpoints then need an authenticated session like any other path
+     */
+    private RequestMatcher onManagementPort() {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        return request -> separatePort && request.getLocalPort() == managementPort;
+    }
 }
\ No newline at end of file
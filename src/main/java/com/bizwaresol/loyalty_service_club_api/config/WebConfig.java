@@ -0,0 +1,51 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.PasswordResetRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.response.LoginResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.response.PasswordResetTokenResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.response.RegistrationResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.error.ErrorResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.request.SendVerificationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.request.VerifyCodeRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Request and response bodies of the controllers, read and written by PrebuiltJsonHttpMessageConverter
+    static final List<Class<?>> API_TYPES = List.of(
+            LoginRequest.class,
+            LoginResponse.class,
+            RegistrationRequest.class,
+            RegistrationResponse.class,
+            SendVerificationRequest.class,
+            SendVerificationResponse.class,
+            VerifyCodeRequest.class,
+            VerifyCodeResponse.class,
+            PasswordResetRequest.class,
+            PasswordResetTokenResponse.class,
+            ErrorResponse.class
+    );
+
+    private final ObjectMapper objectMapper;
+
+    public WebConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of the default Jackson converter, which still handles everything else (actuator, /error)
+        converters.addFirst(new PrebuiltJsonHttpMessageConverter(objectMapper, API_TYPES));
+    }
+}
@@ -0,0 +1,20 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "business-config")
+public class BusinessConfigProperties {
+    // When off, business_config is not read and VerificationProperties keeps its property values
+    // (polling and reconnects are shared with the other caches, see cache-invalidation.*)
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,62 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cache-invalidation")
+public class CacheInvalidationProperties {
+    // When off, nothing is LISTENed to: caches are loaded once at startup and rely on their time-to-live
+    private boolean enabled = true;
+
+    // How long the listener waits for a notification per poll, and before reconnecting after an error
+    private int pollTimeoutMs = 1000;
+    private long reconnectDelayMs = 5000;
+
+    // How long startup waits for the listener's first resync before the node serves requests anyway
+    private long startupTimeoutMs = 10000;
+
+    // More messages than this for one channel in a single poll (bulk updates, pg_cron jobs) are not applied
+    // one by one; the subscriber resyncs instead
+    private int maxBatchSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPollTimeoutMs() {
+        return pollTimeoutMs;
+    }
+
+    public void setPollTimeoutMs(int pollTimeoutMs) {
+        this.pollTimeoutMs = pollTimeoutMs;
+    }
+
+    public long getReconnectDelayMs() {
+        return reconnectDelayMs;
+    }
+
+    public void setReconnectDelayMs(long reconnectDelayMs) {
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    public long getStartupTimeoutMs() {
+        return startupTimeoutMs;
+    }
+
+    public void setStartupTimeoutMs(long startupTimeoutMs) {
+        this.startupTimeoutMs = startupTimeoutMs;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+}
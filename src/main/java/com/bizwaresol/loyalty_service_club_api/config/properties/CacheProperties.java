@@ -0,0 +1,61 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+    // Maximum entries per entity region (customer, customer-email, customer-phone)
+    private long entityMaxSize = 10000;
+
+    // Maximum entries per natural-id region (email -> id, phone -> id)
+    private long naturalIdMaxSize = 20000;
+
+    // Maximum cached query results (contact lookups and Hibernate's default query region)
+    private long queryMaxSize = 5000;
+
+    // Maximum resolved contacts per contact type (email / phone -> contact, customer and account id)
+    private long contactResolutionMaxSize = 20000;
+
+    // Upper bound on staleness for changes no notification reaches (cache-invalidation off, TRUNCATE)
+    private long timeToLiveSeconds = 600;
+
+    public long getEntityMaxSize() {
+        return entityMaxSize;
+    }
+
+    public void setEntityMaxSize(long entityMaxSize) {
+        this.entityMaxSize = entityMaxSize;
+    }
+
+    public long getNaturalIdMaxSize() {
+        return naturalIdMaxSize;
+    }
+
+    public void setNaturalIdMaxSize(long naturalIdMaxSize) {
+        this.naturalIdMaxSize = naturalIdMaxSize;
+    }
+
+    public long getQueryMaxSize() {
+        return queryMaxSize;
+    }
+
+    public void setQueryMaxSize(long queryMaxSize) {
+        this.queryMaxSize = queryMaxSize;
+    }
+
+    public long getContactResolutionMaxSize() {
+        return contactResolutionMaxSize;
+    }
+
+    public void setContactResolutionMaxSize(long contactResolutionMaxSize) {
+        this.contactResolutionMaxSize = contactResolutionMaxSize;
+    }
+
+    public long getTimeToLiveSeconds() {
+        return timeToLiveSeconds;
+    }
+
+    public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+        this.timeToLiveSeconds = timeToLiveSeconds;
+    }
+}
@@ -0,0 +1,94 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.UUID;
+
+@ConfigurationProperties(prefix = "jobs.runner")
+public class JobRunnerProperties {
+    // Off by default: pg_cron (V301/V302) stays the scheduler unless the application runner is switched on
+    private boolean enabled = false;
+
+    // Identifies this node in job_run_shards.claimed_by / job_runs.planned_by
+    private String nodeId = "node-" + UUID.randomUUID().toString().substring(0, 8);
+
+    // When runs are planned, and how often nodes look for leftover shards
+    private String cron = "0 0 2 * * *";
+    private long resumeIntervalMs = 60000;
+
+    // Shards per planned run and worker threads per node
+    private int shardCount = 4;
+    private int workerThreads = 2;
+
+    // A failed shard is retried on later passes until it has been attempted this many times
+    private int maxShardAttempts = 3;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public long getResumeIntervalMs() {
+        return resumeIntervalMs;
+    }
+
+    public void setResumeIntervalMs(long resumeIntervalMs) {
+        this.resumeIntervalMs = resumeIntervalMs;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getMaxShardAttempts() {
+        return maxShardAttempts;
+    }
+
+    public void setMaxShardAttempts(int maxShardAttempts) {
+        this.maxShardAttempts = maxShardAttempts;
+    }
+
+    @Override
+    public String toString() {
+        return "JobRunnerProperties{" +
+                "enabled=" + enabled +
+                ", nodeId='" + nodeId + '\'' +
+                ", cron='" + cron + '\'' +
+                ", resumeIntervalMs=" + resumeIntervalMs +
+                ", shardCount=" + shardCount +
+                ", workerThreads=" + workerThreads +
+                ", maxShardAttempts=" + maxShardAttempts +
+                '}';
+    }
+}
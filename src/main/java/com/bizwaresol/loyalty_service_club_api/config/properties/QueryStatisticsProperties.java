@@ -0,0 +1,39 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "query-statistics")
+public class QueryStatisticsProperties {
+    // Turns on Hibernate statistics and the per-request statement counts built on them
+    private boolean enabled = true;
+
+    // Queries taking at least this long are counted and kept as slow queries (0 disables)
+    private long slowQueryThresholdMs = 500;
+
+    // Most recent slow queries kept for the MXBean
+    private int slowQueryLogSize = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSlowQueryThresholdMs() {
+        return slowQueryThresholdMs;
+    }
+
+    public void setSlowQueryThresholdMs(long slowQueryThresholdMs) {
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+    }
+
+    public int getSlowQueryLogSize() {
+        return slowQueryLogSize;
+    }
+
+    public void setSlowQueryLogSize(int slowQueryLogSize) {
+        this.slowQueryLogSize = slowQueryLogSize;
+    }
+}
@@ -0,0 +1,121 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaDataSourceProperties {
+    // Off by default: everything uses the single spring.datasource pool unless replicas are configured
+    private boolean enabled = false;
+
+    // Read-only transactions are spread over these pools
+    private List<Pool> pools = new ArrayList<>();
+
+    // A replica further behind than this is skipped until it catches up
+    private long maxLagMs = 1000;
+    private long lagCheckIntervalMs = 5000;
+
+    // Outside a web request (jobs, schedulers), reads stay on the primary this long after a write
+    private long stickyPrimaryMs = 5000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Pool> getPools() {
+        return pools;
+    }
+
+    public void setPools(List<Pool> pools) {
+        this.pools = pools;
+    }
+
+    public long getMaxLagMs() {
+        return maxLagMs;
+    }
+
+    public void setMaxLagMs(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+
+    public long getLagCheckIntervalMs() {
+        return lagCheckIntervalMs;
+    }
+
+    public void setLagCheckIntervalMs(long lagCheckIntervalMs) {
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+    }
+
+    public long getStickyPrimaryMs() {
+        return stickyPrimaryMs;
+    }
+
+    public void setStickyPrimaryMs(long stickyPrimaryMs) {
+        this.stickyPrimaryMs = stickyPrimaryMs;
+    }
+
+    public static class Pool {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        @Override
+        public String toString() {
+            return "Pool{" +
+                    "name='" + name + '\'' +
+                    ", url='" + url + '\'' +
+                    ", username='" + username + '\'' +
+                    ", password='***masked***'" +
+                    ", maximumPoolSize=" + maximumPoolSize +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.bizwaresol.loyalty_service_club_api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "security-events")
+public class SecurityEventProperties {
+
+    /**
+     * What SecurityEventLog.record does when the buffer is full
+     */
+    public enum OverflowPolicy {
+        // Discard the event being recorded; the caller never waits
+        DROP_NEWEST,
+        // Discard the oldest buffered event to make room (ring buffer semantics)
+        DROP_OLDEST,
+        // Wait up to block-timeout-ms for room, then discard the event being recorded
+        BLOCK
+    }
+
+    // When off, events are not buffered and the writer thread is not started
+    private boolean enabled = true;
+
+    // Events held in memory between flushes, and what happens once that is exhausted
+    private int bufferCapacity = 10000;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+    private long blockTimeoutMs = 5;
+
+    // Rows per multi-row INSERT, and how long the writer lets events accumulate after a partial batch
+    private int batchSize = 500;
+    private long flushIntervalMs = 200;
+
+    // A failed batch is retried this many times in total before its events are dropped
+    private int maxWriteAttempts = 3;
+    private long retryDelayMs = 500;
+
+    // How long shutdown waits for the writer to drain the buffer
+    private long shutdownTimeoutMs = 5000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getBlockTimeoutMs() {
+        return blockTimeoutMs;
+    }
+
+    public void setBlockTimeoutMs(long blockTimeoutMs) {
+        this.blockTimeoutMs = blockTimeoutMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getMaxWriteAttempts() {
+        return maxWriteAttempts;
+    }
+
+    public void setMaxWriteAttempts(int maxWriteAttempts) {
+        this.maxWriteAttempts = maxWriteAttempts;
+    }
+
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    public long getShutdownTimeoutMs() {
+        return shutdownTimeoutMs;
+    }
+
+    public void setShutdownTimeoutMs(long shutdownTimeoutMs) {
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+}
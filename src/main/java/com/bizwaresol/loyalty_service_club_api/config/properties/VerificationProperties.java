@@ -1,9 +1,18 @@
 package com.bizwaresol.loyalty_service_club_api.config.properties;
 
 import com.bizwaresol.loyalty_service_club_api.constant.RateLimitConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.BusinessConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.OptionalInt;
+
+/**
+ * Verification settings. OTP expiry, max attempts, resend cooldown and the hourly send limit read through
+ * business_config (kept current by BusinessConfigCache): a row for the key takes precedence over the value
+ * bound here, so an operator can change it at runtime without a redeploy. V351 seeds none of these keys,
+ * which leaves the profile values in effect until a row is inserted, and again once it is deleted.
+ */
 @Component
 @ConfigurationProperties(prefix = "verification")
 public class VerificationProperties {
@@ -17,6 +26,12 @@ public class VerificationProperties {
     private int[] otpRateLimitWaitSeconds = RateLimitConstants.DEFAULT_OTP_RATE_LIMIT_WAIT_SECONDS;
     private int otpRateLimitResetHours = RateLimitConstants.DEFAULT_OTP_RATE_LIMIT_RESET_HOURS;
 
+    // Maximum codes sent per contact in the last hour; 0 means no cap
+    private int otpRateLimitPerHour;
+
+    // Latest business_config snapshot, replaced as a whole on every reload
+    private volatile BusinessConfig businessConfig = BusinessConfig.EMPTY;
+
     public boolean isSandboxMode() {
         return sandboxMode;
     }
@@ -26,7 +41,7 @@ public class VerificationProperties {
     }
 
     public int getOtpExpiryMinutes() {
-        return otpExpiryMinutes;
+        return businessConfig.getInt(BusinessConfig.OTP_EXPIRY_MINUTES).orElse(otpExpiryMinutes);
     }
 
     public void setOtpExpiryMinutes(int otpExpiryMinutes) {
@@ -34,7 +49,7 @@ public class VerificationProperties {
     }
 
     public int getMaxAttempts() {
-        return maxAttempts;
+        return businessConfig.getInt(BusinessConfig.OTP_MAX_ATTEMPTS).orElse(maxAttempts);
     }
 
     public void setMaxAttempts(int maxAttempts) {
@@ -50,7 +65,8 @@ public class VerificationProperties {
     }
 
     public int getResendCooldownSeconds() {
-        return resendCooldownSeconds;
+        OptionalInt cooldownMinutes = businessConfig.getInt(BusinessConfig.OTP_RESEND_COOLDOWN_MINUTES);
+        return cooldownMinutes.isPresent() ? cooldownMinutes.getAsInt() * 60 : resendCooldownSeconds;
     }
 
     public void setResendCooldownSeconds(int resendCooldownSeconds) {
@@ -73,6 +89,22 @@ public class VerificationProperties {
         this.otpRateLimitResetHours = otpRateLimitResetHours;
     }
 
+    public int getOtpRateLimitPerHour() {
+        return businessConfig.getInt(BusinessConfig.OTP_RATE_LIMIT_PER_HOUR).orElse(otpRateLimitPerHour);
+    }
+
+    public void setOtpRateLimitPerHour(int otpRateLimitPerHour) {
+        this.otpRateLimitPerHour = otpRateLimitPerHour;
+    }
+
+    /**
+     * Called by BusinessConfigCache after every load of business_config
+     * @param businessConfig the new snapshot; keys it lacks fall back to the bound property values
+     */
+    public void applyBusinessConfig(BusinessConfig businessConfig) {
+        this.businessConfig = businessConfig;
+    }
+
     /**
      * Get wait time in seconds for a specific RESEND attempt number
      * This controls how long users must wait before requesting another OTP code
@@ -100,6 +132,8 @@ public class VerificationProperties {
                 ", resendCooldownSeconds=" + resendCooldownSeconds +
                 ", otpRateLimitWaitSeconds=" + java.util.Arrays.toString(otpRateLimitWaitSeconds) +
                 ", otpRateLimitResetHours=" + otpRateLimitResetHours +
+                ", otpRateLimitPerHour=" + otpRateLimitPerHour +
+                ", businessConfig=" + businessConfig +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.bizwaresol.loyalty_service_club_api.constant;
+
+public final class ApiPaths {
+
+    private ApiPaths() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    // Authentication (AuthController)
+    public static final String AUTH = "/auth";
+    public static final String LOGIN = "/login";
+    public static final String REGISTER = "/register";
+
+    // Password reset (PasswordResetController)
+    public static final String PASSWORD_RESET = AUTH + "/password-reset";
+    public static final String PASSWORD_RESET_REQUEST = "/request";
+    public static final String PASSWORD_RESET_VERIFY = "/verify";
+    public static final String PASSWORD_RESET_CONFIRM = "/confirm";
+
+    // Contact verification (VerificationController)
+    public static final String VERIFICATION = "/verification";
+    public static final String VERIFICATION_SEND = "/send";
+    public static final String VERIFICATION_VERIFY = "/verify";
+
+    // Unauthenticated, sessionless flows (SecurityConfig)
+    public static final String[] PUBLIC_PATTERNS = {
+            AUTH + LOGIN,
+            AUTH + REGISTER,
+            PASSWORD_RESET + "/**",
+            VERIFICATION + "/**"
+    };
+}
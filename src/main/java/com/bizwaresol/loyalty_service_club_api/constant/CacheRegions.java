@@ -0,0 +1,24 @@
+package com.bizwaresol.loyalty_service_club_api.constant;
+
+public final class CacheRegions {
+
+    private CacheRegions() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    // Entity regions (id -> entity state)
+    public static final String CUSTOMER = "customer";
+    public static final String CUSTOMER_EMAIL = "customer-email";
+    public static final String CUSTOMER_PHONE = "customer-phone";
+
+    // Natural-id regions (email / phone -> id)
+    public static final String CUSTOMER_EMAIL_NATURAL_ID = "customer-email-natural-id";
+    public static final String CUSTOMER_PHONE_NATURAL_ID = "customer-phone-natural-id";
+
+    // Query region for customer_contact_lookup (by email, phone and preferred username)
+    public static final String CONTACT_LOOKUP_QUERIES = "contact-lookup-queries";
+
+    // Application caches outside Hibernate (see ContactResolver), named for the cache.* metrics
+    public static final String CONTACT_RESOLUTION_EMAIL = "contact-resolution-email";
+    public static final String CONTACT_RESOLUTION_PHONE = "contact-resolution-phone";
+}
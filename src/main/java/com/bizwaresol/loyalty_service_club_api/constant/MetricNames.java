@@ -0,0 +1,97 @@
+package com.bizwaresol.loyalty_service_club_api.constant;
+
+public final class MetricNames {
+
+    private MetricNames() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    // Timers (Prometheus: <name>_seconds_count / _sum / _bucket, one series per tag combination)
+    public static final String AUTH_LOGIN = "auth.login";
+    public static final String AUTH_REGISTRATION = "auth.registration";
+    public static final String AUTH_PASSWORD_HASHING = "auth.password.hashing";
+    public static final String OTP_SEND = "otp.send";
+    public static final String OTP_VERIFY = "otp.verify";
+    public static final String AWS_CLIENT_REQUESTS = "aws.client.requests";
+
+    // Database work (QueryStatisticsRecorder) and read-replica routing (ReplicaRoutingDataSource)
+    public static final String DB_REQUESTS = "db.requests";
+    public static final String DB_STATEMENTS = "db.statements";
+    public static final String DB_STATEMENTS_PER_REQUEST = "db.statements.per.request";
+    public static final String DB_ENTITY_LOADS = "db.entity.loads";
+    public static final String DB_COLLECTION_FETCHES = "db.collection.fetches";
+    public static final String DB_FLUSHES = "db.flushes";
+    public static final String DB_SLOW_QUERIES = "db.slow.queries";
+    public static final String DATASOURCE_REPLICA_LAG = "datasource.replica.lag";
+    public static final String DATASOURCE_REPLICA_AVAILABLE = "datasource.replica.available";
+    public static final String DATASOURCE_REPLICA_CONNECTIONS = "datasource.replica.connections";
+    public static final String DATASOURCE_PRIMARY_READS = "datasource.primary.reads";
+
+    // business_config reloads (BusinessConfigCache)
+    public static final String BUSINESS_CONFIG_RELOADS = "business.config.reloads";
+
+    // LISTEN/NOTIFY cache invalidation (CacheInvalidationBus); lag is row change to receipt, per channel, so it
+    // includes the time the changing transaction took to commit
+    public static final String CACHE_INVALIDATION_RECEIVED = "cache.invalidation.received";
+    public static final String CACHE_INVALIDATION_LAG = "cache.invalidation.lag";
+    public static final String CACHE_INVALIDATION_RESYNCS = "cache.invalidation.resyncs";
+    public static final String CACHE_INVALIDATION_CONNECTED = "cache.invalidation.connected";
+    public static final String CACHE_INVALIDATION_CONNECTION_ERRORS = "cache.invalidation.connection.errors";
+
+    // security_events buffer and writer (SecurityEventLog)
+    public static final String SECURITY_EVENTS_RECORDED = "security.events.recorded";
+    public static final String SECURITY_EVENTS_WRITTEN = "security.events.written";
+    public static final String SECURITY_EVENTS_DROPPED = "security.events.dropped";
+    public static final String SECURITY_EVENTS_BUFFERED = "security.events.buffered";
+    public static final String SECURITY_EVENTS_FLUSH = "security.events.flush";
+
+    // Startup (StartupMetrics)
+    public static final String APPLICATION_STARTUP_PHASE = "application.startup.phase";
+
+    // Tag keys
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_PURPOSE = "purpose";
+    public static final String TAG_CHANNEL = "channel";
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_SERVICE = "service";
+    public static final String TAG_ERROR = "error";
+    public static final String TAG_REPLICA = "replica";
+    public static final String TAG_REASON = "reason";
+    public static final String TAG_PHASE = "phase";
+
+    // Outcomes
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_INVALID = "invalid";
+    public static final String OUTCOME_INVALID_CREDENTIALS = "invalid_credentials";
+    public static final String OUTCOME_SUSPENDED = "suspended";
+    public static final String OUTCOME_CONTACT_TAKEN = "contact_taken";
+    public static final String OUTCOME_COOLDOWN = "cooldown";
+    public static final String OUTCOME_RATE_LIMITED = "rate_limited";
+    public static final String OUTCOME_EXPIRED = "expired";
+    public static final String OUTCOME_NOT_FOUND = "not_found";
+    public static final String OUTCOME_ERROR = "error";
+
+    // AWS services and operations
+    public static final String SERVICE_SES = "ses";
+    public static final String SERVICE_SNS = "sns";
+    public static final String OPERATION_SEND_EMAIL = "send_email";
+    public static final String OPERATION_PUBLISH = "publish";
+    public static final String OPERATION_ENCODE = "encode";
+    public static final String OPERATION_MATCHES = "matches";
+
+    // Error tag value for successful calls
+    public static final String ERROR_NONE = "none";
+
+    // Reasons a read-only transaction ran on the primary
+    public static final String REASON_STICKY = "sticky";
+    public static final String REASON_FALLBACK = "fallback";
+
+    // Reasons a security event was dropped
+    public static final String REASON_BUFFER_FULL = "buffer_full";
+    public static final String REASON_WRITE_FAILED = "write_failed";
+    public static final String REASON_SHUTDOWN = "shutdown";
+
+    // Reasons a cache was resynced instead of invalidated entry by entry
+    public static final String REASON_CONNECT = "connect";
+    public static final String REASON_BURST = "burst";
+}
@@ -0,0 +1,16 @@
+package com.bizwaresol.loyalty_service_club_api.constant;
+
+public final class PaginationConstants {
+
+    private PaginationConstants() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    // Keyset pages: callers pass the last ID of the previous page; null starts before the first row
+    public static final long FIRST_PAGE_AFTER_ID = 0L;
+    public static final int MIN_PAGE_SIZE = 1;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Rows per round trip for streamed reads (String because it is used in @QueryHint)
+    public static final String STREAM_FETCH_SIZE = "500";
+}
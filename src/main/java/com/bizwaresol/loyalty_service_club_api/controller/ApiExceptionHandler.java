@@ -0,0 +1,35 @@
+package com.bizwaresol.loyalty_service_club_api.controller;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.error.ErrorResponse;
+import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps the exception hierarchy to responses: status and error code come from the {@link ServiceException}
+ * itself, the body is an {@link ErrorResponse}. Neither the exception nor its stack trace is serialised,
+ * and server-side failures (5xx) replace their message, which can carry SQL or client details, with a
+ * generic one.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    static final String MALFORMED_REQUEST = "MALFORMED_REQUEST";
+    static final String INTERNAL_ERROR_MESSAGE = "An internal error occurred";
+
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<ErrorResponse> handleServiceException(ServiceException e) {
+        String message = e.getHttpStatus() >= 500 ? INTERNAL_ERROR_MESSAGE : e.getMessage();
+        return ResponseEntity.status(e.getHttpStatus()).body(new ErrorResponse(e.getErrorCode(), message));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(HttpMessageNotReadableException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(MALFORMED_REQUEST, "Request body is missing or is not valid JSON"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.bizwaresol.loyalty_service_club_api.controller.auth;
+
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.response.LoginResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.response.RegistrationResponse;
+import com.bizwaresol.loyalty_service_club_api.service.auth.AuthenticationService;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(path = ApiPaths.AUTH, produces = MediaType.APPLICATION_JSON_VALUE)
+public class AuthController {
+
+    private final AuthenticationService authenticationService;
+
+    public AuthController(AuthenticationService authenticationService) {
+        this.authenticationService = authenticationService;
+    }
+
+    @PostMapping(path = ApiPaths.LOGIN, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public LoginResponse login(@RequestBody LoginRequest request) {
+        return LoginResponse.from(authenticationService.authenticate(request));
+    }
+
+    @PostMapping(path = ApiPaths.REGISTER, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public RegistrationResponse register(@RequestBody RegistrationRequest request) {
+        return RegistrationResponse.from(authenticationService.register(request));
+    }
+}
@@ -0,0 +1,54 @@
+package com.bizwaresol.loyalty_service_club_api.controller.auth;
+
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.PasswordResetRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.response.PasswordResetTokenResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.request.SendVerificationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.request.VerifyCodeRequest;
+import com.bizwaresol.loyalty_service_club_api.service.auth.PasswordResetService;
+import com.bizwaresol.loyalty_service_club_api.util.validators.DataValidator;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The three password reset steps of {@link PasswordResetService}: send a code, exchange the code for a
+ * reset token, set the new password with the token.
+ */
+@RestController
+@RequestMapping(path = ApiPaths.PASSWORD_RESET, produces = MediaType.APPLICATION_JSON_VALUE)
+public class PasswordResetController {
+
+    private final PasswordResetService passwordResetService;
+
+    public PasswordResetController(PasswordResetService passwordResetService) {
+        this.passwordResetService = passwordResetService;
+    }
+
+    // 202 whether or not the contact has an account; PasswordResetService answers unknown contacts, pending
+    // requests and OTP limits silently
+    @PostMapping(path = ApiPaths.PASSWORD_RESET_REQUEST, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void requestReset(@RequestBody SendVerificationRequest request) {
+        DataValidator.checkNotNull(request.deliveryMethod(), "deliveryMethod");
+        passwordResetService.requestPasswordReset(request.contact(), request.deliveryMethod());
+    }
+
+    @PostMapping(path = ApiPaths.PASSWORD_RESET_VERIFY, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public PasswordResetTokenResponse verifyCode(@RequestBody VerifyCodeRequest request) {
+        DataValidator.checkNotNull(request.deliveryMethod(), "deliveryMethod");
+        return new PasswordResetTokenResponse(passwordResetService.verifyOtpAndCreateResetToken(
+                request.contact(), request.deliveryMethod(), request.otpCode()));
+    }
+
+    @PostMapping(path = ApiPaths.PASSWORD_RESET_CONFIRM, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void resetPassword(@RequestBody PasswordResetRequest request) {
+        passwordResetService.resetPassword(request.token(), request.newPassword());
+    }
+}
@@ -0,0 +1,52 @@
+package com.bizwaresol.loyalty_service_club_api.controller.verification;
+
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.request.SendVerificationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.request.VerifyCodeRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.service.verification.EmailVerificationService;
+import com.bizwaresol.loyalty_service_club_api.service.verification.PhoneVerificationService;
+import com.bizwaresol.loyalty_service_club_api.util.validators.DataValidator;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Email and phone verification codes; the delivery method of the request picks the service.
+ */
+@RestController
+@RequestMapping(path = ApiPaths.VERIFICATION, produces = MediaType.APPLICATION_JSON_VALUE)
+public class VerificationController {
+
+    private final EmailVerificationService emailVerificationService;
+    private final PhoneVerificationService phoneVerificationService;
+
+    public VerificationController(EmailVerificationService emailVerificationService,
+                                  PhoneVerificationService phoneVerificationService) {
+        this.emailVerificationService = emailVerificationService;
+        this.phoneVerificationService = phoneVerificationService;
+    }
+
+    @PostMapping(path = ApiPaths.VERIFICATION_SEND, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public SendVerificationResponse sendCode(@RequestBody SendVerificationRequest request) {
+        DataValidator.checkNotNull(request.deliveryMethod(), "deliveryMethod");
+        if (request.deliveryMethod() == OtpDeliveryMethod.EMAIL) {
+            return emailVerificationService.sendVerificationCode(request.contact());
+        }
+        return phoneVerificationService.sendVerificationCode(request.contact());
+    }
+
+    @PostMapping(path = ApiPaths.VERIFICATION_VERIFY, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public VerifyCodeResponse verifyCode(@RequestBody VerifyCodeRequest request) {
+        DataValidator.checkNotNull(request.deliveryMethod(), "deliveryMethod");
+        if (request.deliveryMethod() == OtpDeliveryMethod.EMAIL) {
+            return emailVerificationService.verifyCode(request.contact(), request.otpCode());
+        }
+        return phoneVerificationService.verifyCode(request.contact(), request.otpCode());
+    }
+}
@@ -0,0 +1,105 @@
+package com.bizwaresol.loyalty_service_club_api.data.audit;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.SecurityEventType;
+import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One row of security_events. outcome uses the {@link MetricNames} OUTCOME_* values, so the trail and the
+ * auth/otp metrics agree; errorCode is the ServiceException code a failed request ended with.
+ */
+public record SecurityEvent(
+        SecurityEventType type,
+        String outcome,
+        String identifier,                 // as submitted, sanitized and truncated to the column size
+        Long accountId,                    // null when the request never resolved an account
+        OtpDeliveryMethod deliveryMethod,
+        OtpPurpose otpPurpose,
+        String errorCode,
+        OffsetDateTime occurredAt
+) {
+
+    static final int MAX_IDENTIFIER_LENGTH = 255;
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    public static SecurityEvent login(String identifier, Long accountId, String outcome, Exception failure) {
+        return of(SecurityEventType.LOGIN, outcome, identifier, accountId, null, null, failure);
+    }
+
+    public static SecurityEvent registration(String identifier, Long accountId, String outcome, Exception failure) {
+        return of(SecurityEventType.REGISTRATION, outcome, identifier, accountId, null, null, failure);
+    }
+
+    public static SecurityEvent otpSend(String contact, OtpDeliveryMethod deliveryMethod, OtpPurpose purpose, String outcome) {
+        return of(SecurityEventType.OTP_SEND, outcome, contact, null, deliveryMethod, purpose, null);
+    }
+
+    public static SecurityEvent otpVerify(String contact, OtpDeliveryMethod deliveryMethod, OtpPurpose purpose, String outcome) {
+        return of(SecurityEventType.OTP_VERIFY, outcome, contact, null, deliveryMethod, purpose, null);
+    }
+
+    public static SecurityEvent passwordResetRequest(String contact, OtpDeliveryMethod deliveryMethod, Exception failure) {
+        return of(SecurityEventType.PASSWORD_RESET_REQUEST, outcomeOf(failure), contact, null, deliveryMethod,
+                OtpPurpose.PASSWORD_RESET, failure);
+    }
+
+    public static SecurityEvent passwordReset(Long accountId, Exception failure) {
+        return of(SecurityEventType.PASSWORD_RESET, outcomeOf(failure), null, accountId, null, null, failure);
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private static SecurityEvent of(SecurityEventType type, String outcome, String identifier, Long accountId,
+                                    OtpDeliveryMethod deliveryMethod, OtpPurpose purpose, Exception failure) {
+        String errorCode = failure instanceof ServiceException serviceException ? serviceException.getErrorCode() : null;
+        return new SecurityEvent(type, outcome, sanitize(identifier), accountId, deliveryMethod, purpose, errorCode,
+                OffsetDateTime.now());
+    }
+
+    // Rejected requests (4xx) are invalid, anything else an error; the error code says which rule applied
+    private static String outcomeOf(Exception failure) {
+        if (failure == null) {
+            return MetricNames.OUTCOME_SUCCESS;
+        }
+        if (failure instanceof ServiceException serviceException && serviceException.getHttpStatus() < 500) {
+            return MetricNames.OUTCOME_INVALID;
+        }
+        return MetricNames.OUTCOME_ERROR;
+    }
+
+    /**
+     * The identifier is whatever the client sent. PostgreSQL rejects NUL in text columns and the driver cannot
+     * encode unpaired surrogates, and either would fail the whole batch, so both (and the other control
+     * characters) are replaced with U+FFFD; the result is cut to the column size.
+     */
+    static String sanitize(String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+        int length = Math.min(identifier.length(), MAX_IDENTIFIER_LENGTH);
+        // Do not cut a surrogate pair in half
+        if (length < identifier.length() && Character.isHighSurrogate(identifier.charAt(length - 1))) {
+            length--;
+        }
+
+        StringBuilder sanitized = null;
+        for (int i = 0; i < length; i++) {
+            char c = identifier.charAt(i);
+            boolean pairedSurrogate = Character.isHighSurrogate(c)
+                    ? i + 1 < length && Character.isLowSurrogate(identifier.charAt(i + 1))
+                    : Character.isLowSurrogate(c) && i > 0 && Character.isHighSurrogate(identifier.charAt(i - 1));
+            boolean invalid = Character.isISOControl(c) || (Character.isSurrogate(c) && !pairedSurrogate);
+            if (invalid && sanitized == null) {
+                sanitized = new StringBuilder(length).append(identifier, 0, i);
+            }
+            if (sanitized != null) {
+                sanitized.append(invalid ? REPLACEMENT_CHARACTER : c);
+            }
+        }
+        return sanitized != null ? sanitized.toString() : identifier.substring(0, length);
+    }
+}
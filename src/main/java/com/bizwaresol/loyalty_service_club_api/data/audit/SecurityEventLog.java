@@ -0,0 +1,228 @@
+package com.bizwaresol.loyalty_service_club_api.data.audit;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.SecurityEventProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous feed of security_events. Request threads only {@link #record} into a bounded in-memory
+ * buffer (an array-backed ring); a background thread drains it in batches of security-events.batch-size
+ * every security-events.flush-interval-ms (immediately while a backlog remains) and hands them to
+ * {@link SecurityEventWriter}. When the buffer is full, security-events.overflow-policy
+ * decides whether the new event, the oldest event or the caller's time is given up. A failed batch is
+ * retried up to security-events.max-write-attempts times, during which the buffer absorbs new events.
+ * If it still fails, its events are written one at a time, so a single row the database rejects is dropped
+ * on its own rather than taking the rest of the batch with it.
+ * <p>
+ * The trail is best effort: an event that is not written is counted in security.events.dropped with the
+ * reason, except for events still buffered when the process dies.
+ */
+@Component
+public class SecurityEventLog implements SmartLifecycle {
+
+    // Before the web server (SmartLifecycle.DEFAULT_PHASE - 1024), so the writer stops after the last request
+    private static final int PHASE = 0;
+
+    private final SecurityEventWriter writer;
+    private final SecurityEventProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<SecurityEvent> buffer;
+
+    private final Counter recorded;
+    private final Counter written;
+    private final Counter droppedBufferFull;
+    private final Counter droppedWriteFailed;
+    private final Counter droppedShutdown;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public SecurityEventLog(SecurityEventWriter writer,
+                            SecurityEventProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+
+        this.recorded = meterRegistry.counter(MetricNames.SECURITY_EVENTS_RECORDED);
+        this.written = meterRegistry.counter(MetricNames.SECURITY_EVENTS_WRITTEN);
+        this.droppedBufferFull = dropCounter(MetricNames.REASON_BUFFER_FULL);
+        this.droppedWriteFailed = dropCounter(MetricNames.REASON_WRITE_FAILED);
+        this.droppedShutdown = dropCounter(MetricNames.REASON_SHUTDOWN);
+        meterRegistry.gauge(MetricNames.SECURITY_EVENTS_BUFFERED, buffer, Collection::size);
+    }
+
+    // ===== RECORDING =====
+
+    /**
+     * Buffers the event for the writer. Never touches the database; only the BLOCK policy can make the
+     * caller wait, and for at most security-events.block-timeout-ms.
+     */
+    public void record(SecurityEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        boolean accepted = switch (properties.getOverflowPolicy()) {
+            case DROP_NEWEST -> buffer.offer(event);
+            case DROP_OLDEST -> offerDroppingOldest(event);
+            case BLOCK -> offerWaiting(event);
+        };
+        if (accepted) {
+            recorded.increment();
+        } else {
+            droppedBufferFull.increment();
+        }
+    }
+
+    // ===== LIFECYCLE =====
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("security-event-writer").daemon().start(this::runFlusher);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = flusher;
+        if (thread != null) {
+            try {
+                // The flusher drains what is left before it exits
+                thread.join(properties.getShutdownTimeoutMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread.interrupt();
+        }
+        flusher = null;
+
+        List<SecurityEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        droppedShutdown.increment(remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ===== FLUSHING =====
+
+    /**
+     * Writes up to one batch of buffered events, retrying per security-events.max-write-attempts
+     * @return the number of events taken from the buffer
+     */
+    int flush() {
+        List<SecurityEvent> batch = new ArrayList<>(properties.getBatchSize());
+        buffer.drainTo(batch, properties.getBatchSize());
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        return batch.size();
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void runFlusher() {
+        while (running || !buffer.isEmpty()) {
+            // A full batch means a backlog: write the next one right away, otherwise let events accumulate
+            if (flush() < properties.getBatchSize() && !pause(properties.getFlushIntervalMs())) {
+                // stop() gave up waiting for the drain; it counts what is left
+                return;
+            }
+        }
+    }
+
+    private void writeBatch(List<SecurityEvent> batch) {
+        for (int attempt = 1; ; attempt++) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                writer.write(batch);
+                sample.stop(flushTimer(MetricNames.OUTCOME_SUCCESS));
+                written.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                sample.stop(flushTimer(MetricNames.OUTCOME_ERROR));
+                // stop() interrupts the retry pause once security-events.shutdown-timeout-ms has passed
+                if (attempt >= properties.getMaxWriteAttempts() || !pause(properties.getRetryDelayMs())) {
+                    writeOneByOne(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    // Last resort for a batch that keeps failing; with the database down every row fails once more and is dropped
+    private void writeOneByOne(List<SecurityEvent> batch) {
+        if (batch.size() == 1) {
+            droppedWriteFailed.increment();
+            return;
+        }
+        for (SecurityEvent event : batch) {
+            try {
+                writer.write(List.of(event));
+                written.increment();
+            } catch (RuntimeException e) {
+                droppedWriteFailed.increment();
+            }
+        }
+    }
+
+    private boolean offerDroppingOldest(SecurityEvent event) {
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                droppedBufferFull.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWaiting(SecurityEvent event) {
+        try {
+            return buffer.offer(event, properties.getBlockTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean pause(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private Counter dropCounter(String reason) {
+        return meterRegistry.counter(MetricNames.SECURITY_EVENTS_DROPPED, MetricNames.TAG_REASON, reason);
+    }
+
+    private Timer flushTimer(String outcome) {
+        return meterRegistry.timer(MetricNames.SECURITY_EVENTS_FLUSH, MetricNames.TAG_OUTCOME, outcome);
+    }
+}
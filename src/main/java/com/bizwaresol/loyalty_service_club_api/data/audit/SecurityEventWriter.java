@@ -0,0 +1,43 @@
+package com.bizwaresol.loyalty_service_club_api.data.audit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserts a batch of security events in one JDBC batch. With reWriteBatchedInserts (application.properties)
+ * the driver sends it as multi-row INSERT statements, so a flush of a few hundred events is a handful of
+ * round trips. Runs outside any transaction on the primary.
+ */
+@Component
+public class SecurityEventWriter {
+
+    static final String INSERT_SQL = "INSERT INTO security_events " +
+            "(event_type, outcome, identifier, account_id, delivery_method, otp_purpose, error_code, occurred_at) " +
+            "VALUES (?::security_event_type_enum, ?, ?, ?, ?::otp_delivery_method_enum, ?::otp_purpose_enum, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SecurityEventWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void write(List<SecurityEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.type().name());
+            ps.setString(2, event.outcome());
+            ps.setString(3, event.identifier());
+            if (event.accountId() != null) {
+                ps.setLong(4, event.accountId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+            ps.setString(5, event.deliveryMethod() != null ? event.deliveryMethod().name() : null);
+            ps.setString(6, event.otpPurpose() != null ? event.otpPurpose().name() : null);
+            ps.setString(7, event.errorCode());
+            ps.setObject(8, event.occurredAt());
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Immutable snapshot of the business_config table. Values are parsed once when the snapshot is built, so
+ * reads are plain map lookups; a key that is missing or not an integer reads as empty and callers fall
+ * back to their own default.
+ */
+public final class BusinessConfig {
+
+    // ===== KEYS READ BY THE APPLICATION =====
+
+    public static final String OTP_EXPIRY_MINUTES = "otp_expiry_minutes";
+    public static final String OTP_MAX_ATTEMPTS = "otp_max_attempts";
+    public static final String OTP_RESEND_COOLDOWN_MINUTES = "otp_resend_cooldown_minutes";
+    public static final String OTP_RATE_LIMIT_PER_HOUR = "otp_rate_limit_per_hour";
+
+    public static final BusinessConfig EMPTY = new BusinessConfig(Map.of());
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues;
+
+    public BusinessConfig(Map<String, String> values) {
+        this.values = Map.copyOf(values);
+        Map<String, Integer> parsed = new HashMap<>();
+        values.forEach((key, value) -> {
+            try {
+                parsed.put(key, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException e) {
+                // Not numeric; only available through getString
+            }
+        });
+        this.intValues = Map.copyOf(parsed);
+    }
+
+    public OptionalInt getInt(String key) {
+        Integer value = intValues.get(key);
+        return value != null ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    public String getString(String key) {
+        return values.get(key);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public String toString() {
+        return "BusinessConfig" + values;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.BusinessConfigProperties;
+import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of business_config, the table the pg_cron functions read their limits from. Loaded by
+ * {@link CacheInvalidationBus} before the web server starts, then reloaded whenever the table changes: the
+ * notify_business_config_change trigger (V259) sends a NOTIFY on commit, which the bus receives on its
+ * LISTEN connection. After a reconnect the table is reloaded as well, so changes made while the connection
+ * was down are not missed. Each load replaces the snapshot as a whole and is pushed to
+ * {@link VerificationProperties}, so requests never query the table.
+ */
+@Component
+public class BusinessConfigCache implements CacheInvalidationSubscriber {
+
+    static final String CHANNEL = "business_config_changed";
+
+    private final BusinessConfigProperties businessConfigProperties;
+    private final VerificationProperties verificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile BusinessConfig current = BusinessConfig.EMPTY;
+
+    public BusinessConfigCache(BusinessConfigProperties businessConfigProperties,
+                               VerificationProperties verificationProperties,
+                               MeterRegistry meterRegistry) {
+        this.businessConfigProperties = businessConfigProperties;
+        this.verificationProperties = verificationProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public BusinessConfig get() {
+        return current;
+    }
+
+    // ===== CACHE INVALIDATION =====
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return businessConfigProperties.isEnabled();
+    }
+
+    @Override
+    public void invalidate(List<String> messages, Connection connection) throws SQLException {
+        // A message only says "changed"; one reload covers all of them
+        reload(connection);
+    }
+
+    @Override
+    public void resync(Connection connection) throws SQLException {
+        reload(connection);
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void reload(Connection connection) throws SQLException {
+        Map<String, String> values = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT key, value FROM business_config")) {
+            while (rs.next()) {
+                values.put(rs.getString("key"), rs.getString("value"));
+            }
+        } catch (SQLException e) {
+            recordReload(MetricNames.OUTCOME_ERROR);
+            throw e;
+        }
+
+        BusinessConfig loaded = new BusinessConfig(values);
+        current = loaded;
+        verificationProperties.applyBusinessConfig(loaded);
+        recordReload(MetricNames.OUTCOME_SUCCESS);
+    }
+
+    private void recordReload(String outcome) {
+        meterRegistry.counter(MetricNames.BUSINESS_CONFIG_RELOADS, MetricNames.TAG_OUTCOME, outcome).increment();
+    }
+}
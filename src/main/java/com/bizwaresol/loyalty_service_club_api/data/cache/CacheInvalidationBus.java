@@ -0,0 +1,221 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.CacheInvalidationProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the local caches of every node current when another node, a trigger or a pg_cron job changes the
+ * underlying rows. Changes are published with NOTIFY (by triggers, see V224 and V226) and delivered on
+ * commit; each node receives them on one dedicated LISTEN connection outside the pool and hands them to the
+ * {@link CacheInvalidationSubscriber} registered for the channel.
+ * <p>
+ * NOTIFY is not durable: whatever is sent while a node is not listening is lost. So after every (re)connect,
+ * once LISTEN is in place, all subscribers resync (the first time is the initial load, which {@link #start}
+ * waits for), and a poll that brings more than cache-invalidation.max-batch-size messages for one channel is
+ * handled the same way.
+ * <p>
+ * Payloads start with the time of the change in epoch ms, taken by the row trigger, from which the lag is
+ * recorded. NOTIFY is only delivered at commit, so the lag is change to receipt: it includes the rest of the
+ * changing transaction, and a long pg_cron batch shows up as lag even when delivery itself was immediate
+ * (database and node clocks are assumed to be in sync; negative values count as zero).
+ */
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    // Before the web server (SmartLifecycle.DEFAULT_PHASE - 1024), so the first request sees business_config
+    private static final int PHASE = 0;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationProperties properties;
+    private final List<CacheInvalidationSubscriber> subscribers;
+    private final MeterRegistry meterRegistry;
+    private final CountDownLatch initialResync = new CountDownLatch(1);
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Thread listener;
+
+    public CacheInvalidationBus(DataSourceProperties dataSourceProperties,
+                                CacheInvalidationProperties properties,
+                                List<CacheInvalidationSubscriber> subscribers,
+                                MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.subscribers = subscribers.stream().filter(CacheInvalidationSubscriber::isEnabled).toList();
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge(MetricNames.CACHE_INVALIDATION_CONNECTED, this, bus -> bus.connected ? 1 : 0);
+    }
+
+    // ===== LIFECYCLE =====
+
+    @Override
+    public void start() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        running = true;
+
+        if (!properties.isEnabled()) {
+            // Nothing to listen to: one load on the starting thread; if the database is unreachable the caches
+            // start empty (business_config: property values)
+            try (Connection connection = connect()) {
+                for (CacheInvalidationSubscriber subscriber : subscribers) {
+                    subscriber.resync(connection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                recordConnectionError();
+            }
+            return;
+        }
+
+        // The listener's resync after LISTEN is the initial load; wait for it (or for its first failure), so the
+        // first request does not run on empty caches
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+        try {
+            initialResync.await(properties.getStartupTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.getPollTimeoutMs() * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        listener = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    for (CacheInvalidationSubscriber subscriber : subscribers) {
+                        statement.execute("LISTEN " + subscriber.channel());
+                    }
+                }
+                // Listening first, so a change committed during the resync is still delivered afterwards
+                for (CacheInvalidationSubscriber subscriber : subscribers) {
+                    resync(subscriber, connection, MetricNames.REASON_CONNECT);
+                }
+                connected = true;
+                initialResync.countDown();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(properties.getPollTimeoutMs());
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications, connection);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // A subscriber that fails to apply a message is left in an unknown state; reconnecting resyncs it
+                connected = false;
+                recordConnectionError();
+                initialResync.countDown();
+                pauseBeforeReconnect();
+            }
+        }
+        connected = false;
+    }
+
+    private void dispatch(PGNotification[] notifications, Connection connection) throws SQLException {
+        long receivedAt = System.currentTimeMillis();
+        Map<String, List<String>> messagesByChannel = new HashMap<>();
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            int separator = payload.indexOf(':');
+            String sentAt = separator < 0 ? payload : payload.substring(0, separator);
+            recordLag(notification.getName(), sentAt, receivedAt);
+            messagesByChannel.computeIfAbsent(notification.getName(), channel -> new ArrayList<>())
+                    .add(separator < 0 ? "" : payload.substring(separator + 1));
+        }
+
+        for (CacheInvalidationSubscriber subscriber : subscribers) {
+            List<String> messages = messagesByChannel.get(subscriber.channel());
+            if (messages == null) {
+                continue;
+            }
+            meterRegistry.counter(MetricNames.CACHE_INVALIDATION_RECEIVED, MetricNames.TAG_CHANNEL, subscriber.channel())
+                    .increment(messages.size());
+            if (messages.size() > properties.getMaxBatchSize()) {
+                resync(subscriber, connection, MetricNames.REASON_BURST);
+            } else {
+                subscriber.invalidate(messages, connection);
+            }
+        }
+    }
+
+    private void resync(CacheInvalidationSubscriber subscriber, Connection connection, String reason) throws SQLException {
+        subscriber.resync(connection);
+        meterRegistry.counter(MetricNames.CACHE_INVALIDATION_RESYNCS,
+                MetricNames.TAG_CHANNEL, subscriber.channel(), MetricNames.TAG_REASON, reason).increment();
+    }
+
+    private void recordLag(String channel, String sentAt, long receivedAt) {
+        long sentAtMillis;
+        try {
+            sentAtMillis = Long.parseLong(sentAt);
+        } catch (NumberFormatException e) {
+            // Sent by hand (psql NOTIFY) without a timestamp: still applied, just not measured
+            return;
+        }
+        meterRegistry.timer(MetricNames.CACHE_INVALIDATION_LAG, MetricNames.TAG_CHANNEL, channel)
+                .record(Duration.ofMillis(Math.max(0, receivedAt - sentAtMillis)));
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void pauseBeforeReconnect() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(properties.getReconnectDelayMs());
+        } catch (InterruptedException e) {
+            // stop() interrupts the sleep; the loop exits on running == false
+        }
+    }
+
+    private void recordConnectionError() {
+        meterRegistry.counter(MetricNames.CACHE_INVALIDATION_CONNECTION_ERRORS).increment();
+    }
+}
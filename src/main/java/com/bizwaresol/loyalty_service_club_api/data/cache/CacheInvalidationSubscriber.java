@@ -0,0 +1,35 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A local cache kept current across nodes by {@link CacheInvalidationBus}. Both callbacks run on the bus
+ * thread and get its LISTEN connection, for caches that reload from the database.
+ */
+public interface CacheInvalidationSubscriber {
+
+    /**
+     * The NOTIFY channel this cache's changes are published on
+     */
+    String channel();
+
+    /**
+     * Subscribers that are switched off are neither loaded nor LISTENed for
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Applies the messages received in one poll, in order, with the sender's timestamp already stripped
+     */
+    void invalidate(List<String> messages, Connection connection) throws SQLException;
+
+    /**
+     * Called at startup, after every (re)connect and for bursts too large to apply one by one, i.e. whenever
+     * messages may have been missed. Must leave the cache empty or freshly loaded.
+     */
+    void resync(Connection connection) throws SQLException;
+}
@@ -0,0 +1,136 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Explicit invalidation for contact rows that the database changes on its own. Writes made through
+ * Hibernate keep the caches current by themselves; the OTP trigger (is_verified) does not, so its
+ * callers evict the affected contact here. Eviction runs after commit, so a concurrent reader cannot
+ * put the pre-commit row back into the cache.
+ * <p>
+ * {@link ContactResolver} is not managed by Hibernate at all, so the data services evict it here whenever
+ * they change or delete a contact, customer or account. Those evictions also run immediately, so later
+ * lookups in the same transaction do not see the old resolution either.
+ * <p>
+ * Both only cover this node. Changes committed by other nodes (or by the database) are evicted through
+ * {@link ContactChangeSubscriber}, which calls the REMOTE CHANGES methods from the listener thread.
+ */
+@Component
+public class ContactCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ContactResolver contactResolver;
+
+    public ContactCacheEvictor(EntityManagerFactory entityManagerFactory, ContactResolver contactResolver) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.contactResolver = contactResolver;
+    }
+
+    public void evictEmail(Long emailId) {
+        afterCommit(() -> evict(CustomerEmail.class, emailId));
+    }
+
+    public void evictPhone(Long phoneId) {
+        afterCommit(() -> evict(CustomerPhone.class, phoneId));
+    }
+
+    // ===== CONTACT RESOLUTION =====
+
+    public void evictEmailResolution(Long emailId) {
+        nowAndAfterCommit(() -> contactResolver.evictEmail(emailId));
+    }
+
+    public void evictPhoneResolution(Long phoneId) {
+        nowAndAfterCommit(() -> contactResolver.evictPhone(phoneId));
+    }
+
+    public void evictCustomerResolution(Long customerId) {
+        nowAndAfterCommit(() -> contactResolver.evictCustomer(customerId));
+    }
+
+    public void evictAccountResolution(Long accountId) {
+        nowAndAfterCommit(() -> contactResolver.evictAccount(accountId));
+    }
+
+    // ===== REMOTE CHANGES =====
+
+    // A changed email / phone also leaves a natural-id entry pointing at the row; there is no way to evict
+    // just that entry by id, so the natural-id region of the type is cleared (rare: the value itself changed)
+    public void evictChangedEmail(Long emailId, boolean emailChanged) {
+        evict(CustomerEmail.class, emailId);
+        if (emailChanged) {
+            cache().evictNaturalIdData(CustomerEmail.class);
+        }
+        contactResolver.evictEmail(emailId);
+    }
+
+    public void evictChangedPhone(Long phoneId, boolean phoneChanged) {
+        evict(CustomerPhone.class, phoneId);
+        if (phoneChanged) {
+            cache().evictNaturalIdData(CustomerPhone.class);
+        }
+        contactResolver.evictPhone(phoneId);
+    }
+
+    public void evictChangedCustomer(Long customerId) {
+        evict(Customer.class, customerId);
+        contactResolver.evictCustomer(customerId);
+    }
+
+    public void evictChangedAccount(Long accountId) {
+        contactResolver.evictAccount(accountId);
+    }
+
+    public void evictAll() {
+        Cache cache = cache();
+        cache.evictEntityData(Customer.class);
+        cache.evictEntityData(CustomerEmail.class);
+        cache.evictEntityData(CustomerPhone.class);
+        cache.evictNaturalIdData(CustomerEmail.class);
+        cache.evictNaturalIdData(CustomerPhone.class);
+        cache.evictQueryRegion(CacheRegions.CONTACT_LOOKUP_QUERIES);
+        contactResolver.evictAll();
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void evict(Class<?> entityClass, Long id) {
+        Cache cache = cache();
+        cache.evictEntityData(entityClass, id);
+        cache.evictQueryRegion(CacheRegions.CONTACT_LOOKUP_QUERIES);
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void nowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(eviction);
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
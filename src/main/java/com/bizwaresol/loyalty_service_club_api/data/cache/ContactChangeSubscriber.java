@@ -0,0 +1,77 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Applies contact_changed notifications (notify_contact_change, V226) to this node's contact caches: the
+ * second-level cache entries and {@link ContactResolver}. A message is {@code <type>:<id>}, with a trailing
+ * {@code :key} when the email or phone value itself changed. Messages this node cannot read evict
+ * everything, which is always safe.
+ */
+@Component
+public class ContactChangeSubscriber implements CacheInvalidationSubscriber {
+
+    static final String CHANNEL = "contact_changed";
+
+    static final String TYPE_EMAIL = "email";
+    static final String TYPE_PHONE = "phone";
+    static final String TYPE_CUSTOMER = "customer";
+    static final String TYPE_ACCOUNT = "account";
+    static final String KEY_CHANGED = "key";
+
+    private final ContactCacheEvictor contactCacheEvictor;
+
+    public ContactChangeSubscriber(ContactCacheEvictor contactCacheEvictor) {
+        this.contactCacheEvictor = contactCacheEvictor;
+    }
+
+    // ===== CACHE INVALIDATION =====
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void invalidate(List<String> messages, Connection connection) {
+        for (String message : messages) {
+            apply(message);
+        }
+    }
+
+    @Override
+    public void resync(Connection connection) {
+        contactCacheEvictor.evictAll();
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private void apply(String message) {
+        String[] parts = message.split(":");
+        Long id = parts.length >= 2 ? parseId(parts[1]) : null;
+        if (id == null) {
+            contactCacheEvictor.evictAll();
+            return;
+        }
+        boolean keyChanged = parts.length > 2 && KEY_CHANGED.equals(parts[2]);
+
+        switch (parts[0]) {
+            case TYPE_EMAIL -> contactCacheEvictor.evictChangedEmail(id, keyChanged);
+            case TYPE_PHONE -> contactCacheEvictor.evictChangedPhone(id, keyChanged);
+            case TYPE_CUSTOMER -> contactCacheEvictor.evictChangedCustomer(id);
+            case TYPE_ACCOUNT -> contactCacheEvictor.evictChangedAccount(id);
+            default -> contactCacheEvictor.evictAll();
+        }
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
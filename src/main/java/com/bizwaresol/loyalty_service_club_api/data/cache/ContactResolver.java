@@ -0,0 +1,125 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.CacheProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerPhoneRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Resolves an email address or phone number to its contact, customer and account id, so that login,
+ * OTP and password reset flows look the contact up once instead of joining by the string in every
+ * query. Emails are matched trimmed and lower-cased (as stored), phones trimmed.
+ * <p>
+ * Only complete resolutions (customer and account present) are cached; anything else is answered by
+ * the database each time, so creating a customer or account never has to invalidate an entry. Changes
+ * made through the data services are evicted by {@link ContactCacheEvictor}; changes made anywhere else
+ * (other nodes, triggers, pg_cron cleanup) arrive through {@link ContactChangeSubscriber}. A load that
+ * overlaps an eviction is answered but not cached, since it may have read the row before the change.
+ */
+@Component
+public class ContactResolver {
+
+    private final CustomerEmailRepository customerEmailRepository;
+    private final CustomerPhoneRepository customerPhoneRepository;
+
+    private final Cache<String, ResolvedContact> emails;
+    private final Cache<String, ResolvedContact> phones;
+
+    // Bumped before every eviction; a load only caches its result if no eviction started since it began
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ContactResolver(CustomerEmailRepository customerEmailRepository,
+                           CustomerPhoneRepository customerPhoneRepository,
+                           CacheProperties cacheProperties,
+                           MeterRegistry meterRegistry) {
+        this.customerEmailRepository = customerEmailRepository;
+        this.customerPhoneRepository = customerPhoneRepository;
+        this.emails = CaffeineCacheMetrics.monitor(meterRegistry, buildCache(cacheProperties), CacheRegions.CONTACT_RESOLUTION_EMAIL);
+        this.phones = CaffeineCacheMetrics.monitor(meterRegistry, buildCache(cacheProperties), CacheRegions.CONTACT_RESOLUTION_PHONE);
+    }
+
+    // ===== RESOLUTION =====
+
+    public Optional<ResolvedContact> resolveEmail(String email) {
+        return resolve(emails, email.trim().toLowerCase(Locale.ROOT), customerEmailRepository::resolveByEmail);
+    }
+
+    public Optional<ResolvedContact> resolvePhone(String phone) {
+        return resolve(phones, phone.trim(), customerPhoneRepository::resolveByPhone);
+    }
+
+    // ===== EVICTION =====
+
+    public void evictEmail(Long emailId) {
+        evictIf(emails, contact -> emailId.equals(contact.contactId()));
+    }
+
+    public void evictPhone(Long phoneId) {
+        evictIf(phones, contact -> phoneId.equals(contact.contactId()));
+    }
+
+    public void evictCustomer(Long customerId) {
+        Predicate<ResolvedContact> matches = contact -> customerId.equals(contact.customerId());
+        evictIf(emails, matches);
+        evictIf(phones, matches);
+    }
+
+    public void evictAccount(Long accountId) {
+        Predicate<ResolvedContact> matches = contact -> accountId.equals(contact.accountId());
+        evictIf(emails, matches);
+        evictIf(phones, matches);
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        emails.invalidateAll();
+        phones.invalidateAll();
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private Optional<ResolvedContact> resolve(Cache<String, ResolvedContact> cache, String key,
+                                              Function<String, Optional<ResolvedContact>> loader) {
+        ResolvedContact cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long evictionsBefore = evictions.get();
+        Optional<ResolvedContact> loaded = loader.apply(key);
+        // Checked under the entry lock: an eviction either sees the stored entry or makes this keep the current one
+        loaded.filter(ResolvedContact::isComplete).ifPresent(contact -> cache.asMap().compute(key,
+                (k, current) -> evictions.get() == evictionsBefore ? contact : current));
+        return loaded;
+    }
+
+    // Contact changes are rare next to lookups, so a scan of the bounded map is cheaper than a reverse index
+    private void evictIf(Cache<String, ResolvedContact> cache, Predicate<ResolvedContact> matches) {
+        evictions.incrementAndGet();
+        cache.asMap().values().removeIf(matches);
+    }
+
+    private static Cache<String, ResolvedContact> buildCache(CacheProperties cacheProperties) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (cacheProperties.getContactResolutionMaxSize() > 0) {
+            builder.maximumSize(cacheProperties.getContactResolutionMaxSize());
+        }
+        if (cacheProperties.getTimeToLiveSeconds() > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(cacheProperties.getTimeToLiveSeconds()));
+        }
+        return builder.build();
+    }
+}
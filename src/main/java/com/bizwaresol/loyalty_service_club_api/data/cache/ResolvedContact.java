@@ -0,0 +1,16 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+/**
+ * The ids an email address or phone number resolves to. customerId and accountId are null for a contact
+ * that is not (yet) attached to a customer or whose customer has no account.
+ */
+public record ResolvedContact(
+        Long contactId,
+        Long customerId,
+        Long accountId
+) {
+
+    public boolean isComplete() {
+        return customerId != null && accountId != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.bizwaresol.loyalty_service_club_api.data.datasource;
+
+/**
+ * Per-thread record of the last primary (read-write) connection, so reads that follow a write see it.
+ * Inside a web request ({@link StickyPrimaryFilter}) reads stay on the primary until the request ends;
+ * on other threads only for a fixed window.
+ */
+public final class PrimaryStickiness {
+
+    private static final ThreadLocal<Long> LAST_WRITE_NANOS = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> IN_REQUEST = new ThreadLocal<>();
+
+    private PrimaryStickiness() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    public static void markWrite() {
+        LAST_WRITE_NANOS.set(System.nanoTime());
+    }
+
+    public static boolean isSticky(long windowMs) {
+        Long lastWrite = LAST_WRITE_NANOS.get();
+        if (lastWrite == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(IN_REQUEST.get())
+                || System.nanoTime() - lastWrite < windowMs * 1_000_000L;
+    }
+
+    static void beginRequest() {
+        LAST_WRITE_NANOS.remove();
+        IN_REQUEST.set(Boolean.TRUE);
+    }
+
+    static void endRequest() {
+        LAST_WRITE_NANOS.remove();
+        IN_REQUEST.remove();
+    }
+}
@@ -0,0 +1,30 @@
+package com.bizwaresol.loyalty_service_club_api.data.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-write side of the routing DataSource: every connection taken from it counts as a write for
+ * {@link PrimaryStickiness}. Read-only transactions never come here (they use the replica router).
+ */
+public class PrimaryWriteTrackingDataSource extends DelegatingDataSource {
+
+    public PrimaryWriteTrackingDataSource(DataSource primary) {
+        super(primary);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        PrimaryStickiness.markWrite();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        PrimaryStickiness.markWrite();
+        return super.getConnection(username, password);
+    }
+}
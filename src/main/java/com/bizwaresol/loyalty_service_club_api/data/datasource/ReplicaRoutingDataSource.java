@@ -0,0 +1,180 @@
+package com.bizwaresol.loyalty_service_club_api.data.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-only side of the routing DataSource: hands out replica connections round-robin, skipping replicas
+ * that are unreachable or lag more than {@code maxLagMs}, and falls back to the primary when none is usable
+ * or when {@link PrimaryStickiness} pins the thread to the primary after a write.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements ReplicaRoutingMXBean {
+
+    // Replay lag in ms; zero when everything received has been replayed (an idle primary is not lag). NULL when
+    // the WAL receiver is not streaming: receive and replay positions then stay equal while the replica falls
+    // behind. The pool user needs pg_read_all_stats (or pg_monitor) to see the receiver status.
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (clock_timestamp() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final long maxLagMs;
+    private final long stickyPrimaryMs;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder stickyPrimaryReads = new LongAdder();
+    private final LongAdder fallbackPrimaryReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagMs, long stickyPrimaryMs) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new ReplicaPool(entry.getKey(), entry.getValue()))
+                .toList();
+        this.maxLagMs = maxLagMs;
+        this.stickyPrimaryMs = stickyPrimaryMs;
+    }
+
+    // ===== CONNECTIONS =====
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    // ===== LAG CHECK =====
+
+    /**
+     * Measures replay lag on every replica; a replica that cannot be queried or is not streaming is marked unavailable
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        for (ReplicaPool replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                replica.lagMs = resultSet.getLong(1);
+                replica.available = !resultSet.wasNull();
+            } catch (SQLException e) {
+                replica.available = false;
+            }
+        }
+    }
+
+    /**
+     * Closes the replica pools (the primary pool is a bean of its own)
+     */
+    public void close() throws Exception {
+        for (ReplicaPool replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // ===== METRICS =====
+
+    @Override
+    public Map<String, Long> getRoutedConnections() {
+        Map<String, Long> routed = new LinkedHashMap<>();
+        replicas.forEach(replica -> routed.put(replica.name, replica.routed.sum()));
+        return routed;
+    }
+
+    @Override
+    public Map<String, Long> getReplicaLagMs() {
+        Map<String, Long> lag = new LinkedHashMap<>();
+        replicas.forEach(replica -> lag.put(replica.name, replica.lagMs));
+        return lag;
+    }
+
+    @Override
+    public Map<String, Boolean> getReplicaAvailable() {
+        Map<String, Boolean> available = new LinkedHashMap<>();
+        replicas.forEach(replica -> available.put(replica.name, replica.isUsable(maxLagMs)));
+        return available;
+    }
+
+    @Override
+    public long getStickyPrimaryReads() {
+        return stickyPrimaryReads.sum();
+    }
+
+    @Override
+    public long getFallbackPrimaryReads() {
+        return fallbackPrimaryReads.sum();
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (PrimaryStickiness.isSticky(stickyPrimaryMs)) {
+            stickyPrimaryReads.increment();
+            return opener.open(primary);
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaPool replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isUsable(maxLagMs)) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replica.routed.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                // The pool does not support the call at all; that says nothing about the replica
+                throw e;
+            } catch (SQLException e) {
+                // Unreachable until the next lag check succeeds
+                replica.available = false;
+            }
+        }
+
+        fallbackPrimaryReads.increment();
+        return opener.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class ReplicaPool {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder routed = new LongAdder();
+        private volatile boolean available = true;
+        private volatile long lagMs;
+
+        private ReplicaPool(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isUsable(long maxLagMs) {
+            return available && lagMs <= maxLagMs;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bizwaresol.loyalty_service_club_api.data.datasource;
+
+import java.util.Map;
+
+/**
+ * Routing metrics per replica pool (connection counts per pool are on the HikariCP pool MXBeans)
+ */
+public interface ReplicaRoutingMXBean {
+
+    Map<String, Long> getRoutedConnections();
+
+    Map<String, Long> getReplicaLagMs();
+
+    Map<String, Boolean> getReplicaAvailable();
+
+    long getStickyPrimaryReads();
+
+    long getFallbackPrimaryReads();
+}
@@ -0,0 +1,27 @@
+package com.bizwaresol.loyalty_service_club_api.data.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scopes {@link PrimaryStickiness} to one request: a write anywhere in the request pins its later
+ * read-only transactions to the primary, and nothing carries over to the next request on the thread.
+ */
+public class StickyPrimaryFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PrimaryStickiness.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryStickiness.endRequest();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.auth.request;
+
+public record PasswordResetRequest(
+        String token,                      // token returned by the verify step
+        String newPassword
+) {}
@@ -0,0 +1,41 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.auth.response;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.LoginResult;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Wire form of {@link LoginResult}: ids and statuses only, so the account entity (and its password hash)
+ * never reaches the serializer.
+ */
+public record LoginResponse(
+        boolean success,
+        Long accountId,
+        Long customerId,
+        String username,
+        boolean rememberMeEnabled,
+        OffsetDateTime previousLoginAt,
+        CustomerAccountActivityStatus activityStatus,
+        CustomerAccountVerificationStatus verificationStatus
+) {
+
+    public static LoginResponse from(LoginResult result) {
+        CustomerAccount account = result.account();
+        if (account == null) {
+            return new LoginResponse(result.success(), null, null, null, false, null, null, null);
+        }
+        return new LoginResponse(
+                result.success(),
+                account.getId(),
+                account.getCustomer() != null ? account.getCustomer().getId() : null,
+                account.getUsername(),
+                result.rememberMeEnabled(),
+                result.previousLoginAt(),
+                result.activityStatus(),
+                result.verificationStatus()
+        );
+    }
+}
@@ -0,0 +1,5 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.auth.response;
+
+public record PasswordResetTokenResponse(
+        String token
+) {}
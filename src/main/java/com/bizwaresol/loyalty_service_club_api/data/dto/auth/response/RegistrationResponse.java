@@ -0,0 +1,30 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.auth.response;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.RegistrationResult;
+
+/**
+ * Wire form of {@link RegistrationResult}: the new ids and which contacts were registered, without the
+ * entities themselves.
+ */
+public record RegistrationResponse(
+        boolean success,
+        Long accountId,
+        Long customerId,
+        boolean emailProvided,
+        boolean phoneProvided,
+        boolean rememberMeEnabled,
+        String preferredContactMethod  // "email", "phone", "both" or "none"
+) {
+
+    public static RegistrationResponse from(RegistrationResult result) {
+        return new RegistrationResponse(
+                result.success(),
+                result.account() != null ? result.account().getId() : null,
+                result.customer() != null ? result.customer().getId() : null,
+                result.emailProvided(),
+                result.phoneProvided(),
+                result.rememberMeEnabled(),
+                result.preferredContactMethod()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.error;
+
+public record ErrorResponse(
+        String errorCode,                  // ServiceException error code, e.g. INVALID_LOGIN_CREDENTIALS
+        String message
+) {}
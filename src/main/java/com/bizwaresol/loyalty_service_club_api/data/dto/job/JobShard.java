@@ -0,0 +1,19 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.job;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A shard of a planned job run that still has work left.
+ * rangeEnd and checkpointId are null for unsharded jobs.
+ */
+public record JobShard(
+        long id,
+        long jobRunId,
+        String jobName,
+        int shardNo,
+        Long rangeEnd,
+        Long checkpointId,
+        OffsetDateTime cutoff,
+        int attempts
+) {
+}
@@ -0,0 +1,14 @@
+package com.bizwaresol.loyalty_service_club_api.data.dto.job;
+
+/**
+ * Outcome of one batch of a shard function: rows handled and the highest id touched.
+ */
+public record ShardBatchResult(
+        int rowsProcessed,
+        Long lastId
+) {
+
+    public boolean isEmpty() {
+        return rowsProcessed == 0;
+    }
+}
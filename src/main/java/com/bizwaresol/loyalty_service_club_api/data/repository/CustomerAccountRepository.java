@@ -1,14 +1,23 @@
 package com.bizwaresol.loyalty_service_club_api.data.repository;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerAccountRepository extends JpaRepository<CustomerAccount, Long> {
@@ -29,4 +38,70 @@ public interface CustomerAccountRepository extends JpaRepository<CustomerAccount
     //fk lookup
 
     Optional<CustomerAccount> findByCustomerId(Long customerId);
+
+    // ===== KEYSET PAGES AND STREAMS (ordered by id, customer fetched in the same query) =====
+
+    @Query("SELECT a FROM CustomerAccount a JOIN FETCH a.customer WHERE a.id > :afterId ORDER BY a.id")
+    List<CustomerAccount> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT a FROM CustomerAccount a JOIN FETCH a.customer " +
+            "WHERE a.activityStatus = :activityStatus AND a.id > :afterId ORDER BY a.id")
+    List<CustomerAccount> findPageByActivityStatusAfter(@Param("activityStatus") CustomerAccountActivityStatus activityStatus,
+                                                        @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT a FROM CustomerAccount a JOIN FETCH a.customer " +
+            "WHERE a.lastLoginAt IS NULL AND a.id > :afterId ORDER BY a.id")
+    List<CustomerAccount> findPageWithNoLoginAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM CustomerAccount a JOIN FETCH a.customer ORDER BY a.id")
+    Stream<CustomerAccount> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM CustomerAccount a JOIN FETCH a.customer WHERE a.activityStatus = :activityStatus ORDER BY a.id")
+    Stream<CustomerAccount> streamByActivityStatus(@Param("activityStatus") CustomerAccountActivityStatus activityStatus);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM CustomerAccount a JOIN FETCH a.customer WHERE a.lastLoginAt IS NULL ORDER BY a.id")
+    Stream<CustomerAccount> streamWithNoLogin();
+
+    // ===== TARGETED UPDATES (only the changed columns, version bumped, no prior read) =====
+    // Pending changes are flushed first; CustomerAccountService refreshes the updated account instead of
+    // clearing the whole persistence context
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CustomerAccount a SET a.password = :password, a.lastModifiedDate = :currentTime, " +
+            "a.version = a.version + 1 WHERE a.id = :accountId")
+    int updatePassword(@Param("accountId") Long accountId,
+                       @Param("password") String password,
+                       @Param("currentTime") OffsetDateTime currentTime);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CustomerAccount a SET a.activityStatus = :activityStatus, a.lastModifiedDate = :currentTime, " +
+            "a.version = a.version + 1 WHERE a.id = :accountId")
+    int updateActivityStatus(@Param("accountId") Long accountId,
+                             @Param("activityStatus") CustomerAccountActivityStatus activityStatus,
+                             @Param("currentTime") OffsetDateTime currentTime);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CustomerAccount a SET a.verificationStatus = :verificationStatus, a.lastModifiedDate = :currentTime, " +
+            "a.version = a.version + 1 WHERE a.id = :accountId")
+    int updateVerificationStatus(@Param("accountId") Long accountId,
+                                 @Param("verificationStatus") CustomerAccountVerificationStatus verificationStatus,
+                                 @Param("currentTime") OffsetDateTime currentTime);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CustomerAccount a SET a.lastLoginAt = :currentTime, a.lastModifiedDate = :currentTime, " +
+            "a.version = a.version + 1 WHERE a.id = :accountId")
+    int updateLastLoginAt(@Param("accountId") Long accountId,
+                          @Param("currentTime") OffsetDateTime currentTime);
 }
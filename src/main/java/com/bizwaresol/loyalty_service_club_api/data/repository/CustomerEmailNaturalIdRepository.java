@@ -0,0 +1,13 @@
+package com.bizwaresol.loyalty_service_club_api.data.repository;
+
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+
+import java.util.Optional;
+
+/**
+ * Lookup by the email natural id, answered from the natural-id and entity cache regions when both are warm
+ */
+public interface CustomerEmailNaturalIdRepository {
+
+    Optional<CustomerEmail> findByEmail(String email);
+}
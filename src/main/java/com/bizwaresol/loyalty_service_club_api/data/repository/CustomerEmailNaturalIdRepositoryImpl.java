@@ -0,0 +1,26 @@
+package com.bizwaresol.loyalty_service_club_api.data.repository;
+
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class CustomerEmailNaturalIdRepositoryImpl implements CustomerEmailNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    public CustomerEmailNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerEmail> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomerEmail.class)
+                .loadOptional(email);
+    }
+}
@@ -1,21 +1,44 @@
 package com.bizwaresol.loyalty_service_club_api.data.repository;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CustomerEmailRepository extends JpaRepository<CustomerEmail, Long> {
-
-    Optional<CustomerEmail> findByEmail(String email);
+public interface CustomerEmailRepository extends JpaRepository<CustomerEmail, Long>, CustomerEmailNaturalIdRepository {
 
     boolean existsByEmail(String email);
 
     List<CustomerEmail> findByVerified(boolean isVerified);
 
     long countByVerified(boolean isVerified);
+
+    // keyset page and stream by verification flag (ordered by id)
+    List<CustomerEmail> findByVerifiedAndIdGreaterThanOrderByIdAsc(boolean isVerified, Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM CustomerEmail e WHERE e.verified = :isVerified ORDER BY e.id")
+    Stream<CustomerEmail> streamByVerified(@Param("isVerified") boolean isVerified);
+
+    // email -> email id, customer id and account id in one query (see ContactResolver)
+    @Query("SELECT new com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact(e.id, c.id, a.id) " +
+            "FROM CustomerEmail e LEFT JOIN Customer c ON c.email = e LEFT JOIN c.account a " +
+            "WHERE e.email = :email")
+    Optional<ResolvedContact> resolveByEmail(@Param("email") String email);
 }
@@ -0,0 +1,26 @@
+package com.bizwaresol.loyalty_service_club_api.data.repository;
+
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class CustomerPhoneNaturalIdRepositoryImpl implements CustomerPhoneNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    public CustomerPhoneNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerPhone> findByPhone(String phoneNumber) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomerPhone.class)
+                .loadOptional(phoneNumber);
+    }
+}
@@ -1,20 +1,43 @@
 package com.bizwaresol.loyalty_service_club_api.data.repository;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CustomerPhoneRepository extends JpaRepository<CustomerPhone, Long> {
-    Optional<CustomerPhone> findByPhone(String phoneNumber);
-
+public interface CustomerPhoneRepository extends JpaRepository<CustomerPhone, Long>, CustomerPhoneNaturalIdRepository {
     boolean existsByPhone(String phoneNumber);
 
     List<CustomerPhone> findByVerified(boolean isVerified);
 
     long countByVerified(boolean isVerified);
+
+    // keyset page and stream by verification flag (ordered by id)
+    List<CustomerPhone> findByVerifiedAndIdGreaterThanOrderByIdAsc(boolean isVerified, Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM CustomerPhone p WHERE p.verified = :isVerified ORDER BY p.id")
+    Stream<CustomerPhone> streamByVerified(@Param("isVerified") boolean isVerified);
+
+    // phone -> phone id, customer id and account id in one query (see ContactResolver)
+    @Query("SELECT new com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact(p.id, c.id, a.id) " +
+            "FROM CustomerPhone p LEFT JOIN Customer c ON c.phone = p LEFT JOIN c.account a " +
+            "WHERE p.phone = :phone")
+    Optional<ResolvedContact> resolveByPhone(@Param("phone") String phone);
 }
@@ -1,11 +1,19 @@
 package com.bizwaresol.loyalty_service_club_api.data.repository;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
@@ -16,4 +24,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     // fk lookup methods
     Optional<Customer> findByEmailId(Long emailId);
     Optional<Customer> findByPhoneId(Long phoneId);
+
+    // keyset page and stream (ordered by id, account fetched in the same query)
+    @Query("SELECT c FROM Customer c LEFT JOIN FETCH c.account WHERE c.id > :afterId ORDER BY c.id")
+    List<Customer> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Customer c LEFT JOIN FETCH c.account ORDER BY c.id")
+    Stream<Customer> streamAll();
 }
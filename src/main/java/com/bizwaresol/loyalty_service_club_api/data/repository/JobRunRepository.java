@@ -0,0 +1,293 @@
+package com.bizwaresol.loyalty_service_club_api.data.repository;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.job.JobShard;
+import com.bizwaresol.loyalty_service_club_api.data.dto.job.ShardBatchResult;
+import com.bizwaresol.loyalty_service_club_api.exception.system.job.JobExecutionException;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC access to job_runs / job_run_shards for the application-side job runner.
+ * Methods taking a Connection must run on the connection that holds the shard's advisory lock:
+ * session-level advisory locks belong to one backend, and are released if that backend dies.
+ * Table and function names come from ShardedJob constants, never from user input.
+ */
+@Repository
+public class JobRunRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobRunRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ===== ADVISORY LOCKS =====
+
+    public boolean tryAdvisoryLock(Connection connection, String lockName, int lockId) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?), ?)")) {
+            stmt.setString(1, lockName);
+            stmt.setInt(2, lockId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    public void releaseAdvisoryLock(Connection connection, String lockName, int lockId) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?), ?)")) {
+            stmt.setString(1, lockName);
+            stmt.setInt(2, lockId);
+            stmt.execute();
+        }
+    }
+
+    // ===== RUN PLANNING =====
+
+    public boolean runExistsForToday(String jobName) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM job_runs WHERE job_name = ? AND run_date = CURRENT_DATE)",
+                Boolean.class, jobName);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    public OffsetDateTime resolveCutoff(String retentionDaysConfigKey) {
+        List<OffsetDateTime> cutoff = jdbcTemplate.queryForList(
+                "SELECT CURRENT_TIMESTAMP - make_interval(days => value::INTEGER) FROM business_config WHERE key = ?",
+                OffsetDateTime.class, retentionDaysConfigKey);
+        if (cutoff.isEmpty() || cutoff.getFirst() == null) {
+            throw new JobExecutionException("Configuration missing: " + retentionDaysConfigKey);
+        }
+        return cutoff.getFirst();
+    }
+
+    /**
+     * @return {min id, max id} of the table, or empty if the table has no rows
+     */
+    public Optional<long[]> findIdRange(String tableName) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + tableName);
+        if (range.get("min_id") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new long[]{
+                ((Number) range.get("min_id")).longValue(),
+                ((Number) range.get("max_id")).longValue()
+        });
+    }
+
+    public long createRun(String jobName, OffsetDateTime cutoff, int shardCount, String plannedBy) {
+        Long runId = jdbcTemplate.queryForObject(
+                "INSERT INTO job_runs (job_name, run_date, cutoff_at, shard_count, planned_by) " +
+                        "VALUES (?, CURRENT_DATE, ?, ?, ?) RETURNING id",
+                Long.class, jobName, cutoff, shardCount, plannedBy);
+        return runId;
+    }
+
+    public void createShard(long runId, int shardNo, Long rangeStart, Long rangeEnd) {
+        jdbcTemplate.update(
+                "INSERT INTO job_run_shards (job_run_id, shard_no, range_start, range_end, checkpoint_id) " +
+                        "VALUES (?, ?, ?, ?, ?)",
+                runId, shardNo, rangeStart, rangeEnd, rangeStart);
+    }
+
+    /**
+     * @return job name by run id for every run that has not been closed yet
+     */
+    public Map<Long, String> findRunningRuns() {
+        Map<Long, String> runs = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, job_name FROM job_runs WHERE status = 'RUNNING' ORDER BY id",
+                rs -> {
+                    runs.put(rs.getLong("id"), rs.getString("job_name"));
+                });
+        return runs;
+    }
+
+    // ===== SHARD PROCESSING =====
+
+    /**
+     * Lists shards of running runs that still need work: pending, running (possibly on a node that died),
+     * or failed with retries left.
+     */
+    public List<JobShard> findOpenShards(int maxAttempts) {
+        return jdbcTemplate.query(
+                "SELECT s.id, s.job_run_id, r.job_name, s.shard_no, s.range_end, s.checkpoint_id, r.cutoff_at, s.attempts " +
+                        "FROM job_run_shards s JOIN job_runs r ON r.id = s.job_run_id " +
+                        "WHERE r.status = 'RUNNING' " +
+                        "AND (s.status IN ('PENDING', 'RUNNING') OR (s.status = 'FAILED' AND s.attempts < ?)) " +
+                        "ORDER BY s.job_run_id, s.shard_no",
+                (rs, rowNum) -> mapShard(rs), maxAttempts);
+    }
+
+    /**
+     * Marks the shard as running on this node. Must be called while holding the shard lock; re-reads the
+     * checkpoint, since the listing may predate another node's progress.
+     * @return the claimed shard, or empty if it is finished or out of attempts
+     */
+    public Optional<JobShard> claimShard(Connection connection, JobShard shard, String nodeId, int maxAttempts)
+            throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE job_run_shards SET status = 'RUNNING', claimed_by = ?, attempts = attempts + 1, error_message = NULL " +
+                        "WHERE id = ? AND status <> 'COMPLETED' AND attempts < ? " +
+                        "RETURNING checkpoint_id, attempts")) {
+            stmt.setString(1, nodeId);
+            stmt.setLong(2, shard.id());
+            stmt.setInt(3, maxAttempts);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                return Optional.of(new JobShard(shard.id(), shard.jobRunId(), shard.jobName(), shard.shardNo(),
+                        shard.rangeEnd(), rs.getObject("checkpoint_id", Long.class), shard.cutoff(),
+                        rs.getInt("attempts")));
+            }
+        }
+    }
+
+    /**
+     * Gives up on a shard left running by a node that died on its last attempt, so the run can finish.
+     */
+    public void abandonShard(Connection connection, long shardId, int maxAttempts) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE job_run_shards SET status = 'FAILED', " +
+                        "error_message = COALESCE(error_message, 'Abandoned after ' || attempts || ' attempts') " +
+                        "WHERE id = ? AND status = 'RUNNING' AND attempts >= ?")) {
+            stmt.setLong(1, shardId);
+            stmt.setInt(2, maxAttempts);
+            stmt.executeUpdate();
+        }
+    }
+
+    public int resolveBatchSize(Connection connection, String batchSizeConfigKey) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT value::INTEGER FROM business_config WHERE key = ?")) {
+            stmt.setString(1, batchSizeConfigKey);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new JobExecutionException("Configuration missing: " + batchSizeConfigKey);
+                }
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    public ShardBatchResult runShardBatch(Connection connection, String shardFunction, JobShard shard,
+                                          long afterId, int batchSize) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT rows_processed, last_id FROM " + shardFunction + "(?, ?, ?, ?)")) {
+            stmt.setLong(1, shard.rangeEnd());
+            stmt.setLong(2, afterId);
+            stmt.setObject(3, shard.cutoff());
+            stmt.setInt(4, batchSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return new ShardBatchResult(rs.getInt("rows_processed"), rs.getObject("last_id", Long.class));
+            }
+        }
+    }
+
+    // The cleanup procedures commit per batch, so the connection must be in auto-commit mode
+    public void runJobProcedure(Connection connection, String procedureName) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CALL " + procedureName + "()");
+        }
+    }
+
+    public void saveCheckpoint(Connection connection, long shardId, long checkpointId, int rowsProcessed)
+            throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE job_run_shards SET checkpoint_id = ?, rows_processed = rows_processed + ? WHERE id = ?")) {
+            stmt.setLong(1, checkpointId);
+            stmt.setInt(2, rowsProcessed);
+            stmt.setLong(3, shardId);
+            stmt.executeUpdate();
+        }
+    }
+
+    public void completeShard(Connection connection, long shardId) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE job_run_shards SET status = 'COMPLETED' WHERE id = ?")) {
+            stmt.setLong(1, shardId);
+            stmt.executeUpdate();
+        }
+    }
+
+    public void failShard(Connection connection, long shardId, String errorMessage) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE job_run_shards SET status = 'FAILED', error_message = ? WHERE id = ?")) {
+            stmt.setString(1, errorMessage);
+            stmt.setLong(2, shardId);
+            stmt.executeUpdate();
+        }
+    }
+
+    // ===== RUN COMPLETION =====
+
+    /**
+     * Closes the run once no shard has work left. Only one caller wins the conditional update, so the
+     * summary audit row is written exactly once even when several nodes finish shards at the same time.
+     * @param writeAudit whether to record the run in job_execution_audit (unsharded job functions audit themselves)
+     * @return true if this call closed the run
+     */
+    public boolean completeRunIfFinished(long runId, int maxAttempts, boolean writeAudit) {
+        List<Map<String, Object>> closed = jdbcTemplate.queryForList(
+                "WITH shard_totals AS ( " +
+                        "    SELECT COUNT(*) FILTER (WHERE status IN ('PENDING', 'RUNNING') " +
+                        "                             OR (status = 'FAILED' AND attempts < ?)) AS open_shards, " +
+                        "           COUNT(*) FILTER (WHERE status = 'FAILED') AS failed_shards, " +
+                        "           COALESCE(SUM(rows_processed), 0) AS total_rows, " +
+                        "           COUNT(DISTINCT claimed_by) AS nodes, " +
+                        "           string_agg(error_message, '; ' ORDER BY shard_no) AS errors " +
+                        "    FROM job_run_shards WHERE job_run_id = ? " +
+                        ") " +
+                        "UPDATE job_runs r " +
+                        "SET status = CASE WHEN t.failed_shards > 0 THEN 'FAILED' ELSE 'COMPLETED' END, " +
+                        "    completed_at = CURRENT_TIMESTAMP " +
+                        "FROM shard_totals t " +
+                        "WHERE r.id = ? AND r.status = 'RUNNING' AND t.open_shards = 0 " +
+                        "RETURNING r.job_name, r.status, r.shard_count, t.total_rows, t.nodes, t.errors, " +
+                        "    (EXTRACT(EPOCH FROM (clock_timestamp() - r.created_date)) * 1000)::INTEGER AS execution_time_ms",
+                maxAttempts, runId, runId);
+
+        if (closed.isEmpty()) {
+            return false;
+        }
+
+        if (writeAudit) {
+            Map<String, Object> run = closed.getFirst();
+            jdbcTemplate.update(
+                    "INSERT INTO job_execution_audit (" +
+                            "job_name, execution_date, success, records_processed, error_message, execution_time_ms, details" +
+                            ") VALUES (?, CURRENT_DATE, ?, ?, ?, ?, " +
+                            "jsonb_build_object('runner', 'application', 'run_id', ?::BIGINT, 'shards', ?::INTEGER, 'nodes', ?::INTEGER))",
+                    run.get("job_name"), "COMPLETED".equals(run.get("status")),
+                    ((Number) run.get("total_rows")).intValue(), run.get("errors"), run.get("execution_time_ms"),
+                    runId, run.get("shard_count"), ((Number) run.get("nodes")).intValue());
+        }
+        return true;
+    }
+
+    private JobShard mapShard(ResultSet rs) throws SQLException {
+        return new JobShard(
+                rs.getLong("id"),
+                rs.getLong("job_run_id"),
+                rs.getString("job_name"),
+                rs.getInt("shard_no"),
+                rs.getObject("range_end", Long.class),
+                rs.getObject("checkpoint_id", Long.class),
+                rs.getObject("cutoff_at", OffsetDateTime.class),
+                rs.getInt("attempts")
+        );
+    }
+}
@@ -1,16 +1,22 @@
 package com.bizwaresol.loyalty_service_club_api.data.repository;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OtpTokenRepository extends JpaRepository<OtpToken, Long> {
@@ -18,58 +24,61 @@ public interface OtpTokenRepository extends JpaRepository<OtpToken, Long> {
     // ===== EMAIL VERIFICATION =====
 
     /**
-     * Find valid email verification OTP by code and email
+     * Find valid email verification OTP by code and email id
      */
-    Optional<OtpToken> findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-            String otpCode, String email, OtpPurpose purpose, OffsetDateTime currentTime, Integer maxAttempts);
+    Optional<OtpToken> findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+            String otpCode, Long emailId, OtpPurpose purpose, OffsetDateTime currentTime, Integer maxAttempts);
 
     /**
-     * Find latest email verification OTP by email (for rate limiting)
+     * Find latest email verification OTP by email id (for rate limiting)
      */
-    Optional<OtpToken> findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(String email, OtpPurpose purpose);
+    Optional<OtpToken> findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(Long emailId, OtpPurpose purpose);
 
     /**
      * Count email verification OTPs in time window (for rate limiting)
      */
-    long countByCustomerEmailEmailAndPurposeAndCreatedDateAfter(String email, OtpPurpose purpose, OffsetDateTime since);
+    long countByCustomerEmailIdAndPurposeAndCreatedDateAfter(Long emailId, OtpPurpose purpose, OffsetDateTime since);
 
     /**
      * Find active email verification OTPs to invalidate
      */
-    List<OtpToken> findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(String email, OtpPurpose purpose);
+    List<OtpToken> findByCustomerEmailIdAndPurposeAndUsedAtIsNull(Long emailId, OtpPurpose purpose);
 
     // ===== PHONE VERIFICATION =====
 
     /**
-     * Find valid phone verification OTP by code and phone
+     * Find valid phone verification OTP by code and phone id
      */
-    Optional<OtpToken> findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-            String otpCode, String phone, OtpPurpose purpose, OffsetDateTime currentTime, Integer maxAttempts);
+    Optional<OtpToken> findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+            String otpCode, Long phoneId, OtpPurpose purpose, OffsetDateTime currentTime, Integer maxAttempts);
 
     /**
-     * Find latest phone verification OTP by phone (for rate limiting)
+     * Find latest phone verification OTP by phone id (for rate limiting)
      */
-    Optional<OtpToken> findTopByCustomerPhonePhoneAndPurposeOrderByCreatedDateDesc(String phone, OtpPurpose purpose);
+    Optional<OtpToken> findTopByCustomerPhoneIdAndPurposeOrderByCreatedDateDesc(Long phoneId, OtpPurpose purpose);
 
     /**
      * Count phone verification OTPs in time window (for rate limiting)
      */
-    long countByCustomerPhonePhoneAndPurposeAndCreatedDateAfter(String phone, OtpPurpose purpose, OffsetDateTime since);
+    long countByCustomerPhoneIdAndPurposeAndCreatedDateAfter(Long phoneId, OtpPurpose purpose, OffsetDateTime since);
 
     /**
      * Find active phone verification OTPs to invalidate
      */
-    List<OtpToken> findByCustomerPhonePhoneAndPurposeAndUsedAtIsNull(String phone, OtpPurpose purpose);
+    List<OtpToken> findByCustomerPhoneIdAndPurposeAndUsedAtIsNull(Long phoneId, OtpPurpose purpose);
 
     // ===== SHARED OPERATIONS (These need custom queries for updates) =====
+    // otp_tokens is partitioned by created_date and id alone is not unique to a partition, so every update
+    // also filters on created_date to let PostgreSQL prune the partitions it cannot touch
 
     /**
      * Increment attempt count for an OTP
      */
     @Modifying
     @Query("UPDATE OtpToken o SET o.attemptsCount = o.attemptsCount + 1, " +
-            "o.lastModifiedDate = :currentTime WHERE o.id = :otpId")
+            "o.lastModifiedDate = :currentTime WHERE o.id = :otpId AND o.createdDate = :createdDate")
     int incrementAttemptCount(@Param("otpId") Long otpId,
+                              @Param("createdDate") OffsetDateTime createdDate,
                               @Param("currentTime") OffsetDateTime currentTime);
 
     /**
@@ -77,16 +86,35 @@ public interface OtpTokenRepository extends JpaRepository<OtpToken, Long> {
      */
     @Modifying
     @Query("UPDATE OtpToken o SET o.usedAt = :currentTime, o.lastModifiedDate = :currentTime " +
-            "WHERE o.id = :otpId")
+            "WHERE o.id = :otpId AND o.createdDate = :createdDate")
     int markOtpAsUsed(@Param("otpId") Long otpId,
+                      @Param("createdDate") OffsetDateTime createdDate,
                       @Param("currentTime") OffsetDateTime currentTime);
 
     /**
-     * Mark multiple OTPs as used (for invalidation)
+     * Mark multiple OTPs as used (for invalidation); createdSince is the oldest created date among them
      */
     @Modifying
     @Query("UPDATE OtpToken o SET o.usedAt = :currentTime, o.lastModifiedDate = :currentTime " +
-            "WHERE o IN :otpTokens")
+            "WHERE o IN :otpTokens AND o.createdDate >= :createdSince")
     int markOtpsAsUsed(@Param("otpTokens") List<OtpToken> otpTokens,
+                       @Param("createdSince") OffsetDateTime createdSince,
                        @Param("currentTime") OffsetDateTime currentTime);
-}
\ No newline at end of file
+
+    // ===== KEYSET PAGES AND STREAMS (ordered by id) =====
+
+    /**
+     * Find the next page of OTPs after the given id
+     */
+    List<OtpToken> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Stream all OTPs with a JDBC fetch size, read-only
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PaginationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM OtpToken o ORDER BY o.id")
+    Stream<OtpToken> streamAll();
+}
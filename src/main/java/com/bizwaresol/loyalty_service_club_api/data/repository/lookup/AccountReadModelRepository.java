@@ -0,0 +1,22 @@
+package com.bizwaresol.loyalty_service_club_api.data.repository.lookup;
+
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.AccountReadModel;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountReadModelRepository extends JpaRepository<AccountReadModel, Long> {
+
+    long countByCalculatedStatus(CustomerAccountVerificationStatus calculatedStatus);
+
+    long countByActivityStatus(CustomerAccountActivityStatus activityStatus);
+
+    long countByActivityStatusAndLastLoginAtBefore(CustomerAccountActivityStatus activityStatus, OffsetDateTime cutoff);
+
+    List<AccountReadModel> findByStatusNeedsUpdateTrue();
+}
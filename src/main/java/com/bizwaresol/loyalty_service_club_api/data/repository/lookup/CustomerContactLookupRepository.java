@@ -1,7 +1,11 @@
 package com.bizwaresol.loyalty_service_club_api.data.repository.lookup;
 
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.CustomerContactLookup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,9 +13,21 @@ import java.util.Optional;
 @Repository
 public interface CustomerContactLookupRepository extends JpaRepository<CustomerContactLookup, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CONTACT_LOOKUP_QUERIES)
+    })
     Optional<CustomerContactLookup> findByPhone(String phone);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CONTACT_LOOKUP_QUERIES)
+    })
     Optional<CustomerContactLookup> findByEmail(String email);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CONTACT_LOOKUP_QUERIES)
+    })
     Optional<CustomerContactLookup> findByPreferredUsername(String preferredUsername);
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's session-factory statistics, additionally counted per thread ({@link QueryCounter}) and with
+ * queries over the slow-query threshold handed to the {@link QueryStatisticsRecorder}. Hibernate only calls
+ * these methods while statistics are enabled (hibernate.generate_statistics).
+ */
+public class InstrumentedStatistics extends StatisticsImpl {
+
+    private final QueryStatisticsRecorder recorder;
+    private final long slowQueryThresholdMs;
+
+    public InstrumentedStatistics(SessionFactoryImplementor sessionFactory, QueryStatisticsRecorder recorder,
+                                  long slowQueryThresholdMs) {
+        super(sessionFactory);
+        this.recorder = recorder;
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        QueryCounter.statementPrepared();
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        QueryCounter.entityLoaded();
+    }
+
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        QueryCounter.collectionFetched();
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        QueryCounter.flushed();
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        if (slowQueryThresholdMs > 0 && time >= slowQueryThresholdMs) {
+            QueryCounter.slowQuery();
+            recorder.recordSlowQuery(hql, time);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+/**
+ * Per-thread running totals fed by {@link InstrumentedStatistics}. Counters only grow; a flow's cost is the
+ * difference between a {@link #snapshot()} before and after it, so measured scopes can nest. Work done on
+ * other threads (async executors, the job runner's workers) counts on those threads.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[5]);
+
+    private static final int STATEMENTS = 0;
+    private static final int ENTITY_LOADS = 1;
+    private static final int COLLECTION_FETCHES = 2;
+    private static final int FLUSHES = 3;
+    private static final int SLOW_QUERIES = 4;
+
+    private QueryCounter() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    public static QueryCounts snapshot() {
+        long[] counts = COUNTS.get();
+        return new QueryCounts(counts[STATEMENTS], counts[ENTITY_LOADS], counts[COLLECTION_FETCHES],
+                counts[FLUSHES], counts[SLOW_QUERIES]);
+    }
+
+    static void statementPrepared() {
+        COUNTS.get()[STATEMENTS]++;
+    }
+
+    static void entityLoaded() {
+        COUNTS.get()[ENTITY_LOADS]++;
+    }
+
+    static void collectionFetched() {
+        COUNTS.get()[COLLECTION_FETCHES]++;
+    }
+
+    static void flushed() {
+        COUNTS.get()[FLUSHES]++;
+    }
+
+    static void slowQuery() {
+        COUNTS.get()[SLOW_QUERIES]++;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+/**
+ * Database work done on one thread: JDBC statements prepared, entities loaded from result sets,
+ * lazy collections fetched, session flushes and queries over the slow-query threshold.
+ */
+public record QueryCounts(long statements, long entityLoads, long collectionFetches, long flushes, long slowQueries) {
+
+    public static final QueryCounts NONE = new QueryCounts(0, 0, 0, 0, 0);
+
+    /**
+     * Counts accumulated since an earlier snapshot of the same thread
+     */
+    public QueryCounts since(QueryCounts earlier) {
+        return new QueryCounts(
+                statements - earlier.statements,
+                entityLoads - earlier.entityLoads,
+                collectionFetches - earlier.collectionFetches,
+                flushes - earlier.flushes,
+                slowQueries - earlier.slowQueries);
+    }
+}
@@ -0,0 +1,33 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records the database work of each request (the difference of the thread's {@link QueryCounter}
+ * before and after the chain) with the {@link QueryStatisticsRecorder}.
+ */
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+    private final QueryStatisticsRecorder recorder;
+
+    public QueryStatisticsFilter(QueryStatisticsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounts before = QueryCounter.snapshot();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.recordRequest(QueryCounter.snapshot().since(before));
+        }
+    }
+}
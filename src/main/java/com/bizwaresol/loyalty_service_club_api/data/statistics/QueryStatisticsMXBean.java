@@ -0,0 +1,25 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+import java.util.List;
+
+/**
+ * Per-request database work (statement counts, entity loads, collection fetches, flushes) and slow queries
+ */
+public interface QueryStatisticsMXBean {
+
+    long getRequests();
+
+    long getStatements();
+
+    double getAverageStatementsPerRequest();
+
+    long getEntityLoads();
+
+    long getCollectionFetches();
+
+    long getFlushes();
+
+    long getSlowQueries();
+
+    List<String> getRecentSlowQueries();
+}
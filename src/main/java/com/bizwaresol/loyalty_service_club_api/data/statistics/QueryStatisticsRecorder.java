@@ -0,0 +1,103 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totals over all requests seen by {@link QueryStatisticsFilter}, plus every slow query wherever it ran
+ * and the text of the most recent ones. Each request's statement count also goes to a distribution summary,
+ * which gives the mean, max and percentiles per scrape interval.
+ */
+public class QueryStatisticsRecorder implements QueryStatisticsMXBean {
+
+    private final int slowQueryLogSize;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+    private final LongAdder collectionFetches = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder slowQueries = new LongAdder();
+    private final Deque<String> recentSlowQueries = new ConcurrentLinkedDeque<>();
+    private final DistributionSummary statementsPerRequest;
+
+    public QueryStatisticsRecorder(int slowQueryLogSize, MeterRegistry meterRegistry) {
+        this.slowQueryLogSize = slowQueryLogSize;
+        this.statementsPerRequest = DistributionSummary.builder(MetricNames.DB_STATEMENTS_PER_REQUEST)
+                .baseUnit("statements")
+                .register(meterRegistry);
+    }
+
+    // ===== RECORDING =====
+
+    public void recordRequest(QueryCounts counts) {
+        requests.increment();
+        statements.add(counts.statements());
+        statementsPerRequest.record(counts.statements());
+        entityLoads.add(counts.entityLoads());
+        collectionFetches.add(counts.collectionFetches());
+        flushes.add(counts.flushes());
+    }
+
+    public void recordSlowQuery(String query, long timeMs) {
+        slowQueries.increment();
+        if (slowQueryLogSize <= 0) {
+            return;
+        }
+        recentSlowQueries.addFirst(timeMs + " ms: " + (query != null ? query : "(entity or collection load)"));
+        while (recentSlowQueries.size() > slowQueryLogSize) {
+            recentSlowQueries.pollLast();
+        }
+    }
+
+    // ===== METRICS =====
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    @Override
+    public double getAverageStatementsPerRequest() {
+        long count = requests.sum();
+        return count == 0 ? 0 : (double) statements.sum() / count;
+    }
+
+    @Override
+    public long getEntityLoads() {
+        return entityLoads.sum();
+    }
+
+    @Override
+    public long getCollectionFetches() {
+        return collectionFetches.sum();
+    }
+
+    @Override
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    @Override
+    public long getSlowQueries() {
+        return slowQueries.sum();
+    }
+
+    @Override
+    public List<String> getRecentSlowQueries() {
+        return new ArrayList<>(recentSlowQueries);
+    }
+}
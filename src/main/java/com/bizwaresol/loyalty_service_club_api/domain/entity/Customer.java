@@ -1,16 +1,21 @@
 package com.bizwaresol.loyalty_service_club_api.domain.entity;
 
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER)
 @Table(name = "customers")
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_id_seq")
+    @SequenceGenerator(name = "customers_id_seq", sequenceName = "customers_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name",  nullable = false, length = 20)
@@ -87,6 +92,11 @@ public class Customer {
         this.phone = phone;
     }
 
+    // Inverse side, owned by CustomerAccount.customer
+    public CustomerAccount getAccount() {
+        return account;
+    }
+
     public OffsetDateTime getCreatedDate() {
         return createdDate;
     }
@@ -3,6 +3,7 @@ package com.bizwaresol.loyalty_service_club_api.domain.entity;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -10,11 +11,13 @@ import java.time.OffsetDateTime;
 import java.util.Objects;
 
 @Entity
+@DynamicUpdate
 @Table(name = "customer_accounts")
 public class CustomerAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_accounts_id_seq")
+    @SequenceGenerator(name = "customer_accounts_id_seq", sequenceName = "customer_accounts_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "username",  nullable = false,  unique = true, length = 60)
@@ -45,6 +48,10 @@ public class CustomerAccount {
     @Column(name="last_modified_date", nullable = false)
     private OffsetDateTime lastModifiedDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public CustomerAccount() {}
 
     public Long getId() {
@@ -119,6 +126,10 @@ public class CustomerAccount {
         this.lastModifiedDate = lastModifiedDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if(this == o) return true;
@@ -1,18 +1,27 @@
 package com.bizwaresol.loyalty_service_club_api.domain.entity;
 
+import com.bizwaresol.loyalty_service_club_api.constant.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER_PHONE)
+@NaturalIdCache(region = CacheRegions.CUSTOMER_PHONE_NATURAL_ID)
 @Table(name = "customer_phones")
 public class CustomerPhone {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_phones_id_seq")
+    @SequenceGenerator(name = "customer_phones_id_seq", sequenceName = "customer_phones_id_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(name = "phone", nullable = false, unique = true, length = 13)
     private String phone;
 
@@ -4,6 +4,7 @@ import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
@@ -15,7 +16,8 @@ import java.util.concurrent.ThreadLocalRandom;
 public class OtpToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "otp_tokens_id_seq")
+    @SequenceGenerator(name = "otp_tokens_id_seq", sequenceName = "otp_tokens_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -51,6 +53,10 @@ public class OtpToken {
     @Column(name = "max_attempts", nullable = false)
     private Integer maxAttempts = 3;
 
+    // Partition key of otp_tokens (table PK is (id, created_date)); set on create, never updated. @PartitionKey
+    // adds it to the WHERE clause of entity UPDATEs and DELETEs, so they hit one daily partition instead of
+    // probing the (id, created_date) index of every partition
+    @PartitionKey
     @Column(name = "created_date", nullable = false, updatable = false)
     private OffsetDateTime createdDate;
 
@@ -0,0 +1,188 @@
+package com.bizwaresol.loyalty_service_club_api.domain.entity.lookup;
+
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Immutable
+@Table(name = "account_read_model")
+public class AccountReadModel {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "email_id")
+    private Long emailId;
+
+    @Column(name = "phone_id")
+    private Long phoneId;
+
+    @Column(name = "email_verified", nullable = false)
+    private Boolean emailVerified;
+
+    @Column(name = "phone_verified", nullable = false)
+    private Boolean phoneVerified;
+
+    @Column(name = "has_email", nullable = false)
+    private Boolean hasEmail;
+
+    @Column(name = "has_phone", nullable = false)
+    private Boolean hasPhone;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "verification_status", nullable = false)
+    private CustomerAccountVerificationStatus verificationStatus;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "calculated_status", nullable = false)
+    private CustomerAccountVerificationStatus calculatedStatus;
+
+    // Generated column (verification_status <> calculated_status)
+    @Column(name = "status_needs_update", insertable = false, updatable = false)
+    private Boolean statusNeedsUpdate;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "activity_status", nullable = false)
+    private CustomerAccountActivityStatus activityStatus;
+
+    @Column(name = "last_login_at")
+    private OffsetDateTime lastLoginAt;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private OffsetDateTime refreshedAt;
+
+    public AccountReadModel() {}
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getEmailId() {
+        return emailId;
+    }
+
+    public void setEmailId(Long emailId) {
+        this.emailId = emailId;
+    }
+
+    public Long getPhoneId() {
+        return phoneId;
+    }
+
+    public void setPhoneId(Long phoneId) {
+        this.phoneId = phoneId;
+    }
+
+    public Boolean getEmailVerified() {
+        return emailVerified;
+    }
+
+    public void setEmailVerified(Boolean emailVerified) {
+        this.emailVerified = emailVerified;
+    }
+
+    public Boolean getPhoneVerified() {
+        return phoneVerified;
+    }
+
+    public void setPhoneVerified(Boolean phoneVerified) {
+        this.phoneVerified = phoneVerified;
+    }
+
+    public Boolean getHasEmail() {
+        return hasEmail;
+    }
+
+    public void setHasEmail(Boolean hasEmail) {
+        this.hasEmail = hasEmail;
+    }
+
+    public Boolean getHasPhone() {
+        return hasPhone;
+    }
+
+    public void setHasPhone(Boolean hasPhone) {
+        this.hasPhone = hasPhone;
+    }
+
+    public CustomerAccountVerificationStatus getVerificationStatus() {
+        return verificationStatus;
+    }
+
+    public void setVerificationStatus(CustomerAccountVerificationStatus verificationStatus) {
+        this.verificationStatus = verificationStatus;
+    }
+
+    public CustomerAccountVerificationStatus getCalculatedStatus() {
+        return calculatedStatus;
+    }
+
+    public void setCalculatedStatus(CustomerAccountVerificationStatus calculatedStatus) {
+        this.calculatedStatus = calculatedStatus;
+    }
+
+    public Boolean getStatusNeedsUpdate() {
+        return statusNeedsUpdate;
+    }
+
+    public CustomerAccountActivityStatus getActivityStatus() {
+        return activityStatus;
+    }
+
+    public void setActivityStatus(CustomerAccountActivityStatus activityStatus) {
+        this.activityStatus = activityStatus;
+    }
+
+    public OffsetDateTime getLastLoginAt() {
+        return lastLoginAt;
+    }
+
+    public void setLastLoginAt(OffsetDateTime lastLoginAt) {
+        this.lastLoginAt = lastLoginAt;
+    }
+
+    public OffsetDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(OffsetDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountReadModel{" +
+                "accountId=" + accountId +
+                ", customerId=" + customerId +
+                ", verificationStatus=" + verificationStatus +
+                ", calculatedStatus=" + calculatedStatus +
+                ", activityStatus=" + activityStatus +
+                ", lastLoginAt=" + lastLoginAt +
+                '}';
+    }
+}
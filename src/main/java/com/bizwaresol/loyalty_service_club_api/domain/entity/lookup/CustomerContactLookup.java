@@ -2,9 +2,13 @@ package com.bizwaresol.loyalty_service_club_api.domain.entity.lookup;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
 
+// Cached through the contact lookup query region only (results stored in full, not as ids): Hibernate
+// invalidates those results whenever it writes one of the tables the view reads from
 @Entity
 @Immutable
+@Synchronize({"customers", "customer_emails", "customer_phones"})
 @Table(name = "customer_contact_lookup")
 public class CustomerContactLookup {
 
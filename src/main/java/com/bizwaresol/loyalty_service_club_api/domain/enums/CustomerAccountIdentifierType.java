@@ -1,6 +1,6 @@
 package com.bizwaresol.loyalty_service_club_api.domain.enums;
 
-import com.bizwaresol.loyalty_service_club_api.constant.ValidationConstants;
+import com.bizwaresol.loyalty_service_club_api.util.validators.FieldScanner;
 
 public enum CustomerAccountIdentifierType {
     EMAIL,
@@ -17,11 +17,12 @@ public enum CustomerAccountIdentifierType {
             return USERNAME; // Default fallback
         }
 
-        String trimmed = identifier.trim();
+        int start = FieldScanner.trimStart(identifier);
+        int end = FieldScanner.trimEnd(identifier, start);
 
-        if (ValidationConstants.EMAIL_PATTERN.matcher(trimmed).matches()) {
+        if (FieldScanner.isEmail(identifier, start, end)) {
             return EMAIL;
-        } else if (ValidationConstants.PHONE_PATTERN.matcher(trimmed).matches()) {
+        } else if (FieldScanner.isSerbianPhone(identifier, start, end)) {
             return PHONE;
         }
 
@@ -0,0 +1,10 @@
+package com.bizwaresol.loyalty_service_club_api.domain.enums;
+
+public enum SecurityEventType {
+    LOGIN,
+    REGISTRATION,
+    OTP_SEND,
+    OTP_VERIFY,
+    PASSWORD_RESET_REQUEST,
+    PASSWORD_RESET
+}
@@ -17,6 +17,16 @@ public abstract class ServiceException extends RuntimeException {
     this.httpStatus = httpStatus;
   }
 
+  /**
+   * For subclasses that opt out of stack trace capture (see {@link StacklessServiceException})
+   */
+  protected ServiceException(String message, String errorCode, int httpStatus, Throwable cause,
+                             boolean writableStackTrace) {
+    super(message, cause, false, writableStackTrace);
+    this.errorCode = errorCode;
+    this.httpStatus = httpStatus;
+  }
+
   public String getErrorCode() {
     return errorCode;
   }
@@ -0,0 +1,18 @@
+package com.bizwaresol.loyalty_service_club_api.exception.base;
+
+/**
+ * Base for exceptions that report expected outcomes (wrong credentials, OTP limits, duplicates, missing
+ * resources) rather than faults. They are thrown at high rates under abusive traffic and are only ever
+ * turned into an error response, so no stack trace is captured and suppression is disabled.
+ * A wrapped cause keeps its own stack trace.
+ */
+public abstract class StacklessServiceException extends ServiceException {
+
+  public StacklessServiceException(String message, String errorCode, int httpStatus) {
+    super(message, errorCode, httpStatus, null, false);
+  }
+
+  public StacklessServiceException(String message, String errorCode, int httpStatus, Throwable cause) {
+    super(message, errorCode, httpStatus, cause, false);
+  }
+}
@@ -1,8 +1,8 @@
 package com.bizwaresol.loyalty_service_club_api.exception.business;
 
-import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.base.StacklessServiceException;
 
-public abstract class BusinessLogicException extends ServiceException {
+public abstract class BusinessLogicException extends StacklessServiceException {
 
     public BusinessLogicException(String message, String errorCode, int httpStatus) {
         super(message, errorCode, httpStatus);
@@ -1,8 +1,11 @@
 package com.bizwaresol.loyalty_service_club_api.exception.security;
 
-import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.base.StacklessServiceException;
 
-public abstract class SecurityException extends ServiceException {
+/**
+ * Base for authentication, OTP and registration outcomes; stackless (see {@link StacklessServiceException})
+ */
+public abstract class SecurityException extends StacklessServiceException {
 
     public SecurityException(String message, String errorCode, int httpStatus) {
         super(message, errorCode, httpStatus);
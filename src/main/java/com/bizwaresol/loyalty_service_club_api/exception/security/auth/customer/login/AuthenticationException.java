@@ -1,8 +1,8 @@
 package com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.login;
 
-import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.SecurityException;
 
-public abstract class AuthenticationException extends ServiceException {
+public abstract class AuthenticationException extends SecurityException {
 
   public AuthenticationException(String message, String errorCode) {
     super(message, errorCode, 401);
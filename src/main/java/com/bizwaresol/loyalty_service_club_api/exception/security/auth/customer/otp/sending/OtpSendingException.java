@@ -1,9 +1,9 @@
 package com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending;
 
 
-import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.SecurityException;
 
-public abstract class OtpSendingException extends ServiceException {
+public abstract class OtpSendingException extends SecurityException {
 
     public OtpSendingException(String message, String errorCode) {
         super(message, errorCode, 429); // 429 Too Many Requests for rate limiting
@@ -1,8 +1,8 @@
 package com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.verification;
 
-import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.SecurityException;
 
-public abstract class OtpVerificationException extends ServiceException {
+public abstract class OtpVerificationException extends SecurityException {
 
     public OtpVerificationException(String message, String errorCode) {
         super(message, errorCode, 400);
@@ -1,8 +1,8 @@
 package com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.registration;
 
-import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.SecurityException;
 
-public abstract class RegistrationException extends ServiceException {
+public abstract class RegistrationException extends SecurityException {
 
     public RegistrationException(String message, String errorCode) {
         super(message, errorCode, 400);
@@ -0,0 +1,14 @@
+package com.bizwaresol.loyalty_service_club_api.exception.system.job;
+
+import com.bizwaresol.loyalty_service_club_api.exception.system.SystemException;
+
+public class JobExecutionException extends SystemException {
+
+    public JobExecutionException(String message) {
+        super(message, "JOB_EXECUTION_ERROR");
+    }
+
+    public JobExecutionException(String message, Throwable cause) {
+        super(message, "JOB_EXECUTION_ERROR", cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bizwaresol.loyalty_service_club_api.exception.validation.field;
+
+import com.bizwaresol.loyalty_service_club_api.exception.validation.ValidationException;
+
+public class ValueOutOfRangeException extends ValidationException {
+    public ValueOutOfRangeException(String fieldName, int min, int max, int actual) {
+        super("Field " + fieldName + " out of range: " + actual + ". Allowed: " + min + " to " + max, "VALUE_OUT_OF_RANGE");
+    }
+
+    public ValueOutOfRangeException(String fieldName, int min, int max, int actual, Throwable cause) {
+        super("Field " + fieldName + " out of range: " + actual + ". Allowed: " + min + " to " + max, "VALUE_OUT_OF_RANGE", cause);
+    }
+}
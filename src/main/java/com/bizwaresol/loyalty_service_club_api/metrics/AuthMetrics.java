@@ -0,0 +1,69 @@
+package com.bizwaresol.loyalty_service_club_api.metrics;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.login.AccountSuspendedException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.login.InvalidLoginCredentialsException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.registration.ContactAlreadyRegisteredException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.registration.MissingContactInformationException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.ValidationException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Login and registration timers, tagged with the outcome only (never the identifier)
+ */
+@Component
+public class AuthMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * @param failure the exception the login ended with, or null on success
+     */
+    public void recordLogin(Timer.Sample sample, Exception failure) {
+        sample.stop(meterRegistry.timer(MetricNames.AUTH_LOGIN, MetricNames.TAG_OUTCOME, loginOutcome(failure)));
+    }
+
+    /**
+     * @param failure the exception the registration ended with, or null on success
+     */
+    public void recordRegistration(Timer.Sample sample, Exception failure) {
+        sample.stop(meterRegistry.timer(MetricNames.AUTH_REGISTRATION, MetricNames.TAG_OUTCOME, registrationOutcome(failure)));
+    }
+
+    // ===== OUTCOMES (also recorded in security_events) =====
+
+    public static String loginOutcome(Exception failure) {
+        if (failure == null) {
+            return MetricNames.OUTCOME_SUCCESS;
+        } else if (failure instanceof InvalidLoginCredentialsException) {
+            return MetricNames.OUTCOME_INVALID_CREDENTIALS;
+        } else if (failure instanceof AccountSuspendedException) {
+            return MetricNames.OUTCOME_SUSPENDED;
+        } else if (failure instanceof ValidationException) {
+            return MetricNames.OUTCOME_INVALID;
+        }
+        return MetricNames.OUTCOME_ERROR;
+    }
+
+    public static String registrationOutcome(Exception failure) {
+        if (failure == null) {
+            return MetricNames.OUTCOME_SUCCESS;
+        } else if (failure instanceof ContactAlreadyRegisteredException) {
+            return MetricNames.OUTCOME_CONTACT_TAKEN;
+        } else if (failure instanceof ValidationException || failure instanceof MissingContactInformationException) {
+            return MetricNames.OUTCOME_INVALID;
+        }
+        return MetricNames.OUTCOME_ERROR;
+    }
+}
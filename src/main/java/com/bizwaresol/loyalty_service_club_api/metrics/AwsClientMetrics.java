@@ -0,0 +1,36 @@
+package com.bizwaresol.loyalty_service_club_api.metrics;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * SES/SNS call latency. Failures are tagged with the exception type AwsErrorMapper mapped them to,
+ * a fixed set of classes, never the AWS message or request id.
+ */
+@Component
+public class AwsClientMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public AwsClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * @param failure the mapped exception the call ended with, or null on success
+     */
+    public void record(Timer.Sample sample, String service, String operation, Exception failure) {
+        sample.stop(meterRegistry.timer(MetricNames.AWS_CLIENT_REQUESTS,
+                MetricNames.TAG_SERVICE, service,
+                MetricNames.TAG_OPERATION, operation,
+                MetricNames.TAG_OUTCOME, failure == null ? MetricNames.OUTCOME_SUCCESS : MetricNames.OUTCOME_ERROR,
+                MetricNames.TAG_ERROR, failure == null ? MetricNames.ERROR_NONE : failure.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.bizwaresol.loyalty_service_club_api.metrics;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * OTP send and verify timers, tagged with channel, purpose and outcome ({@link MetricNames} OUTCOME_*)
+ */
+@Component
+public class OtpMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public OtpMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordSend(Timer.Sample sample, OtpDeliveryMethod channel, OtpPurpose purpose, String outcome) {
+        sample.stop(timer(MetricNames.OTP_SEND, channel, purpose, outcome));
+    }
+
+    public void recordVerify(Timer.Sample sample, OtpDeliveryMethod channel, OtpPurpose purpose, String outcome) {
+        sample.stop(timer(MetricNames.OTP_VERIFY, channel, purpose, outcome));
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private Timer timer(String name, OtpDeliveryMethod channel, OtpPurpose purpose, String outcome) {
+        return meterRegistry.timer(name,
+                MetricNames.TAG_CHANNEL, channel.name().toLowerCase(Locale.ROOT),
+                MetricNames.TAG_PURPOSE, purpose.name().toLowerCase(Locale.ROOT),
+                MetricNames.TAG_OUTCOME, outcome);
+    }
+}
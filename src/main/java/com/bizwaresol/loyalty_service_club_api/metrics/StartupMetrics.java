@@ -0,0 +1,73 @@
+package com.bizwaresol.loyalty_service_club_api.metrics;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Publishes the time spent per startup phase (context refresh, bean instantiation, JPA bootstrap,
+ * repository scanning, ...) as application.startup.phase once the application is ready. Only active
+ * when the application runs with a {@link BufferingApplicationStartup}; per-step detail is on
+ * /actuator/startup.
+ */
+@Component
+public class StartupMetrics implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final MeterRegistry meterRegistry;
+    private final ApplicationStartup applicationStartup;
+
+    public StartupMetrics(MeterRegistry meterRegistry, ApplicationStartup applicationStartup) {
+        this.meterRegistry = meterRegistry;
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup)) {
+            return;
+        }
+        phaseDurations(bufferingStartup.getBufferedTimeline()).forEach((phase, duration) ->
+                meterRegistry.timer(MetricNames.APPLICATION_STARTUP_PHASE, MetricNames.TAG_PHASE, phase).record(duration));
+    }
+
+    /**
+     * Total duration per step name. A step nested in a step of the same name (a bean instantiated while
+     * instantiating another) is already part of the outer one and is not added again.
+     */
+    static Map<String, Duration> phaseDurations(StartupTimeline timeline) {
+        Map<Long, StartupStep> steps = new HashMap<>();
+        timeline.getEvents().forEach(timelineEvent -> steps.put(timelineEvent.getStartupStep().getId(), timelineEvent.getStartupStep()));
+
+        Map<String, Duration> durations = new TreeMap<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : timeline.getEvents()) {
+            StartupStep step = timelineEvent.getStartupStep();
+            if (!hasAncestorNamed(step, step.getName(), steps)) {
+                durations.merge(step.getName(), timelineEvent.getDuration(), Duration::plus);
+            }
+        }
+        return durations;
+    }
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private static boolean hasAncestorNamed(StartupStep step, String name, Map<Long, StartupStep> steps) {
+        for (StartupStep parent = steps.get(step.getParentId()); parent != null; parent = steps.get(parent.getParentId())) {
+            if (name.equals(parent.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bizwaresol.loyalty_service_club_api.metrics;
+
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Times the wrapped encoder's hashing (encode) and checking (matches), which dominate login and
+ * registration latency with BCrypt
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = meterRegistry.timer(MetricNames.AUTH_PASSWORD_HASHING,
+                MetricNames.TAG_OPERATION, MetricNames.OPERATION_ENCODE);
+        this.matchesTimer = meterRegistry.timer(MetricNames.AUTH_PASSWORD_HASHING,
+                MetricNames.TAG_OPERATION, MetricNames.OPERATION_MATCHES);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
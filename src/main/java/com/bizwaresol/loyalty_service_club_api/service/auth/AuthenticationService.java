@@ -3,6 +3,8 @@
 // =====================================================================================
 package com.bizwaresol.loyalty_service_club_api.service.auth;
 
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEvent;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
 import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
 import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
 import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.LoginResult;
@@ -16,14 +18,20 @@ import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.registration.MissingContactInformationException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.registration.RegistrationFailedException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.ValidationException;
+import com.bizwaresol.loyalty_service_club_api.metrics.AuthMetrics;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerAccountService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerEmailService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerPhoneService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerService;
 import com.bizwaresol.loyalty_service_club_api.util.mappers.AuthErrorMapper;
+import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMapper;
 import com.bizwaresol.loyalty_service_club_api.util.validators.AuthValidator;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.OffsetDateTime;
 
@@ -35,22 +43,32 @@ public class AuthenticationService {
     private final CustomerService customerService;
     private final CustomerEmailService customerEmailService;
     private final CustomerPhoneService customerPhoneService;
+    private final AuthMetrics authMetrics;
+    private final SecurityEventLog securityEventLog;
+    private final EntityManager entityManager;
 
     public AuthenticationService(
             CustomerAccountService customerAccountService,
             CustomerService customerService,
             CustomerEmailService customerEmailService,
-            CustomerPhoneService customerPhoneService) {
+            CustomerPhoneService customerPhoneService,
+            AuthMetrics authMetrics,
+            SecurityEventLog securityEventLog,
+            EntityManager entityManager) {
         this.customerAccountService = customerAccountService;
         this.customerService = customerService;
         this.customerEmailService = customerEmailService;
         this.customerPhoneService = customerPhoneService;
+        this.authMetrics = authMetrics;
+        this.securityEventLog = securityEventLog;
+        this.entityManager = entityManager;
     }
 
     // ===== AUTHENTICATION =====
 
     /**
-     * Authenticates a user with email or phone and password
+     * Authenticates a user with email or phone and password. A failed login is recorded in the security
+     * trail with the account it resolved (if any); a successful one only once its transaction commits.
      * @param request login request containing identifier, password, and rememberMe flag
      * @return LoginResult with authentication status and account information
      * @throws InvalidLoginCredentialsException if credentials are invalid
@@ -58,13 +76,83 @@ public class AuthenticationService {
      */
     @Transactional
     public LoginResult authenticate(LoginRequest request) {
-        // 1. Validate input first to fail fast
-        AuthValidator.validateLoginRequest(request);
-
+        Timer.Sample sample = authMetrics.start();
+        Long accountId = null;
         try {
+            // 1. Validate input first to fail fast
+            AuthValidator.validateLoginRequest(request);
+
             // 2. Find account by identifier (which is the username field, populated by email/phone via trigger)
             CustomerAccount account = findAccountByIdentifier(request.identifier());
+            accountId = account.getId();
+
+            LoginResult result = login(request, account);
+            authMetrics.recordLogin(sample, null);
+            recordAfterCommit(SecurityEvent.login(request.identifier(), accountId,
+                    AuthMetrics.loginOutcome(null), null));
+            return result;
+        } catch (RuntimeException e) {
+            authMetrics.recordLogin(sample, e);
+            securityEventLog.record(SecurityEvent.login(request != null ? request.identifier() : null, accountId,
+                    AuthMetrics.loginOutcome(e), e));
+            throw e;
+        }
+    }
+
+    // ===== REGISTRATION =====
+
+    /**
+     * Registers a new user with contact information and password. A successful registration is recorded
+     * in the security trail only once its transaction commits.
+     * @param request registration request containing user details
+     * @return RegistrationResult with registration status and new account information
+     * @throws MissingContactInformationException if no email or phone provided
+     * @throws ContactAlreadyRegisteredException if email or phone already exists
+     * @throws RegistrationFailedException for other registration errors
+     */
+    @Transactional
+    public RegistrationResult register(RegistrationRequest request) {
+        Timer.Sample sample = authMetrics.start();
+        try {
+            RegistrationResult result = createRegistration(request);
+            authMetrics.recordRegistration(sample, null);
+            recordAfterCommit(SecurityEvent.registration(registrationIdentifier(request), result.account().getId(),
+                    AuthMetrics.registrationOutcome(null), null));
+            return result;
+        } catch (RuntimeException e) {
+            authMetrics.recordRegistration(sample, e);
+            securityEventLog.record(SecurityEvent.registration(registrationIdentifier(request), null,
+                    AuthMetrics.registrationOutcome(e), e));
+            throw e;
+        }
+    }
 
+    // ===== PRIVATE HELPER METHODS =====
+
+    // The outcome is only a success if the transaction around it commits; a failure has nothing to commit
+    // and is recorded right away, since the rollback that follows does not change it
+    private void recordAfterCommit(SecurityEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            securityEventLog.record(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                securityEventLog.record(event);
+            }
+        });
+    }
+
+    private static String registrationIdentifier(RegistrationRequest request) {
+        if (request == null) {
+            return null;
+        }
+        return request.email() != null ? request.email() : request.phone();
+    }
+
+    private LoginResult login(LoginRequest request, CustomerAccount account) {
+        try {
             // 3. Validate password
             if (!customerAccountService.verifyPassword(request.password(), account.getPassword())) {
                 throw new InvalidLoginCredentialsException(request.identifier());
@@ -90,18 +178,7 @@ public class AuthenticationService {
         }
     }
 
-    // ===== REGISTRATION =====
-
-    /**
-     * Registers a new user with contact information and password
-     * @param request registration request containing user details
-     * @return RegistrationResult with registration status and new account information
-     * @throws MissingContactInformationException if no email or phone provided
-     * @throws ContactAlreadyRegisteredException if email or phone already exists
-     * @throws RegistrationFailedException for other registration errors
-     */
-    @Transactional
-    public RegistrationResult register(RegistrationRequest request) {
+    private RegistrationResult createRegistration(RegistrationRequest request) {
         // 1. Validate input first to fail fast
         AuthValidator.validateRegistrationRequest(request);
 
@@ -121,7 +198,11 @@ public class AuthenticationService {
             // 4. Create customer account (username auto-set by trigger)
             CustomerAccount account = customerAccountService.createAccount(customer, request.password());
 
-            // 5. Return success result
+            // 5. Insert all four rows in one flush. Pooled ids defer inserts until then, and a duplicate
+            // contact must surface here as ContactAlreadyRegisteredException rather than at commit
+            flushRegistration();
+
+            // 6. Return success result
             return RegistrationResult.success(
                     account,
                     customer,
@@ -138,7 +219,13 @@ public class AuthenticationService {
         }
     }
 
-    // ===== PRIVATE HELPER METHODS =====
+    private void flushRegistration() {
+        try {
+            entityManager.flush();
+        } catch (Exception e) {
+            throw AuthErrorMapper.mapToRegistrationException(RepositoryErrorMapper.mapException(e));
+        }
+    }
 
     private CustomerAccount findAccountByIdentifier(String identifier) {
         // Per architecture, the username field is the single source of truth for login.
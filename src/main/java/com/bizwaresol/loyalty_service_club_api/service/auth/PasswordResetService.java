@@ -1,11 +1,16 @@
 package com.bizwaresol.loyalty_service_club_api.service.auth;
 
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEvent;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.PasswordResetToken;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
 import com.bizwaresol.loyalty_service_club_api.exception.business.duplicate.DuplicateActivePasswordResetTokenException;
+import com.bizwaresol.loyalty_service_club_api.exception.business.resource.CustomerAccountNotFoundException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.verification.InvalidOtpCodeException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpCooldownActiveException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpRateLimitExceededException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.password.ActivePasswordResetTokenExistsException;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerAccountService;
 import com.bizwaresol.loyalty_service_club_api.service.data.PasswordResetTokenService;
@@ -14,6 +19,7 @@ import com.bizwaresol.loyalty_service_club_api.service.verification.PhoneVerific
 import com.bizwaresol.loyalty_service_club_api.util.mappers.PasswordResetErrorMapper;
 import com.bizwaresol.loyalty_service_club_api.util.validators.DataValidator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
@@ -29,6 +35,7 @@ public class PasswordResetService {
     private final PasswordResetTokenService passwordResetTokenService;
     private final EmailVerificationService emailVerificationService;
     private final PhoneVerificationService phoneVerificationService;
+    private final SecurityEventLog securityEventLog;
 
     // We can add a configuration property for token expiry later.
     private static final int TOKEN_EXPIRY_MINUTES = 15;
@@ -36,33 +43,50 @@ public class PasswordResetService {
     public PasswordResetService(CustomerAccountService customerAccountService,
                                 PasswordResetTokenService passwordResetTokenService,
                                 EmailVerificationService emailVerificationService,
-                                PhoneVerificationService phoneVerificationService) {
+                                PhoneVerificationService phoneVerificationService,
+                                SecurityEventLog securityEventLog) {
         this.customerAccountService = customerAccountService;
         this.passwordResetTokenService = passwordResetTokenService;
         this.emailVerificationService = emailVerificationService;
         this.phoneVerificationService = phoneVerificationService;
+        this.securityEventLog = securityEventLog;
     }
 
     /**
      * Step 1: Initiates a password reset request by sending an OTP to the user's contact method.
+     * A contact without an account, with a pending reset request or in an OTP cooldown or rate limit
+     * returns normally without sending anything (the attempt is still recorded), so callers cannot tell
+     * registered contacts from unknown ones.
+     * <p>
+     * Runs outside a transaction, so each service call commits on its own: a refusal thrown through a
+     * participating service would otherwise mark the whole transaction rollback-only and turn the normal
+     * return into an error.
      *
      * @param contact The user's email or phone number.
      * @param deliveryMethod The method of contact (EMAIL or SMS).
-     * @throws ActivePasswordResetTokenExistsException if the user already has a pending reset request.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void requestPasswordReset(String contact, OtpDeliveryMethod deliveryMethod) {
-        CustomerAccount account = findAccountByIdentifier(contact);
-
-        // Business Rule: Prevent spamming by checking for an existing active token first.
-        passwordResetTokenService.findActiveTokenByAccountId(account.getId()).ifPresent(token -> {
-            throw new ActivePasswordResetTokenExistsException();
-        });
-
-        if (deliveryMethod == OtpDeliveryMethod.EMAIL) {
-            emailVerificationService.sendPasswordResetCode(contact);
-        } else {
-            phoneVerificationService.sendPasswordResetCode(contact);
+        try {
+            CustomerAccount account = findAccountByContact(contact, deliveryMethod);
+
+            // Business Rule: Prevent spamming by checking for an existing active token first.
+            passwordResetTokenService.findActiveTokenByAccountId(account.getId()).ifPresent(token -> {
+                throw new ActivePasswordResetTokenExistsException();
+            });
+
+            if (deliveryMethod == OtpDeliveryMethod.EMAIL) {
+                emailVerificationService.sendPasswordResetCode(contact);
+            } else {
+                phoneVerificationService.sendPasswordResetCode(contact);
+            }
+            securityEventLog.record(SecurityEvent.passwordResetRequest(contact, deliveryMethod, null));
+        } catch (CustomerAccountNotFoundException | ActivePasswordResetTokenExistsException
+                 | OtpCooldownActiveException | OtpRateLimitExceededException e) {
+            securityEventLog.record(SecurityEvent.passwordResetRequest(contact, deliveryMethod, e));
+        } catch (RuntimeException e) {
+            securityEventLog.record(SecurityEvent.passwordResetRequest(contact, deliveryMethod, e));
+            throw e;
         }
     }
 
@@ -88,7 +112,7 @@ public class PasswordResetService {
             throw new InvalidOtpCodeException(contact);
         }
 
-        CustomerAccount account = findAccountByIdentifier(contact);
+        CustomerAccount account = findAccountByContact(contact, deliveryMethod);
         OffsetDateTime expiresAt = OffsetDateTime.now().plusMinutes(TOKEN_EXPIRY_MINUTES);
 
         try {
@@ -108,26 +132,37 @@ public class PasswordResetService {
      */
     @Transactional
     public void resetPassword(String tokenString, String newPassword) {
-        DataValidator.validatePassword(newPassword, "newPassword");
+        Long accountId = null;
+        try {
+            DataValidator.validatePassword(newPassword, "newPassword");
 
-        PasswordResetToken token = passwordResetTokenService.findByToken(tokenString);
-        PasswordResetErrorMapper.validateTokenState(token);
+            PasswordResetToken token = passwordResetTokenService.findByToken(tokenString);
+            // Known before the state check, so attempts with expired or used tokens are attributed too
+            accountId = token.getCustomerAccount().getId();
+            PasswordResetErrorMapper.validateTokenState(token);
 
-        CustomerAccount account = token.getCustomerAccount();
-        customerAccountService.updatePassword(account.getId(), newPassword);
+            customerAccountService.updatePassword(accountId, newPassword);
 
-        passwordResetTokenService.markTokenAsUsed(token);
+            passwordResetTokenService.markTokenAsUsed(token);
+            securityEventLog.record(SecurityEvent.passwordReset(accountId, null));
+        } catch (RuntimeException e) {
+            securityEventLog.record(SecurityEvent.passwordReset(accountId, e));
+            throw e;
+        }
     }
 
     /**
-     * Finds a customer account by their username, which could be an email or phone number.
+     * Finds a customer account by the contact the reset code is delivered to.
      *
-     * @param identifier The email or phone number.
+     * @param contact The email or phone number.
+     * @param deliveryMethod EMAIL for an email address, SMS for a phone number.
      * @return The found CustomerAccount.
      */
-    private CustomerAccount findAccountByIdentifier(String identifier) {
-        // The username field in the customer_accounts table is populated by a trigger
-        // with either the email or phone number, so we can use findByUsername for both.
-        return customerAccountService.findByUsername(identifier);
+    private CustomerAccount findAccountByContact(String contact, OtpDeliveryMethod deliveryMethod) {
+        // Resolved through the shared contact cache, which the OTP lookups of the same flow also use
+        if (deliveryMethod == OtpDeliveryMethod.EMAIL) {
+            return customerAccountService.findByEmailAddress(contact);
+        }
+        return customerAccountService.findByPhoneNumber(contact);
     }
 }
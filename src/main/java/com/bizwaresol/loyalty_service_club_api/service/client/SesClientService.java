@@ -3,12 +3,16 @@ package com.bizwaresol.loyalty_service_club_api.service.client;
 import com.bizwaresol.loyalty_service_club_api.client.aws.ses.SesClient;
 import com.bizwaresol.loyalty_service_club_api.client.aws.ses.dto.request.SesEmailRequest;
 import com.bizwaresol.loyalty_service_club_api.client.aws.ses.dto.response.SesEmailResponse;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
 import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidEmailFormatException;
+import com.bizwaresol.loyalty_service_club_api.metrics.AwsClientMetrics;
 import com.bizwaresol.loyalty_service_club_api.util.mappers.AwsErrorMapper;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.util.regex.Pattern;
@@ -17,6 +21,7 @@ import java.util.regex.Pattern;
 public class SesClientService {
 
     private final SesClient sesClient;
+    private final AwsClientMetrics awsClientMetrics;
 
     // AWS SES limits
     private static final int MAX_EMAIL_LENGTH = 320; // RFC 5321 limit
@@ -24,8 +29,10 @@ public class SesClientService {
     private static final int MAX_MESSAGE_SIZE = 10 * 1024 * 1024; // 10MB AWS SES limit
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
 
-    public SesClientService(SesClient sesClient) {
+    // Lazy: the AWS SDK client is built on the first send, not during startup
+    public SesClientService(@Lazy SesClient sesClient, AwsClientMetrics awsClientMetrics) {
         this.sesClient = sesClient;
+        this.awsClientMetrics = awsClientMetrics;
     }
 
     /**
@@ -37,10 +44,15 @@ public class SesClientService {
     public SesEmailResponse sendEmail(SesEmailRequest request) throws ServiceException {
         validateEmailRequest(request);
 
+        Timer.Sample sample = awsClientMetrics.start();
         try {
-            return sesClient.sendEmail(request);
+            SesEmailResponse response = sesClient.sendEmail(request);
+            awsClientMetrics.record(sample, MetricNames.SERVICE_SES, MetricNames.OPERATION_SEND_EMAIL, null);
+            return response;
         } catch (Exception e) {
-            throw AwsErrorMapper.mapException(e);
+            ServiceException mapped = AwsErrorMapper.mapException(e);
+            awsClientMetrics.record(sample, MetricNames.SERVICE_SES, MetricNames.OPERATION_SEND_EMAIL, mapped);
+            throw mapped;
         }
     }
 
@@ -3,12 +3,16 @@ package com.bizwaresol.loyalty_service_club_api.service.client;
 import com.bizwaresol.loyalty_service_club_api.client.aws.sns.SnsClient;
 import com.bizwaresol.loyalty_service_club_api.client.aws.sns.dto.request.SnsMessageRequest;
 import com.bizwaresol.loyalty_service_club_api.client.aws.sns.dto.response.SnsMessageResponse;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
 import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidPhoneFormatException;
+import com.bizwaresol.loyalty_service_club_api.metrics.AwsClientMetrics;
 import com.bizwaresol.loyalty_service_club_api.util.mappers.AwsErrorMapper;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -19,6 +23,7 @@ import java.util.regex.Pattern;
 public class SnsClientService {
 
     private final SnsClient snsClient;
+    private final AwsClientMetrics awsClientMetrics;
 
     // AWS SNS SMS limits
     private static final int MAX_SMS_LENGTH = 1600; // AWS SNS limit
@@ -27,8 +32,10 @@ public class SnsClientService {
     private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+[1-9]\\d{1,14}$"); // E.164 format
     private static final Pattern PRICE_PATTERN = Pattern.compile("^\\d+(\\.\\d{2})?$"); // USD format
 
-    public SnsClientService(SnsClient snsClient) {
+    // Lazy: the AWS SDK client is built on the first send, not during startup
+    public SnsClientService(@Lazy SnsClient snsClient, AwsClientMetrics awsClientMetrics) {
         this.snsClient = snsClient;
+        this.awsClientMetrics = awsClientMetrics;
     }
 
     /**
@@ -40,10 +47,15 @@ public class SnsClientService {
     public SnsMessageResponse sendMessage(SnsMessageRequest request) throws ServiceException {
         validateSmsRequest(request);
 
+        Timer.Sample sample = awsClientMetrics.start();
         try {
-            return snsClient.sendMessage(request);
+            SnsMessageResponse response = snsClient.sendMessage(request);
+            awsClientMetrics.record(sample, MetricNames.SERVICE_SNS, MetricNames.OPERATION_PUBLISH, null);
+            return response;
         } catch (Exception e) {
-            throw AwsErrorMapper.mapException(e);
+            ServiceException mapped = AwsErrorMapper.mapException(e);
+            awsClientMetrics.record(sample, MetricNames.SERVICE_SNS, MetricNames.OPERATION_PUBLISH, mapped);
+            throw mapped;
         }
     }
 
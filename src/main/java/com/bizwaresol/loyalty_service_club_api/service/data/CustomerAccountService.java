@@ -1,10 +1,14 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactResolver;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerAccountRepository;
+import com.bizwaresol.loyalty_service_club_api.data.repository.lookup.AccountReadModelRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
-import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.CustomerContactLookup;
-import com.bizwaresol.loyalty_service_club_api.data.repository.lookup.CustomerContactLookupRepository;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.AccountReadModel;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
 import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
@@ -14,31 +18,45 @@ import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMappe
 
 // JavaDoc exception imports
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.security.PasswordValidationException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidPhoneFormatException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidEmailFormatException;
+import com.bizwaresol.loyalty_service_club_api.exception.system.database.OptimisticLockingException;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CustomerAccountService {
 
     private final CustomerAccountRepository customerAccountRepository;
+    private final AccountReadModelRepository accountReadModelRepository;
     private final PasswordEncoder passwordEncoder;
-    private final CustomerContactLookupRepository customerContactLookupRepository;
+    private final ContactResolver contactResolver;
+    private final ContactCacheEvictor contactCacheEvictor;
+    private final EntityManager entityManager;
 
-    public CustomerAccountService(CustomerAccountRepository customerAccountRepository, CustomerContactLookupRepository customerContactLookupRepository, PasswordEncoder passwordEncoder) {
+    public CustomerAccountService(CustomerAccountRepository customerAccountRepository, AccountReadModelRepository accountReadModelRepository, ContactResolver contactResolver, ContactCacheEvictor contactCacheEvictor, PasswordEncoder passwordEncoder, EntityManager entityManager) {
         this.customerAccountRepository = customerAccountRepository;
+        this.accountReadModelRepository = accountReadModelRepository;
+        this.entityManager = entityManager;
         this.passwordEncoder = passwordEncoder;
-        this.customerContactLookupRepository = customerContactLookupRepository;
+        this.contactResolver = contactResolver;
+        this.contactCacheEvictor = contactCacheEvictor;
     }
 
     // ===== CREATE OPERATIONS =====
@@ -338,13 +356,207 @@ public class CustomerAccountService {
         }
     }
 
+    // ===== READ MODEL QUERIES =====
+    // Answered from account_read_model, which the V257 triggers keep current, instead of evaluating the
+    // customer_verification_data and account_activity_data views for every account
+
+    /**
+     * Counts accounts by the verification status their verified contacts qualify for
+     * @param calculatedStatus the calculated verification status to count
+     * @return number of accounts with that calculated status
+     * @throws NullFieldException if calculatedStatus is null
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public long countByCalculatedStatus(CustomerAccountVerificationStatus calculatedStatus) throws ServiceException {
+        DataValidator.checkNotNull(calculatedStatus, "calculatedStatus");
+
+        try {
+            return accountReadModelRepository.countByCalculatedStatus(calculatedStatus);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Counts accounts by activity status
+     * @param activityStatus the activity status to count
+     * @return number of accounts with that activity status
+     * @throws NullFieldException if activityStatus is null
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public long countByActivityStatus(CustomerAccountActivityStatus activityStatus) throws ServiceException {
+        DataValidator.checkNotNull(activityStatus, "activityStatus");
+
+        try {
+            return accountReadModelRepository.countByActivityStatus(activityStatus);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Counts accounts with the given activity status whose last login is before the specified date
+     * Accounts that have never logged in are not counted
+     * @param activityStatus the activity status to count
+     * @param date the date to compare last login against
+     * @return number of matching accounts
+     * @throws NullFieldException if activityStatus or date is null
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public long countByActivityStatusWithLastLoginBefore(CustomerAccountActivityStatus activityStatus, OffsetDateTime date) throws ServiceException {
+        DataValidator.checkNotNull(activityStatus, "activityStatus");
+        DataValidator.checkNotNull(date, "date");
+
+        try {
+            return accountReadModelRepository.countByActivityStatusAndLastLoginAtBefore(activityStatus, date);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Retrieves the accounts whose stored verification status differs from the one their contacts qualify for
+     * @return list of AccountReadModel rows with status_needs_update set
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<AccountReadModel> findAccountsWithStaleVerificationStatus() throws ServiceException {
+        try {
+            return accountReadModelRepository.findByStatusNeedsUpdateTrue();
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    // ===== KEYSET PAGED AND STREAMED READS =====
+
+    /**
+     * Retrieves one keyset page of all customer accounts ordered by ID
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize CustomerAccount entities with ID greater than afterId
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerAccount> getAccountsPage(Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return customerAccountRepository.findPageAfter(afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams all customer accounts ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow; the customer is loaded with each account
+     * @return stream of CustomerAccount entities
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<CustomerAccount> streamAllAccounts() throws ServiceException {
+        try {
+            return customerAccountRepository.streamAll().map(this::detach);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Retrieves one keyset page of accounts with the given activity status ordered by ID
+     * @param activityStatus the activity status to search for
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize CustomerAccount entities with ID greater than afterId
+     * @throws NullFieldException if activityStatus is null
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerAccount> findByActivityStatusPage(CustomerAccountActivityStatus activityStatus, Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkNotNull(activityStatus, "activityStatus");
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return customerAccountRepository.findPageByActivityStatusAfter(activityStatus, afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams accounts with the given activity status ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow; the customer is loaded with each account
+     * @param activityStatus the activity status to search for
+     * @return stream of CustomerAccount entities
+     * @throws NullFieldException if activityStatus is null
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<CustomerAccount> streamByActivityStatus(CustomerAccountActivityStatus activityStatus) throws ServiceException {
+        DataValidator.checkNotNull(activityStatus, "activityStatus");
+
+        try {
+            return customerAccountRepository.streamByActivityStatus(activityStatus).map(this::detach);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Retrieves one keyset page of accounts that have never logged in ordered by ID
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize CustomerAccount entities with ID greater than afterId
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerAccount> findAccountsWithNoLoginPage(Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return customerAccountRepository.findPageWithNoLoginAfter(afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams accounts that have never logged in ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow; the customer is loaded with each account
+     * @return stream of CustomerAccount entities
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<CustomerAccount> streamAccountsWithNoLogin() throws ServiceException {
+        try {
+            return customerAccountRepository.streamWithNoLogin().map(this::detach);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
     // ===== UPDATE OPERATIONS =====
 
+    // Single-field updates are targeted UPDATE statements: no read, only the changed columns are written,
+    // and the version is bumped so a concurrent saveAccount() of a stale entity fails instead of overwriting.
+    // The UPDATE bypasses the persistence context, so an account this transaction already holds is refreshed;
+    // the rest of the persistence context is left alone
+
     /**
      * Updates account password
      * @param accountId the ID of the account to update
      * @param newRawPassword the new raw password to hash and store
-     * @return the updated CustomerAccount entity
+     * @return number of updated rows (1)
      * @throws NullFieldException if accountId or newRawPassword is null
      * @throws EmptyFieldException if newRawPassword is empty
      * @throws FieldTooShortException if newRawPassword is too short
@@ -354,124 +566,96 @@ public class CustomerAccountService {
      * @throws ServiceException if repository operation fails
      */
     @Transactional
-    public CustomerAccount updatePassword(Long accountId, String newRawPassword) throws ServiceException {
+    public int updatePassword(Long accountId, String newRawPassword) throws ServiceException {
         DataValidator.checkNotNull(accountId, "accountId");
         DataValidator.validatePassword(newRawPassword, "newRawPassword");
 
-        CustomerAccount customerAccount;
+        int updated;
         try {
-            customerAccount = customerAccountRepository.findById(accountId)
-                    .orElseThrow(() -> new CustomerAccountNotFoundException(accountId));
-        } catch (CustomerAccountNotFoundException e) {
-            throw e;
+            updated = customerAccountRepository.updatePassword(accountId, passwordEncoder.encode(newRawPassword), OffsetDateTime.now());
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
 
-        try {
-            customerAccount.setPassword(passwordEncoder.encode(newRawPassword));
-            customerAccount.setLastModifiedDate(OffsetDateTime.now());
-            return customerAccountRepository.save(customerAccount);
-        } catch (Exception e) {
-            throw RepositoryErrorMapper.mapException(e);
-        }
+        requireUpdated(updated, accountId);
+        refreshIfManaged(accountId);
+        return updated;
     }
 
     /**
      * Updates account activity status
      * @param accountId the ID of the account to update
      * @param activityStatus the new activity status
-     * @return the updated CustomerAccount entity
+     * @return number of updated rows (1)
      * @throws NullFieldException if accountId or activityStatus is null
      * @throws CustomerAccountNotFoundException if account with given ID doesn't exist
      * @throws ServiceException if repository operation fails
      */
     @Transactional
-    public CustomerAccount updateActivityStatus(Long accountId, CustomerAccountActivityStatus activityStatus) throws ServiceException {
+    public int updateActivityStatus(Long accountId, CustomerAccountActivityStatus activityStatus) throws ServiceException {
         DataValidator.checkNotNull(accountId, "accountId");
         DataValidator.checkNotNull(activityStatus, "activityStatus");
 
-        CustomerAccount customerAccount;
+        int updated;
         try {
-            customerAccount = customerAccountRepository.findById(accountId)
-                    .orElseThrow(() -> new CustomerAccountNotFoundException(accountId));
-        } catch (CustomerAccountNotFoundException e) {
-            throw e;
+            updated = customerAccountRepository.updateActivityStatus(accountId, activityStatus, OffsetDateTime.now());
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
 
-        try {
-            customerAccount.setActivityStatus(activityStatus);
-            customerAccount.setLastModifiedDate(OffsetDateTime.now());
-            return customerAccountRepository.save(customerAccount);
-        } catch (Exception e) {
-            throw RepositoryErrorMapper.mapException(e);
-        }
+        requireUpdated(updated, accountId);
+        refreshIfManaged(accountId);
+        return updated;
     }
 
     /**
      * Updates account verification status
      * @param accountId the ID of the account to update
      * @param verificationStatus the new verification status
-     * @return the updated CustomerAccount entity
+     * @return number of updated rows (1)
      * @throws NullFieldException if accountId or verificationStatus is null
      * @throws CustomerAccountNotFoundException if account with given ID doesn't exist
      * @throws ServiceException if repository operation fails
      */
     @Transactional
-    public CustomerAccount updateVerificationStatus(Long accountId, CustomerAccountVerificationStatus verificationStatus) throws ServiceException {
+    public int updateVerificationStatus(Long accountId, CustomerAccountVerificationStatus verificationStatus) throws ServiceException {
         DataValidator.checkNotNull(accountId, "accountId");
         DataValidator.checkNotNull(verificationStatus, "verificationStatus");
 
-        CustomerAccount customerAccount;
+        int updated;
         try {
-            customerAccount = customerAccountRepository.findById(accountId)
-                    .orElseThrow(() -> new CustomerAccountNotFoundException(accountId));
-        } catch (CustomerAccountNotFoundException e) {
-            throw e;
+            updated = customerAccountRepository.updateVerificationStatus(accountId, verificationStatus, OffsetDateTime.now());
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
 
-        try {
-            customerAccount.setVerificationStatus(verificationStatus);
-            customerAccount.setLastModifiedDate(OffsetDateTime.now());
-            return customerAccountRepository.save(customerAccount);
-        } catch (Exception e) {
-            throw RepositoryErrorMapper.mapException(e);
-        }
+        requireUpdated(updated, accountId);
+        refreshIfManaged(accountId);
+        return updated;
     }
 
     /**
      * Updates last login time to current time
      * @param accountId the ID of the account to update
-     * @return the updated CustomerAccount entity
+     * @return number of updated rows (1)
      * @throws NullFieldException if accountId is null
      * @throws CustomerAccountNotFoundException if account with given ID doesn't exist
      * @throws ServiceException if repository operation fails
      */
     @Transactional
-    public CustomerAccount updateLastLoginTime(Long accountId) throws ServiceException {
+    public int updateLastLoginTime(Long accountId) throws ServiceException {
         DataValidator.checkNotNull(accountId, "accountId");
 
-        CustomerAccount customerAccount;
+        int updated;
         try {
-            customerAccount = customerAccountRepository.findById(accountId)
-                    .orElseThrow(() -> new CustomerAccountNotFoundException(accountId));
-        } catch (CustomerAccountNotFoundException e) {
-            throw e;
+            updated = customerAccountRepository.updateLastLoginAt(accountId, OffsetDateTime.now());
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
 
-        try {
-            customerAccount.setLastLoginAt(OffsetDateTime.now());
-            customerAccount.setLastModifiedDate(OffsetDateTime.now());
-            return customerAccountRepository.save(customerAccount);
-        } catch (Exception e) {
-            throw RepositoryErrorMapper.mapException(e);
-        }
+        requireUpdated(updated, accountId);
+        refreshIfManaged(accountId);
+        return updated;
     }
 
     /**
@@ -479,6 +663,7 @@ public class CustomerAccountService {
      * @param customerAccount the account entity to save
      * @return the saved CustomerAccount entity
      * @throws NullFieldException if customerAccount is null
+     * @throws OptimisticLockingException if the account was changed since the entity was read
      * @throws ServiceException if repository operation fails
      */
     @Transactional
@@ -487,7 +672,11 @@ public class CustomerAccountService {
 
         try {
             customerAccount.setLastModifiedDate(OffsetDateTime.now());
-            return customerAccountRepository.save(customerAccount);
+            CustomerAccount saved = customerAccountRepository.save(customerAccount);
+            if (customerAccount.getId() != null) {
+                contactCacheEvictor.evictAccountResolution(customerAccount.getId());
+            }
+            return saved;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -518,6 +707,7 @@ public class CustomerAccountService {
 
         try {
             customerAccountRepository.deleteById(accountId);
+            contactCacheEvictor.evictAccountResolution(accountId);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -535,13 +725,16 @@ public class CustomerAccountService {
 
         try {
             customerAccountRepository.delete(customerAccount);
+            if (customerAccount.getId() != null) {
+                contactCacheEvictor.evictAccountResolution(customerAccount.getId());
+            }
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
     }
 
     /**
-     * Finds an account by phone number using optimized lookup
+     * Finds an account by any of its customer's phone numbers, resolved through the contact cache
      * @param phone the phone number to search for
      * @return the CustomerAccount entity
      * @throws NullFieldException if phone is null
@@ -557,10 +750,40 @@ public class CustomerAccountService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            CustomerContactLookup contactInfo = customerContactLookupRepository.findByPhone(phone.trim())
+            Long accountId = contactResolver.resolvePhone(phone)
+                    .map(ResolvedContact::accountId)
                     .orElseThrow(() -> new CustomerAccountNotFoundException("No customer account found with phone: " + phone));
 
-            return findById(contactInfo.getCustomerId());
+            return findById(accountId);
+        } catch (CustomerAccountNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Finds an account by any of its customer's email addresses, resolved through the contact cache
+     * @param email the email address to search for
+     * @return the CustomerAccount entity
+     * @throws NullFieldException if email is null
+     * @throws EmptyFieldException if email is empty
+     * @throws FieldTooShortException if email is too short
+     * @throws FieldTooLongException if email is too long
+     * @throws InvalidEmailFormatException if email format is invalid
+     * @throws CustomerAccountNotFoundException if account doesn't exist
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public CustomerAccount findByEmailAddress(String email) throws ServiceException {
+        DataValidator.validateEmail(email, "email");
+
+        try {
+            Long accountId = contactResolver.resolveEmail(email)
+                    .map(ResolvedContact::accountId)
+                    .orElseThrow(() -> new CustomerAccountNotFoundException("No customer account found with email: " + email));
+
+            return findById(accountId);
         } catch (CustomerAccountNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -583,4 +806,26 @@ public class CustomerAccountService {
 
         return passwordEncoder.matches(rawPassword, hashedPassword);
     }
-}
\ No newline at end of file
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private CustomerAccount detach(CustomerAccount account) {
+        entityManager.detach(account.getCustomer());
+        entityManager.detach(account);
+        return account;
+    }
+
+    private void refreshIfManaged(Long accountId) {
+        // getReference returns the managed instance when there is one, otherwise an uninitialized proxy
+        CustomerAccount account = entityManager.getReference(CustomerAccount.class, accountId);
+        if (Hibernate.isInitialized(account)) {
+            entityManager.refresh(account);
+        }
+    }
+
+    private void requireUpdated(int updated, Long accountId) {
+        if (updated == 0) {
+            throw new CustomerAccountNotFoundException(accountId);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
@@ -10,26 +12,37 @@ import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMappe
 
 // JavaDoc exception imports
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidEmailFormatException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.BusinessEmailNotAllowedException;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CustomerEmailService {
 
     private final CustomerEmailRepository customerEmailRepository;
+    private final EntityManager entityManager;
+    private final ContactCacheEvictor contactCacheEvictor;
 
-    public CustomerEmailService(CustomerEmailRepository customerEmailRepository) {
+    public CustomerEmailService(CustomerEmailRepository customerEmailRepository, EntityManager entityManager,
+                               ContactCacheEvictor contactCacheEvictor) {
         this.customerEmailRepository = customerEmailRepository;
+        this.entityManager = entityManager;
+        this.contactCacheEvictor = contactCacheEvictor;
     }
 
     // ===== CREATE OPERATIONS =====
@@ -53,7 +66,7 @@ public class CustomerEmailService {
 
         try {
             CustomerEmail customerEmail = new CustomerEmail();
-            customerEmail.setEmail(email.trim().toLowerCase());
+            customerEmail.setEmail(email.trim().toLowerCase(Locale.ROOT));
             customerEmail.setVerified(false);
             customerEmail.setCreatedDate(OffsetDateTime.now());
             customerEmail.setLastModifiedDate(OffsetDateTime.now());
@@ -119,7 +132,7 @@ public class CustomerEmailService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            return customerEmailRepository.findByEmail(email.trim().toLowerCase())
+            return customerEmailRepository.findByEmail(email.trim().toLowerCase(Locale.ROOT))
                     .orElseThrow(() -> new EmailNotFoundException(email));
         } catch (EmailNotFoundException e) {
             throw e;
@@ -232,7 +245,44 @@ public class CustomerEmailService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            return customerEmailRepository.existsByEmail(email.trim().toLowerCase());
+            return customerEmailRepository.existsByEmail(email.trim().toLowerCase(Locale.ROOT));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    // ===== KEYSET PAGED AND STREAMED READS =====
+
+    /**
+     * Retrieves one keyset page of verified customer emails ordered by ID
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize CustomerEmail entities with ID greater than afterId
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerEmail> getVerifiedEmailsPage(Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return customerEmailRepository.findByVerifiedAndIdGreaterThanOrderByIdAsc(true, afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams verified customer emails ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow
+     * @return stream of CustomerEmail entities
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<CustomerEmail> streamVerifiedEmails() throws ServiceException {
+        try {
+            return customerEmailRepository.streamByVerified(true).map(this::detach);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -271,10 +321,12 @@ public class CustomerEmailService {
         }
 
         try {
-            customerEmail.setEmail(newEmail.trim().toLowerCase());
+            customerEmail.setEmail(newEmail.trim().toLowerCase(Locale.ROOT));
             customerEmail.setVerified(false);
             customerEmail.setLastModifiedDate(OffsetDateTime.now());
-            return customerEmailRepository.save(customerEmail);
+            CustomerEmail updated = customerEmailRepository.save(customerEmail);
+            contactCacheEvictor.evictEmailResolution(emailId);
+            return updated;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -325,7 +377,11 @@ public class CustomerEmailService {
 
         try {
             customerEmail.setLastModifiedDate(OffsetDateTime.now());
-            return customerEmailRepository.save(customerEmail);
+            CustomerEmail saved = customerEmailRepository.save(customerEmail);
+            if (customerEmail.getId() != null) {
+                contactCacheEvictor.evictEmailResolution(customerEmail.getId());
+            }
+            return saved;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -357,6 +413,7 @@ public class CustomerEmailService {
 
         try {
             customerEmailRepository.deleteById(emailId);
+            contactCacheEvictor.evictEmailResolution(emailId);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -374,6 +431,9 @@ public class CustomerEmailService {
 
         try {
             customerEmailRepository.delete(customerEmail);
+            if (customerEmail.getId() != null) {
+                contactCacheEvictor.evictEmailResolution(customerEmail.getId());
+            }
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -396,7 +456,7 @@ public class CustomerEmailService {
 
         CustomerEmail customerEmail;
         try {
-            customerEmail = customerEmailRepository.findByEmail(email.trim().toLowerCase())
+            customerEmail = customerEmailRepository.findByEmail(email.trim().toLowerCase(Locale.ROOT))
                     .orElseThrow(() -> new EmailNotFoundException(email));
         } catch (EmailNotFoundException e) {
             throw e;
@@ -406,8 +466,18 @@ public class CustomerEmailService {
 
         try {
             customerEmailRepository.delete(customerEmail);
+            if (customerEmail.getId() != null) {
+                contactCacheEvictor.evictEmailResolution(customerEmail.getId());
+            }
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
     }
-}
\ No newline at end of file
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private CustomerEmail detach(CustomerEmail email) {
+        entityManager.detach(email);
+        return email;
+    }
+}
@@ -1,5 +1,7 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerPhoneRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
 import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
@@ -10,25 +12,35 @@ import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMappe
 
 // JavaDoc exception imports
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidPhoneFormatException;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CustomerPhoneService {
 
     private final CustomerPhoneRepository customerPhoneRepository;
+    private final EntityManager entityManager;
+    private final ContactCacheEvictor contactCacheEvictor;
 
-    public CustomerPhoneService(CustomerPhoneRepository customerPhoneRepository) {
+    public CustomerPhoneService(CustomerPhoneRepository customerPhoneRepository, EntityManager entityManager,
+                               ContactCacheEvictor contactCacheEvictor) {
         this.customerPhoneRepository = customerPhoneRepository;
+        this.entityManager = entityManager;
+        this.contactCacheEvictor = contactCacheEvictor;
     }
 
     // ===== CREATE OPERATIONS =====
@@ -236,6 +248,43 @@ public class CustomerPhoneService {
         }
     }
 
+    // ===== KEYSET PAGED AND STREAMED READS =====
+
+    /**
+     * Retrieves one keyset page of unverified customer phones ordered by ID
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize CustomerPhone entities with ID greater than afterId
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerPhone> getUnverifiedPhonesPage(Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return customerPhoneRepository.findByVerifiedAndIdGreaterThanOrderByIdAsc(false, afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams unverified customer phones ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow
+     * @return stream of CustomerPhone entities
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<CustomerPhone> streamUnverifiedPhones() throws ServiceException {
+        try {
+            return customerPhoneRepository.streamByVerified(false).map(this::detach);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
     // ===== UPDATE OPERATIONS =====
 
     /**
@@ -271,7 +320,9 @@ public class CustomerPhoneService {
             customerPhone.setPhone(newPhone.trim());
             customerPhone.setVerified(false);
             customerPhone.setLastModifiedDate(OffsetDateTime.now());
-            return customerPhoneRepository.save(customerPhone);
+            CustomerPhone updated = customerPhoneRepository.save(customerPhone);
+            contactCacheEvictor.evictPhoneResolution(phoneId);
+            return updated;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -322,7 +373,11 @@ public class CustomerPhoneService {
 
         try {
             customerPhone.setLastModifiedDate(OffsetDateTime.now());
-            return customerPhoneRepository.save(customerPhone);
+            CustomerPhone saved = customerPhoneRepository.save(customerPhone);
+            if (customerPhone.getId() != null) {
+                contactCacheEvictor.evictPhoneResolution(customerPhone.getId());
+            }
+            return saved;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -354,6 +409,7 @@ public class CustomerPhoneService {
 
         try {
             customerPhoneRepository.deleteById(phoneId);
+            contactCacheEvictor.evictPhoneResolution(phoneId);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -371,6 +427,9 @@ public class CustomerPhoneService {
 
         try {
             customerPhoneRepository.delete(customerPhone);
+            if (customerPhone.getId() != null) {
+                contactCacheEvictor.evictPhoneResolution(customerPhone.getId());
+            }
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -403,8 +462,18 @@ public class CustomerPhoneService {
 
         try {
             customerPhoneRepository.delete(customerPhone);
+            if (customerPhone.getId() != null) {
+                contactCacheEvictor.evictPhoneResolution(customerPhone.getId());
+            }
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
     }
-}
\ No newline at end of file
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private CustomerPhone detach(CustomerPhone phone) {
+        entityManager.detach(phone);
+        return phone;
+    }
+}
@@ -1,5 +1,7 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
@@ -11,25 +13,35 @@ import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMappe
 
 // JavaDoc exception imports
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.InvalidCharacterException;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final EntityManager entityManager;
+    private final ContactCacheEvictor contactCacheEvictor;
 
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository, EntityManager entityManager,
+                           ContactCacheEvictor contactCacheEvictor) {
         this.customerRepository = customerRepository;
+        this.entityManager = entityManager;
+        this.contactCacheEvictor = contactCacheEvictor;
     }
 
     // ===== CREATE OPERATIONS =====
@@ -267,6 +279,43 @@ public class CustomerService {
         }
     }
 
+    // ===== KEYSET PAGED AND STREAMED READS =====
+
+    /**
+     * Retrieves one keyset page of all customers ordered by ID
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize Customer entities with ID greater than afterId
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<Customer> getCustomersPage(Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return customerRepository.findPageAfter(afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams all customers ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow; the account is loaded with each customer
+     * @return stream of Customer entities
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<Customer> streamAllCustomers() throws ServiceException {
+        try {
+            return customerRepository.streamAll().map(this::detach);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
     // ===== UPDATE OPERATIONS =====
 
     /**
@@ -335,7 +384,12 @@ public class CustomerService {
         try {
             customer.setEmail(customerEmail);
             customer.setLastModifiedDate(OffsetDateTime.now());
-            return customerRepository.save(customer);
+            Customer updated = customerRepository.save(customer);
+            contactCacheEvictor.evictCustomerResolution(customerId);
+            if (customerEmail != null && customerEmail.getId() != null) {
+                contactCacheEvictor.evictEmailResolution(customerEmail.getId());
+            }
+            return updated;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -367,7 +421,12 @@ public class CustomerService {
         try {
             customer.setPhone(customerPhone);
             customer.setLastModifiedDate(OffsetDateTime.now());
-            return customerRepository.save(customer);
+            Customer updated = customerRepository.save(customer);
+            contactCacheEvictor.evictCustomerResolution(customerId);
+            if (customerPhone != null && customerPhone.getId() != null) {
+                contactCacheEvictor.evictPhoneResolution(customerPhone.getId());
+            }
+            return updated;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -386,7 +445,11 @@ public class CustomerService {
 
         try {
             customer.setLastModifiedDate(OffsetDateTime.now());
-            return customerRepository.save(customer);
+            Customer saved = customerRepository.save(customer);
+            if (customer.getId() != null) {
+                contactCacheEvictor.evictCustomerResolution(customer.getId());
+            }
+            return saved;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -417,6 +480,7 @@ public class CustomerService {
 
         try {
             customerRepository.deleteById(customerId);
+            contactCacheEvictor.evictCustomerResolution(customerId);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -434,8 +498,21 @@ public class CustomerService {
 
         try {
             customerRepository.delete(customer);
+            if (customer.getId() != null) {
+                contactCacheEvictor.evictCustomerResolution(customer.getId());
+            }
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
     }
-}
\ No newline at end of file
+
+    // ===== PRIVATE HELPER METHODS =====
+
+    private Customer detach(Customer customer) {
+        if (customer.getAccount() != null) {
+            entityManager.detach(customer.getAccount());
+        }
+        entityManager.detach(customer);
+        return customer;
+    }
+}
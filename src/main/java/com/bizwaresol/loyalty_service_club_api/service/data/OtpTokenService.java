@@ -1,5 +1,7 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.constant.PaginationConstants;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactResolver;
 import com.bizwaresol.loyalty_service_club_api.data.repository.OtpTokenRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
@@ -13,26 +15,36 @@ import com.bizwaresol.loyalty_service_club_api.util.mappers.RepositoryErrorMappe
 
 // JavaDoc exception imports
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidOtpFormatException;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class OtpTokenService {
 
     private final OtpTokenRepository otpTokenRepository;
+    private final EntityManager entityManager;
+    private final ContactResolver contactResolver;
 
-    public OtpTokenService(OtpTokenRepository otpTokenRepository) {
+    public OtpTokenService(OtpTokenRepository otpTokenRepository, EntityManager entityManager,
+                           ContactResolver contactResolver) {
         this.otpTokenRepository = otpTokenRepository;
+        this.entityManager = entityManager;
+        this.contactResolver = contactResolver;
     }
 
     // ===== CREATE OPERATIONS =====
@@ -140,8 +152,9 @@ public class OtpTokenService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            return otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                            otpCode.trim(), email.trim(), OtpPurpose.EMAIL_VERIFICATION, OffsetDateTime.now(), 3)
+            return contactResolver.resolveEmail(email)
+                    .flatMap(contact -> otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                            otpCode.trim(), contact.contactId(), OtpPurpose.EMAIL_VERIFICATION, OffsetDateTime.now(), 3))
                     .orElseThrow(() -> new OtpTokenNotFoundException(otpCode));
         } catch (OtpTokenNotFoundException e) {
             throw e;
@@ -163,7 +176,8 @@ public class OtpTokenService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            return otpTokenRepository.findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(email.trim(), OtpPurpose.EMAIL_VERIFICATION);
+            return contactResolver.resolveEmail(email)
+                    .flatMap(contact -> otpTokenRepository.findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(contact.contactId(), OtpPurpose.EMAIL_VERIFICATION));
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -184,7 +198,9 @@ public class OtpTokenService {
         DataValidator.checkNotNull(since, "since");
 
         try {
-            return otpTokenRepository.countByCustomerEmailEmailAndPurposeAndCreatedDateAfter(email.trim(), OtpPurpose.EMAIL_VERIFICATION, since);
+            return contactResolver.resolveEmail(email)
+                    .map(contact -> otpTokenRepository.countByCustomerEmailIdAndPurposeAndCreatedDateAfter(contact.contactId(), OtpPurpose.EMAIL_VERIFICATION, since))
+                    .orElse(0L);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -203,13 +219,12 @@ public class OtpTokenService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            List<OtpToken> activeOtps = otpTokenRepository.findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(
-                    email.trim(), OtpPurpose.EMAIL_VERIFICATION);
+            List<OtpToken> activeOtps = contactResolver.resolveEmail(email)
+                    .map(contact -> otpTokenRepository.findByCustomerEmailIdAndPurposeAndUsedAtIsNull(
+                            contact.contactId(), OtpPurpose.EMAIL_VERIFICATION))
+                    .orElse(List.of());
 
-            if (!activeOtps.isEmpty()) {
-                return otpTokenRepository.markOtpsAsUsed(activeOtps, OffsetDateTime.now());
-            }
-            return 0;
+            return markAsUsed(activeOtps);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -234,8 +249,9 @@ public class OtpTokenService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            return otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                            otpCode.trim(), phone.trim(), OtpPurpose.PHONE_VERIFICATION, OffsetDateTime.now(), 3)
+            return contactResolver.resolvePhone(phone)
+                    .flatMap(contact -> otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                            otpCode.trim(), contact.contactId(), OtpPurpose.PHONE_VERIFICATION, OffsetDateTime.now(), 3))
                     .orElseThrow(() -> new OtpTokenNotFoundException(otpCode));
         } catch (OtpTokenNotFoundException e) {
             throw e;
@@ -257,7 +273,8 @@ public class OtpTokenService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            return otpTokenRepository.findTopByCustomerPhonePhoneAndPurposeOrderByCreatedDateDesc(phone.trim(), OtpPurpose.PHONE_VERIFICATION);
+            return contactResolver.resolvePhone(phone)
+                    .flatMap(contact -> otpTokenRepository.findTopByCustomerPhoneIdAndPurposeOrderByCreatedDateDesc(contact.contactId(), OtpPurpose.PHONE_VERIFICATION));
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -278,7 +295,9 @@ public class OtpTokenService {
         DataValidator.checkNotNull(since, "since");
 
         try {
-            return otpTokenRepository.countByCustomerPhonePhoneAndPurposeAndCreatedDateAfter(phone.trim(), OtpPurpose.PHONE_VERIFICATION, since);
+            return contactResolver.resolvePhone(phone)
+                    .map(contact -> otpTokenRepository.countByCustomerPhoneIdAndPurposeAndCreatedDateAfter(contact.contactId(), OtpPurpose.PHONE_VERIFICATION, since))
+                    .orElse(0L);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -297,13 +316,12 @@ public class OtpTokenService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            List<OtpToken> activeOtps = otpTokenRepository.findByCustomerPhonePhoneAndPurposeAndUsedAtIsNull(
-                    phone.trim(), OtpPurpose.PHONE_VERIFICATION);
+            List<OtpToken> activeOtps = contactResolver.resolvePhone(phone)
+                    .map(contact -> otpTokenRepository.findByCustomerPhoneIdAndPurposeAndUsedAtIsNull(
+                            contact.contactId(), OtpPurpose.PHONE_VERIFICATION))
+                    .orElse(List.of());
 
-            if (!activeOtps.isEmpty()) {
-                return otpTokenRepository.markOtpsAsUsed(activeOtps, OffsetDateTime.now());
-            }
-            return 0;
+            return markAsUsed(activeOtps);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -328,8 +346,9 @@ public class OtpTokenService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            return otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                            otpCode.trim(), email.trim(), OtpPurpose.PASSWORD_RESET, OffsetDateTime.now(), 3)
+            return contactResolver.resolveEmail(email)
+                    .flatMap(contact -> otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                            otpCode.trim(), contact.contactId(), OtpPurpose.PASSWORD_RESET, OffsetDateTime.now(), 3))
                     .orElseThrow(() -> new OtpTokenNotFoundException(otpCode));
         } catch (OtpTokenNotFoundException e) {
             throw e;
@@ -351,7 +370,8 @@ public class OtpTokenService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            return otpTokenRepository.findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(email.trim(), OtpPurpose.PASSWORD_RESET);
+            return contactResolver.resolveEmail(email)
+                    .flatMap(contact -> otpTokenRepository.findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(contact.contactId(), OtpPurpose.PASSWORD_RESET));
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -372,7 +392,9 @@ public class OtpTokenService {
         DataValidator.checkNotNull(since, "since");
 
         try {
-            return otpTokenRepository.countByCustomerEmailEmailAndPurposeAndCreatedDateAfter(email.trim(), OtpPurpose.PASSWORD_RESET, since);
+            return contactResolver.resolveEmail(email)
+                    .map(contact -> otpTokenRepository.countByCustomerEmailIdAndPurposeAndCreatedDateAfter(contact.contactId(), OtpPurpose.PASSWORD_RESET, since))
+                    .orElse(0L);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -391,13 +413,12 @@ public class OtpTokenService {
         DataValidator.validateEmail(email, "email");
 
         try {
-            List<OtpToken> activeOtps = otpTokenRepository.findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(
-                    email.trim(), OtpPurpose.PASSWORD_RESET);
+            List<OtpToken> activeOtps = contactResolver.resolveEmail(email)
+                    .map(contact -> otpTokenRepository.findByCustomerEmailIdAndPurposeAndUsedAtIsNull(
+                            contact.contactId(), OtpPurpose.PASSWORD_RESET))
+                    .orElse(List.of());
 
-            if (!activeOtps.isEmpty()) {
-                return otpTokenRepository.markOtpsAsUsed(activeOtps, OffsetDateTime.now());
-            }
-            return 0;
+            return markAsUsed(activeOtps);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -422,8 +443,9 @@ public class OtpTokenService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            return otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                            otpCode.trim(), phone.trim(), OtpPurpose.PASSWORD_RESET, OffsetDateTime.now(), 3)
+            return contactResolver.resolvePhone(phone)
+                    .flatMap(contact -> otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                            otpCode.trim(), contact.contactId(), OtpPurpose.PASSWORD_RESET, OffsetDateTime.now(), 3))
                     .orElseThrow(() -> new OtpTokenNotFoundException(otpCode));
         } catch (OtpTokenNotFoundException e) {
             throw e;
@@ -445,7 +467,8 @@ public class OtpTokenService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            return otpTokenRepository.findTopByCustomerPhonePhoneAndPurposeOrderByCreatedDateDesc(phone.trim(), OtpPurpose.PASSWORD_RESET);
+            return contactResolver.resolvePhone(phone)
+                    .flatMap(contact -> otpTokenRepository.findTopByCustomerPhoneIdAndPurposeOrderByCreatedDateDesc(contact.contactId(), OtpPurpose.PASSWORD_RESET));
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -466,7 +489,9 @@ public class OtpTokenService {
         DataValidator.checkNotNull(since, "since");
 
         try {
-            return otpTokenRepository.countByCustomerPhonePhoneAndPurposeAndCreatedDateAfter(phone.trim(), OtpPurpose.PASSWORD_RESET, since);
+            return contactResolver.resolvePhone(phone)
+                    .map(contact -> otpTokenRepository.countByCustomerPhoneIdAndPurposeAndCreatedDateAfter(contact.contactId(), OtpPurpose.PASSWORD_RESET, since))
+                    .orElse(0L);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -485,13 +510,12 @@ public class OtpTokenService {
         DataValidator.validatePhone(phone, "phone");
 
         try {
-            List<OtpToken> activeOtps = otpTokenRepository.findByCustomerPhonePhoneAndPurposeAndUsedAtIsNull(
-                    phone.trim(), OtpPurpose.PASSWORD_RESET);
+            List<OtpToken> activeOtps = contactResolver.resolvePhone(phone)
+                    .map(contact -> otpTokenRepository.findByCustomerPhoneIdAndPurposeAndUsedAtIsNull(
+                            contact.contactId(), OtpPurpose.PASSWORD_RESET))
+                    .orElse(List.of());
 
-            if (!activeOtps.isEmpty()) {
-                return otpTokenRepository.markOtpsAsUsed(activeOtps, OffsetDateTime.now());
-            }
-            return 0;
+            return markAsUsed(activeOtps);
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -535,21 +559,60 @@ public class OtpTokenService {
         }
     }
 
+    // ===== KEYSET PAGED AND STREAMED READS =====
+
+    /**
+     * Retrieves one keyset page of all OTP tokens ordered by ID
+     * @param afterId ID of the last entry of the previous page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return up to pageSize OtpToken entities with ID greater than afterId
+     * @throws ValueOutOfRangeException if pageSize is outside the allowed range
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true)
+    public List<OtpToken> getOtpTokensPage(Long afterId, int pageSize) throws ServiceException {
+        DataValidator.checkRange(pageSize, "pageSize", PaginationConstants.MIN_PAGE_SIZE, PaginationConstants.MAX_PAGE_SIZE);
+
+        try {
+            return otpTokenRepository.findByIdGreaterThanOrderByIdAsc(afterId != null ? afterId : PaginationConstants.FIRST_PAGE_AFTER_ID, Limit.of(pageSize));
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
+    /**
+     * Streams all OTP tokens ordered by ID, fetched from the database in batches
+     * Must run inside the caller's transaction and be closed by the caller (try-with-resources).
+     * Entries are detached as they are handed out so the persistence context does not grow
+     * @return stream of OtpToken entities
+     * @throws ServiceException if repository operation fails
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<OtpToken> streamAllOtpTokens() throws ServiceException {
+        try {
+            return otpTokenRepository.streamAll().map(this::detach);
+        } catch (Exception e) {
+            throw RepositoryErrorMapper.mapException(e);
+        }
+    }
+
     // ===== UPDATE OPERATIONS =====
 
     /**
      * Increments attempt count for an OTP token
      * @param otpTokenId the ID of the OTP token to update
+     * @param createdDate the token's created date, its partition key
      * @return number of rows affected
-     * @throws NullFieldException if otpTokenId is null
+     * @throws NullFieldException if otpTokenId or createdDate is null
      * @throws ServiceException if repository operation fails
      */
     @Transactional
-    public int incrementAttemptCount(Long otpTokenId) throws ServiceException {
+    public int incrementAttemptCount(Long otpTokenId, OffsetDateTime createdDate) throws ServiceException {
         DataValidator.checkNotNull(otpTokenId, "otpTokenId");
+        DataValidator.checkNotNull(createdDate, "createdDate");
 
         try {
-            return otpTokenRepository.incrementAttemptCount(otpTokenId, OffsetDateTime.now());
+            return otpTokenRepository.incrementAttemptCount(otpTokenId, createdDate, OffsetDateTime.now());
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -558,16 +621,18 @@ public class OtpTokenService {
     /**
      * Marks an OTP token as used
      * @param otpTokenId the ID of the OTP token to mark as used
+     * @param createdDate the token's created date, its partition key
      * @return number of rows affected
-     * @throws NullFieldException if otpTokenId is null
+     * @throws NullFieldException if otpTokenId or createdDate is null
      * @throws ServiceException if repository operation fails
      */
     @Transactional
-    public int markOtpAsUsed(Long otpTokenId) throws ServiceException {
+    public int markOtpAsUsed(Long otpTokenId, OffsetDateTime createdDate) throws ServiceException {
         DataValidator.checkNotNull(otpTokenId, "otpTokenId");
+        DataValidator.checkNotNull(createdDate, "createdDate");
 
         try {
-            return otpTokenRepository.markOtpAsUsed(otpTokenId, OffsetDateTime.now());
+            return otpTokenRepository.markOtpAsUsed(otpTokenId, createdDate, OffsetDateTime.now());
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
@@ -711,4 +776,21 @@ public class OtpTokenService {
             throw RepositoryErrorMapper.mapException(e);
         }
     }
-}
\ No newline at end of file
+
+    private int markAsUsed(List<OtpToken> otpTokens) {
+        if (otpTokens.isEmpty()) {
+            return 0;
+        }
+        // Lower bound on the partition key, so only the partitions since the oldest token are scanned
+        OffsetDateTime createdSince = otpTokens.stream()
+                .map(OtpToken::getCreatedDate)
+                .min(OffsetDateTime::compareTo)
+                .orElseThrow();
+        return otpTokenRepository.markOtpsAsUsed(otpTokens, createdSince, OffsetDateTime.now());
+    }
+
+    private OtpToken detach(OtpToken otpToken) {
+        entityManager.detach(otpToken);
+        return otpToken;
+    }
+}
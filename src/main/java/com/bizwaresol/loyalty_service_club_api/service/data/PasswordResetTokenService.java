@@ -51,7 +51,11 @@ public class PasswordResetTokenService {
             token.setCreatedDate(OffsetDateTime.now());
             token.setLastModifiedDate(OffsetDateTime.now());
 
-            return passwordResetTokenRepository.save(token);
+            PasswordResetToken saved = passwordResetTokenRepository.save(token);
+            // The one-active-token-per-account index must fail here, where it maps to
+            // DuplicateActivePasswordResetTokenException; a lone insert loses nothing by not waiting for commit
+            passwordResetTokenRepository.flush();
+            return saved;
         } catch (Exception e) {
             throw RepositoryErrorMapper.mapException(e);
         }
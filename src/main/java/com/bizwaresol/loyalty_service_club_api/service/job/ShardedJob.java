@@ -0,0 +1,70 @@
+package com.bizwaresol.loyalty_service_club_api.service.job;
+
+/**
+ * Maintenance jobs the application runner can execute.
+ * Sharded jobs split their table's id range and process each shard with a *_shard function;
+ * unsharded jobs CALL the existing database procedure once, on whichever node claims them.
+ */
+public enum ShardedJob {
+
+    MARK_INACTIVE_ACCOUNTS("mark_inactive_accounts", "customer_accounts",
+            "mark_inactive_accounts_shard", "account_inactivity_days", "inactivity_batch_size"),
+    CLEANUP_PASSWORD_RESET_TOKENS("cleanup_password_reset_tokens", "password_reset_tokens",
+            "cleanup_password_reset_tokens_shard", "password_reset_token_cleanup_days", "cleanup_batch_size"),
+    CLEANUP_UNVERIFIED_ACCOUNTS("cleanup_unverified_accounts", "customer_accounts",
+            "cleanup_unverified_accounts_shard", "unverified_account_cleanup_days", "cleanup_batch_size"),
+
+    // Partitioned tables: retention is a partition drop, so there is nothing to split by id
+    CLEANUP_OTP_TOKENS("cleanup_otp_tokens", null, null, null, null),
+    CLEANUP_ACCOUNT_STATUS_AUDIT("cleanup_account_status_audit", null, null, null, null),
+    CLEANUP_JOB_EXECUTION_AUDIT("cleanup_job_execution_audit", null, null, null, null),
+    CLEANUP_SECURITY_EVENTS("cleanup_security_events", null, null, null, null);
+
+    private final String jobName;
+    private final String tableName;
+    private final String shardFunction;
+    private final String retentionDaysConfigKey;
+    private final String batchSizeConfigKey;
+
+    ShardedJob(String jobName, String tableName, String shardFunction,
+               String retentionDaysConfigKey, String batchSizeConfigKey) {
+        this.jobName = jobName;
+        this.tableName = tableName;
+        this.shardFunction = shardFunction;
+        this.retentionDaysConfigKey = retentionDaysConfigKey;
+        this.batchSizeConfigKey = batchSizeConfigKey;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getShardFunction() {
+        return shardFunction;
+    }
+
+    public String getRetentionDaysConfigKey() {
+        return retentionDaysConfigKey;
+    }
+
+    public String getBatchSizeConfigKey() {
+        return batchSizeConfigKey;
+    }
+
+    public boolean isSharded() {
+        return shardFunction != null;
+    }
+
+    public static ShardedJob fromJobName(String jobName) {
+        for (ShardedJob job : values()) {
+            if (job.jobName.equals(jobName)) {
+                return job;
+            }
+        }
+        throw new IllegalArgumentException("Unknown job: " + jobName);
+    }
+}
@@ -0,0 +1,271 @@
+package com.bizwaresol.loyalty_service_club_api.service.job;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.JobRunnerProperties;
+import com.bizwaresol.loyalty_service_club_api.data.dto.job.JobShard;
+import com.bizwaresol.loyalty_service_club_api.data.dto.job.ShardBatchResult;
+import com.bizwaresol.loyalty_service_club_api.data.repository.JobRunRepository;
+import com.bizwaresol.loyalty_service_club_api.exception.base.ServiceException;
+import com.bizwaresol.loyalty_service_club_api.exception.system.job.JobExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the maintenance jobs from the application instead of pg_cron, spread over every node.
+ * <p>
+ * Leader election: the node that gets the job's session advisory lock plans the day's run and splits the
+ * table's id range into shards. Work distribution: any node may process a shard while holding that shard's
+ * advisory lock. Each batch commits together with the shard checkpoint, so a shard interrupted by a crash
+ * (whose lock Postgres releases with the connection) is resumed from its last batch by the next pass.
+ */
+@Service
+@ConditionalOnProperty(prefix = "jobs.runner", name = "enabled", havingValue = "true")
+public class ShardedJobRunner {
+
+    private static final String LEADER_LOCK = "job_runner_leader:";
+    private static final String SHARD_LOCK = "job_run_shard:";
+
+    private final DataSource dataSource;
+    private final JobRunRepository jobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRunnerProperties jobRunnerProperties;
+    private final ExecutorService jobShardExecutor;
+
+    public ShardedJobRunner(DataSource dataSource,
+                            JobRunRepository jobRunRepository,
+                            TransactionTemplate transactionTemplate,
+                            JobRunnerProperties jobRunnerProperties,
+                            @Qualifier("jobShardExecutor") ExecutorService jobShardExecutor) {
+        this.dataSource = dataSource;
+        this.jobRunRepository = jobRunRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jobRunnerProperties = jobRunnerProperties;
+        this.jobShardExecutor = jobShardExecutor;
+    }
+
+    // ===== SCHEDULED ENTRY POINTS =====
+
+    /**
+     * Plans today's run of every job (on the node that wins each leader lock), then works shards.
+     */
+    @Scheduled(cron = "${jobs.runner.cron:0 0 2 * * *}")
+    public void runScheduledJobs() {
+        // A job that cannot be planned (e.g. missing configuration) must not hold back the others
+        ServiceException planningFailure = null;
+        for (ShardedJob job : ShardedJob.values()) {
+            try {
+                planRun(job);
+            } catch (ServiceException e) {
+                planningFailure = e;
+            }
+        }
+        processOpenShards();
+
+        if (planningFailure != null) {
+            throw planningFailure;
+        }
+    }
+
+    /**
+     * Picks up shards left over by other nodes, failed attempts and crashed workers.
+     */
+    @Scheduled(fixedDelayString = "${jobs.runner.resume-interval-ms:60000}",
+            initialDelayString = "${jobs.runner.resume-interval-ms:60000}")
+    public void resumeOpenRuns() {
+        processOpenShards();
+    }
+
+    // ===== PLANNING =====
+
+    /**
+     * Plans today's run of the job if this node is the leader for it and no run exists yet
+     * @param job the job to plan
+     * @return true if this node planned the run
+     * @throws JobExecutionException if configuration is missing or the database is unavailable
+     */
+    public boolean planRun(ShardedJob job) throws ServiceException {
+        String lockName = LEADER_LOCK + job.getJobName();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!jobRunRepository.tryAdvisoryLock(connection, lockName, 0)) {
+                return false;
+            }
+            try {
+                return Boolean.TRUE.equals(transactionTemplate.execute(status -> createRun(job)));
+            } finally {
+                jobRunRepository.releaseAdvisoryLock(connection, lockName, 0);
+            }
+        } catch (SQLException | DataAccessException e) {
+            throw new JobExecutionException("Failed to plan run of " + job.getJobName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean createRun(ShardedJob job) {
+        if (jobRunRepository.runExistsForToday(job.getJobName())) {
+            return false;
+        }
+
+        if (!job.isSharded()) {
+            long runId = jobRunRepository.createRun(job.getJobName(), null, 1, jobRunnerProperties.getNodeId());
+            jobRunRepository.createShard(runId, 0, null, null);
+            return true;
+        }
+
+        OffsetDateTime cutoff = jobRunRepository.resolveCutoff(job.getRetentionDaysConfigKey());
+        List<long[]> ranges = splitIdRange(jobRunRepository.findIdRange(job.getTableName()),
+                jobRunnerProperties.getShardCount());
+
+        long runId = jobRunRepository.createRun(job.getJobName(), cutoff, ranges.size(), jobRunnerProperties.getNodeId());
+        for (int shardNo = 0; shardNo < ranges.size(); shardNo++) {
+            jobRunRepository.createShard(runId, shardNo, ranges.get(shardNo)[0], ranges.get(shardNo)[1]);
+        }
+        return true;
+    }
+
+    /**
+     * Splits [min, max] into at most shardCount half-open ranges (start, end]; an empty table yields one
+     * empty shard so the run still completes and is audited.
+     */
+    static List<long[]> splitIdRange(Optional<long[]> idRange, int shardCount) {
+        List<long[]> ranges = new ArrayList<>();
+        if (idRange.isEmpty()) {
+            ranges.add(new long[]{0L, 0L});
+            return ranges;
+        }
+
+        long start = idRange.get()[0] - 1;
+        long max = idRange.get()[1];
+        long width = Math.max(1, (max - start + shardCount - 1) / Math.max(1, shardCount));
+        while (start < max) {
+            long end = Math.min(max, start + width);
+            ranges.add(new long[]{start, end});
+            start = end;
+        }
+        return ranges;
+    }
+
+    // ===== SHARD PROCESSING =====
+
+    /**
+     * Works every open shard this node can lock, in parallel on the job shard executor, then closes
+     * runs that have no work left
+     * @return number of shards processed by this node
+     * @throws JobExecutionException if the database is unavailable or the runner is interrupted
+     */
+    public int processOpenShards() throws ServiceException {
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (JobShard shard : jobRunRepository.findOpenShards(jobRunnerProperties.getMaxShardAttempts())) {
+            results.add(jobShardExecutor.submit(() -> processShard(shard)));
+        }
+
+        int processed = 0;
+        JobExecutionException failure = null;
+        for (Future<Boolean> result : results) {
+            try {
+                if (result.get()) {
+                    processed++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JobExecutionException("Job runner interrupted", e);
+            } catch (ExecutionException e) {
+                failure = new JobExecutionException("Shard processing failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        // Catches runs whose last shards finished concurrently on different nodes
+        closeFinishedRuns();
+
+        if (failure != null) {
+            throw failure;
+        }
+        return processed;
+    }
+
+    private boolean processShard(JobShard shard) throws SQLException {
+        String lockName = SHARD_LOCK + shard.jobRunId();
+        ShardedJob job = ShardedJob.fromJobName(shard.jobName());
+
+        try (Connection connection = dataSource.getConnection()) {
+            if (!jobRunRepository.tryAdvisoryLock(connection, lockName, shard.shardNo())) {
+                return false;
+            }
+            try {
+                Optional<JobShard> claimed = jobRunRepository.claimShard(connection, shard,
+                        jobRunnerProperties.getNodeId(), jobRunnerProperties.getMaxShardAttempts());
+                if (claimed.isEmpty()) {
+                    jobRunRepository.abandonShard(connection, shard.id(), jobRunnerProperties.getMaxShardAttempts());
+                    return false;
+                }
+                executeShard(connection, job, claimed.get());
+            } finally {
+                jobRunRepository.releaseAdvisoryLock(connection, lockName, shard.shardNo());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jobRunRepository.completeRunIfFinished(
+                shard.jobRunId(), jobRunnerProperties.getMaxShardAttempts(), job.isSharded()));
+        return true;
+    }
+
+    private void executeShard(Connection connection, ShardedJob job, JobShard shard) throws SQLException {
+        try {
+            if (!job.isSharded()) {
+                jobRunRepository.runJobProcedure(connection, job.getJobName());
+                jobRunRepository.completeShard(connection, shard.id());
+                return;
+            }
+
+            int batchSize = jobRunRepository.resolveBatchSize(connection, job.getBatchSizeConfigKey());
+            long checkpoint = shard.checkpointId();
+
+            // One transaction per batch: the rows and the checkpoint that covers them commit together
+            connection.setAutoCommit(false);
+            while (true) {
+                ShardBatchResult batch = jobRunRepository.runShardBatch(
+                        connection, job.getShardFunction(), shard, checkpoint, batchSize);
+                if (batch.isEmpty()) {
+                    jobRunRepository.completeShard(connection, shard.id());
+                    connection.commit();
+                    break;
+                }
+                checkpoint = batch.lastId();
+                jobRunRepository.saveCheckpoint(connection, shard.id(), checkpoint, batch.rowsProcessed());
+                connection.commit();
+            }
+        } catch (SQLException | ServiceException | DataAccessException e) {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            jobRunRepository.failShard(connection, shard.id(), e.getMessage());
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void closeFinishedRuns() {
+        for (Map.Entry<Long, String> run : jobRunRepository.findRunningRuns().entrySet()) {
+            boolean sharded = ShardedJob.fromJobName(run.getValue()).isSharded();
+            transactionTemplate.executeWithoutResult(status -> jobRunRepository.completeRunIfFinished(
+                    run.getKey(), jobRunnerProperties.getMaxShardAttempts(), sharded));
+        }
+    }
+}
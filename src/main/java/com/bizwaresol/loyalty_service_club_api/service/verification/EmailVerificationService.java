@@ -6,20 +6,27 @@ package com.bizwaresol.loyalty_service_club_api.service.verification;
 import com.bizwaresol.loyalty_service_club_api.config.properties.SesProperties;
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTemplateProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEvent;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+import com.bizwaresol.loyalty_service_club_api.exception.business.resource.OtpTokenNotFoundException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpSendingException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.verification.OtpVerificationException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.ValidationException;
+import com.bizwaresol.loyalty_service_club_api.metrics.OtpMetrics;
 import com.bizwaresol.loyalty_service_club_api.service.client.SesClientService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerEmailService;
 import com.bizwaresol.loyalty_service_club_api.service.data.OtpTokenService;
 import com.bizwaresol.loyalty_service_club_api.util.mappers.OtpVerificationErrorMapper;
 import com.bizwaresol.loyalty_service_club_api.util.validators.DataValidator;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,12 +37,17 @@ import java.util.Optional;
 @Transactional
 public class EmailVerificationService {
 
+    private static final int SECONDS_PER_HOUR = 3600;
+
     private final OtpTokenService otpTokenService;
     private final SesClientService sesClientService;
     private final CustomerEmailService customerEmailService;
     private final VerificationProperties verificationProperties;
     private final VerificationTemplateProperties templateProperties;
     private final SesProperties sesProperties;
+    private final ContactCacheEvictor contactCacheEvictor;
+    private final OtpMetrics otpMetrics;
+    private final SecurityEventLog securityEventLog;
 
     public EmailVerificationService(
             OtpTokenService otpTokenService,
@@ -43,13 +55,19 @@ public class EmailVerificationService {
             CustomerEmailService customerEmailService,
             VerificationProperties verificationProperties,
             VerificationTemplateProperties templateProperties,
-            SesProperties sesProperties) {
+            SesProperties sesProperties,
+            ContactCacheEvictor contactCacheEvictor,
+            OtpMetrics otpMetrics,
+            SecurityEventLog securityEventLog) {
         this.otpTokenService = otpTokenService;
         this.sesClientService = sesClientService;
         this.customerEmailService = customerEmailService;
         this.verificationProperties = verificationProperties;
         this.templateProperties = templateProperties;
         this.sesProperties = sesProperties;
+        this.contactCacheEvictor = contactCacheEvictor;
+        this.otpMetrics = otpMetrics;
+        this.securityEventLog = securityEventLog;
     }
 
     /**
@@ -88,14 +106,22 @@ public class EmailVerificationService {
     // ===== PRIVATE GENERIC METHODS =====
 
     private SendVerificationResponse sendCode(String email, OtpPurpose purpose) {
-        DataValidator.validateEmail(email, "email");
+        Timer.Sample sample = otpMetrics.start();
+        String outcome = MetricNames.OUTCOME_ERROR;
 
         try {
+            DataValidator.validateEmail(email, "email");
             CustomerEmail customerEmail = customerEmailService.findByEmail(email);
 
-            SendVerificationResponse rateLimitCheck = checkRateLimits(email, purpose);
-            if (!rateLimitCheck.success()) {
-                return rateLimitCheck;
+            SendVerificationResponse cooldown = checkCooldown(email, purpose);
+            if (cooldown != null) {
+                outcome = MetricNames.OUTCOME_COOLDOWN;
+                return cooldown;
+            }
+            SendVerificationResponse rateLimited = checkRateLimit(email, purpose);
+            if (rateLimited != null) {
+                outcome = MetricNames.OUTCOME_RATE_LIMITED;
+                return rateLimited;
             }
 
             // Invalidate existing OTPs for the same purpose
@@ -117,21 +143,31 @@ public class EmailVerificationService {
 
             sendOtpEmail(email, otpCode);
 
+            outcome = MetricNames.OUTCOME_SUCCESS;
             return SendVerificationResponse.success(email, OtpDeliveryMethod.EMAIL);
 
-        } catch (ValidationException | OtpSendingException e) {
+        } catch (ValidationException e) {
+            outcome = MetricNames.OUTCOME_INVALID;
+            throw e;
+        } catch (OtpSendingException e) {
             throw e;
         } catch (Exception e) {
             throw OtpVerificationErrorMapper.mapToSendingException(e, email, "email");
+        } finally {
+            otpMetrics.recordSend(sample, OtpDeliveryMethod.EMAIL, purpose, outcome);
+            securityEventLog.record(SecurityEvent.otpSend(email, OtpDeliveryMethod.EMAIL, purpose, outcome));
         }
     }
 
     private VerifyCodeResponse verify(String email, String otpCode, OtpPurpose purpose) {
-        DataValidator.validateEmail(email, "email");
-        DataValidator.validateOtpCode(otpCode, "otpCode");
-        String trimmedOtp = otpCode.trim();
+        Timer.Sample sample = otpMetrics.start();
+        String outcome = MetricNames.OUTCOME_ERROR;
 
         try {
+            DataValidator.validateEmail(email, "email");
+            DataValidator.validateOtpCode(otpCode, "otpCode");
+            String trimmedOtp = otpCode.trim();
+
             OtpToken otpToken;
             if (purpose == OtpPurpose.EMAIL_VERIFICATION) {
                 otpToken = otpTokenService.findValidEmailVerificationOtp(trimmedOtp, email);
@@ -140,8 +176,10 @@ public class EmailVerificationService {
             }
 
             if (otpToken.isExpired()) {
+                outcome = MetricNames.OUTCOME_EXPIRED;
                 return VerifyCodeResponse.expired(email, OtpDeliveryMethod.EMAIL);
             }
+            outcome = MetricNames.OUTCOME_INVALID;
             if (otpToken.isUsed()) {
                 return VerifyCodeResponse.alreadyUsed(email, OtpDeliveryMethod.EMAIL);
             }
@@ -150,7 +188,7 @@ public class EmailVerificationService {
             }
 
             if (!otpToken.getOtpCode().equals(trimmedOtp)) {
-                otpTokenService.incrementAttemptCount(otpToken.getId());
+                otpTokenService.incrementAttemptCount(otpToken.getId(), otpToken.getCreatedDate());
                 int remainingAttempts = otpToken.getMaxAttempts() - (otpToken.getAttemptsCount() + 1);
                 boolean maxReached = remainingAttempts <= 0;
                 return VerifyCodeResponse.invalidCode(email, OtpDeliveryMethod.EMAIL, remainingAttempts, maxReached);
@@ -158,20 +196,38 @@ public class EmailVerificationService {
 
             // Mark OTP as used. If it's for EMAIL_VERIFICATION, a trigger will handle updating the email status.
             // If it's for PASSWORD_RESET, it's simply consumed.
-            otpTokenService.markOtpAsUsed(otpToken.getId());
+            otpTokenService.markOtpAsUsed(otpToken.getId(), otpToken.getCreatedDate());
+            if (purpose == OtpPurpose.EMAIL_VERIFICATION) {
+                // The trigger changed is_verified outside Hibernate, so the cached email is stale
+                contactCacheEvictor.evictEmail(otpToken.getCustomerEmail().getId());
+            }
 
+            outcome = MetricNames.OUTCOME_SUCCESS;
             return VerifyCodeResponse.success(email, OtpDeliveryMethod.EMAIL);
 
-        } catch (ValidationException | OtpVerificationException e) {
+        } catch (ValidationException e) {
+            outcome = MetricNames.OUTCOME_INVALID;
+            throw e;
+        } catch (OtpVerificationException e) {
             throw e;
         } catch (Exception e) {
+            if (e instanceof OtpTokenNotFoundException) {
+                // Includes expired codes, which the lookup already filters out
+                outcome = MetricNames.OUTCOME_NOT_FOUND;
+            }
             throw OtpVerificationErrorMapper.mapToVerificationException(e, email);
+        } finally {
+            otpMetrics.recordVerify(sample, OtpDeliveryMethod.EMAIL, purpose, outcome);
+            securityEventLog.record(SecurityEvent.otpVerify(email, OtpDeliveryMethod.EMAIL, purpose, outcome));
         }
     }
 
     // ===== PRIVATE HELPER METHODS =====
 
-    private SendVerificationResponse checkRateLimits(String email, OtpPurpose purpose) {
+    /**
+     * @return the cooldown response if the last code was sent too recently, or null if sending is allowed
+     */
+    private SendVerificationResponse checkCooldown(String email, OtpPurpose purpose) {
         try {
             Optional<OtpToken> latestOtp;
             if (purpose == OtpPurpose.EMAIL_VERIFICATION) {
@@ -188,13 +244,31 @@ public class EmailVerificationService {
                     return SendVerificationResponse.cooldownActive(email, OtpDeliveryMethod.EMAIL, nextAllowed, (int) secondsRemaining);
                 }
             }
+            return null;
 
-            OffsetDateTime rateWindowStart = OffsetDateTime.now().minusHours(verificationProperties.getOtpRateLimitResetHours());
-            long otpCountInWindow;
-            if (purpose == OtpPurpose.EMAIL_VERIFICATION) {
-                otpCountInWindow = otpTokenService.countEmailVerificationOtpsInWindow(email, rateWindowStart);
-            } else {
-                otpCountInWindow = otpTokenService.countPasswordResetEmailOtpsInWindow(email, rateWindowStart);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the rate-limited response if too many codes were sent in the window, or null if sending is allowed
+     */
+    private SendVerificationResponse checkRateLimit(String email, OtpPurpose purpose) {
+        try {
+            int rateWindowHours = verificationProperties.getOtpRateLimitResetHours();
+            long otpCountInWindow = countOtpsSince(email, purpose, OffsetDateTime.now().minusHours(rateWindowHours));
+
+            // Hard cap per hour (business_config otp_rate_limit_per_hour); the default one-hour window is reused
+            int perHourLimit = verificationProperties.getOtpRateLimitPerHour();
+            if (perHourLimit > 0) {
+                long otpCountLastHour = rateWindowHours == 1
+                        ? otpCountInWindow
+                        : countOtpsSince(email, purpose, OffsetDateTime.now().minusHours(1));
+                if (otpCountLastHour >= perHourLimit) {
+                    OffsetDateTime nextAllowed = OffsetDateTime.now().plusHours(1);
+                    return SendVerificationResponse.rateLimited(email, OtpDeliveryMethod.EMAIL, nextAllowed, SECONDS_PER_HOUR);
+                }
             }
 
             int nextAttemptNumber = (int) otpCountInWindow + 1;
@@ -203,12 +277,18 @@ public class EmailVerificationService {
                 OffsetDateTime nextAllowed = OffsetDateTime.now().plusSeconds(waitSeconds);
                 return SendVerificationResponse.rateLimited(email, OtpDeliveryMethod.EMAIL, nextAllowed, waitSeconds);
             }
-
-            return SendVerificationResponse.success(email, OtpDeliveryMethod.EMAIL);
+            return null;
 
         } catch (Exception e) {
-            return SendVerificationResponse.success(email, OtpDeliveryMethod.EMAIL);
+            return null;
+        }
+    }
+
+    private long countOtpsSince(String email, OtpPurpose purpose, OffsetDateTime since) {
+        if (purpose == OtpPurpose.EMAIL_VERIFICATION) {
+            return otpTokenService.countEmailVerificationOtpsInWindow(email, since);
         }
+        return otpTokenService.countPasswordResetEmailOtpsInWindow(email, since);
     }
 
     private void sendOtpEmail(String email, String otpCode) {
@@ -5,20 +5,27 @@ package com.bizwaresol.loyalty_service_club_api.service.verification;
 
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTemplateProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEvent;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+import com.bizwaresol.loyalty_service_club_api.exception.business.resource.OtpTokenNotFoundException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpSendingException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.verification.OtpVerificationException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.ValidationException;
+import com.bizwaresol.loyalty_service_club_api.metrics.OtpMetrics;
 import com.bizwaresol.loyalty_service_club_api.service.client.SnsClientService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerPhoneService;
 import com.bizwaresol.loyalty_service_club_api.service.data.OtpTokenService;
 import com.bizwaresol.loyalty_service_club_api.util.mappers.OtpVerificationErrorMapper;
 import com.bizwaresol.loyalty_service_club_api.util.validators.DataValidator;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,23 +36,34 @@ import java.util.Optional;
 @Transactional
 public class PhoneVerificationService {
 
+    private static final int SECONDS_PER_HOUR = 3600;
+
     private final OtpTokenService otpTokenService;
     private final SnsClientService snsClientService;
     private final CustomerPhoneService customerPhoneService;
     private final VerificationProperties verificationProperties;
     private final VerificationTemplateProperties templateProperties;
+    private final ContactCacheEvictor contactCacheEvictor;
+    private final OtpMetrics otpMetrics;
+    private final SecurityEventLog securityEventLog;
 
     public PhoneVerificationService(
             OtpTokenService otpTokenService,
             SnsClientService snsClientService,
             CustomerPhoneService customerPhoneService,
             VerificationProperties verificationProperties,
-            VerificationTemplateProperties templateProperties) {
+            VerificationTemplateProperties templateProperties,
+            ContactCacheEvictor contactCacheEvictor,
+            OtpMetrics otpMetrics,
+            SecurityEventLog securityEventLog) {
         this.otpTokenService = otpTokenService;
         this.snsClientService = snsClientService;
         this.customerPhoneService = customerPhoneService;
         this.verificationProperties = verificationProperties;
         this.templateProperties = templateProperties;
+        this.contactCacheEvictor = contactCacheEvictor;
+        this.otpMetrics = otpMetrics;
+        this.securityEventLog = securityEventLog;
     }
 
     /**
@@ -83,14 +101,22 @@ public class PhoneVerificationService {
     // ===== PRIVATE GENERIC METHODS =====
 
     private SendVerificationResponse sendCode(String phone, OtpPurpose purpose) {
-        DataValidator.validatePhone(phone, "phone");
+        Timer.Sample sample = otpMetrics.start();
+        String outcome = MetricNames.OUTCOME_ERROR;
 
         try {
+            DataValidator.validatePhone(phone, "phone");
             CustomerPhone customerPhone = customerPhoneService.findByPhone(phone);
 
-            SendVerificationResponse rateLimitCheck = checkRateLimits(phone, purpose);
-            if (!rateLimitCheck.success()) {
-                return rateLimitCheck;
+            SendVerificationResponse cooldown = checkCooldown(phone, purpose);
+            if (cooldown != null) {
+                outcome = MetricNames.OUTCOME_COOLDOWN;
+                return cooldown;
+            }
+            SendVerificationResponse rateLimited = checkRateLimit(phone, purpose);
+            if (rateLimited != null) {
+                outcome = MetricNames.OUTCOME_RATE_LIMITED;
+                return rateLimited;
             }
 
             if (purpose == OtpPurpose.PHONE_VERIFICATION) {
@@ -110,21 +136,31 @@ public class PhoneVerificationService {
 
             sendOtpSms(phone, otpCode);
 
+            outcome = MetricNames.OUTCOME_SUCCESS;
             return SendVerificationResponse.success(phone, OtpDeliveryMethod.SMS);
 
-        } catch (ValidationException | OtpSendingException e) {
+        } catch (ValidationException e) {
+            outcome = MetricNames.OUTCOME_INVALID;
+            throw e;
+        } catch (OtpSendingException e) {
             throw e;
         } catch (Exception e) {
             throw OtpVerificationErrorMapper.mapToSendingException(e, phone, "SMS");
+        } finally {
+            otpMetrics.recordSend(sample, OtpDeliveryMethod.SMS, purpose, outcome);
+            securityEventLog.record(SecurityEvent.otpSend(phone, OtpDeliveryMethod.SMS, purpose, outcome));
         }
     }
 
     private VerifyCodeResponse verify(String phone, String otpCode, OtpPurpose purpose) {
-        DataValidator.validatePhone(phone, "phone");
-        DataValidator.validateOtpCode(otpCode, "otpCode");
-        String trimmedOtp = otpCode.trim();
+        Timer.Sample sample = otpMetrics.start();
+        String outcome = MetricNames.OUTCOME_ERROR;
 
         try {
+            DataValidator.validatePhone(phone, "phone");
+            DataValidator.validateOtpCode(otpCode, "otpCode");
+            String trimmedOtp = otpCode.trim();
+
             OtpToken otpToken;
             if (purpose == OtpPurpose.PHONE_VERIFICATION) {
                 otpToken = otpTokenService.findValidPhoneVerificationOtp(trimmedOtp, phone);
@@ -133,8 +169,10 @@ public class PhoneVerificationService {
             }
 
             if (otpToken.isExpired()) {
+                outcome = MetricNames.OUTCOME_EXPIRED;
                 return VerifyCodeResponse.expired(phone, OtpDeliveryMethod.SMS);
             }
+            outcome = MetricNames.OUTCOME_INVALID;
             if (otpToken.isUsed()) {
                 return VerifyCodeResponse.alreadyUsed(phone, OtpDeliveryMethod.SMS);
             }
@@ -143,26 +181,44 @@ public class PhoneVerificationService {
             }
 
             if (!otpToken.getOtpCode().equals(trimmedOtp)) {
-                otpTokenService.incrementAttemptCount(otpToken.getId());
+                otpTokenService.incrementAttemptCount(otpToken.getId(), otpToken.getCreatedDate());
                 int remainingAttempts = otpToken.getMaxAttempts() - (otpToken.getAttemptsCount() + 1);
                 boolean maxReached = remainingAttempts <= 0;
                 return VerifyCodeResponse.invalidCode(phone, OtpDeliveryMethod.SMS, remainingAttempts, maxReached);
             }
 
-            otpTokenService.markOtpAsUsed(otpToken.getId());
+            otpTokenService.markOtpAsUsed(otpToken.getId(), otpToken.getCreatedDate());
+            if (purpose == OtpPurpose.PHONE_VERIFICATION) {
+                // The trigger changed is_verified outside Hibernate, so the cached phone is stale
+                contactCacheEvictor.evictPhone(otpToken.getCustomerPhone().getId());
+            }
 
+            outcome = MetricNames.OUTCOME_SUCCESS;
             return VerifyCodeResponse.success(phone, OtpDeliveryMethod.SMS);
 
-        } catch (ValidationException | OtpVerificationException e) {
+        } catch (ValidationException e) {
+            outcome = MetricNames.OUTCOME_INVALID;
+            throw e;
+        } catch (OtpVerificationException e) {
             throw e;
         } catch (Exception e) {
+            if (e instanceof OtpTokenNotFoundException) {
+                // Includes expired codes, which the lookup already filters out
+                outcome = MetricNames.OUTCOME_NOT_FOUND;
+            }
             throw OtpVerificationErrorMapper.mapToVerificationException(e, phone);
+        } finally {
+            otpMetrics.recordVerify(sample, OtpDeliveryMethod.SMS, purpose, outcome);
+            securityEventLog.record(SecurityEvent.otpVerify(phone, OtpDeliveryMethod.SMS, purpose, outcome));
         }
     }
 
     // ===== PRIVATE HELPER METHODS =====
 
-    private SendVerificationResponse checkRateLimits(String phone, OtpPurpose purpose) {
+    /**
+     * @return the cooldown response if the last code was sent too recently, or null if sending is allowed
+     */
+    private SendVerificationResponse checkCooldown(String phone, OtpPurpose purpose) {
         try {
             Optional<OtpToken> latestOtp;
             if (purpose == OtpPurpose.PHONE_VERIFICATION) {
@@ -179,13 +235,31 @@ public class PhoneVerificationService {
                     return SendVerificationResponse.cooldownActive(phone, OtpDeliveryMethod.SMS, nextAllowed, (int) secondsRemaining);
                 }
             }
+            return null;
 
-            OffsetDateTime rateWindowStart = OffsetDateTime.now().minusHours(verificationProperties.getOtpRateLimitResetHours());
-            long otpCountInWindow;
-            if (purpose == OtpPurpose.PHONE_VERIFICATION) {
-                otpCountInWindow = otpTokenService.countPhoneVerificationOtpsInWindow(phone, rateWindowStart);
-            } else {
-                otpCountInWindow = otpTokenService.countPasswordResetPhoneOtpsInWindow(phone, rateWindowStart);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the rate-limited response if too many codes were sent in the window, or null if sending is allowed
+     */
+    private SendVerificationResponse checkRateLimit(String phone, OtpPurpose purpose) {
+        try {
+            int rateWindowHours = verificationProperties.getOtpRateLimitResetHours();
+            long otpCountInWindow = countOtpsSince(phone, purpose, OffsetDateTime.now().minusHours(rateWindowHours));
+
+            // Hard cap per hour (business_config otp_rate_limit_per_hour); the default one-hour window is reused
+            int perHourLimit = verificationProperties.getOtpRateLimitPerHour();
+            if (perHourLimit > 0) {
+                long otpCountLastHour = rateWindowHours == 1
+                        ? otpCountInWindow
+                        : countOtpsSince(phone, purpose, OffsetDateTime.now().minusHours(1));
+                if (otpCountLastHour >= perHourLimit) {
+                    OffsetDateTime nextAllowed = OffsetDateTime.now().plusHours(1);
+                    return SendVerificationResponse.rateLimited(phone, OtpDeliveryMethod.SMS, nextAllowed, SECONDS_PER_HOUR);
+                }
             }
 
             int nextAttemptNumber = (int) otpCountInWindow + 1;
@@ -194,12 +268,18 @@ public class PhoneVerificationService {
                 OffsetDateTime nextAllowed = OffsetDateTime.now().plusSeconds(waitSeconds);
                 return SendVerificationResponse.rateLimited(phone, OtpDeliveryMethod.SMS, nextAllowed, waitSeconds);
             }
-
-            return SendVerificationResponse.success(phone, OtpDeliveryMethod.SMS);
+            return null;
 
         } catch (Exception e) {
-            return SendVerificationResponse.success(phone, OtpDeliveryMethod.SMS);
+            return null;
+        }
+    }
+
+    private long countOtpsSince(String phone, OtpPurpose purpose, OffsetDateTime since) {
+        if (purpose == OtpPurpose.PHONE_VERIFICATION) {
+            return otpTokenService.countPhoneVerificationOtpsInWindow(phone, since);
         }
+        return otpTokenService.countPasswordResetPhoneOtpsInWindow(phone, since);
     }
 
     private void sendOtpSms(String phone, String otpCode) {
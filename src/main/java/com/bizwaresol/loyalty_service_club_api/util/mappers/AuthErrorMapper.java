@@ -70,10 +70,10 @@ public final class AuthErrorMapper {
     // ===== VALUE EXTRACTION HELPER =====
 
     private static String extractValueAfterColon(String message, String defaultValue) {
-        if (message != null && message.contains(": ")) {
-            String[] parts = message.split(": ", 2);
-            if (parts.length > 1) {
-                return parts[1].trim();
+        if (message != null) {
+            int separator = message.indexOf(": ");
+            if (separator >= 0) {
+                return message.substring(separator + 2).trim();
             }
         }
         return defaultValue;
@@ -12,9 +12,44 @@ import org.springframework.transaction.TransactionTimedOutException;
 
 import jakarta.persistence.*;
 import java.sql.SQLException;
+import java.util.Map;
 
 public final class RepositoryErrorMapper {
 
+    private enum ConstraintKind {
+        DUPLICATE_EMAIL,
+        DUPLICATE_PHONE,
+        DUPLICATE_USERNAME,
+        DUPLICATE_ACTIVE_RESET_TOKEN,
+        OTP_TOKEN,
+        FOREIGN_KEY
+    }
+
+    // Constraint and unique index names from the migrations (PostgreSQL default names for inline UNIQUE)
+    private static final Map<String, ConstraintKind> CONSTRAINT_KINDS = Map.ofEntries(
+            Map.entry("customer_emails_email_key", ConstraintKind.DUPLICATE_EMAIL),
+            Map.entry("customer_phones_phone_key", ConstraintKind.DUPLICATE_PHONE),
+            Map.entry("customer_accounts_username_key", ConstraintKind.DUPLICATE_USERNAME),
+            Map.entry("uq_active_reset_token_per_user", ConstraintKind.DUPLICATE_ACTIVE_RESET_TOKEN),
+            Map.entry("chk_otp_single_contact", ConstraintKind.OTP_TOKEN),
+            Map.entry("chk_otp_delivery_contact_match", ConstraintKind.OTP_TOKEN),
+            Map.entry("fk_otp_customer_email", ConstraintKind.OTP_TOKEN),
+            Map.entry("fk_otp_customer_phone", ConstraintKind.OTP_TOKEN),
+            Map.entry("fk_customer_email", ConstraintKind.FOREIGN_KEY),
+            Map.entry("fk_customer_phone", ConstraintKind.FOREIGN_KEY),
+            Map.entry("fk_customer_account_customer", ConstraintKind.FOREIGN_KEY)
+    );
+
+    private static final Map<String, String> SQL_STATE_DESCRIPTIONS = Map.of(
+            "23505", "Unique constraint violation",
+            "23503", "Foreign key constraint violation",
+            "23502", "Not-null constraint violation",
+            "23514", "Check constraint violation"
+    );
+
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_CLASS = "23";
+    private static final String CONSTRAINT_MARKER = "constraint \"";
+
     private RepositoryErrorMapper() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
@@ -103,13 +138,10 @@ public final class RepositoryErrorMapper {
             return new DatabaseSystemException("Invalid data access API usage", e);
         }
 
-        // Check for underlying constraint violations in wrapped exceptions
-        Throwable cause = e.getCause();
-        if (cause != null) {
-            String causeMessage = cause.getMessage();
-            if (causeMessage != null && (causeMessage.contains("unique") || causeMessage.contains("duplicate"))) {
-                return mapConstraintViolation(causeMessage, e);
-            }
+        // Check for underlying integrity constraint violations (SQLState class 23) in wrapped exceptions
+        String sqlState = findSqlState(e);
+        if (sqlState != null && sqlState.startsWith(INTEGRITY_CONSTRAINT_VIOLATION_CLASS)) {
+            return mapConstraintViolation(e.getMostSpecificCause().getMessage(), e);
         }
 
         return new DatabaseSystemException("Data access error: " + e.getMessage(), e);
@@ -124,6 +156,11 @@ public final class RepositoryErrorMapper {
             return mapConstraintViolation(e.getMessage(), e);
         }
 
+        // Untranslated flushes (EntityManager.flush) surface Hibernate's own violation type
+        if (e instanceof org.hibernate.exception.ConstraintViolationException) {
+            return mapConstraintViolation(e.getMessage(), e);
+        }
+
         if (e instanceof OptimisticLockException) {
             return new OptimisticLockingException("JPA optimistic lock conflict", e);
         }
@@ -178,48 +215,28 @@ public final class RepositoryErrorMapper {
             return new DatabaseSystemException("Constraint violation", cause);
         }
 
-        String lowerMessage = message.toLowerCase();
-
-        // Check for your actual table unique constraints based on your schema
-
-        // customer_emails table: email VARCHAR(50) NOT NULL UNIQUE
-        if (lowerMessage.contains("customer_emails") && lowerMessage.contains("email")) {
-            String email = extractValueFromParentheses(message);
-            return new DuplicateEmailException(email != null ? email : "unknown", cause);
-        }
-
-        // customer_phones table: phone VARCHAR(13) NOT NULL UNIQUE
-        if (lowerMessage.contains("customer_phones") && lowerMessage.contains("phone")) {
-            String phone = extractValueFromParentheses(message);
-            return new DuplicatePhoneException(phone != null ? phone : "unknown", cause);
-        }
-
-        // customer_accounts table: username VARCHAR(60) UNIQUE NOT NULL
-        if (lowerMessage.contains("customer_accounts") && lowerMessage.contains("username")) {
-            String username = extractUsernameFromMessage(message);
-            return new DuplicateUsernameException(username != null ? username : "unknown", cause);
-        }
-
-        // NEW: password_reset_tokens table: uq_active_reset_token_per_user
-        if (lowerMessage.contains("uq_active_reset_token_per_user")) {
-            String accountId = extractValueFromParentheses(message);
-            return new DuplicateActivePasswordResetTokenException(accountId != null ? "account_id: " + accountId : "unknown account", cause);
-        }
-
-        // otp_tokens table: check for any constraints (otp_code is not unique by design)
-        if (lowerMessage.contains("otp_tokens")) {
-            return new DatabaseSystemException("OTP token constraint violation: " + message, cause);
-        }
+        String constraintName = findConstraintName(cause, message);
+        ConstraintKind kind = constraintName != null ? CONSTRAINT_KINDS.get(constraintName) : null;
 
-        // Foreign key constraints
-        if (lowerMessage.contains("fk_customer_email") || lowerMessage.contains("fk_customer_phone") ||
-                lowerMessage.contains("fk_customer_account_customer") || lowerMessage.contains("fk_otp_customer")) {
-            return new DatabaseSystemException("Foreign key constraint violation", cause);
+        if (kind != null) {
+            return switch (kind) {
+                case DUPLICATE_EMAIL -> new DuplicateEmailException(valueOrUnknown(message), cause);
+                case DUPLICATE_PHONE -> new DuplicatePhoneException(valueOrUnknown(message), cause);
+                case DUPLICATE_USERNAME -> new DuplicateUsernameException(valueOrUnknown(message), cause);
+                case DUPLICATE_ACTIVE_RESET_TOKEN -> {
+                    String accountId = extractValueFromParentheses(message);
+                    yield new DuplicateActivePasswordResetTokenException(accountId != null ? "account_id: " + accountId : "unknown account", cause);
+                }
+                case OTP_TOKEN -> new DatabaseSystemException("OTP token constraint violation: " + message, cause);
+                case FOREIGN_KEY -> new DatabaseSystemException("Foreign key constraint violation", cause);
+            };
         }
 
-        // Generic unique constraint (fallback)
-        if (lowerMessage.contains("unique") || lowerMessage.contains("duplicate")) {
-            return new DatabaseSystemException("Unique constraint violation: " + message, cause);
+        // Unknown constraint: describe it by SQLState class
+        String sqlState = findSqlState(cause);
+        String description = sqlState != null ? SQL_STATE_DESCRIPTIONS.get(sqlState) : null;
+        if (description != null) {
+            return new DatabaseSystemException(description + ": " + message, cause);
         }
 
         return new DatabaseSystemException("Constraint violation: " + message, cause);
@@ -255,8 +272,47 @@ public final class RepositoryErrorMapper {
         return new CustomerNotFoundException("Entity not found: " + message);
     }
 
-    private static String extractUsernameFromMessage(String message) {
-        return extractValueFromParentheses(message);
+    // ===== CONSTRAINT LOOKUP =====
+
+    private static String valueOrUnknown(String message) {
+        String value = extractValueFromParentheses(message);
+        return value != null ? value : "unknown";
+    }
+
+    /**
+     * Constraint name as reported by Hibernate, else the quoted name PostgreSQL puts in the message
+     * ("... violates unique constraint "customer_emails_email_key" ...")
+     */
+    private static String findConstraintName(Throwable e, String message) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof org.hibernate.exception.ConstraintViolationException hibernateViolation
+                    && hibernateViolation.getConstraintName() != null) {
+                return hibernateViolation.getConstraintName();
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+
+        int marker = message.indexOf(CONSTRAINT_MARKER);
+        if (marker < 0) {
+            return null;
+        }
+        int start = marker + CONSTRAINT_MARKER.length();
+        int end = message.indexOf('"', start);
+        return end > start ? message.substring(start, end) : null;
+    }
+
+    private static String findSqlState(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                return sqlException.getSQLState();
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
     }
 
     private static String extractValueFromParentheses(String message) {
@@ -6,6 +6,8 @@ import com.bizwaresol.loyalty_service_club_api.exception.validation.field.*;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.*;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.security.*;
 
+import java.util.Locale;
+
 public final class DataValidator {
 
     private DataValidator() {
@@ -21,39 +23,44 @@ public final class DataValidator {
     }
 
     public static void checkNotEmptyString(String value, String fieldName) {
-        if (value.trim().isEmpty()) {
+        if (FieldScanner.trimmedLength(value) == 0) {
             throw new EmptyFieldException(fieldName);
         }
     }
 
     public static void checkMinLength(String value, String fieldName, int minLength) {
-        if (value.trim().length() < minLength) {
-            throw new FieldTooShortException(fieldName, minLength, value.trim().length());
+        int length = FieldScanner.trimmedLength(value);
+        if (length < minLength) {
+            throw new FieldTooShortException(fieldName, minLength, length);
         }
     }
 
     public static void checkMaxLength(String value, String fieldName, int maxLength) {
-        if (value.trim().length() > maxLength) {
-            throw new FieldTooLongException(fieldName, maxLength, value.trim().length());
+        int length = FieldScanner.trimmedLength(value);
+        if (length > maxLength) {
+            throw new FieldTooLongException(fieldName, maxLength, length);
         }
     }
 
-    public static void checkEmailPattern(String email) {
-        if (!ValidationConstants.EMAIL_PATTERN.matcher(email.trim()).matches()) {
-            throw new InvalidEmailFormatException(email);
+    public static void checkRange(int value, String fieldName, int min, int max) {
+        if (value < min || value > max) {
+            throw new ValueOutOfRangeException(fieldName, min, max, value);
         }
     }
 
+    public static void checkEmailPattern(String email) {
+        int start = FieldScanner.trimStart(email);
+        checkEmailPattern(email, start, FieldScanner.trimEnd(email, start));
+    }
+
     public static void checkPhonePattern(String phone) {
-        if (!ValidationConstants.PHONE_PATTERN.matcher(phone.trim()).matches()) {
-            throw new InvalidPhoneFormatException(phone + " (Expected format: +381xxxxxxxx)");
-        }
+        int start = FieldScanner.trimStart(phone);
+        checkPhonePattern(phone, start, FieldScanner.trimEnd(phone, start));
     }
 
     public static void checkNamePattern(String name, String fieldName) {
-        if (!ValidationConstants.NAME_PATTERN.matcher(name.trim()).matches()) {
-            throw new InvalidCharacterException(fieldName, "Only letters, spaces, hyphens, and apostrophes are allowed");
-        }
+        int start = FieldScanner.trimStart(name);
+        checkNamePattern(name, fieldName, start, FieldScanner.trimEnd(name, start));
     }
 
     public static void checkPasswordPattern(String password) {
@@ -64,21 +71,19 @@ public final class DataValidator {
 
     public static void checkPersonalEmailDomain(String email) {
         String domain = extractDomain(email);
-        if (!EmailConstants.ALLOWED_PERSONAL_EMAIL_DOMAINS.contains(domain.toLowerCase())) {
+        if (!EmailConstants.ALLOWED_PERSONAL_EMAIL_DOMAINS.contains(domain.toLowerCase(Locale.ROOT))) {
             throw new BusinessEmailNotAllowedException(domain, EmailConstants.ALLOWED_DOMAINS_MESSAGE);
         }
     }
 
     public static void checkOtpPattern(String otpCode) {
-        if (!ValidationConstants.OTP_CODE_PATTERN.matcher(otpCode.trim()).matches()) {
-            throw new InvalidOtpFormatException(otpCode);
-        }
+        int start = FieldScanner.trimStart(otpCode);
+        checkOtpPattern(otpCode, start, FieldScanner.trimEnd(otpCode, start));
     }
 
     public static void checkPasswordResetTokenPattern(String token) {
-        if (!ValidationConstants.UUID_PATTERN.matcher(token.trim()).matches()) {
-            throw new InvalidPasswordResetTokenFormatException();
-        }
+        int start = FieldScanner.trimStart(token);
+        checkPasswordResetTokenPattern(token, start, FieldScanner.trimEnd(token, start));
     }
 
     private static String extractDomain(String email) {
@@ -89,13 +94,55 @@ public final class DataValidator {
         return "";
     }
 
+    // ===== TRIMMED-REGION CHECKS (BOUNDS FROM FieldScanner, NO TRIMMED COPY) =====
+
+    private static void checkTrimmedLength(String fieldName, int length, int minLength, int maxLength) {
+        if (length == 0) {
+            throw new EmptyFieldException(fieldName);
+        }
+        if (length < minLength) {
+            throw new FieldTooShortException(fieldName, minLength, length);
+        }
+        if (length > maxLength) {
+            throw new FieldTooLongException(fieldName, maxLength, length);
+        }
+    }
+
+    private static void checkEmailPattern(String email, int start, int end) {
+        if (!FieldScanner.isEmail(email, start, end)) {
+            throw new InvalidEmailFormatException(email);
+        }
+    }
+
+    private static void checkPhonePattern(String phone, int start, int end) {
+        if (!FieldScanner.isSerbianPhone(phone, start, end)) {
+            throw new InvalidPhoneFormatException(phone + " (Expected format: +381xxxxxxxx)");
+        }
+    }
+
+    private static void checkNamePattern(String name, String fieldName, int start, int end) {
+        if (!FieldScanner.isName(name, start, end)) {
+            throw new InvalidCharacterException(fieldName, "Only letters, spaces, hyphens, and apostrophes are allowed");
+        }
+    }
+
+    private static void checkOtpPattern(String otpCode, int start, int end) {
+        if (!FieldScanner.isOtpCode(otpCode, start, end)) {
+            throw new InvalidOtpFormatException(otpCode);
+        }
+    }
+
+    private static void checkPasswordResetTokenPattern(String token, int start, int end) {
+        if (!FieldScanner.isUuid(token, start, end)) {
+            throw new InvalidPasswordResetTokenFormatException();
+        }
+    }
+
     // ===== MODULAR FIELD VALIDATION =====
 
     public static void checkField(String value, String fieldName, int minLength, int maxLength) {
         checkNotNull(value, fieldName);
-        checkNotEmptyString(value, fieldName);
-        checkMinLength(value, fieldName, minLength);
-        checkMaxLength(value, fieldName, maxLength);
+        checkTrimmedLength(fieldName, FieldScanner.trimmedLength(value), minLength, maxLength);
     }
 
     public static void checkEmailDomain(String email) {
@@ -105,19 +152,31 @@ public final class DataValidator {
 
     // ===== COMPOSITE VALIDATION (CONTROLLED CALL ORDER) =====
 
+    // Email, phone, name, OTP and token validation trim-scan the input once and reuse the bounds
+
     public static void validateEmail(String email, String fieldName) {
-        checkField(email, fieldName, ValidationConstants.MIN_EMAIL_LENGTH, ValidationConstants.MAX_EMAIL_LENGTH);
-        checkEmailPattern(email);
+        checkNotNull(email, fieldName);
+        int start = FieldScanner.trimStart(email);
+        int end = FieldScanner.trimEnd(email, start);
+        checkTrimmedLength(fieldName, end - start, ValidationConstants.MIN_EMAIL_LENGTH, ValidationConstants.MAX_EMAIL_LENGTH);
+        checkEmailPattern(email, start, end);
     }
 
     public static void validatePersonalEmail(String email, String fieldName) {
-        checkField(email, fieldName, ValidationConstants.MIN_EMAIL_LENGTH, ValidationConstants.MAX_EMAIL_LENGTH);
-        checkEmailDomain(email);
+        checkNotNull(email, fieldName);
+        int start = FieldScanner.trimStart(email);
+        int end = FieldScanner.trimEnd(email, start);
+        checkTrimmedLength(fieldName, end - start, ValidationConstants.MIN_EMAIL_LENGTH, ValidationConstants.MAX_EMAIL_LENGTH);
+        checkEmailPattern(email, start, end);
+        checkPersonalEmailDomain(email);
     }
 
     public static void validatePhone(String phone, String fieldName) {
-        checkField(phone, fieldName, ValidationConstants.MIN_PHONE_LENGTH, ValidationConstants.MAX_PHONE_LENGTH);
-        checkPhonePattern(phone);
+        checkNotNull(phone, fieldName);
+        int start = FieldScanner.trimStart(phone);
+        int end = FieldScanner.trimEnd(phone, start);
+        checkTrimmedLength(fieldName, end - start, ValidationConstants.MIN_PHONE_LENGTH, ValidationConstants.MAX_PHONE_LENGTH);
+        checkPhonePattern(phone, start, end);
     }
 
     public static void validatePassword(String password, String fieldName) {
@@ -126,8 +185,11 @@ public final class DataValidator {
     }
 
     public static void validateName(String name, String fieldName) {
-        checkField(name, fieldName, ValidationConstants.MIN_NAME_LENGTH, ValidationConstants.MAX_NAME_LENGTH);
-        checkNamePattern(name, fieldName);
+        checkNotNull(name, fieldName);
+        int start = FieldScanner.trimStart(name);
+        int end = FieldScanner.trimEnd(name, start);
+        checkTrimmedLength(fieldName, end - start, ValidationConstants.MIN_NAME_LENGTH, ValidationConstants.MAX_NAME_LENGTH);
+        checkNamePattern(name, fieldName, start, end);
     }
 
     public static void validateUsername(String username, String fieldName) {
@@ -135,13 +197,20 @@ public final class DataValidator {
     }
 
     public static void validateOtpCode(String otpCode, String fieldName) {
-        checkField(otpCode, fieldName, ValidationConstants.OTP_CODE_LENGTH, ValidationConstants.OTP_CODE_LENGTH);
-        checkOtpPattern(otpCode);
+        checkNotNull(otpCode, fieldName);
+        int start = FieldScanner.trimStart(otpCode);
+        int end = FieldScanner.trimEnd(otpCode, start);
+        checkTrimmedLength(fieldName, end - start, ValidationConstants.OTP_CODE_LENGTH, ValidationConstants.OTP_CODE_LENGTH);
+        checkOtpPattern(otpCode, start, end);
     }
 
     public static void validatePasswordResetToken(String token, String fieldName) {
         checkNotNull(token, fieldName);
-        checkNotEmptyString(token, fieldName);
-        checkPasswordResetTokenPattern(token);
+        int start = FieldScanner.trimStart(token);
+        int end = FieldScanner.trimEnd(token, start);
+        if (end == start) {
+            throw new EmptyFieldException(fieldName);
+        }
+        checkPasswordResetTokenPattern(token, start, end);
     }
 }
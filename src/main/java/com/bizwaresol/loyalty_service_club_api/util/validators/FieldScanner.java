@@ -0,0 +1,172 @@
+package com.bizwaresol.loyalty_service_club_api.util.validators;
+
+/**
+ * Single-pass, allocation-free format checks over a trimmed region of the raw input.
+ * <p>
+ * Each matcher accepts exactly the strings accepted by the corresponding pattern in
+ * {@link com.bizwaresol.loyalty_service_club_api.constant.ValidationConstants} applied to
+ * {@code value.trim()}, but works on the {@code [start, end)} bounds from {@link #trimStart(String)}
+ * and {@link #trimEnd(String, int)} instead of a trimmed copy, and without regex.
+ */
+public final class FieldScanner {
+
+    private static final String PHONE_PREFIX = "+381";
+    private static final int PHONE_MIN_DIGITS = 8;
+    private static final int PHONE_MAX_DIGITS = 9;
+    private static final int OTP_CODE_LENGTH = 6;
+    private static final int UUID_LENGTH = 36;
+    private static final int MIN_TLD_LENGTH = 2;
+
+    private FieldScanner() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    // ===== TRIM BOUNDS (same rule as String.trim(): strips chars <= U+0020) =====
+
+    public static int trimStart(String value) {
+        int start = 0;
+        int length = value.length();
+        while (start < length && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    public static int trimEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    public static int trimmedLength(String value) {
+        int start = trimStart(value);
+        return trimEnd(value, start) - start;
+    }
+
+    // ===== FORMAT MATCHERS =====
+
+    /**
+     * Equivalent to {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$}
+     */
+    public static boolean isEmail(String value, int start, int end) {
+        int atIndex = -1;
+        int lastDotIndex = -1;
+        boolean tldAlphabetic = false;
+
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (atIndex >= 0) {
+                    return false;
+                }
+                atIndex = i;
+            } else if (atIndex < 0) {
+                if (!isAsciiLetterOrDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDotIndex = i;
+                tldAlphabetic = true;
+            } else if (isAsciiLetter(c)) {
+                // stays alphabetic
+            } else if (isAsciiDigit(c) || c == '-') {
+                tldAlphabetic = false;
+            } else {
+                return false;
+            }
+        }
+
+        return atIndex > start
+                && lastDotIndex > atIndex + 1
+                && end - lastDotIndex - 1 >= MIN_TLD_LENGTH
+                && tldAlphabetic;
+    }
+
+    /**
+     * Equivalent to {@code ^\+381[0-9]{8,9}$}
+     */
+    public static boolean isSerbianPhone(String value, int start, int end) {
+        int digits = end - start - PHONE_PREFIX.length();
+        if (digits < PHONE_MIN_DIGITS || digits > PHONE_MAX_DIGITS
+                || !value.startsWith(PHONE_PREFIX, start)) {
+            return false;
+        }
+        return allAsciiDigits(value, start + PHONE_PREFIX.length(), end);
+    }
+
+    /**
+     * Equivalent to {@code ^[0-9]{6}$}
+     */
+    public static boolean isOtpCode(String value, int start, int end) {
+        return end - start == OTP_CODE_LENGTH && allAsciiDigits(value, start, end);
+    }
+
+    /**
+     * Equivalent to {@code ^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$}
+     */
+    public static boolean isUuid(String value, int start, int end) {
+        if (end - start != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isAsciiHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to {@code ^[a-zA-Z\s\-']+$} (where {@code \s} is {@code [ \t\n\x0B\f\r]})
+     */
+    public static boolean isName(String value, int start, int end) {
+        if (end <= start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetter(c) && c != '-' && c != '\'' && !isRegexWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ===== CHARACTER CLASSES =====
+
+    private static boolean allAsciiDigits(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isAsciiDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
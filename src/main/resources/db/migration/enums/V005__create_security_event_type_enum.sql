@@ -0,0 +1,11 @@
+-- V005__create_security_event_type_enum.sql
+-- Enum for the authentication events recorded in security_events
+
+CREATE TYPE security_event_type_enum AS ENUM (
+    'LOGIN',
+    'REGISTRATION',
+    'OTP_SEND',
+    'OTP_VERIFY',
+    'PASSWORD_RESET_REQUEST',
+    'PASSWORD_RESET'
+    );
@@ -1,24 +1,30 @@
 -- V203__create_update_verification_status_function.sql
--- Verification status update function using customer_verification_data view
+-- Verification status update functions using customer_verification_data view
 
-CREATE OR REPLACE FUNCTION update_verification_status_for_customer(customer_id_param BIGINT)
-    RETURNS VOID AS
+-- Set-based variant used by the statement-level contact triggers: one UPDATE for all affected customers
+CREATE OR REPLACE FUNCTION update_verification_status_for_customers(customer_ids BIGINT[])
+    RETURNS INTEGER AS
 $$
 DECLARE
-    verification_data RECORD;
+    updated_count INTEGER;
 BEGIN
-    -- Get verification data for the customer's account
-    SELECT account_id, calculated_status, status_needs_update
-    INTO verification_data
-    FROM customer_verification_data
-    WHERE customer_id = customer_id_param;
+    UPDATE customer_accounts ca
+    SET verification_status = vd.calculated_status::customer_account_verification_status_enum,
+        last_modified_date  = CURRENT_TIMESTAMP
+    FROM customer_verification_data vd
+    WHERE vd.account_id = ca.id
+      AND vd.customer_id = ANY (customer_ids)
+      AND vd.status_needs_update;
+
+    GET DIAGNOSTICS updated_count = ROW_COUNT;
+    RETURN updated_count;
+END;
+$$ LANGUAGE plpgsql;
 
--- Only update if account exists and status needs updating
-    IF FOUND AND verification_data.status_needs_update THEN
-        UPDATE customer_accounts
-        SET verification_status = verification_data.calculated_status::customer_account_verification_status_enum,
-            last_modified_date  = CURRENT_TIMESTAMP
-        WHERE id = verification_data.account_id;
-    END IF;
+CREATE OR REPLACE FUNCTION update_verification_status_for_customer(customer_id_param BIGINT)
+    RETURNS VOID AS
+$$
+BEGIN
+    PERFORM update_verification_status_for_customers(ARRAY [customer_id_param]);
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$ LANGUAGE plpgsql;
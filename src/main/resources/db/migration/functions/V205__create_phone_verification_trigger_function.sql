@@ -1,23 +1,20 @@
 -- V205__create_phone_verification_trigger_function.sql
--- Phone verification trigger wrapper function
+-- Phone verification statement-level trigger function
+-- Reads the old_rows/new_rows transition tables, so a bulk UPDATE of customer_phones
+-- recalculates all affected accounts in one statement instead of once per row.
 
 CREATE OR REPLACE FUNCTION handle_phone_verification_change()
     RETURNS TRIGGER AS
 $$
-DECLARE
-    customer_id_value BIGINT;
 BEGIN
-    -- Find customer ID for this phone
-    SELECT id
-    INTO customer_id_value
-    FROM customers
-    WHERE phone_id = NEW.id;
+    PERFORM update_verification_status_for_customers(ARRAY(
+            SELECT c.id
+            FROM new_rows n
+                     JOIN old_rows o ON o.id = n.id
+                     JOIN customers c ON c.phone_id = n.id
+            WHERE o.is_verified IS DISTINCT FROM n.is_verified
+                                                     ));
 
-    -- Update verification status if customer found
-    IF FOUND THEN
-        PERFORM update_verification_status_for_customer(customer_id_value);
-    END IF;
-
-    RETURN NEW;
+    RETURN NULL;
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$ LANGUAGE plpgsql;
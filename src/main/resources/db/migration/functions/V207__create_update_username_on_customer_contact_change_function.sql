@@ -1,40 +1,23 @@
 -- V207__create_update_username_on_contact_change_function.sql
--- Username update function for customer contact changes
+-- Username update statement-level trigger function for customer contact changes
+-- Joins the old_rows/new_rows transition tables to find customers whose email_id or phone_id changed
+-- and re-derives all their usernames from customer_contact_lookup in a single UPDATE.
 
 CREATE OR REPLACE FUNCTION update_username_on_contact_change()
     RETURNS TRIGGER AS $$
-DECLARE
-    new_username TEXT;
-    account_id_value BIGINT;
 BEGIN
-    -- Only process if email_id OR phone_id actually changed
-    IF (OLD.email_id IS DISTINCT FROM NEW.email_id) OR
-       (OLD.phone_id IS DISTINCT FROM NEW.phone_id) THEN
+    UPDATE customer_accounts ca
+    SET username = ccl.preferred_username,
+        last_modified_date = CURRENT_TIMESTAMP
+    FROM new_rows n
+             JOIN old_rows o ON o.id = n.id
+             JOIN customer_contact_lookup ccl ON ccl.customer_id = n.id
+    WHERE ca.customer_id = n.id
+      -- Only customers whose email_id OR phone_id actually changed
+      AND (o.email_id IS DISTINCT FROM n.email_id OR o.phone_id IS DISTINCT FROM n.phone_id)
+      -- Keep the current username if no contact info is left
+      AND ccl.preferred_username IS NOT NULL;
 
-        -- Get account ID for this customer
-        SELECT id INTO account_id_value
-        FROM customer_accounts
-        WHERE customer_id = NEW.id;
-
-        -- Only proceed if account exists
-        IF FOUND THEN
-
-            -- Get new preferred username using view (handles email/phone priority automatically)
-            SELECT preferred_username INTO new_username
-            FROM customer_contact_lookup
-            WHERE customer_id = NEW.id;
-
-            -- Update username if we have contact info
-            IF new_username IS NOT NULL THEN
-                UPDATE customer_accounts
-                SET username = new_username,
-                    last_modified_date = CURRENT_TIMESTAMP
-                WHERE id = account_id_value;
-            END IF;
-
-        END IF;
-    END IF;
-
-    RETURN NEW;
+    RETURN NULL;
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$ LANGUAGE plpgsql;
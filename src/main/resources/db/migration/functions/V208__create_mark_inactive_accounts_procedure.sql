@@ -0,0 +1,183 @@
+-- V208__create_mark_inactive_accounts_procedure.sql
+-- Inactivity job as a procedure: set-based chunks committed one by one, keyed on (last_login_at, id)
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (COMMIT is issued per chunk)
+
+DROP ROUTINE IF EXISTS mark_inactive_accounts_batched();
+
+CREATE OR REPLACE PROCEDURE mark_inactive_accounts_batched()
+    LANGUAGE plpgsql AS $$
+DECLARE
+    -- Configuration variables
+    inactivity_days INTEGER;
+    batch_size INTEGER;
+
+    -- Run state (persisted in job_watermarks)
+    cutoff TIMESTAMPTZ;
+    wm_timestamp TIMESTAMPTZ;
+    wm_id BIGINT;
+
+    -- Processing variables
+    total_processed INTEGER := 0;
+    batch_count INTEGER := 0;
+    chunk_rows INTEGER;
+    chunk_last_login TIMESTAMPTZ;
+    chunk_last_id BIGINT;
+
+    -- Timing variables (clock_timestamp, since CURRENT_TIMESTAMP changes only per transaction)
+    start_time TIMESTAMPTZ;
+    chunk_start_time TIMESTAMPTZ;
+    execution_time_ms INTEGER;
+    chunk_time_ms INTEGER;
+
+    -- Error handling
+    error_message TEXT;
+BEGIN
+    start_time := clock_timestamp();
+
+    -- Read configuration and open (or resume) the run
+    BEGIN
+        SELECT value::INTEGER INTO inactivity_days
+        FROM business_config
+        WHERE key = 'account_inactivity_days';
+
+        SELECT value::INTEGER INTO batch_size
+        FROM business_config
+        WHERE key = 'inactivity_batch_size';
+
+        IF inactivity_days IS NULL THEN
+            RAISE EXCEPTION 'Configuration missing: account_inactivity_days';
+        END IF;
+
+        IF batch_size IS NULL THEN
+            RAISE EXCEPTION 'Configuration missing: inactivity_batch_size';
+        END IF;
+
+        -- An unfinished run keeps its cutoff and continues after the last committed chunk
+        SELECT cutoff_at, watermark_timestamp, watermark_id
+        INTO cutoff, wm_timestamp, wm_id
+        FROM job_watermarks
+        WHERE job_name = 'mark_inactive_accounts'
+          AND completed = FALSE;
+
+        IF FOUND THEN
+            RAISE NOTICE 'Resuming account inactivity job: cutoff=%, watermark=(%, %)',
+                cutoff, wm_timestamp, wm_id;
+        ELSE
+            cutoff := CURRENT_TIMESTAMP - make_interval(days => inactivity_days);
+            wm_timestamp := '-infinity'::TIMESTAMPTZ;
+            wm_id := 0;
+
+            INSERT INTO job_watermarks (job_name, cutoff_at, watermark_timestamp, watermark_id, completed)
+            VALUES ('mark_inactive_accounts', cutoff, wm_timestamp, wm_id, FALSE)
+            ON CONFLICT (job_name) DO UPDATE
+                SET cutoff_at           = EXCLUDED.cutoff_at,
+                    watermark_timestamp = EXCLUDED.watermark_timestamp,
+                    watermark_id        = EXCLUDED.watermark_id,
+                    completed           = FALSE;
+
+            RAISE NOTICE 'Starting account inactivity job: inactivity_days=%, batch_size=%, cutoff=%',
+                inactivity_days, batch_size, cutoff;
+        END IF;
+
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+    END;
+
+    IF error_message IS NULL THEN
+        COMMIT;
+
+        LOOP
+            chunk_start_time := clock_timestamp();
+            chunk_rows := 0;
+
+            -- Chunk body runs in its own block so a failure rolls back only this chunk.
+            -- COMMIT stays outside the block (not allowed inside one with an exception handler).
+            BEGIN
+                WITH chunk AS (
+                    SELECT id
+                    FROM customer_accounts
+                    WHERE activity_status = 'ACTIVE'
+                      AND last_login_at < cutoff
+                      AND (last_login_at, id) > (wm_timestamp, wm_id)
+                    ORDER BY last_login_at, id
+                    LIMIT batch_size
+                    FOR UPDATE SKIP LOCKED
+                ),
+                     updated AS (
+                         UPDATE customer_accounts ca
+                         SET activity_status = 'INACTIVE'::customer_account_activity_status_enum,
+                             last_modified_date = CURRENT_TIMESTAMP
+                         FROM chunk
+                         WHERE ca.id = chunk.id
+                         RETURNING ca.id, ca.last_login_at
+                     )
+                SELECT COUNT(*) OVER (), last_login_at, id
+                INTO chunk_rows, chunk_last_login, chunk_last_id
+                FROM updated
+                ORDER BY last_login_at DESC, id DESC
+                LIMIT 1;
+
+                chunk_rows := COALESCE(chunk_rows, 0);
+
+                IF chunk_rows > 0 THEN
+                    UPDATE job_watermarks
+                    SET watermark_timestamp = chunk_last_login,
+                        watermark_id = chunk_last_id
+                    WHERE job_name = 'mark_inactive_accounts';
+
+                    chunk_time_ms := EXTRACT(EPOCH FROM (clock_timestamp() - chunk_start_time)) * 1000;
+
+                    INSERT INTO job_execution_audit (
+                        job_name, execution_date, success, records_processed, execution_time_ms
+                    ) VALUES (
+                                 'mark_inactive_accounts_chunk', CURRENT_DATE, TRUE, chunk_rows, chunk_time_ms
+                             );
+                END IF;
+
+            EXCEPTION WHEN OTHERS THEN
+                error_message := SQLERRM;
+            END;
+
+            EXIT WHEN error_message IS NOT NULL OR chunk_rows = 0;
+
+            wm_timestamp := chunk_last_login;
+            wm_id := chunk_last_id;
+            total_processed := total_processed + chunk_rows;
+            batch_count := batch_count + 1;
+
+            RAISE NOTICE 'Committed batch %: % accounts in % ms (total: %)',
+                batch_count, chunk_rows, chunk_time_ms, total_processed;
+
+            COMMIT;
+        END LOOP;
+    END IF;
+
+    execution_time_ms := EXTRACT(EPOCH FROM (clock_timestamp() - start_time)) * 1000;
+
+    IF error_message IS NULL THEN
+        UPDATE job_watermarks
+        SET completed = TRUE
+        WHERE job_name = 'mark_inactive_accounts';
+
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, execution_time_ms
+        ) VALUES (
+                     'mark_inactive_accounts', CURRENT_DATE, TRUE, total_processed, execution_time_ms
+                 );
+
+        RAISE NOTICE 'Account inactivity job completed successfully: % accounts processed in % batches (%.3f seconds)',
+            total_processed, batch_count, execution_time_ms / 1000.0;
+    ELSE
+        -- Watermark is left open, so the next run resumes after the last committed chunk
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+        ) VALUES (
+                     'mark_inactive_accounts', CURRENT_DATE, FALSE, total_processed, error_message, execution_time_ms
+                 );
+
+        RAISE NOTICE 'Account inactivity job failed: % (committed % accounts before failure)',
+            error_message, total_processed;
+    END IF;
+    -- DO NOT RE-RAISE EXCEPTION, to allow audit record to be committed.
+END;
+$$;
@@ -1,19 +1,30 @@
 -- V210__create_job_execution_audit_cleanup_function.sql
 -- Job execution audit cleanup function
+-- job_execution_audit is partitioned by month: expired partitions are dropped, only the boundary and default
+-- partitions are trimmed with batched deletes.
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (the batch engine commits per batch).
+-- A failure is raised after the batches deleted so far are committed; with raise_on_error = FALSE it is only
+-- reported in error_message (a CALL that commits cannot sit inside an exception block).
 
-CREATE OR REPLACE FUNCTION cleanup_job_execution_audit()
-    RETURNS VOID AS $$
+DROP ROUTINE IF EXISTS cleanup_job_execution_audit();
+
+CREATE OR REPLACE PROCEDURE cleanup_job_execution_audit(raise_on_error BOOLEAN DEFAULT TRUE,
+                                                        INOUT error_message TEXT DEFAULT NULL)
+    LANGUAGE plpgsql AS $$
 DECLARE
     cleanup_days INTEGER;
     batch_size INTEGER;
-    total_deleted INTEGER := 0;
-    current_batch_deleted INTEGER;
+    cutoff TIMESTAMPTZ;
+    dropped_partition_rows BIGINT := 0;
+    total_deleted BIGINT := 0;
+    trimmed_rows BIGINT := 0;
+    cleanup_details JSONB;
     start_time TIMESTAMPTZ;
     end_time TIMESTAMPTZ;
     execution_time_ms INTEGER;
-    error_message TEXT;
 BEGIN
-    start_time := CURRENT_TIMESTAMP;
+    start_time := clock_timestamp();
+    error_message := NULL;
 
     BEGIN
         -- Get configuration
@@ -27,43 +38,47 @@ BEGIN
             RAISE EXCEPTION 'Missing cleanup configuration: job_execution_audit_cleanup_days or cleanup_batch_size';
         END IF;
 
+        cutoff := CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL;
+
         RAISE NOTICE 'Starting job execution audit cleanup: cleanup_days=%, batch_size=%',
             cleanup_days, batch_size;
 
-        -- Delete in batches to avoid long locks
-        LOOP
-            DELETE FROM job_execution_audit
-            WHERE id IN (
-                SELECT id FROM job_execution_audit
-                WHERE created_date < CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL
-                LIMIT batch_size
-            );
+        -- Drop partitions that lie entirely before the cutoff (metadata-only, no index churn)
+        dropped_partition_rows := drop_range_partitions_before('job_execution_audit', cutoff);
+        total_deleted := dropped_partition_rows;
 
-            GET DIAGNOSTICS current_batch_deleted = ROW_COUNT;
-            total_deleted := total_deleted + current_batch_deleted;
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+    END;
 
-            EXIT WHEN current_batch_deleted = 0;
+    IF error_message IS NULL THEN
+        -- Trim the remainder with the adaptive batch engine, which commits per batch; partition pruning limits
+        -- this to the boundary and default partitions
+        CALL run_adaptive_batched_delete(
+                'DELETE FROM job_execution_audit
+                 WHERE id IN (SELECT id FROM job_execution_audit WHERE created_date < $2 LIMIT $1)
+                   AND created_date < $2',
+                cutoff, trimmed_rows, cleanup_details, error_message);
+        total_deleted := total_deleted + trimmed_rows;
+    END IF;
 
-            RAISE NOTICE 'Deleted % job audit records (total: %)',
-                current_batch_deleted, total_deleted;
-        END LOOP;
+    end_time := clock_timestamp();
+    execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
 
+    IF error_message IS NULL THEN
         -- Note: We don't log this cleanup to job_execution_audit to avoid circular logging
         -- Instead, we log to PostgreSQL logs via RAISE NOTICE
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
-
-        RAISE NOTICE 'Job execution audit cleanup completed: % records deleted in %.3f seconds',
-            total_deleted, execution_time_ms / 1000.0;
-
-    EXCEPTION WHEN OTHERS THEN
-        error_message := SQLERRM;
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
-
+        RAISE NOTICE 'Job execution audit cleanup completed: % records deleted in %.3f seconds (batching: %)',
+            total_deleted, execution_time_ms / 1000.0, cleanup_details;
+    ELSE
         RAISE NOTICE 'Job execution audit cleanup failed: % (processed % records before failure in %.3f seconds)',
             error_message, total_deleted, execution_time_ms / 1000.0;
-        RAISE;
-    END;
+    END IF;
+
+    COMMIT;
+
+    IF error_message IS NOT NULL AND raise_on_error THEN
+        RAISE EXCEPTION '%', error_message;
+    END IF;
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$;
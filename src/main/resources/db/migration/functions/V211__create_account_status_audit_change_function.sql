@@ -1,19 +1,30 @@
 -- V211__create_account_status_audit_cleanup_function.sql
 -- Account status audit cleanup function
+-- account_status_audit is partitioned by month: expired partitions are dropped, only the boundary and default
+-- partitions are trimmed with batched deletes.
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (the batch engine commits per batch).
+-- A failure is audited and committed, then raised; run_all_cleanup_jobs passes raise_on_error = FALSE and reads
+-- error_message instead, since a CALL that commits cannot sit inside an exception block.
 
-CREATE OR REPLACE FUNCTION cleanup_account_status_audit()
-    RETURNS VOID AS $$
+DROP ROUTINE IF EXISTS cleanup_account_status_audit();
+
+CREATE OR REPLACE PROCEDURE cleanup_account_status_audit(raise_on_error BOOLEAN DEFAULT TRUE,
+                                                         INOUT error_message TEXT DEFAULT NULL)
+    LANGUAGE plpgsql AS $$
 DECLARE
     cleanup_days INTEGER;
     batch_size INTEGER;
-    total_deleted INTEGER := 0;
-    current_batch_deleted INTEGER;
+    cutoff TIMESTAMPTZ;
+    dropped_partition_rows BIGINT := 0;
+    total_deleted BIGINT := 0;
+    trimmed_rows BIGINT := 0;
+    cleanup_details JSONB;
     start_time TIMESTAMPTZ;
     end_time TIMESTAMPTZ;
     execution_time_ms INTEGER;
-    error_message TEXT;
 BEGIN
-    start_time := CURRENT_TIMESTAMP;
+    start_time := clock_timestamp();
+    error_message := NULL;
 
     BEGIN
         -- Get configuration
@@ -27,54 +38,57 @@ BEGIN
             RAISE EXCEPTION 'Missing cleanup configuration: account_status_audit_cleanup_days or cleanup_batch_size';
         END IF;
 
+        cutoff := CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL;
+
         RAISE NOTICE 'Starting account status audit cleanup: cleanup_days=%, batch_size=%',
             cleanup_days, batch_size;
 
-        -- Delete in batches to avoid long locks
-        LOOP
-            DELETE FROM account_status_audit
-            WHERE id IN (
-                SELECT id FROM account_status_audit
-                WHERE created_date < CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL
-                LIMIT batch_size
-            );
+        -- Drop partitions that lie entirely before the cutoff (metadata-only, no index churn)
+        dropped_partition_rows := drop_range_partitions_before('account_status_audit', cutoff);
+        total_deleted := dropped_partition_rows;
 
-            GET DIAGNOSTICS current_batch_deleted = ROW_COUNT;
-            total_deleted := total_deleted + current_batch_deleted;
-
-            EXIT WHEN current_batch_deleted = 0;
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+    END;
 
-            RAISE NOTICE 'Deleted % account status audit records (total: %)',
-                current_batch_deleted, total_deleted;
-        END LOOP;
+    IF error_message IS NULL THEN
+        -- Trim the remainder with the adaptive batch engine, which commits per batch; partition pruning limits
+        -- this to the boundary and default partitions
+        CALL run_adaptive_batched_delete(
+                'DELETE FROM account_status_audit
+                 WHERE id IN (SELECT id FROM account_status_audit WHERE created_date < $2 LIMIT $1)
+                   AND created_date < $2',
+                cutoff, trimmed_rows, cleanup_details, error_message);
+        total_deleted := total_deleted + trimmed_rows;
+    END IF;
 
-        -- Log success
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+    end_time := clock_timestamp();
+    execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
 
+    IF error_message IS NULL THEN
         INSERT INTO job_execution_audit (
-            job_name, execution_date, success, records_processed, execution_time_ms
+            job_name, execution_date, success, records_processed, execution_time_ms, details
         ) VALUES (
-                     'cleanup_account_status_audit', CURRENT_DATE, TRUE, total_deleted, execution_time_ms
+                     'cleanup_account_status_audit', CURRENT_DATE, TRUE, total_deleted, execution_time_ms, cleanup_details
                  );
 
         RAISE NOTICE 'Account status audit cleanup completed: % records deleted in %.3f seconds',
             total_deleted, execution_time_ms / 1000.0;
-
-    EXCEPTION WHEN OTHERS THEN
-        error_message := SQLERRM;
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
-
+    ELSE
         INSERT INTO job_execution_audit (
-            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms, details
         ) VALUES (
-                     'cleanup_account_status_audit', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms
+                     'cleanup_account_status_audit', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms, cleanup_details
                  );
 
         RAISE NOTICE 'Account status audit cleanup failed: % (processed % records before failure)',
             error_message, total_deleted;
-        RAISE;
-    END;
+    END IF;
+
+    COMMIT;
+
+    IF error_message IS NOT NULL AND raise_on_error THEN
+        RAISE EXCEPTION '%', error_message;
+    END IF;
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$;
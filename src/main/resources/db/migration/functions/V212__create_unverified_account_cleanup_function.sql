@@ -1,19 +1,25 @@
 -- V212__create_unverified_account_cleanup_function.sql
 -- Unverified account cleanup function (most important for business value)
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (the batch engine commits per batch).
+-- A failure is audited and committed, then raised; run_all_cleanup_jobs passes raise_on_error = FALSE and reads
+-- error_message instead, since a CALL that commits cannot sit inside an exception block.
 
-CREATE OR REPLACE FUNCTION cleanup_unverified_accounts()
-    RETURNS VOID AS $$
+DROP ROUTINE IF EXISTS cleanup_unverified_accounts();
+
+CREATE OR REPLACE PROCEDURE cleanup_unverified_accounts(raise_on_error BOOLEAN DEFAULT TRUE,
+                                                        INOUT error_message TEXT DEFAULT NULL)
+    LANGUAGE plpgsql AS $$
 DECLARE
     cleanup_days INTEGER;
     batch_size INTEGER;
-    total_deleted INTEGER := 0;
-    current_batch_deleted INTEGER;
+    total_deleted BIGINT := 0;
+    cleanup_details JSONB;
     start_time TIMESTAMPTZ;
     end_time TIMESTAMPTZ;
     execution_time_ms INTEGER;
-    error_message TEXT;
 BEGIN
-    start_time := CURRENT_TIMESTAMP;
+    start_time := clock_timestamp();
+    error_message := NULL;
 
     BEGIN
         -- Get configuration
@@ -30,56 +36,55 @@ BEGIN
         RAISE NOTICE 'Starting unverified account cleanup: cleanup_days=%, batch_size=%',
             cleanup_days, batch_size;
 
-        -- Delete unverified accounts that never logged in, in batches
-        -- This will cascade delete the customer and associated email/phone records
-        LOOP
-            DELETE FROM customer_accounts
-            WHERE id IN (
-                SELECT ca.id
-                FROM customer_accounts ca
-                WHERE ca.verification_status = 'UNVERIFIED'
-                  AND ca.last_login_at IS NULL
-                  AND ca.created_date < CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL
-                LIMIT batch_size
-                    FOR UPDATE SKIP LOCKED
-            );
-
-            GET DIAGNOSTICS current_batch_deleted = ROW_COUNT;
-            total_deleted := total_deleted + current_batch_deleted;
-
-            EXIT WHEN current_batch_deleted = 0;
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+    END;
 
-            RAISE NOTICE 'Deleted % unverified accounts (total: %)',
-                current_batch_deleted, total_deleted;
-        END LOOP;
+    IF error_message IS NULL THEN
+        -- Delete unverified accounts that never logged in with the adaptive batch engine, which commits per batch
+        -- This will cascade delete the customer and associated email/phone records
+        CALL run_adaptive_batched_delete(
+                'DELETE FROM customer_accounts
+                 WHERE id IN (
+                     SELECT ca.id
+                     FROM customer_accounts ca
+                     WHERE ca.verification_status = ''UNVERIFIED''
+                       AND ca.last_login_at IS NULL
+                       AND ca.created_date < $2
+                     LIMIT $1
+                         FOR UPDATE SKIP LOCKED
+                 )',
+                CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL,
+                total_deleted, cleanup_details, error_message);
+    END IF;
 
-        -- Log success
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+    end_time := clock_timestamp();
+    execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
 
+    IF error_message IS NULL THEN
         INSERT INTO job_execution_audit (
-            job_name, execution_date, success, records_processed, execution_time_ms
+            job_name, execution_date, success, records_processed, execution_time_ms, details
         ) VALUES (
-                     'cleanup_unverified_accounts', CURRENT_DATE, TRUE, total_deleted, execution_time_ms
+                     'cleanup_unverified_accounts', CURRENT_DATE, TRUE, total_deleted, execution_time_ms, cleanup_details
                  );
 
         RAISE NOTICE 'Unverified account cleanup completed: % accounts deleted in %.3f seconds',
             total_deleted, execution_time_ms / 1000.0;
-
-    EXCEPTION WHEN OTHERS THEN
-        error_message := SQLERRM;
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
-
+    ELSE
         INSERT INTO job_execution_audit (
-            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms, details
         ) VALUES (
-                     'cleanup_unverified_accounts', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms
+                     'cleanup_unverified_accounts', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms, cleanup_details
                  );
 
         RAISE NOTICE 'Unverified account cleanup failed: % (processed % accounts before failure)',
             error_message, total_deleted;
-        RAISE;
-    END;
+    END IF;
+
+    COMMIT;
+
+    IF error_message IS NOT NULL AND raise_on_error THEN
+        RAISE EXCEPTION '%', error_message;
+    END IF;
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$;
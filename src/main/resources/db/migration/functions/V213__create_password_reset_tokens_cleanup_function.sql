@@ -1,19 +1,25 @@
 -- V213__create_password_reset_tokens_cleanup_function.sql
 -- Database function to periodically clean up the password_reset_tokens table.
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (the batch engine commits per batch).
+-- A failure is audited and committed, then raised; run_all_cleanup_jobs passes raise_on_error = FALSE and reads
+-- error_message instead, since a CALL that commits cannot sit inside an exception block.
 
-CREATE OR REPLACE FUNCTION cleanup_password_reset_tokens()
-    RETURNS VOID AS $$
+DROP ROUTINE IF EXISTS cleanup_password_reset_tokens();
+
+CREATE OR REPLACE PROCEDURE cleanup_password_reset_tokens(raise_on_error BOOLEAN DEFAULT TRUE,
+                                                          INOUT error_message TEXT DEFAULT NULL)
+    LANGUAGE plpgsql AS $$
 DECLARE
     cleanup_days INTEGER;
     batch_size INTEGER;
-    total_deleted INTEGER := 0;
-    current_batch_deleted INTEGER;
+    total_deleted BIGINT := 0;
+    cleanup_details JSONB;
     start_time TIMESTAMPTZ;
     end_time TIMESTAMPTZ;
     execution_time_ms INTEGER;
-    error_message TEXT;
 BEGIN
-    start_time := CURRENT_TIMESTAMP;
+    start_time := clock_timestamp();
+    error_message := NULL;
 
     BEGIN
         -- Get configuration values
@@ -30,52 +36,46 @@ BEGIN
         RAISE NOTICE 'Starting password reset tokens cleanup: cleanup_days=%, batch_size=%',
             cleanup_days, batch_size;
 
-        -- Delete old tokens in batches to avoid long-running transactions
-        LOOP
-            DELETE FROM password_reset_tokens
-            WHERE id IN (
-                SELECT id FROM password_reset_tokens
-                WHERE created_date < CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL
-                LIMIT batch_size
-            );
-
-            GET DIAGNOSTICS current_batch_deleted = ROW_COUNT;
-            total_deleted := total_deleted + current_batch_deleted;
-
-            EXIT WHEN current_batch_deleted = 0;
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+    END;
 
-            RAISE NOTICE 'Deleted % password reset tokens (total: %)',
-                current_batch_deleted, total_deleted;
-        END LOOP;
+    IF error_message IS NULL THEN
+        -- Delete old tokens with the adaptive batch engine, which commits per batch, to avoid long-running lock holds
+        CALL run_adaptive_batched_delete(
+                'DELETE FROM password_reset_tokens
+                 WHERE id IN (SELECT id FROM password_reset_tokens WHERE created_date < $2 LIMIT $1)',
+                CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL,
+                total_deleted, cleanup_details, error_message);
+    END IF;
 
-        -- Log successful execution
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+    end_time := clock_timestamp();
+    execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
 
+    IF error_message IS NULL THEN
         INSERT INTO job_execution_audit (
-            job_name, execution_date, success, records_processed, execution_time_ms
+            job_name, execution_date, success, records_processed, execution_time_ms, details
         ) VALUES (
-                     'cleanup_password_reset_tokens', CURRENT_DATE, TRUE, total_deleted, execution_time_ms
+                     'cleanup_password_reset_tokens', CURRENT_DATE, TRUE, total_deleted, execution_time_ms, cleanup_details
                  );
 
         RAISE NOTICE 'Password reset tokens cleanup completed: % tokens deleted in %.3f seconds',
             total_deleted, execution_time_ms / 1000.0;
-
-    EXCEPTION WHEN OTHERS THEN
-        error_message := SQLERRM;
-        end_time := CURRENT_TIMESTAMP;
-        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
-
-        -- Log failed execution
+    ELSE
         INSERT INTO job_execution_audit (
-            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms, details
         ) VALUES (
-                     'cleanup_password_reset_tokens', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms
+                     'cleanup_password_reset_tokens', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms, cleanup_details
                  );
 
         RAISE NOTICE 'Password reset tokens cleanup failed: % (processed % tokens before failure)',
             error_message, total_deleted;
-        RAISE;
-    END;
+    END IF;
+
+    COMMIT;
+
+    IF error_message IS NOT NULL AND raise_on_error THEN
+        RAISE EXCEPTION '%', error_message;
+    END IF;
 END;
-$$ LANGUAGE plpgsql;
+$$;
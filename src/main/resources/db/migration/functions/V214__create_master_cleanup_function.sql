@@ -1,62 +1,72 @@
 -- V214__update_master_cleanup_function_with_reset_tokens.sql
 -- Updates the master cleanup function to include the new password reset token cleanup.
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (the cleanup jobs commit per batch).
+-- A failed job is audited by the job itself and reported through job_error; the remaining jobs still run.
 
-CREATE OR REPLACE FUNCTION run_all_cleanup_jobs()
-    RETURNS VOID AS $$
+DROP ROUTINE IF EXISTS run_all_cleanup_jobs();
+
+CREATE OR REPLACE PROCEDURE run_all_cleanup_jobs()
+    LANGUAGE plpgsql AS $$
 DECLARE
     start_time TIMESTAMPTZ;
     end_time TIMESTAMPTZ;
     execution_time_ms INTEGER;
-    error_message TEXT;
+    job_error TEXT;
     total_errors INTEGER := 0;
-    jobs_to_run INTEGER := 4; -- Updated to 4 jobs
+    jobs_to_run INTEGER := 5;
 BEGIN
-    start_time := CURRENT_TIMESTAMP;
+    -- clock_timestamp, since CURRENT_TIMESTAMP changes with every commit of the jobs
+    start_time := clock_timestamp();
 
     RAISE NOTICE 'Starting all database cleanup jobs at %', start_time;
 
     -- Run OTP token cleanup
-    BEGIN
-        PERFORM cleanup_otp_tokens();
+    CALL cleanup_otp_tokens(FALSE, job_error);
+    IF job_error IS NULL THEN
         RAISE NOTICE '✅ OTP token cleanup completed successfully';
-    EXCEPTION WHEN OTHERS THEN
+    ELSE
         total_errors := total_errors + 1;
-        error_message := SQLERRM;
-        RAISE NOTICE '❌ OTP token cleanup failed: %', error_message;
-    END;
+        RAISE NOTICE '❌ OTP token cleanup failed: %', job_error;
+    END IF;
 
     -- NEW: Run password reset token cleanup
-    BEGIN
-        PERFORM cleanup_password_reset_tokens();
+    CALL cleanup_password_reset_tokens(FALSE, job_error);
+    IF job_error IS NULL THEN
         RAISE NOTICE '✅ Password reset token cleanup completed successfully';
-    EXCEPTION WHEN OTHERS THEN
+    ELSE
         total_errors := total_errors + 1;
-        error_message := SQLERRM;
-        RAISE NOTICE '❌ Password reset token cleanup failed: %', error_message;
-    END;
+        RAISE NOTICE '❌ Password reset token cleanup failed: %', job_error;
+    END IF;
 
     -- Run account status audit cleanup
-    BEGIN
-        PERFORM cleanup_account_status_audit();
+    CALL cleanup_account_status_audit(FALSE, job_error);
+    IF job_error IS NULL THEN
         RAISE NOTICE '✅ Account status audit cleanup completed successfully';
-    EXCEPTION WHEN OTHERS THEN
+    ELSE
         total_errors := total_errors + 1;
-        error_message := SQLERRM;
-        RAISE NOTICE '❌ Account status audit cleanup failed: %', error_message;
-    END;
+        RAISE NOTICE '❌ Account status audit cleanup failed: %', job_error;
+    END IF;
+
+    -- Run security events cleanup
+    CALL cleanup_security_events(FALSE, job_error);
+    IF job_error IS NULL THEN
+        RAISE NOTICE '✅ Security events cleanup completed successfully';
+    ELSE
+        total_errors := total_errors + 1;
+        RAISE NOTICE '❌ Security events cleanup failed: %', job_error;
+    END IF;
 
     -- Run unverified account cleanup
-    BEGIN
-        PERFORM cleanup_unverified_accounts();
+    CALL cleanup_unverified_accounts(FALSE, job_error);
+    IF job_error IS NULL THEN
         RAISE NOTICE '✅ Unverified account cleanup completed successfully';
-    EXCEPTION WHEN OTHERS THEN
+    ELSE
         total_errors := total_errors + 1;
-        error_message := SQLERRM;
-        RAISE NOTICE '❌ Unverified account cleanup failed: %', error_message;
-    END;
+        RAISE NOTICE '❌ Unverified account cleanup failed: %', job_error;
+    END IF;
 
     -- Calculate total execution time
-    end_time := CURRENT_TIMESTAMP;
+    end_time := clock_timestamp();
     execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
 
     -- Log master job completion
@@ -82,4 +92,4 @@ BEGIN
     END IF;
 
 END;
-$$ LANGUAGE plpgsql;
+$$;
@@ -1,34 +1,42 @@
 -- V215__create_otp_verification_trigger_function.sql
--- This function is called by a trigger on the otp_tokens table.
--- When an OTP is successfully used for verification purposes, this function
--- updates the corresponding contact method (email or phone) to mark it as verified.
+-- This function is called by a statement-level trigger on the otp_tokens table.
+-- When OTPs are successfully used for verification purposes, this function
+-- marks the corresponding contact methods (email or phone) as verified, for all
+-- tokens of the statement at once (old_rows/new_rows transition tables).
 
 CREATE OR REPLACE FUNCTION handle_contact_verification_on_otp_use()
     RETURNS TRIGGER AS $$
 BEGIN
-    -- This function assumes the trigger's WHEN clause has already checked that
-    -- used_at was changed from NULL to a non-NULL value.
+    -- Statement-level triggers cannot filter with WHEN on column values, so the
+    -- used_at NULL -> non-NULL transition is checked against the transition tables here.
 
-    -- If the OTP was for verifying an email, update the customer_emails table.
-    IF NEW.purpose = 'EMAIL_VERIFICATION' AND NEW.customer_email_id IS NOT NULL THEN
-        UPDATE customer_emails
-        SET is_verified = true,
-            last_modified_date = CURRENT_TIMESTAMP
-        WHERE id = NEW.customer_email_id
-          -- Optimization: Only perform the update if it's not already verified.
-          -- This prevents the subsequent trigger on customer_emails from firing unnecessarily.
-          AND is_verified = false;
+    -- Emails verified by EMAIL_VERIFICATION tokens
+    UPDATE customer_emails ce
+    SET is_verified = true,
+        last_modified_date = CURRENT_TIMESTAMP
+    FROM new_rows n
+             JOIN old_rows o ON o.id = n.id
+    WHERE ce.id = n.customer_email_id
+      AND o.used_at IS NULL
+      AND n.used_at IS NOT NULL
+      AND n.purpose = 'EMAIL_VERIFICATION'
+      -- Optimization: Only perform the update if it's not already verified.
+      -- This prevents the subsequent trigger on customer_emails from doing unnecessary work.
+      AND ce.is_verified = false;
 
-        -- If the OTP was for verifying a phone, update the customer_phones table.
-    ELSIF NEW.purpose = 'PHONE_VERIFICATION' AND NEW.customer_phone_id IS NOT NULL THEN
-        UPDATE customer_phones
-        SET is_verified = true,
-            last_modified_date = CURRENT_TIMESTAMP
-        WHERE id = NEW.customer_phone_id
-          -- Optimization: Only perform the update if it's not already verified.
-          AND is_verified = false;
-    END IF;
+    -- Phones verified by PHONE_VERIFICATION tokens
+    UPDATE customer_phones cp
+    SET is_verified = true,
+        last_modified_date = CURRENT_TIMESTAMP
+    FROM new_rows n
+             JOIN old_rows o ON o.id = n.id
+    WHERE cp.id = n.customer_phone_id
+      AND o.used_at IS NULL
+      AND n.used_at IS NOT NULL
+      AND n.purpose = 'PHONE_VERIFICATION'
+      -- Optimization: Only perform the update if it's not already verified.
+      AND cp.is_verified = false;
 
-    RETURN NEW;
+    RETURN NULL;
 END;
-$$ LANGUAGE plpgsql;
\ No newline at end of file
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,109 @@
+-- V216__create_partition_maintenance_functions.sql
+-- Generic helpers for tables range-partitioned on created_date.
+-- Partitions are named <parent>_pYYYYMMDD (day) or <parent>_pYYYYMM (month);
+-- <parent>_default is the catch-all partition.
+-- Bounds and names are UTC periods, so Flyway (JVM time zone) and pg_cron (server time zone)
+-- create the same partitions regardless of the session TimeZone.
+
+-- Creates the partitions for the current period and the next periods_ahead periods.
+-- Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION create_range_partitions(parent_table TEXT, partition_unit TEXT, periods_ahead INTEGER)
+    RETURNS INTEGER AS $$
+DECLARE
+    suffix_format TEXT;
+    period INTERVAL;
+    utc_start TIMESTAMP;
+    period_start TIMESTAMPTZ;
+    period_end TIMESTAMPTZ;
+    partition_name TEXT;
+    default_partition TEXT := parent_table || '_default';
+    has_default_rows BOOLEAN;
+    created_count INTEGER := 0;
+BEGIN
+    IF partition_unit = 'day' THEN
+        suffix_format := 'YYYYMMDD';
+    ELSIF partition_unit = 'month' THEN
+        suffix_format := 'YYYYMM';
+    ELSE
+        RAISE EXCEPTION 'Unsupported partition unit: %', partition_unit;
+    END IF;
+
+    period := ('1 ' || partition_unit)::INTERVAL;
+
+    FOR i IN 0..periods_ahead LOOP
+        -- Period arithmetic on a UTC timestamp: adding a day or month to a TIMESTAMPTZ follows the session zone
+        utc_start := date_trunc(partition_unit, CURRENT_TIMESTAMP AT TIME ZONE 'UTC') + i * period;
+        period_start := utc_start AT TIME ZONE 'UTC';
+        period_end := (utc_start + period) AT TIME ZONE 'UTC';
+        partition_name := parent_table || '_p' || to_char(utc_start, suffix_format);
+
+        CONTINUE WHEN to_regclass(partition_name) IS NOT NULL;
+
+        has_default_rows := FALSE;
+        IF to_regclass(default_partition) IS NOT NULL THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE created_date >= $1 AND created_date < $2)',
+                           default_partition)
+                INTO has_default_rows
+                USING period_start, period_end;
+        END IF;
+
+        IF has_default_rows THEN
+            -- Rows for this range already landed in the default partition: move them, then attach
+            EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                           partition_name, parent_table);
+            EXECUTE format('WITH moved AS (DELETE FROM %I WHERE created_date >= $1 AND created_date < $2 RETURNING *) ' ||
+                           'INSERT INTO %I SELECT * FROM moved',
+                           default_partition, partition_name)
+                USING period_start, period_end;
+            EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           parent_table, partition_name, period_start, period_end);
+        ELSE
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table, period_start, period_end);
+        END IF;
+
+        created_count := created_count + 1;
+        RAISE NOTICE 'Created partition % [%, %)', partition_name, period_start, period_end;
+    END LOOP;
+
+    RETURN created_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches and drops every (non-default) partition whose upper bound is at or before cutoff.
+-- Returns the estimated number of rows the dropped partitions held: pg_class.reltuples as of the last
+-- (auto)vacuum or analyze, as an exact COUNT(*) would read every row that is about to be dropped.
+CREATE OR REPLACE FUNCTION drop_range_partitions_before(parent_table TEXT, cutoff TIMESTAMPTZ)
+    RETURNS BIGINT AS $$
+DECLARE
+    part RECORD;
+    partition_rows BIGINT;
+    dropped_rows BIGINT := 0;
+BEGIN
+    FOR part IN
+        SELECT partition_name, reltuples, upper_bound
+        FROM (
+                 SELECT c.relname AS partition_name,
+                        c.reltuples,
+                        substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \(''([^'']+)''\)')::TIMESTAMPTZ AS upper_bound
+                 FROM pg_inherits i
+                          JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = parent_table::REGCLASS
+             ) bounds
+        WHERE upper_bound IS NOT NULL
+          AND upper_bound <= cutoff
+        ORDER BY upper_bound
+        LOOP
+            -- reltuples is -1 for a partition never vacuumed or analyzed
+            partition_rows := GREATEST(part.reltuples, 0)::BIGINT;
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, part.partition_name);
+            EXECUTE format('DROP TABLE %I', part.partition_name);
+
+            dropped_rows := dropped_rows + partition_rows;
+            RAISE NOTICE 'Dropped partition % (~% rows, upper bound %)',
+                part.partition_name, partition_rows, part.upper_bound;
+        END LOOP;
+
+    RETURN dropped_rows;
+END;
+$$ LANGUAGE plpgsql;
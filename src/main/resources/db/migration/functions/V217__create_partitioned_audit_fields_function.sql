@@ -0,0 +1,23 @@
+-- V217__create_partitioned_audit_fields_function.sql
+-- Audit fields function for tables partitioned on created_date.
+-- update_audit_fields() overwrites created_date on INSERT, which on a partitioned table would move
+-- the row away from the partition it was routed to (also during UPDATE row movement, where BEFORE
+-- INSERT triggers fire on the destination partition). Here created_date is kept as routed.
+
+CREATE OR REPLACE FUNCTION update_partitioned_audit_fields()
+    RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.created_date = COALESCE(NEW.created_date, CURRENT_TIMESTAMP);
+        NEW.last_modified_date = CURRENT_TIMESTAMP;
+        RETURN NEW;
+    END IF;
+
+    IF TG_OP = 'UPDATE' THEN
+        NEW.last_modified_date = CURRENT_TIMESTAMP;
+        RETURN NEW;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
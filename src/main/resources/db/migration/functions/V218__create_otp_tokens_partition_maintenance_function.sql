@@ -0,0 +1,52 @@
+-- V218__create_otp_tokens_partition_maintenance_function.sql
+-- Pre-creates upcoming daily otp_tokens partitions so new tokens never land in the default partition.
+
+CREATE OR REPLACE FUNCTION maintain_otp_tokens_partitions()
+    RETURNS VOID AS $$
+DECLARE
+    premake_days INTEGER;
+    partitions_created INTEGER := 0;
+    start_time TIMESTAMPTZ;
+    end_time TIMESTAMPTZ;
+    execution_time_ms INTEGER;
+    error_message TEXT;
+BEGIN
+    start_time := CURRENT_TIMESTAMP;
+
+    BEGIN
+        SELECT value::INTEGER INTO premake_days
+        FROM business_config WHERE key = 'otp_token_partition_premake_days';
+
+        IF premake_days IS NULL THEN
+            RAISE EXCEPTION 'Configuration missing: otp_token_partition_premake_days';
+        END IF;
+
+        partitions_created := create_range_partitions('otp_tokens', 'day', premake_days);
+
+        end_time := CURRENT_TIMESTAMP;
+        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, execution_time_ms
+        ) VALUES (
+                     'maintain_otp_tokens_partitions', CURRENT_DATE, TRUE, partitions_created, execution_time_ms
+                 );
+
+        RAISE NOTICE 'OTP tokens partition maintenance completed: % partitions created', partitions_created;
+
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+        end_time := CURRENT_TIMESTAMP;
+        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+        ) VALUES (
+                     'maintain_otp_tokens_partitions', CURRENT_DATE, FALSE, partitions_created, error_message, execution_time_ms
+                 );
+
+        RAISE NOTICE 'OTP tokens partition maintenance failed: %', error_message;
+        RAISE;
+    END;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,54 @@
+-- V219__create_audit_partition_maintenance_function.sql
+-- Pre-creates upcoming monthly partitions for account_status_audit, job_execution_audit and security_events.
+
+CREATE OR REPLACE FUNCTION maintain_audit_partitions()
+    RETURNS VOID AS $$
+DECLARE
+    premake_months INTEGER;
+    partitions_created INTEGER := 0;
+    start_time TIMESTAMPTZ;
+    end_time TIMESTAMPTZ;
+    execution_time_ms INTEGER;
+    error_message TEXT;
+BEGIN
+    start_time := CURRENT_TIMESTAMP;
+
+    BEGIN
+        SELECT value::INTEGER INTO premake_months
+        FROM business_config WHERE key = 'audit_partition_premake_months';
+
+        IF premake_months IS NULL THEN
+            RAISE EXCEPTION 'Configuration missing: audit_partition_premake_months';
+        END IF;
+
+        partitions_created := create_range_partitions('account_status_audit', 'month', premake_months)
+                                  + create_range_partitions('job_execution_audit', 'month', premake_months)
+                                  + create_range_partitions('security_events', 'month', premake_months);
+
+        end_time := CURRENT_TIMESTAMP;
+        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, execution_time_ms
+        ) VALUES (
+                     'maintain_audit_partitions', CURRENT_DATE, TRUE, partitions_created, execution_time_ms
+                 );
+
+        RAISE NOTICE 'Audit partition maintenance completed: % partitions created', partitions_created;
+
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+        end_time := CURRENT_TIMESTAMP;
+        execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+        ) VALUES (
+                     'maintain_audit_partitions', CURRENT_DATE, FALSE, partitions_created, error_message, execution_time_ms
+                 );
+
+        RAISE NOTICE 'Audit partition maintenance failed: %', error_message;
+        RAISE;
+    END;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,163 @@
+-- V220__create_adaptive_batched_delete_function.sql
+-- Shared batched delete engine for the cleanup jobs.
+-- Batch size adapts to the measured per-batch latency (cleanup_target_batch_ms): it shrinks proportionally
+-- when a batch overruns the target and grows by 25% while batches finish in under half of it.
+-- Each batch runs with lock_timeout = target; a lock timeout rolls back only that batch, halves the batch size
+-- and pauses for cleanup_max_pause_ms before retrying. Overrunning batches are followed by a pause equal to
+-- the overrun (capped at cleanup_max_pause_ms) so replicas and concurrent sessions can catch up.
+-- Every batch is committed before the pause, so locks, WAL and row versions are released batch by batch.
+--
+-- delete_statement must be a DELETE taking $1 = batch size and $2 = cutoff, e.g.
+--   DELETE FROM t WHERE id IN (SELECT id FROM t WHERE created_date < $2 LIMIT $1)
+--
+-- Failures do not raise: error_message is set and the batches committed so far stay deleted, so the caller
+-- can still record its audit row.
+-- NOTE: Must be reached through CALLs only, from a top-level CALL outside of an explicit transaction block
+-- and outside any block with an EXCEPTION clause (COMMIT is issued per batch)
+
+DROP ROUTINE IF EXISTS run_adaptive_batched_delete(TEXT, TIMESTAMPTZ);
+
+CREATE OR REPLACE PROCEDURE run_adaptive_batched_delete(delete_statement TEXT,
+                                                        cutoff TIMESTAMPTZ,
+                                                        INOUT rows_deleted BIGINT DEFAULT NULL,
+                                                        INOUT details JSONB DEFAULT NULL,
+                                                        INOUT error_message TEXT DEFAULT NULL)
+    LANGUAGE plpgsql AS $$
+DECLARE
+    -- Configuration variables
+    initial_batch_size INTEGER;
+    min_batch_size INTEGER;
+    max_batch_size INTEGER;
+    target_batch_ms INTEGER;
+    max_pause_ms INTEGER;
+    max_lock_waits INTEGER;
+
+    -- Processing variables
+    batch_size INTEGER;
+    batch_rows INTEGER;
+    batch_count INTEGER := 0;
+    lock_waits INTEGER := 0;
+    smallest_batch_size INTEGER;
+    largest_batch_size INTEGER;
+    batch_sizes INTEGER[] := '{}';
+
+    -- Timing variables
+    start_time TIMESTAMPTZ;
+    batch_start_time TIMESTAMPTZ;
+    batch_ms INTEGER;
+    pause_ms INTEGER;
+    total_pause_ms INTEGER := 0;
+    elapsed_ms INTEGER;
+
+    previous_lock_timeout TEXT;
+BEGIN
+    start_time := clock_timestamp();
+    rows_deleted := 0;
+    details := NULL;
+    error_message := NULL;
+
+    SELECT value::INTEGER INTO initial_batch_size FROM business_config WHERE key = 'cleanup_batch_size';
+    SELECT value::INTEGER INTO min_batch_size FROM business_config WHERE key = 'cleanup_min_batch_size';
+    SELECT value::INTEGER INTO max_batch_size FROM business_config WHERE key = 'cleanup_max_batch_size';
+    SELECT value::INTEGER INTO target_batch_ms FROM business_config WHERE key = 'cleanup_target_batch_ms';
+    SELECT value::INTEGER INTO max_pause_ms FROM business_config WHERE key = 'cleanup_max_pause_ms';
+    SELECT value::INTEGER INTO max_lock_waits FROM business_config WHERE key = 'cleanup_max_lock_waits';
+
+    IF initial_batch_size IS NULL OR min_batch_size IS NULL OR max_batch_size IS NULL
+        OR target_batch_ms IS NULL OR max_pause_ms IS NULL OR max_lock_waits IS NULL THEN
+        error_message := 'Missing adaptive cleanup configuration: cleanup_batch_size, cleanup_min_batch_size, '
+            'cleanup_max_batch_size, cleanup_target_batch_ms, cleanup_max_pause_ms or cleanup_max_lock_waits';
+        RETURN;
+    END IF;
+
+    batch_size := LEAST(GREATEST(initial_batch_size, min_batch_size), max_batch_size);
+    smallest_batch_size := batch_size;
+    largest_batch_size := batch_size;
+
+    previous_lock_timeout := current_setting('lock_timeout');
+
+    LOOP
+        -- A local setting ends with the transaction, so it is set again for every batch
+        PERFORM set_config('lock_timeout', target_batch_ms || 'ms', TRUE);
+        batch_start_time := clock_timestamp();
+        pause_ms := 0;
+
+        -- Only the batch runs inside the exception block; COMMIT is not allowed in one
+        BEGIN
+            EXECUTE delete_statement USING batch_size, cutoff;
+            GET DIAGNOSTICS batch_rows = ROW_COUNT;
+        EXCEPTION
+            WHEN lock_not_available THEN
+                batch_rows := NULL;
+            WHEN OTHERS THEN
+                error_message := SQLERRM;
+        END;
+
+        EXIT WHEN error_message IS NOT NULL;
+
+        batch_ms := EXTRACT(EPOCH FROM (clock_timestamp() - batch_start_time)) * 1000;
+
+        IF batch_rows IS NULL THEN
+            -- Lock wait exceeded the target: back off hard
+            lock_waits := lock_waits + 1;
+            IF lock_waits > max_lock_waits THEN
+                error_message := format('Cleanup aborted after %s lock timeouts (batch size %s)', lock_waits, batch_size);
+                EXIT;
+            END IF;
+
+            batch_size := GREATEST(min_batch_size, batch_size / 2);
+            pause_ms := max_pause_ms;
+        ELSE
+            EXIT WHEN batch_rows = 0;
+
+            rows_deleted := rows_deleted + batch_rows;
+            batch_count := batch_count + 1;
+            IF batch_count <= 100 THEN
+                batch_sizes := batch_sizes || batch_size;
+            END IF;
+
+            RAISE NOTICE 'Deleted % rows in % ms (batch size %, total: %)',
+                batch_rows, batch_ms, batch_size, rows_deleted;
+
+            IF batch_ms > target_batch_ms THEN
+                batch_size := GREATEST(min_batch_size, (batch_size::BIGINT * target_batch_ms / batch_ms)::INTEGER);
+                pause_ms := LEAST(max_pause_ms, batch_ms - target_batch_ms);
+            ELSIF batch_ms < target_batch_ms / 2 THEN
+                batch_size := LEAST(max_batch_size, CEIL(batch_size * 1.25)::INTEGER);
+            END IF;
+        END IF;
+
+        smallest_batch_size := LEAST(smallest_batch_size, batch_size);
+        largest_batch_size := GREATEST(largest_batch_size, batch_size);
+
+        -- Commit before pausing, so the pause holds no locks and replicas can apply the batch
+        COMMIT;
+
+        IF pause_ms > 0 THEN
+            PERFORM pg_sleep(pause_ms / 1000.0);
+            total_pause_ms := total_pause_ms + pause_ms;
+        END IF;
+    END LOOP;
+
+    PERFORM set_config('lock_timeout', previous_lock_timeout, TRUE);
+
+    elapsed_ms := EXTRACT(EPOCH FROM (clock_timestamp() - start_time)) * 1000;
+
+    details := jsonb_build_object(
+            'target_batch_ms', target_batch_ms,
+            'initial_batch_size', initial_batch_size,
+            'final_batch_size', batch_size,
+            'min_batch_size_used', smallest_batch_size,
+            'max_batch_size_used', largest_batch_size,
+            'batch_sizes', to_jsonb(batch_sizes),
+            'batches', batch_count,
+            'lock_waits', lock_waits,
+            'total_pause_ms', total_pause_ms,
+            'aborted', error_message IS NOT NULL,
+            'rows_per_second', CASE
+                                   WHEN elapsed_ms > 0 THEN ROUND(rows_deleted * 1000.0 / elapsed_ms, 2)
+                                   ELSE NULL
+                END
+               );
+END;
+$$;
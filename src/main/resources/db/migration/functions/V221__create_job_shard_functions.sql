@@ -0,0 +1,100 @@
+-- V221__create_job_shard_functions.sql
+-- Id-range shard bodies for the application-side job runner.
+-- Each call processes one batch of the ids in (after_id, range_end] and returns the number of rows
+-- handled and the highest id touched; the runner commits the batch together with that checkpoint.
+-- A batch returning 0 rows means the shard is finished. Configuration and cutoff are resolved by the
+-- runner once per run, so every shard of a run works against the same cutoff.
+
+-- Inactivity shard: same predicate as mark_inactive_accounts_batched(), keyed on id instead of last_login_at
+CREATE OR REPLACE FUNCTION mark_inactive_accounts_shard(range_end BIGINT,
+                                                        after_id BIGINT,
+                                                        cutoff TIMESTAMPTZ,
+                                                        batch_limit INTEGER,
+                                                        OUT rows_processed INTEGER,
+                                                        OUT last_id BIGINT)
+AS $$
+BEGIN
+    WITH chunk AS (
+        SELECT ca.id
+        FROM customer_accounts ca
+        WHERE ca.id > after_id
+          AND ca.id <= range_end
+          AND ca.activity_status = 'ACTIVE'
+          AND ca.last_login_at < cutoff
+        ORDER BY ca.id
+        LIMIT batch_limit
+        FOR UPDATE SKIP LOCKED
+    ),
+         updated AS (
+             UPDATE customer_accounts ca
+             SET activity_status = 'INACTIVE'::customer_account_activity_status_enum,
+                 last_modified_date = CURRENT_TIMESTAMP
+             FROM chunk
+             WHERE ca.id = chunk.id
+             RETURNING ca.id
+         )
+    SELECT COUNT(*), MAX(updated.id)
+    INTO rows_processed, last_id
+    FROM updated;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Password reset token cleanup shard
+CREATE OR REPLACE FUNCTION cleanup_password_reset_tokens_shard(range_end BIGINT,
+                                                               after_id BIGINT,
+                                                               cutoff TIMESTAMPTZ,
+                                                               batch_limit INTEGER,
+                                                               OUT rows_processed INTEGER,
+                                                               OUT last_id BIGINT)
+AS $$
+BEGIN
+    WITH deleted AS (
+        DELETE FROM password_reset_tokens
+        WHERE id IN (
+            SELECT prt.id
+            FROM password_reset_tokens prt
+            WHERE prt.id > after_id
+              AND prt.id <= range_end
+              AND prt.created_date < cutoff
+            ORDER BY prt.id
+            LIMIT batch_limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+    )
+    SELECT COUNT(*), MAX(deleted.id)
+    INTO rows_processed, last_id
+    FROM deleted;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Unverified account cleanup shard (cascades to the customer and contact records)
+CREATE OR REPLACE FUNCTION cleanup_unverified_accounts_shard(range_end BIGINT,
+                                                             after_id BIGINT,
+                                                             cutoff TIMESTAMPTZ,
+                                                             batch_limit INTEGER,
+                                                             OUT rows_processed INTEGER,
+                                                             OUT last_id BIGINT)
+AS $$
+BEGIN
+    WITH deleted AS (
+        DELETE FROM customer_accounts
+        WHERE id IN (
+            SELECT ca.id
+            FROM customer_accounts ca
+            WHERE ca.id > after_id
+              AND ca.id <= range_end
+              AND ca.verification_status = 'UNVERIFIED'
+              AND ca.last_login_at IS NULL
+              AND ca.created_date < cutoff
+            ORDER BY ca.id
+            LIMIT batch_limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+    )
+    SELECT COUNT(*), MAX(deleted.id)
+    INTO rows_processed, last_id
+    FROM deleted;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,243 @@
+-- V222__create_account_read_model_functions.sql
+-- Incremental maintenance and online consistency checking for account_read_model
+
+-- Re-derives the read model rows of the given accounts from account_read_model_source.
+-- Existing rows are locked first (in account_id order) and the source is read by a later statement,
+-- so concurrent refreshes of the same account serialize and the last one sees every committed change.
+-- Rows that are already up to date are left untouched.
+CREATE OR REPLACE FUNCTION refresh_account_read_model(account_ids BIGINT[])
+    RETURNS INTEGER AS
+$$
+DECLARE
+    refreshed_count INTEGER;
+BEGIN
+    IF account_ids IS NULL OR cardinality(account_ids) = 0 THEN
+        RETURN 0;
+    END IF;
+
+    PERFORM 1
+    FROM account_read_model
+    WHERE account_id = ANY (account_ids)
+    ORDER BY account_id
+    FOR UPDATE;
+
+    INSERT INTO account_read_model AS arm (
+        account_id, customer_id, email_id, phone_id,
+        email_verified, phone_verified, has_email, has_phone,
+        verification_status, calculated_status, activity_status, last_login_at, refreshed_at
+    )
+    SELECT s.account_id, s.customer_id, s.email_id, s.phone_id,
+           s.email_verified, s.phone_verified, s.has_email, s.has_phone,
+           s.verification_status, s.calculated_status, s.activity_status, s.last_login_at, CURRENT_TIMESTAMP
+    FROM account_read_model_source s
+    WHERE s.account_id = ANY (account_ids)
+    ON CONFLICT (account_id) DO UPDATE
+        SET customer_id         = EXCLUDED.customer_id,
+            email_id            = EXCLUDED.email_id,
+            phone_id            = EXCLUDED.phone_id,
+            email_verified      = EXCLUDED.email_verified,
+            phone_verified      = EXCLUDED.phone_verified,
+            has_email           = EXCLUDED.has_email,
+            has_phone           = EXCLUDED.has_phone,
+            verification_status = EXCLUDED.verification_status,
+            calculated_status   = EXCLUDED.calculated_status,
+            activity_status     = EXCLUDED.activity_status,
+            last_login_at       = EXCLUDED.last_login_at,
+            refreshed_at        = EXCLUDED.refreshed_at
+    WHERE (arm.customer_id, arm.email_id, arm.phone_id, arm.email_verified, arm.phone_verified,
+           arm.has_email, arm.has_phone, arm.verification_status, arm.calculated_status,
+           arm.activity_status, arm.last_login_at)
+              IS DISTINCT FROM
+          (EXCLUDED.customer_id, EXCLUDED.email_id, EXCLUDED.phone_id, EXCLUDED.email_verified,
+           EXCLUDED.phone_verified, EXCLUDED.has_email, EXCLUDED.has_phone, EXCLUDED.verification_status,
+           EXCLUDED.calculated_status, EXCLUDED.activity_status, EXCLUDED.last_login_at);
+
+    GET DIAGNOSTICS refreshed_count = ROW_COUNT;
+    RETURN refreshed_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ===== STATEMENT-LEVEL TRIGGER FUNCTIONS =====
+-- Account deletes need no trigger: account_read_model rows cascade with their account.
+
+-- customer_accounts INSERT/UPDATE: every touched account is refreshed (unchanged rows are skipped)
+CREATE OR REPLACE FUNCTION sync_account_read_model_on_account_change()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM refresh_account_read_model(ARRAY(SELECT n.id FROM new_rows n));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- customers UPDATE: accounts of customers whose email_id or phone_id changed
+CREATE OR REPLACE FUNCTION sync_account_read_model_on_customer_change()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM refresh_account_read_model(ARRAY(
+            SELECT ca.id
+            FROM new_rows n
+                     JOIN old_rows o ON o.id = n.id
+                     JOIN customer_accounts ca ON ca.customer_id = n.id
+            WHERE o.email_id IS DISTINCT FROM n.email_id
+               OR o.phone_id IS DISTINCT FROM n.phone_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- customer_emails UPDATE: accounts whose email verification changed
+CREATE OR REPLACE FUNCTION sync_account_read_model_on_email_change()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM refresh_account_read_model(ARRAY(
+            SELECT ca.id
+            FROM new_rows n
+                     JOIN old_rows o ON o.id = n.id
+                     JOIN customers c ON c.email_id = n.id
+                     JOIN customer_accounts ca ON ca.customer_id = c.id
+            WHERE o.is_verified IS DISTINCT FROM n.is_verified));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- customer_phones UPDATE: accounts whose phone verification changed
+CREATE OR REPLACE FUNCTION sync_account_read_model_on_phone_change()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM refresh_account_read_model(ARRAY(
+            SELECT ca.id
+            FROM new_rows n
+                     JOIN old_rows o ON o.id = n.id
+                     JOIN customers c ON c.phone_id = n.id
+                     JOIN customer_accounts ca ON ca.customer_id = c.id
+            WHERE o.is_verified IS DISTINCT FROM n.is_verified));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ===== CONSISTENCY CHECKER =====
+
+-- Walks customer_accounts in id order, compares each chunk of read model rows with
+-- account_read_model_source and (when repair is TRUE) re-derives missing or stale rows.
+-- Every chunk is committed on its own, so the check runs online next to normal traffic and
+-- doubles as a full rebuild when account_read_model is empty.
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (COMMIT is issued per chunk)
+CREATE OR REPLACE PROCEDURE check_account_read_model(repair BOOLEAN DEFAULT TRUE)
+    LANGUAGE plpgsql AS $$
+DECLARE
+    -- Configuration variables
+    batch_size INTEGER;
+
+    -- Processing variables
+    after_id BIGINT := 0;
+    chunk_ids BIGINT[];
+    chunk_missing INTEGER;
+    chunk_stale INTEGER;
+    chunk_repaired INTEGER;
+    total_checked BIGINT := 0;
+    total_missing BIGINT := 0;
+    total_stale BIGINT := 0;
+    total_repaired BIGINT := 0;
+    chunk_count INTEGER := 0;
+
+    -- Timing variables
+    start_time TIMESTAMPTZ;
+    execution_time_ms INTEGER;
+
+    -- Error handling
+    error_message TEXT;
+BEGIN
+    start_time := clock_timestamp();
+
+    SELECT value::INTEGER INTO batch_size
+    FROM business_config
+    WHERE key = 'read_model_check_batch_size';
+
+    IF batch_size IS NULL THEN
+        error_message := 'Configuration missing: read_model_check_batch_size';
+    END IF;
+
+    WHILE error_message IS NULL LOOP
+        BEGIN
+            chunk_ids := ARRAY(
+                    SELECT id
+                    FROM customer_accounts
+                    WHERE id > after_id
+                    ORDER BY id
+                    LIMIT batch_size);
+
+            IF cardinality(chunk_ids) > 0 THEN
+                SELECT COUNT(*) FILTER (WHERE arm.account_id IS NULL),
+                       COUNT(*) FILTER (WHERE arm.account_id IS NOT NULL
+                           AND (arm.customer_id, arm.email_id, arm.phone_id, arm.email_verified,
+                                arm.phone_verified, arm.has_email, arm.has_phone, arm.verification_status,
+                                arm.calculated_status, arm.activity_status, arm.last_login_at)
+                                   IS DISTINCT FROM
+                               (s.customer_id, s.email_id, s.phone_id, s.email_verified,
+                                s.phone_verified, s.has_email, s.has_phone, s.verification_status,
+                                s.calculated_status, s.activity_status, s.last_login_at))
+                INTO chunk_missing, chunk_stale
+                FROM account_read_model_source s
+                         LEFT JOIN account_read_model arm ON arm.account_id = s.account_id
+                WHERE s.account_id = ANY (chunk_ids);
+
+                chunk_repaired := 0;
+                IF repair AND chunk_missing + chunk_stale > 0 THEN
+                    chunk_repaired := refresh_account_read_model(chunk_ids);
+                END IF;
+            END IF;
+
+        EXCEPTION WHEN OTHERS THEN
+            error_message := SQLERRM;
+        END;
+
+        EXIT WHEN error_message IS NOT NULL OR cardinality(chunk_ids) = 0;
+
+        after_id := chunk_ids[cardinality(chunk_ids)];
+        total_checked := total_checked + cardinality(chunk_ids);
+        total_missing := total_missing + chunk_missing;
+        total_stale := total_stale + chunk_stale;
+        total_repaired := total_repaired + chunk_repaired;
+        chunk_count := chunk_count + 1;
+
+        IF chunk_missing + chunk_stale > 0 THEN
+            RAISE NOTICE 'Read model chunk % (up to account %): % missing, % stale, % repaired',
+                chunk_count, after_id, chunk_missing, chunk_stale, chunk_repaired;
+        END IF;
+
+        COMMIT;
+    END LOOP;
+
+    execution_time_ms := EXTRACT(EPOCH FROM (clock_timestamp() - start_time)) * 1000;
+
+    IF error_message IS NULL THEN
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, execution_time_ms, details
+        ) VALUES (
+                     'check_account_read_model', CURRENT_DATE, TRUE, total_checked, execution_time_ms,
+                     jsonb_build_object(
+                             'repair', repair,
+                             'chunks', chunk_count,
+                             'missing', total_missing,
+                             'stale', total_stale,
+                             'repaired', total_repaired)
+                 );
+
+        RAISE NOTICE 'Account read model check completed: % accounts checked, % missing, % stale, % repaired (%.3f seconds)',
+            total_checked, total_missing, total_stale, total_repaired, execution_time_ms / 1000.0;
+    ELSE
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms
+        ) VALUES (
+                     'check_account_read_model', CURRENT_DATE, FALSE, total_checked, error_message, execution_time_ms
+                 );
+
+        RAISE NOTICE 'Account read model check failed: % (checked % accounts before failure)',
+            error_message, total_checked;
+    END IF;
+    -- DO NOT RE-RAISE EXCEPTION, to allow audit record to be committed.
+END;
+$$;
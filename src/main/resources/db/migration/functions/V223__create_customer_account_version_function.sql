@@ -0,0 +1,11 @@
+-- V223__create_customer_account_version_function.sql
+-- Bumps customer_accounts.version for writers that do not manage it themselves (jobs, contact triggers,
+-- manual SQL). Statements that already set a new version (Hibernate, targeted updates) are left alone.
+
+CREATE OR REPLACE FUNCTION bump_customer_account_version()
+    RETURNS TRIGGER AS $$
+BEGIN
+    NEW.version = OLD.version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,12 @@
+-- V224__create_business_config_notify_function.sql
+-- Tells the application nodes that business_config changed (CacheInvalidationBus LISTENs on this channel and
+-- BusinessConfigCache reloads the whole table). Notifications are sent on commit. The payload is the time of
+-- the change in epoch ms (not of the commit), which the bus reports as lag from change to receipt.
+
+CREATE OR REPLACE FUNCTION notify_business_config_change()
+    RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('business_config_changed', ((EXTRACT(EPOCH FROM clock_timestamp()) * 1000)::BIGINT)::TEXT);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,94 @@
+-- V225__create_security_events_cleanup_function.sql
+-- Security events cleanup function
+-- security_events is partitioned by month: expired partitions are dropped, only the boundary and default
+-- partitions are trimmed with batched deletes.
+-- NOTE: Must be invoked with CALL outside of an explicit transaction block (the batch engine commits per batch).
+-- A failure is audited and committed, then raised; run_all_cleanup_jobs passes raise_on_error = FALSE and reads
+-- error_message instead, since a CALL that commits cannot sit inside an exception block.
+
+DROP ROUTINE IF EXISTS cleanup_security_events();
+
+CREATE OR REPLACE PROCEDURE cleanup_security_events(raise_on_error BOOLEAN DEFAULT TRUE,
+                                                    INOUT error_message TEXT DEFAULT NULL)
+    LANGUAGE plpgsql AS $$
+DECLARE
+    cleanup_days INTEGER;
+    batch_size INTEGER;
+    cutoff TIMESTAMPTZ;
+    dropped_partition_rows BIGINT := 0;
+    total_deleted BIGINT := 0;
+    trimmed_rows BIGINT := 0;
+    cleanup_details JSONB;
+    start_time TIMESTAMPTZ;
+    end_time TIMESTAMPTZ;
+    execution_time_ms INTEGER;
+BEGIN
+    start_time := clock_timestamp();
+    error_message := NULL;
+
+    BEGIN
+        -- Get configuration
+        SELECT value::INTEGER INTO cleanup_days
+        FROM business_config WHERE key = 'security_events_cleanup_days';
+
+        SELECT value::INTEGER INTO batch_size
+        FROM business_config WHERE key = 'cleanup_batch_size';
+
+        IF cleanup_days IS NULL OR batch_size IS NULL THEN
+            RAISE EXCEPTION 'Missing cleanup configuration: security_events_cleanup_days or cleanup_batch_size';
+        END IF;
+
+        cutoff := CURRENT_TIMESTAMP - (cleanup_days || ' days')::INTERVAL;
+
+        RAISE NOTICE 'Starting security events cleanup: cleanup_days=%, batch_size=%',
+            cleanup_days, batch_size;
+
+        -- Drop partitions that lie entirely before the cutoff (metadata-only, no index churn)
+        dropped_partition_rows := drop_range_partitions_before('security_events', cutoff);
+        total_deleted := dropped_partition_rows;
+
+    EXCEPTION WHEN OTHERS THEN
+        error_message := SQLERRM;
+    END;
+
+    IF error_message IS NULL THEN
+        -- Trim the remainder with the adaptive batch engine, which commits per batch; partition pruning limits
+        -- this to the boundary and default partitions
+        CALL run_adaptive_batched_delete(
+                'DELETE FROM security_events
+                 WHERE id IN (SELECT id FROM security_events WHERE occurred_at < $2 LIMIT $1)
+                   AND occurred_at < $2',
+                cutoff, trimmed_rows, cleanup_details, error_message);
+        total_deleted := total_deleted + trimmed_rows;
+    END IF;
+
+    end_time := clock_timestamp();
+    execution_time_ms := EXTRACT(EPOCH FROM (end_time - start_time)) * 1000;
+
+    IF error_message IS NULL THEN
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, execution_time_ms, details
+        ) VALUES (
+                     'cleanup_security_events', CURRENT_DATE, TRUE, total_deleted, execution_time_ms, cleanup_details
+                 );
+
+        RAISE NOTICE 'Security events cleanup completed: % records deleted in %.3f seconds',
+            total_deleted, execution_time_ms / 1000.0;
+    ELSE
+        INSERT INTO job_execution_audit (
+            job_name, execution_date, success, records_processed, error_message, execution_time_ms, details
+        ) VALUES (
+                     'cleanup_security_events', CURRENT_DATE, FALSE, total_deleted, error_message, execution_time_ms, cleanup_details
+                 );
+
+        RAISE NOTICE 'Security events cleanup failed: % (processed % records before failure)',
+            error_message, total_deleted;
+    END IF;
+
+    COMMIT;
+
+    IF error_message IS NOT NULL AND raise_on_error THEN
+        RAISE EXCEPTION '%', error_message;
+    END IF;
+END;
+$$;
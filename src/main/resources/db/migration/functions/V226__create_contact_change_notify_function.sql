@@ -0,0 +1,30 @@
+-- V226__create_contact_change_notify_function.sql
+-- Tells the application nodes that a cached contact, customer or account row changed (CacheInvalidationBus
+-- LISTENs on this channel and evicts the matching entries). Row-level, so every change carries its id;
+-- notifications are sent on commit, and a rolled-back change sends nothing.
+-- Payload: <changed at, epoch ms>:<type>:<id>[:key]; the time is taken here, not at commit, so the lag the bus
+-- reports includes the rest of the transaction. TG_ARGV[0] is the type (email, phone, customer, account),
+-- TG_ARGV[1] the natural key column, if any; ':key' marks a change of that column, which also invalidates
+-- the natural-id caches.
+
+CREATE OR REPLACE FUNCTION notify_contact_change()
+    RETURNS TRIGGER AS $$
+DECLARE
+    changed_id BIGINT;
+    key_changed BOOLEAN := FALSE;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed_id := OLD.id;
+        key_changed := TG_NARGS > 1;
+    ELSE
+        changed_id := NEW.id;
+        key_changed := TG_NARGS > 1
+            AND (to_jsonb(OLD) ->> TG_ARGV[1]) IS DISTINCT FROM (to_jsonb(NEW) ->> TG_ARGV[1]);
+    END IF;
+
+    PERFORM pg_notify('contact_changed',
+        (EXTRACT(EPOCH FROM clock_timestamp()) * 1000)::BIGINT || ':' || TG_ARGV[0] || ':' || changed_id
+            || CASE WHEN key_changed THEN ':key' ELSE '' END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -5,5 +5,6 @@ CREATE INDEX idx_account_status_audit_account_id ON account_status_audit(account
 CREATE INDEX idx_account_status_audit_new_status ON account_status_audit(new_status);
 CREATE INDEX idx_account_status_audit_created_date ON account_status_audit(created_date);
 
--- Composite index for common queries (account status changes over time)
+-- Composite index for common queries (account status changes over time).
+-- Filter on created_date as well so the planner prunes monthly partitions before using it.
 CREATE INDEX idx_account_status_audit_account_date ON account_status_audit(account_id, created_date);
\ No newline at end of file
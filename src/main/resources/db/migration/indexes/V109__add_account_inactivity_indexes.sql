@@ -0,0 +1,6 @@
+-- V109__add_account_inactivity_indexes.sql
+-- Keyset index for the chunked inactivity job (last_login_at < cutoff, ordered by last_login_at, id)
+
+CREATE INDEX idx_customer_accounts_active_last_login
+    ON customer_accounts(last_login_at, id)
+    WHERE activity_status = 'ACTIVE' AND last_login_at IS NOT NULL;
@@ -0,0 +1,5 @@
+-- V110__add_job_runs_indexes.sql
+-- Lookups used by the sharded job runner when claiming open shards
+
+CREATE INDEX idx_job_runs_status ON job_runs(status) WHERE status = 'RUNNING';
+CREATE INDEX idx_job_run_shards_open ON job_run_shards(job_run_id, shard_no) WHERE status <> 'COMPLETED';
@@ -0,0 +1,7 @@
+-- V111__add_account_read_model_indexes.sql
+-- Analytics lookups on the account read model (verification breakdowns, inactivity scans, drift)
+
+CREATE INDEX idx_account_read_model_customer ON account_read_model(customer_id);
+CREATE INDEX idx_account_read_model_verification ON account_read_model(calculated_status);
+CREATE INDEX idx_account_read_model_activity_login ON account_read_model(activity_status, last_login_at);
+CREATE INDEX idx_account_read_model_needs_update ON account_read_model(account_id) WHERE status_needs_update;
@@ -0,0 +1,14 @@
+-- V112__add_keyset_pagination_indexes.sql
+-- Keyset indexes for the paged and streamed data service reads (filter, then id > :afterId ORDER BY id)
+-- The composites replace the single-column filter indexes, which they cover as a prefix
+
+DROP INDEX idx_customer_accounts_activity_status;
+CREATE INDEX idx_customer_accounts_activity_status_id ON customer_accounts(activity_status, id);
+
+CREATE INDEX idx_customer_accounts_no_login_id ON customer_accounts(id) WHERE last_login_at IS NULL;
+
+DROP INDEX idx_customer_emails_verified;
+CREATE INDEX idx_customer_emails_verified_id ON customer_emails(is_verified, id);
+
+DROP INDEX idx_customer_phones_verified;
+CREATE INDEX idx_customer_phones_verified_id ON customer_phones(is_verified, id);
@@ -0,0 +1,7 @@
+-- V113__add_security_events_indexes.sql
+-- Indexes for security_events table. Fraud queries look at one identifier or account over a time window;
+-- bounding occurred_at as well lets the planner prune monthly partitions first.
+
+CREATE INDEX idx_security_events_identifier_occurred ON security_events(identifier, occurred_at);
+CREATE INDEX idx_security_events_account_occurred ON security_events(account_id, occurred_at);
+CREATE INDEX idx_security_events_type_occurred ON security_events(event_type, occurred_at);
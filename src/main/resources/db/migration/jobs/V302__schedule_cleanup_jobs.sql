@@ -20,11 +20,11 @@ $$
 $$;
 
 -- Re-schedule the main cleanup job to run daily at 3:00 AM.
--- This will now execute the updated master function which includes password reset token cleanup.
+-- This will now execute the updated master procedure which includes password reset token cleanup.
 SELECT cron.schedule(
                'database-cleanup-main',
                '0 3 * * *', -- 3:00 AM daily
-               'SELECT run_all_cleanup_jobs();'
+               'CALL run_all_cleanup_jobs();'  -- top-level CALL allows the per-batch COMMITs
        );
 
 -- Re-schedule the job execution audit cleanup to run weekly on Sundays at 4:00 AM.
@@ -32,5 +32,5 @@ SELECT cron.schedule(
 SELECT cron.schedule(
                'job-audit-cleanup',
                '0 4 * * 0', -- 4:00 AM every Sunday
-               'SELECT cleanup_job_execution_audit();'
+               'CALL cleanup_job_execution_audit();'
        );
@@ -0,0 +1,23 @@
+-- V303__schedule_otp_tokens_partition_maintenance.sql
+-- Create the initial daily otp_tokens partitions and keep future ones pre-created using pg_cron.
+-- NOTE: Requires pg_cron extension to be already installed by superuser
+
+-- Initial partitions (today + 7 days); business_config is seeded later, so the count is passed explicitly
+SELECT create_range_partitions('otp_tokens', 'day', 7);
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM cron.job WHERE jobname = 'otp-partition-maintenance') THEN
+            PERFORM cron.unschedule('otp-partition-maintenance');
+            RAISE NOTICE 'Unscheduled existing otp-partition-maintenance job.';
+        END IF;
+    END
+$$;
+
+-- Pre-create upcoming partitions daily at 1:00 AM (before the 3:00 AM cleanup drops expired ones)
+SELECT cron.schedule(
+               'otp-partition-maintenance',
+               '0 1 * * *', -- 1:00 AM daily
+               'SELECT maintain_otp_tokens_partitions();'
+       );
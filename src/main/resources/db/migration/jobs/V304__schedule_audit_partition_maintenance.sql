@@ -0,0 +1,25 @@
+-- V304__schedule_audit_partition_maintenance.sql
+-- Create the initial monthly partitions for the audit tables and keep future ones pre-created using pg_cron.
+-- NOTE: Requires pg_cron extension to be already installed by superuser
+
+-- Initial partitions (current month + 3); business_config is seeded later, so the count is passed explicitly
+SELECT create_range_partitions('account_status_audit', 'month', 3);
+SELECT create_range_partitions('job_execution_audit', 'month', 3);
+SELECT create_range_partitions('security_events', 'month', 3);
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM cron.job WHERE jobname = 'audit-partition-maintenance') THEN
+            PERFORM cron.unschedule('audit-partition-maintenance');
+            RAISE NOTICE 'Unscheduled existing audit-partition-maintenance job.';
+        END IF;
+    END
+$$;
+
+-- Pre-create upcoming partitions daily at 1:15 AM (idempotent; only missing months are created)
+SELECT cron.schedule(
+               'audit-partition-maintenance',
+               '15 1 * * *', -- 1:15 AM daily
+               'SELECT maintain_audit_partitions();'
+       );
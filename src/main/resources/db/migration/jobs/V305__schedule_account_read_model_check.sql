@@ -0,0 +1,32 @@
+-- V305__schedule_account_read_model_check.sql
+-- Populate account_read_model for existing accounts and schedule the nightly consistency check using pg_cron.
+-- NOTE: Requires pg_cron extension to be already installed by superuser
+
+-- Initial population (the triggers from V257 keep it in sync from here on)
+INSERT INTO account_read_model (
+    account_id, customer_id, email_id, phone_id,
+    email_verified, phone_verified, has_email, has_phone,
+    verification_status, calculated_status, activity_status, last_login_at
+)
+SELECT account_id, customer_id, email_id, phone_id,
+       email_verified, phone_verified, has_email, has_phone,
+       verification_status, calculated_status, activity_status, last_login_at
+FROM account_read_model_source
+ON CONFLICT (account_id) DO NOTHING;
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM cron.job WHERE jobname = 'account-read-model-check') THEN
+            PERFORM cron.unschedule('account-read-model-check');
+            RAISE NOTICE 'Unscheduled existing account-read-model-check job.';
+        END IF;
+    END
+$$;
+
+-- Check and repair the read model daily at 4:30 AM (after the inactivity and cleanup jobs)
+SELECT cron.schedule(
+               'account-read-model-check',
+               '30 4 * * *', -- 4:30 AM daily
+               'CALL check_account_read_model();'
+       );
@@ -9,21 +9,29 @@ VALUES
 
 -- OTP and cleanup configs (updated for unified OTP system)
 ('otp_token_cleanup_days', '7', 'Days to keep OTP tokens after creation (email verification, phone verification, password reset)'),
+('otp_token_partition_premake_days', '7', 'Number of future daily otp_tokens partitions to keep pre-created'),
 ('job_execution_audit_cleanup_days', '90', 'Days to keep job execution audit records'),
 ('account_status_audit_cleanup_days', '365', 'Days to keep account status change audit records'),
+('security_events_cleanup_days', '180', 'Days to keep login, OTP and password reset events in security_events'),
+('audit_partition_premake_months', '3', 'Number of future monthly partitions to keep pre-created for the audit tables and security_events'),
 
 -- Customer account cleanup configs
 ('unverified_account_cleanup_days', '30', 'Days to keep unverified accounts that never logged in'),
 ('inactive_verified_account_cleanup_days', '730', 'Days to keep verified accounts with no recent activity (2 years)'),
 
 -- Batch processing configs
-('cleanup_batch_size', '500', 'Batch size for cleanup operations to avoid long locks'),
+('cleanup_batch_size', '500', 'Initial batch size for cleanup operations to avoid long locks'),
+('cleanup_min_batch_size', '50', 'Lower bound for the adaptive cleanup batch size'),
+('cleanup_max_batch_size', '5000', 'Upper bound for the adaptive cleanup batch size'),
+('cleanup_target_batch_ms', '200', 'Target latency per cleanup batch in milliseconds; also used as the per-batch lock timeout'),
+('cleanup_max_pause_ms', '1000', 'Maximum pause between cleanup batches in milliseconds'),
+('cleanup_max_lock_waits', '10', 'Lock timeouts tolerated per cleanup run before it aborts'),
+('read_model_check_batch_size', '1000', 'Accounts compared (and repaired) per committed chunk by the read model consistency check'),
 
--- OTP-specific configuration
-('otp_expiry_minutes', '10', 'Minutes until OTP tokens expire'),
-('otp_max_attempts', '3', 'Maximum verification attempts per OTP'),
-('otp_resend_cooldown_minutes', '1', 'Minutes to wait before allowing OTP resend'),
-('otp_rate_limit_per_hour', '10', 'Maximum OTPs that can be sent per contact per hour'),
+-- OTP-specific configuration (otp_expiry_minutes, otp_max_attempts, otp_resend_cooldown_minutes,
+-- otp_rate_limit_per_hour) is deliberately not seeded: the application reads these keys in preference to
+-- its verification.* properties, which differ per profile. Insert a key only to override the profile value
+-- at runtime; deleting it restores the property value.
 
 -- NEW: Password Reset Token cleanup configuration
 ('password_reset_token_cleanup_days', '1', 'Days to keep used or expired password reset tokens before deletion');
\ No newline at end of file
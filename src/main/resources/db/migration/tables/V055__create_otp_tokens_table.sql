@@ -1,9 +1,10 @@
 -- V055__create_otp_tokens_table.sql
 -- Unified OTP tokens table for all verification purposes (replaces password_reset_tokens)
+-- Range-partitioned by created_date (daily partitions, see create_range_partitions / cleanup_otp_tokens)
 
 CREATE TABLE otp_tokens
 (
-    id                 BIGSERIAL PRIMARY KEY,
+    id                 BIGSERIAL               NOT NULL,
     customer_email_id  BIGINT,                           -- References customer_emails.id (nullable)
     customer_phone_id  BIGINT,                           -- References customer_phones.id (nullable)
     otp_code          VARCHAR(6)              NOT NULL,  -- The actual OTP code (6 digits)
@@ -18,6 +19,9 @@ CREATE TABLE otp_tokens
     created_date      TIMESTAMPTZ             NOT NULL DEFAULT CURRENT_TIMESTAMP,
     last_modified_date TIMESTAMPTZ            NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
+    -- Primary key must include the partition key; id alone stays unique through the sequence
+    PRIMARY KEY (id, created_date),
+
     -- Constraints: exactly one of email_id OR phone_id must be set
     CONSTRAINT chk_otp_single_contact
         CHECK ((customer_email_id IS NOT NULL AND customer_phone_id IS NULL) OR
@@ -40,4 +44,7 @@ CREATE TABLE otp_tokens
             REFERENCES customer_phones (id)
             ON UPDATE CASCADE
             ON DELETE CASCADE
-);
\ No newline at end of file
+) PARTITION BY RANGE (created_date);
+
+-- Catch-all partition for rows outside the pre-created daily ranges
+CREATE TABLE otp_tokens_default PARTITION OF otp_tokens DEFAULT;
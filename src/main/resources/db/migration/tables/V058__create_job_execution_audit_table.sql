@@ -1,16 +1,24 @@
 -- V058__create_job_execution_audit_table.sql
 -- Universal job execution audit table for monitoring scheduled jobs
+-- Range-partitioned by month on created_date; retention drops whole partitions
 
 CREATE TABLE job_execution_audit
 (
-    id                   BIGSERIAL PRIMARY KEY,
+    id                   BIGSERIAL    NOT NULL,
     job_name             VARCHAR(50)  NOT NULL,
     execution_date       DATE         NOT NULL,
     success              BOOLEAN      NOT NULL,
     records_processed    INTEGER      DEFAULT 0,
     error_message        TEXT,
     execution_time_ms    INTEGER,
+    details              JSONB,        -- job-specific run metadata, e.g. batch sizes chosen by the cleanup jobs
 
     -- audit column
-    created_date         TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+    created_date         TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Primary key must include the partition key
+    PRIMARY KEY (id, created_date)
+) PARTITION BY RANGE (created_date);
+
+-- Catch-all partition for rows outside the pre-created monthly ranges
+CREATE TABLE job_execution_audit_default PARTITION OF job_execution_audit DEFAULT;
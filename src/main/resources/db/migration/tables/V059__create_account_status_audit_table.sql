@@ -1,9 +1,10 @@
 -- V059__create_account_status_audit_table.sql
 -- Account status change audit trail
+-- Range-partitioned by month on created_date; retention drops whole partitions
 
 CREATE TABLE account_status_audit
 (
-    id           BIGSERIAL PRIMARY KEY,
+    id           BIGSERIAL                                   NOT NULL,
     account_id   BIGINT                                      NOT NULL,
     old_status   customer_account_activity_status_enum       NOT NULL,
     new_status   customer_account_activity_status_enum       NOT NULL,
@@ -11,9 +12,15 @@ CREATE TABLE account_status_audit
     -- spring audit columns
     created_date TIMESTAMPTZ                                 NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
+    -- Primary key must include the partition key
+    PRIMARY KEY (id, created_date),
+
     CONSTRAINT fk_account_status_audit_account
         FOREIGN KEY (account_id)
             REFERENCES customer_accounts (id)
             ON UPDATE CASCADE
             ON DELETE CASCADE
-);
\ No newline at end of file
+) PARTITION BY RANGE (created_date);
+
+-- Catch-all partition for rows outside the pre-created monthly ranges
+CREATE TABLE account_status_audit_default PARTITION OF account_status_audit DEFAULT;
@@ -0,0 +1,21 @@
+-- V061__create_job_watermarks_table.sql
+-- Persisted progress markers for chunked jobs that commit between batches
+
+CREATE TABLE job_watermarks
+(
+    job_name            VARCHAR(50)  PRIMARY KEY,
+
+    -- Cutoff the current run was started with (kept so a resumed run uses the same one)
+    cutoff_at           TIMESTAMPTZ,
+
+    -- Keyset position of the last committed chunk
+    watermark_timestamp TIMESTAMPTZ,
+    watermark_id        BIGINT       NOT NULL DEFAULT 0,
+
+    -- FALSE while a run is in progress, TRUE once it has finished
+    completed           BOOLEAN      NOT NULL DEFAULT TRUE,
+
+    -- spring audit columns
+    created_date        TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_modified_date  TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,51 @@
+-- V062__create_job_runs_tables.sql
+-- Run and shard bookkeeping for the application-side sharded job runner (alternative to pg_cron).
+-- A run is planned once per job and day by the elected leader node; any node may then claim and
+-- process its shards. Shard checkpoints are committed per batch, so interrupted shards resume.
+
+CREATE TABLE job_runs
+(
+    id                  BIGSERIAL    PRIMARY KEY,
+    job_name            VARCHAR(50)  NOT NULL,
+    run_date            DATE         NOT NULL,
+    status              VARCHAR(20)  NOT NULL DEFAULT 'RUNNING'
+        CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+
+    -- Cutoff shared by all shards of the run (NULL for jobs that compute their own)
+    cutoff_at           TIMESTAMPTZ,
+    shard_count         INTEGER      NOT NULL,
+    planned_by          VARCHAR(100) NOT NULL,
+    completed_at        TIMESTAMPTZ,
+
+    -- spring audit columns
+    created_date        TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_modified_date  TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_job_runs_job_name_run_date UNIQUE (job_name, run_date)
+);
+
+CREATE TABLE job_run_shards
+(
+    id                  BIGSERIAL    PRIMARY KEY,
+    job_run_id          BIGINT       NOT NULL REFERENCES job_runs (id) ON DELETE CASCADE,
+    shard_no            INTEGER      NOT NULL,
+
+    -- Id range (range_start, range_end] covered by the shard; NULL for unsharded jobs
+    range_start         BIGINT,
+    range_end           BIGINT,
+
+    -- Last id committed by the shard; processing resumes after it
+    checkpoint_id       BIGINT,
+    rows_processed      BIGINT       NOT NULL DEFAULT 0,
+    status              VARCHAR(20)  NOT NULL DEFAULT 'PENDING'
+        CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+    attempts            INTEGER      NOT NULL DEFAULT 0,
+    claimed_by          VARCHAR(100),
+    error_message       TEXT,
+
+    -- spring audit columns
+    created_date        TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_modified_date  TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_job_run_shards_run_shard_no UNIQUE (job_run_id, shard_no)
+);
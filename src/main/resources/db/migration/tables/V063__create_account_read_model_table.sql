@@ -0,0 +1,36 @@
+-- V063__create_account_read_model_table.sql
+-- Persistent verification/activity read model, one row per customer account.
+-- Maintained incrementally by statement-level triggers on the source tables (V257) and
+-- verified/repaired online by check_account_read_model(); rows come from account_read_model_source.
+-- No audit triggers: refreshed_at records the last time the row was (re)derived.
+
+CREATE TABLE account_read_model
+(
+    account_id          BIGINT PRIMARY KEY,
+    customer_id         BIGINT                                     NOT NULL,
+    email_id            BIGINT,
+    phone_id            BIGINT,
+
+    -- Contact verification state
+    email_verified      BOOLEAN                                    NOT NULL,
+    phone_verified      BOOLEAN                                    NOT NULL,
+    has_email           BOOLEAN                                    NOT NULL,
+    has_phone           BOOLEAN                                    NOT NULL,
+
+    -- Stored status on the account vs. status derived from the contacts
+    verification_status customer_account_verification_status_enum NOT NULL,
+    calculated_status   customer_account_verification_status_enum NOT NULL,
+    status_needs_update BOOLEAN GENERATED ALWAYS AS (verification_status <> calculated_status) STORED,
+
+    -- Activity state (days since login is time-dependent, so only last_login_at is stored)
+    activity_status     customer_account_activity_status_enum     NOT NULL,
+    last_login_at       TIMESTAMPTZ,
+
+    refreshed_at        TIMESTAMPTZ                                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_account_read_model_account
+        FOREIGN KEY (account_id)
+            REFERENCES customer_accounts (id)
+            ON UPDATE CASCADE
+            ON DELETE CASCADE
+);
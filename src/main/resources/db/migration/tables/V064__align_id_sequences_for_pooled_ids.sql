@@ -0,0 +1,12 @@
+-- V064__align_id_sequences_for_pooled_ids.sql
+-- Entity ids are taken from the BIGSERIAL sequences with Hibernate's pooled optimizer (allocationSize = 50):
+-- one nextval reserves a block of 50 ids, so inserts need no RETURNING id and can be sent as JDBC batches.
+-- INCREMENT BY must equal allocationSize (schema validation checks it); rows inserted by SQL through the
+-- column DEFAULT take the block's upper value and never collide with ids handed out by the application.
+
+ALTER SEQUENCE customer_emails_id_seq INCREMENT BY 50;
+ALTER SEQUENCE customer_phones_id_seq INCREMENT BY 50;
+ALTER SEQUENCE customers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE customer_accounts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE otp_tokens_id_seq INCREMENT BY 50;
+ALTER SEQUENCE password_reset_tokens_id_seq INCREMENT BY 50;
@@ -0,0 +1,6 @@
+-- V065__add_customer_accounts_version.sql
+-- Optimistic lock version for customer_accounts. Single-column changes are written as targeted UPDATE
+-- statements that bump it, so a full-entity save of a stale copy fails instead of silently restoring
+-- the old password, status or login time.
+
+ALTER TABLE customer_accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
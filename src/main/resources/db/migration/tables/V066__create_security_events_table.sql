@@ -0,0 +1,23 @@
+-- V066__create_security_events_table.sql
+-- Append-only trail of logins, registrations, OTP sends/verifications and password resets for fraud analysis.
+-- Written by the application in batches (SecurityEventLog), so occurred_at is the time of the event, not of the insert.
+-- Range-partitioned by month on occurred_at; retention drops whole partitions
+
+CREATE TABLE security_events
+(
+    id              BIGSERIAL                   NOT NULL,
+    event_type      security_event_type_enum    NOT NULL,
+    outcome         VARCHAR(32)                 NOT NULL,   -- success, invalid_credentials, rate_limited, ...
+    identifier      VARCHAR(255),                           -- login identifier, email or phone as submitted
+    account_id      BIGINT,                                 -- when known; no FK, the trail outlives deleted accounts
+    delivery_method otp_delivery_method_enum,
+    otp_purpose     otp_purpose_enum,
+    error_code      VARCHAR(64),                            -- ServiceException error code of a failed request
+    occurred_at     TIMESTAMPTZ                 NOT NULL,
+
+    -- Primary key must include the partition key
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+-- Catch-all partition for rows outside the pre-created monthly ranges
+CREATE TABLE security_events_default PARTITION OF security_events DEFAULT;
@@ -29,12 +29,12 @@ CREATE TRIGGER z_audit_customer_accounts
     FOR EACH ROW
 EXECUTE FUNCTION update_audit_fields();
 
--- OTP tokens audit trigger
+-- OTP tokens audit trigger (partitioned on created_date, so created_date is kept as routed)
 CREATE TRIGGER z_audit_otp_tokens
     BEFORE INSERT OR UPDATE
     ON otp_tokens
     FOR EACH ROW
-EXECUTE FUNCTION update_audit_fields();
+EXECUTE FUNCTION update_partitioned_audit_fields();
 
 -- NEW: Password reset tokens audit trigger
 CREATE TRIGGER z_audit_password_reset_tokens
@@ -50,16 +50,27 @@ CREATE TRIGGER z_audit_business_config
     FOR EACH ROW
 EXECUTE FUNCTION update_audit_fields();
 
--- Job execution audit trigger (INSERT only since records are immutable)
-CREATE TRIGGER z_audit_job_execution_audit
-    BEFORE INSERT
-    ON job_execution_audit
+-- Job watermarks audit trigger
+CREATE TRIGGER z_audit_job_watermarks
+    BEFORE INSERT OR UPDATE
+    ON job_watermarks
+    FOR EACH ROW
+EXECUTE FUNCTION update_audit_fields();
+
+-- Job runs audit trigger
+CREATE TRIGGER z_audit_job_runs
+    BEFORE INSERT OR UPDATE
+    ON job_runs
     FOR EACH ROW
 EXECUTE FUNCTION update_audit_fields();
 
--- Account status audit trigger
-CREATE TRIGGER z_audit_account_status_audit
-    BEFORE INSERT
-    ON account_status_audit
+-- Job run shards audit trigger
+CREATE TRIGGER z_audit_job_run_shards
+    BEFORE INSERT OR UPDATE
+    ON job_run_shards
     FOR EACH ROW
 EXECUTE FUNCTION update_audit_fields();
+
+-- job_execution_audit and account_status_audit have no audit triggers: they are append-only,
+-- partitioned on created_date and get it from the column default. update_audit_fields() would
+-- overwrite the partition key the row was routed by.
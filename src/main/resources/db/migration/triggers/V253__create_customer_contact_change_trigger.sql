@@ -1,9 +1,10 @@
 -- V253__create_customer_contact_change_trigger.sql
 -- Customer contact change trigger (handles both email and phone changes)
+-- Statement-level with transition tables: a bulk contact migration updates all usernames in one pass.
+-- (Transition tables rule out WHEN and UPDATE OF column lists; the function filters on changed columns.)
 
 CREATE TRIGGER update_username_on_contact_change
     AFTER UPDATE ON customers
-    FOR EACH ROW
-    WHEN (OLD.email_id IS DISTINCT FROM NEW.email_id OR
-          OLD.phone_id IS DISTINCT FROM NEW.phone_id)
-EXECUTE FUNCTION update_username_on_contact_change();
\ No newline at end of file
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION update_username_on_contact_change();
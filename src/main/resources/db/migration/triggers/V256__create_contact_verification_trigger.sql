@@ -3,9 +3,9 @@
 
 CREATE TRIGGER update_contact_verification_on_otp_use
     AFTER UPDATE ON otp_tokens
-    FOR EACH ROW
-    -- This WHEN clause is a crucial optimization. The trigger only fires
-    -- when the 'used_at' field transitions from NULL to a non-NULL value,
-    -- which signifies a successful OTP verification.
-    WHEN (OLD.used_at IS NULL AND NEW.used_at IS NOT NULL)
-EXECUTE FUNCTION handle_contact_verification_on_otp_use();
\ No newline at end of file
+    -- Statement-level with transition tables: the function picks out the tokens whose
+    -- 'used_at' went from NULL to non-NULL (a successful OTP verification) in one pass.
+    -- Declared on the partitioned parent, so it covers every otp_tokens partition.
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION handle_contact_verification_on_otp_use();
@@ -0,0 +1,38 @@
+-- V257__create_account_read_model_triggers.sql
+-- Keep account_read_model in sync with its source tables.
+-- Statement-level with transition tables so bulk writes refresh all affected accounts in one pass.
+-- The z_ prefix makes these fire after the other AFTER UPDATE triggers on the same table, so the
+-- verification/username cascades (V253, V254) have already run when the read model is refreshed.
+
+-- Customer accounts: new accounts and any account change (status, activity, last login)
+CREATE TRIGGER z_sync_account_read_model_on_account_insert
+    AFTER INSERT ON customer_accounts
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_account_read_model_on_account_change();
+
+CREATE TRIGGER z_sync_account_read_model_on_account_update
+    AFTER UPDATE ON customer_accounts
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_account_read_model_on_account_change();
+
+-- Customers: contact links (also covers ON DELETE SET NULL from removed emails/phones)
+CREATE TRIGGER z_sync_account_read_model_on_customer_update
+    AFTER UPDATE ON customers
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_account_read_model_on_customer_change();
+
+-- Contact verification
+CREATE TRIGGER z_sync_account_read_model_on_email_update
+    AFTER UPDATE ON customer_emails
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_account_read_model_on_email_change();
+
+CREATE TRIGGER z_sync_account_read_model_on_phone_update
+    AFTER UPDATE ON customer_phones
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_account_read_model_on_phone_change();
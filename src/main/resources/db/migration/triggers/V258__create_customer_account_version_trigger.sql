@@ -0,0 +1,8 @@
+-- V258__create_customer_account_version_trigger.sql
+-- Customer account optimistic lock version trigger
+
+CREATE TRIGGER bump_customer_account_version
+    BEFORE UPDATE ON customer_accounts
+    FOR EACH ROW
+    WHEN (NEW.version = OLD.version)
+EXECUTE FUNCTION bump_customer_account_version();
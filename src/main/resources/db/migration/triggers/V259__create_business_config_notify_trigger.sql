@@ -0,0 +1,7 @@
+-- V259__create_business_config_notify_trigger.sql
+-- Business config change notification trigger
+
+CREATE TRIGGER notify_business_config_change
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON business_config
+    FOR EACH STATEMENT
+EXECUTE FUNCTION notify_business_config_change();
@@ -0,0 +1,55 @@
+-- V260__create_contact_change_notify_triggers.sql
+-- Contact change notification triggers
+-- Only columns that a node caches (or derives a cached value from) are watched, so logins (last_login_at),
+-- version bumps and audit columns do not invalidate anything. Covers every writer: services, the
+-- verification triggers and the pg_cron jobs.
+
+-- Customer emails
+CREATE TRIGGER notify_customer_email_update
+    AFTER UPDATE ON customer_emails
+    FOR EACH ROW
+    WHEN (OLD.email IS DISTINCT FROM NEW.email OR OLD.is_verified IS DISTINCT FROM NEW.is_verified)
+EXECUTE FUNCTION notify_contact_change('email', 'email');
+
+CREATE TRIGGER notify_customer_email_delete
+    AFTER DELETE ON customer_emails
+    FOR EACH ROW
+EXECUTE FUNCTION notify_contact_change('email', 'email');
+
+-- Customer phones
+CREATE TRIGGER notify_customer_phone_update
+    AFTER UPDATE ON customer_phones
+    FOR EACH ROW
+    WHEN (OLD.phone IS DISTINCT FROM NEW.phone OR OLD.is_verified IS DISTINCT FROM NEW.is_verified)
+EXECUTE FUNCTION notify_contact_change('phone', 'phone');
+
+CREATE TRIGGER notify_customer_phone_delete
+    AFTER DELETE ON customer_phones
+    FOR EACH ROW
+EXECUTE FUNCTION notify_contact_change('phone', 'phone');
+
+-- Customers
+CREATE TRIGGER notify_customer_update
+    AFTER UPDATE ON customers
+    FOR EACH ROW
+    WHEN (ROW(OLD.first_name, OLD.last_name, OLD.email_id, OLD.phone_id)
+        IS DISTINCT FROM ROW(NEW.first_name, NEW.last_name, NEW.email_id, NEW.phone_id))
+EXECUTE FUNCTION notify_contact_change('customer');
+
+CREATE TRIGGER notify_customer_delete
+    AFTER DELETE ON customers
+    FOR EACH ROW
+EXECUTE FUNCTION notify_contact_change('customer');
+
+-- Customer accounts
+CREATE TRIGGER notify_customer_account_update
+    AFTER UPDATE ON customer_accounts
+    FOR EACH ROW
+    WHEN (ROW(OLD.username, OLD.password, OLD.activity_status, OLD.verification_status, OLD.customer_id)
+        IS DISTINCT FROM ROW(NEW.username, NEW.password, NEW.activity_status, NEW.verification_status, NEW.customer_id))
+EXECUTE FUNCTION notify_contact_change('account');
+
+CREATE TRIGGER notify_customer_account_delete
+    AFTER DELETE ON customer_accounts
+    FOR EACH ROW
+EXECUTE FUNCTION notify_contact_change('account');
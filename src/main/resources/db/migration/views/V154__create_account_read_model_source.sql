@@ -0,0 +1,36 @@
+-- V154__create_account_read_model_source.sql
+-- Single definition of an account_read_model row, derived from the source tables.
+-- Used for incremental refreshes (filtered by account_id) and by the consistency checker.
+
+CREATE VIEW account_read_model_source AS
+SELECT
+    ca.id as account_id,
+    ca.customer_id,
+    c.email_id,
+    c.phone_id,
+
+    -- Verification states
+    COALESCE(ce.is_verified, false) as email_verified,
+    COALESCE(cp.is_verified, false) as phone_verified,
+
+    -- Contact availability
+    ce.email IS NOT NULL as has_email,
+    cp.phone IS NOT NULL as has_phone,
+
+    ca.verification_status,
+
+    -- Calculated verification status (same rules as customer_verification_data)
+    (CASE
+         WHEN COALESCE(ce.is_verified, false) AND COALESCE(cp.is_verified, false) THEN 'FULLY_VERIFIED'
+         WHEN COALESCE(ce.is_verified, false) THEN 'EMAIL_VERIFIED'
+         WHEN COALESCE(cp.is_verified, false) THEN 'PHONE_VERIFIED'
+         ELSE 'UNVERIFIED'
+        END)::customer_account_verification_status_enum as calculated_status,
+
+    ca.activity_status,
+    ca.last_login_at
+
+FROM customer_accounts ca
+         JOIN customers c ON ca.customer_id = c.id
+         LEFT JOIN customer_emails ce ON c.email_id = ce.id
+         LEFT JOIN customer_phones cp ON c.phone_id = cp.id;
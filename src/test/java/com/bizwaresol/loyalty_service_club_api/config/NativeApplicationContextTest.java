@@ -0,0 +1,120 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.RegistrationResult;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+import com.bizwaresol.loyalty_service_club_api.service.auth.AuthenticationService;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.sns.SnsClient;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The application context against the test database (test profile), mock-free so it also runs in
+ * nativeUnitTest: there it is the check that {@link NativeRuntimeHints} covers what the image actually reads,
+ * i.e. every entity, the NAMED_ENUM columns and the AWS SDK clients. Every test rolls back.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Native Application Context Tests")
+class NativeApplicationContextTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // ===== ENTITY TESTS =====
+
+    @Nested
+    @DisplayName("Entity Tests")
+    class EntityTests {
+
+        @Test
+        @DisplayName("Should load every entity")
+        void shouldLoadEveryEntity() {
+            register("native.entities@gmail.com");
+
+            for (Class<?> entity : NativeRuntimeHints.ENTITIES) {
+                assertThatCode(() -> entityManager
+                        .createQuery("SELECT e FROM " + entity.getSimpleName() + " e", entity)
+                        .setMaxResults(10)
+                        .getResultList())
+                        .as(entity.getSimpleName())
+                        .doesNotThrowAnyException();
+            }
+        }
+
+        @Test
+        @DisplayName("Should read back a registered account with its enum columns")
+        void shouldReadBackRegisteredAccount() {
+            Long accountId = register("native.account@gmail.com").account().getId();
+            entityManager.clear();
+
+            CustomerAccount account = entityManager.find(CustomerAccount.class, accountId);
+
+            assertThat(account.getUsername()).isEqualTo("native.account@gmail.com");
+            assertThat(account.getActivityStatus()).isEqualTo(CustomerAccountActivityStatus.ACTIVE);
+            assertThat(account.getCustomer().getEmail().getEmail()).isEqualTo("native.account@gmail.com");
+        }
+
+        @Test
+        @DisplayName("Should bind every constant of the NAMED_ENUM types as a query parameter")
+        void shouldBindNamedEnumParameters() {
+            for (OtpPurpose purpose : OtpPurpose.values()) {
+                for (OtpDeliveryMethod deliveryMethod : OtpDeliveryMethod.values()) {
+                    Long count = entityManager.createQuery(
+                                    "SELECT COUNT(t) FROM OtpToken t WHERE t.purpose = :purpose AND t.deliveryMethod = :deliveryMethod",
+                                    Long.class)
+                            .setParameter("purpose", purpose)
+                            .setParameter("deliveryMethod", deliveryMethod)
+                            .getSingleResult();
+
+                    assertThat(count).as(purpose + "/" + deliveryMethod).isNotNegative();
+                }
+            }
+        }
+    }
+
+    // ===== AWS SDK TESTS =====
+
+    @Nested
+    @DisplayName("AWS SDK Tests")
+    class AwsSdkTests {
+
+        @Test
+        @DisplayName("Should build the SES and SNS clients")
+        void shouldBuildAwsClients() {
+            SesClient sesClient = applicationContext.getBean(SesClient.class);
+            SnsClient snsClient = applicationContext.getBean(SnsClient.class);
+
+            assertThat(sesClient.serviceClientConfiguration().region()).isEqualTo(Region.EU_CENTRAL_1);
+            assertThat(snsClient.serviceClientConfiguration().region()).isEqualTo(Region.EU_CENTRAL_1);
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private RegistrationResult register(String email) {
+        return authenticationService.register(new RegistrationRequest("Native", "Member", email, null, PASSWORD, false));
+    }
+}
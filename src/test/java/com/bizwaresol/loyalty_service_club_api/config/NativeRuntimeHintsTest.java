@@ -0,0 +1,119 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NativeRuntimeHints Unit Tests")
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    // ===== JPA TESTS =====
+
+    @Nested
+    @DisplayName("JPA Hints Tests")
+    class JpaHintsTests {
+
+        @Test
+        @DisplayName("Should register fields and constructors of every entity")
+        void shouldRegisterEntities() {
+            for (Class<?> entity : NativeRuntimeHints.ENTITIES) {
+                assertThat(RuntimeHintsPredicates.reflection().onType(entity)
+                        .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                        .as(entity.getSimpleName())
+                        .accepts(hints);
+            }
+        }
+
+        @Test
+        @DisplayName("Should register the constructor of every JPQL constructor-expression result")
+        void shouldRegisterQueryResults() {
+            for (Class<?> result : NativeRuntimeHints.QUERY_RESULTS) {
+                assertThat(RuntimeHintsPredicates.reflection().onType(result)
+                        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                        .as(result.getSimpleName())
+                        .accepts(hints);
+            }
+        }
+
+        @Test
+        @DisplayName("Should register values() and valueOf() of every NAMED_ENUM type")
+        void shouldRegisterNamedEnums() {
+            for (Class<?> namedEnum : NativeRuntimeHints.NAMED_ENUMS) {
+                assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(namedEnum, "values"))
+                        .as(namedEnum.getSimpleName() + ".values()")
+                        .accepts(hints);
+                assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(namedEnum, "valueOf"))
+                        .as(namedEnum.getSimpleName() + ".valueOf()")
+                        .accepts(hints);
+            }
+        }
+    }
+
+    // ===== CONFIGURATION PROPERTIES TESTS =====
+
+    @Nested
+    @DisplayName("Configuration Properties Hints Tests")
+    class ConfigurationPropertiesHintsTests {
+
+        @Test
+        @DisplayName("Should register every configuration properties class for binding")
+        void shouldRegisterConfigurationProperties() {
+            for (Class<?> properties : NativeRuntimeHints.CONFIGURATION_PROPERTIES) {
+                assertThat(RuntimeHintsPredicates.reflection().onType(properties))
+                        .as(properties.getSimpleName())
+                        .accepts(hints);
+            }
+        }
+    }
+
+    // ===== AWS SDK AND CACHE TESTS =====
+
+    @Nested
+    @DisplayName("AWS SDK and Cache Hints Tests")
+    class AwsSdkAndCacheHintsTests {
+
+        @Test
+        @DisplayName("Should register the AWS SDK classpath resources")
+        void shouldRegisterAwsSdkResources() {
+            for (String resource : NativeRuntimeHints.AWS_SDK_RESOURCES) {
+                assertThat(RuntimeHintsPredicates.resource().forResource(resource))
+                        .as(resource)
+                        .accepts(hints);
+            }
+        }
+
+        @Test
+        @DisplayName("Should register the AWS SDK HTTP service constructor")
+        void shouldRegisterAwsSdkHttpService() {
+            assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(NativeRuntimeHints.AWS_SDK_HTTP_SERVICE))
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should register the Caffeine JCache provider and its configuration")
+        void shouldRegisterCachingProvider() {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(CaffeineCachingProvider.class)
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.resource().forResource("reference.conf")).accepts(hints);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bizwaresol.loyalty_service_club_api.config;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.error.ErrorResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PrebuiltJsonHttpMessageConverter Unit Tests")
+class PrebuiltJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final PrebuiltJsonHttpMessageConverter converter = new PrebuiltJsonHttpMessageConverter(
+            objectMapper, List.of(LoginRequest.class, SendVerificationResponse.class, ErrorResponse.class));
+
+    // ===== SUPPORT TESTS =====
+
+    @Nested
+    @DisplayName("Support Tests")
+    class SupportTests {
+
+        @Test
+        @DisplayName("Should handle only the registered types as JSON")
+        void shouldSupportRegisteredTypesOnly() {
+            assertThat(converter.canRead(LoginRequest.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canWrite(ErrorResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canRead(Map.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canRead(LoginRequest.class, MediaType.APPLICATION_XML)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should register every API type of WebConfig")
+        void shouldBuildAllWebConfigTypes() {
+            PrebuiltJsonHttpMessageConverter apiConverter = new PrebuiltJsonHttpMessageConverter(objectMapper, WebConfig.API_TYPES);
+
+            for (Class<?> type : WebConfig.API_TYPES) {
+                assertThat(apiConverter.canRead(type, MediaType.APPLICATION_JSON)).as(type.getSimpleName()).isTrue();
+            }
+        }
+    }
+
+    // ===== READ TESTS =====
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should read a request record")
+        void shouldReadRecord() throws Exception {
+            MockHttpInputMessage input = new MockHttpInputMessage(
+                    "{\"identifier\":\"test@gmail.com\",\"password\":\"Secret123!\",\"rememberMe\":true}"
+                            .getBytes(StandardCharsets.UTF_8));
+
+            Object read = converter.read(LoginRequest.class, input);
+
+            assertThat(read).isEqualTo(new LoginRequest("test@gmail.com", "Secret123!", true));
+        }
+
+        @Test
+        @DisplayName("Should report malformed JSON as not readable")
+        void shouldRejectMalformedJson() {
+            MockHttpInputMessage input = new MockHttpInputMessage("{\"identifier\":".getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> converter.read(LoginRequest.class, input))
+                    .isInstanceOf(HttpMessageNotReadableException.class);
+        }
+    }
+
+    // ===== WRITE TESTS =====
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should write a response record with its Content-Length")
+        void shouldWriteRecordWithContentLength() throws Exception {
+            SendVerificationResponse response = new SendVerificationResponse(
+                    true, "Code sent", "test@gmail.com", OtpDeliveryMethod.EMAIL, null, null);
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+            converter.write(response, MediaType.APPLICATION_JSON, output);
+
+            byte[] body = output.getBodyAsBytes();
+            assertThat(output.getHeaders().getContentLength()).isEqualTo(body.length);
+            assertThat(objectMapper.readValue(body, SendVerificationResponse.class)).isEqualTo(response);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bizwaresol.loyalty_service_club_api.controller;
+
+import com.bizwaresol.loyalty_service_club_api.data.dto.error.ErrorResponse;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.login.InvalidLoginCredentialsException;
+import com.bizwaresol.loyalty_service_club_api.exception.system.database.DatabaseConnectionException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ApiExceptionHandler Unit Tests")
+class ApiExceptionHandlerTest {
+
+    private final ApiExceptionHandler handler = new ApiExceptionHandler();
+
+    // ===== SERVICE EXCEPTION TESTS =====
+
+    @Nested
+    @DisplayName("Service Exception Tests")
+    class ServiceExceptionTests {
+
+        @Test
+        @DisplayName("Should use status and error code of a validation exception")
+        void shouldMapValidationException() {
+            ResponseEntity<ErrorResponse> response = handler.handleServiceException(new NullFieldException("deliveryMethod"));
+
+            assertThat(response.getStatusCode().value()).isEqualTo(400);
+            assertThat(response.getBody()).isEqualTo(
+                    new ErrorResponse("NULL_FIELD", "Field 'deliveryMethod' cannot be null"));
+        }
+
+        @Test
+        @DisplayName("Should use status and error code of a security exception")
+        void shouldMapSecurityException() {
+            ResponseEntity<ErrorResponse> response = handler.handleServiceException(new InvalidLoginCredentialsException());
+
+            assertThat(response.getStatusCode().value()).isEqualTo(401);
+            assertThat(response.getBody().errorCode()).isEqualTo("INVALID_LOGIN_CREDENTIALS");
+        }
+
+        @Test
+        @DisplayName("Should replace the message of a system exception")
+        void shouldHideSystemExceptionMessage() {
+            ResponseEntity<ErrorResponse> response = handler.handleServiceException(
+                    new DatabaseConnectionException("jdbc:postgresql://db-internal:5432 refused"));
+
+            assertThat(response.getStatusCode().value()).isEqualTo(500);
+            assertThat(response.getBody().message()).isEqualTo(ApiExceptionHandler.INTERNAL_ERROR_MESSAGE);
+            assertThat(response.getBody().message()).doesNotContain("db-internal");
+        }
+    }
+
+    // ===== REQUEST BODY TESTS =====
+
+    @Nested
+    @DisplayName("Request Body Tests")
+    class RequestBodyTests {
+
+        @Test
+        @DisplayName("Should answer an unreadable body with 400 MALFORMED_REQUEST")
+        void shouldMapUnreadableBody() {
+            HttpMessageNotReadableException exception =
+                    new HttpMessageNotReadableException("Malformed JSON request body", new MockHttpInputMessage(new byte[0]));
+
+            ResponseEntity<ErrorResponse> response = handler.handleUnreadableBody(exception);
+
+            assertThat(response.getStatusCode().value()).isEqualTo(400);
+            assertThat(response.getBody().errorCode()).isEqualTo(ApiExceptionHandler.MALFORMED_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.bizwaresol.loyalty_service_club_api.controller.auth;
+
+import com.bizwaresol.loyalty_service_club_api.config.SecurityConfig;
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.LoginResult;
+import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.RegistrationResult;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.login.InvalidLoginCredentialsException;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomAuthenticationProvider;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomerUserDetailsService;
+import com.bizwaresol.loyalty_service_club_api.service.auth.AuthenticationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AuthController.class)
+@Import(SecurityConfig.class)
+@DisplayName("AuthController Web Tests")
+class AuthControllerTest {
+
+    private static final String LOGIN_URL = ApiPaths.AUTH + ApiPaths.LOGIN;
+    private static final String REGISTER_URL = ApiPaths.AUTH + ApiPaths.REGISTER;
+
+    private static final Long ACCOUNT_ID = 7L;
+    private static final Long CUSTOMER_ID = 3L;
+    private static final String VALID_EMAIL = "member@gmail.com";
+    private static final String VALID_PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AuthenticationService authenticationService;
+
+    // Dependencies of SecurityConfig
+    @MockitoBean
+    private CustomAuthenticationProvider customAuthenticationProvider;
+
+    @MockitoBean
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @MockitoBean
+    private DataSource dataSource;
+
+    private Customer sampleCustomer;
+    private CustomerAccount sampleAccount;
+
+    @BeforeEach
+    void setUp() {
+        sampleCustomer = new Customer();
+        sampleCustomer.setId(CUSTOMER_ID);
+
+        sampleAccount = new CustomerAccount();
+        sampleAccount.setId(ACCOUNT_ID);
+        sampleAccount.setUsername(VALID_EMAIL);
+        sampleAccount.setPassword("$2a$10$hashedPassword");
+        sampleAccount.setActivityStatus(CustomerAccountActivityStatus.ACTIVE);
+        sampleAccount.setVerificationStatus(CustomerAccountVerificationStatus.VERIFIED);
+        sampleAccount.setCustomer(sampleCustomer);
+    }
+
+    // ===== LOGIN TESTS =====
+
+    @Nested
+    @DisplayName("Login Tests")
+    class LoginTests {
+
+        @Test
+        @DisplayName("Should return ids and statuses with a Content-Length, without the password hash")
+        void login_ShouldReturnLoginResponse() throws Exception {
+            OffsetDateTime previousLogin = OffsetDateTime.parse("2026-01-02T03:04:05Z");
+            when(authenticationService.authenticate(new LoginRequest(VALID_EMAIL, VALID_PASSWORD, true)))
+                    .thenReturn(LoginResult.success(sampleAccount, true, previousLogin));
+
+            MvcResult result = mockMvc.perform(post(LOGIN_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"identifier\":\"" + VALID_EMAIL + "\",\"password\":\"" + VALID_PASSWORD + "\",\"rememberMe\":true}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.accountId").value(ACCOUNT_ID))
+                    .andExpect(jsonPath("$.customerId").value(CUSTOMER_ID))
+                    .andExpect(jsonPath("$.username").value(VALID_EMAIL))
+                    .andExpect(jsonPath("$.rememberMeEnabled").value(true))
+                    .andExpect(jsonPath("$.activityStatus").value("ACTIVE"))
+                    .andExpect(jsonPath("$.verificationStatus").value("VERIFIED"))
+                    .andExpect(jsonPath("$.password").doesNotExist())
+                    .andExpect(header().doesNotExist(HttpHeaders.TRANSFER_ENCODING))
+                    .andReturn();
+
+            int bodyLength = result.getResponse().getContentAsByteArray().length;
+            assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(bodyLength));
+        }
+
+        @Test
+        @DisplayName("Should answer with the status and error code of invalid credentials")
+        void login_InvalidCredentials_ShouldReturnErrorResponse() throws Exception {
+            InvalidLoginCredentialsException failure = new InvalidLoginCredentialsException(VALID_EMAIL);
+            when(authenticationService.authenticate(any(LoginRequest.class))).thenThrow(failure);
+
+            mockMvc.perform(post(LOGIN_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"identifier\":\"" + VALID_EMAIL + "\",\"password\":\"wrong\"}"))
+                    .andExpect(status().is(failure.getHttpStatus()))
+                    .andExpect(jsonPath("$.errorCode").value("INVALID_LOGIN_CREDENTIALS"));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed body with 400 before calling the service")
+        void login_MalformedBody_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post(LOGIN_URL).contentType(MediaType.APPLICATION_JSON).content("{\"identifier\":"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("MALFORMED_REQUEST"));
+
+            verifyNoInteractions(authenticationService);
+        }
+    }
+
+    // ===== REGISTRATION TESTS =====
+
+    @Nested
+    @DisplayName("Registration Tests")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("Should answer 201 with the new ids and a Content-Length")
+        void register_ShouldReturnCreated() throws Exception {
+            RegistrationRequest request = new RegistrationRequest("Ana", "Anic", VALID_EMAIL, null, VALID_PASSWORD, false);
+            when(authenticationService.register(request))
+                    .thenReturn(RegistrationResult.success(sampleAccount, sampleCustomer, true, false, false));
+
+            MvcResult result = mockMvc.perform(post(REGISTER_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Ana\",\"lastName\":\"Anic\",\"email\":\"" + VALID_EMAIL
+                                    + "\",\"password\":\"" + VALID_PASSWORD + "\"}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.accountId").value(ACCOUNT_ID))
+                    .andExpect(jsonPath("$.customerId").value(CUSTOMER_ID))
+                    .andExpect(jsonPath("$.emailProvided").value(true))
+                    .andExpect(jsonPath("$.phoneProvided").value(false))
+                    .andExpect(jsonPath("$.preferredContactMethod").value("email"))
+                    .andExpect(header().doesNotExist(HttpHeaders.TRANSFER_ENCODING))
+                    .andReturn();
+
+            int bodyLength = result.getResponse().getContentAsByteArray().length;
+            assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(bodyLength));
+        }
+
+        @Test
+        @DisplayName("Should serve registration anonymously without creating a session")
+        void register_ShouldNotCreateSession() throws Exception {
+            when(authenticationService.register(any(RegistrationRequest.class)))
+                    .thenReturn(RegistrationResult.success(sampleAccount, sampleCustomer, true, false, false));
+
+            MvcResult result = mockMvc.perform(post(REGISTER_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Ana\",\"lastName\":\"Anic\",\"email\":\"" + VALID_EMAIL
+                                    + "\",\"password\":\"" + VALID_PASSWORD + "\"}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                    .andReturn();
+
+            assertThat(result.getRequest().getSession(false)).isNull();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.bizwaresol.loyalty_service_club_api.controller.auth;
+
+import com.bizwaresol.loyalty_service_club_api.config.SecurityConfig;
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.verification.InvalidOtpCodeException;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomAuthenticationProvider;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomerUserDetailsService;
+import com.bizwaresol.loyalty_service_club_api.service.auth.PasswordResetService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PasswordResetController.class)
+@Import(SecurityConfig.class)
+@DisplayName("PasswordResetController Web Tests")
+class PasswordResetControllerTest {
+
+    private static final String REQUEST_URL = ApiPaths.PASSWORD_RESET + ApiPaths.PASSWORD_RESET_REQUEST;
+    private static final String VERIFY_URL = ApiPaths.PASSWORD_RESET + ApiPaths.PASSWORD_RESET_VERIFY;
+    private static final String CONFIRM_URL = ApiPaths.PASSWORD_RESET + ApiPaths.PASSWORD_RESET_CONFIRM;
+
+    private static final String VALID_EMAIL = "member@gmail.com";
+    private static final String VALID_PHONE = "+381641234567";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PasswordResetService passwordResetService;
+
+    // Dependencies of SecurityConfig
+    @MockitoBean
+    private CustomAuthenticationProvider customAuthenticationProvider;
+
+    @MockitoBean
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @MockitoBean
+    private DataSource dataSource;
+
+    // ===== REQUEST RESET TESTS =====
+
+    @Nested
+    @DisplayName("Request Reset Tests")
+    class RequestResetTests {
+
+        @Test
+        @DisplayName("Should route an EMAIL request and answer 202 without a body")
+        void requestReset_Email_ShouldAccept() throws Exception {
+            mockMvc.perform(post(REQUEST_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\",\"deliveryMethod\":\"EMAIL\"}"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(content().string(""));
+
+            verify(passwordResetService).requestPasswordReset(VALID_EMAIL, OtpDeliveryMethod.EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should route an SMS request and answer 202 without a body")
+        void requestReset_Sms_ShouldAccept() throws Exception {
+            mockMvc.perform(post(REQUEST_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_PHONE + "\",\"deliveryMethod\":\"SMS\"}"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(content().string(""));
+
+            verify(passwordResetService).requestPasswordReset(VALID_PHONE, OtpDeliveryMethod.SMS);
+        }
+
+        @Test
+        @DisplayName("Should reject a missing deliveryMethod with 400 before calling the service")
+        void requestReset_MissingDeliveryMethod_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post(REQUEST_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("NULL_FIELD"));
+
+            verifyNoInteractions(passwordResetService);
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed body with 400")
+        void requestReset_MalformedBody_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post(REQUEST_URL).contentType(MediaType.APPLICATION_JSON).content("{\"contact\":"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("MALFORMED_REQUEST"));
+
+            verifyNoInteractions(passwordResetService);
+        }
+    }
+
+    // ===== VERIFY AND CONFIRM TESTS =====
+
+    @Nested
+    @DisplayName("Verify And Confirm Tests")
+    class VerifyAndConfirmTests {
+
+        @Test
+        @DisplayName("Should return the reset token with a Content-Length instead of a chunked body")
+        void verifyCode_ShouldReturnTokenWithContentLength() throws Exception {
+            when(passwordResetService.verifyOtpAndCreateResetToken(VALID_PHONE, OtpDeliveryMethod.SMS, "123456"))
+                    .thenReturn("reset-token");
+
+            MvcResult result = mockMvc.perform(post(VERIFY_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_PHONE + "\",\"deliveryMethod\":\"SMS\",\"otpCode\":\"123456\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value("reset-token"))
+                    .andExpect(header().doesNotExist(HttpHeaders.TRANSFER_ENCODING))
+                    .andReturn();
+
+            int bodyLength = result.getResponse().getContentAsByteArray().length;
+            assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(bodyLength));
+        }
+
+        @Test
+        @DisplayName("Should answer with the status and error code of a service exception")
+        void verifyCode_InvalidCode_ShouldReturnErrorResponse() throws Exception {
+            InvalidOtpCodeException failure = new InvalidOtpCodeException(VALID_EMAIL);
+            when(passwordResetService.verifyOtpAndCreateResetToken(VALID_EMAIL, OtpDeliveryMethod.EMAIL, "000000"))
+                    .thenThrow(failure);
+
+            mockMvc.perform(post(VERIFY_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\",\"deliveryMethod\":\"EMAIL\",\"otpCode\":\"000000\"}"))
+                    .andExpect(status().is(failure.getHttpStatus()))
+                    .andExpect(jsonPath("$.errorCode").value("INVALID_OTP_CODE"));
+        }
+
+        @Test
+        @DisplayName("Should answer 204 once the password is reset")
+        void resetPassword_ShouldReturnNoContent() throws Exception {
+            mockMvc.perform(post(CONFIRM_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"token\":\"reset-token\",\"newPassword\":\"newPassword123\"}"))
+                    .andExpect(status().isNoContent());
+
+            verify(passwordResetService).resetPassword("reset-token", "newPassword123");
+        }
+    }
+
+    // ===== SECURITY CHAIN TESTS =====
+
+    @Nested
+    @DisplayName("Security Chain Tests")
+    class SecurityChainTests {
+
+        @Test
+        @DisplayName("Should serve the public API anonymously without creating a session")
+        void publicApi_ShouldNotCreateSession() throws Exception {
+            MvcResult result = mockMvc.perform(post(REQUEST_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\",\"deliveryMethod\":\"EMAIL\"}"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+                    .andReturn();
+
+            assertThat(result.getRequest().getSession(false)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should leave other paths to the authenticated chain")
+        void otherPaths_ShouldRequireAuthentication() throws Exception {
+            mockMvc.perform(get("/customers/me"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bizwaresol.loyalty_service_club_api.controller.auth;
+
+import com.bizwaresol.loyalty_service_club_api.config.SecurityConfig;
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.PasswordResetToken;
+import com.bizwaresol.loyalty_service_club_api.exception.business.resource.CustomerAccountNotFoundException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpRateLimitExceededException;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomAuthenticationProvider;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomerUserDetailsService;
+import com.bizwaresol.loyalty_service_club_api.service.auth.PasswordResetService;
+import com.bizwaresol.loyalty_service_club_api.service.data.CustomerAccountService;
+import com.bizwaresol.loyalty_service_club_api.service.data.PasswordResetTokenService;
+import com.bizwaresol.loyalty_service_club_api.service.verification.EmailVerificationService;
+import com.bizwaresol.loyalty_service_club_api.service.verification.PhoneVerificationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * /auth/password-reset/request against the real {@link PasswordResetService}: every refusal a registered
+ * contact can run into answers exactly like an unknown contact, so the response does not reveal accounts.
+ */
+@WebMvcTest(PasswordResetController.class)
+@Import({SecurityConfig.class, PasswordResetService.class})
+@DisplayName("Password Reset Request Web Tests")
+class PasswordResetRequestWebTest {
+
+    private static final String REQUEST_URL = ApiPaths.PASSWORD_RESET + ApiPaths.PASSWORD_RESET_REQUEST;
+
+    private static final Long ACCOUNT_ID = 7L;
+    private static final String REGISTERED_EMAIL = "member@gmail.com";
+    private static final String UNKNOWN_EMAIL = "nobody@gmail.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Dependencies of PasswordResetService
+    @MockitoBean
+    private CustomerAccountService customerAccountService;
+
+    @MockitoBean
+    private PasswordResetTokenService passwordResetTokenService;
+
+    @MockitoBean
+    private EmailVerificationService emailVerificationService;
+
+    @MockitoBean
+    private PhoneVerificationService phoneVerificationService;
+
+    @MockitoBean
+    private SecurityEventLog securityEventLog;
+
+    // Dependencies of SecurityConfig
+    @MockitoBean
+    private CustomAuthenticationProvider customAuthenticationProvider;
+
+    @MockitoBean
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @MockitoBean
+    private DataSource dataSource;
+
+    private CustomerAccount registeredAccount;
+
+    @BeforeEach
+    void setUp() {
+        registeredAccount = new CustomerAccount();
+        registeredAccount.setId(ACCOUNT_ID);
+        registeredAccount.setUsername(REGISTERED_EMAIL);
+        when(customerAccountService.findByEmailAddress(REGISTERED_EMAIL)).thenReturn(registeredAccount);
+        when(customerAccountService.findByEmailAddress(UNKNOWN_EMAIL))
+                .thenThrow(new CustomerAccountNotFoundException(UNKNOWN_EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should answer a second request for the same contact like an unknown contact")
+    void secondRequest_WithActiveToken_ShouldAnswerLikeUnknownContact() throws Exception {
+        PasswordResetToken activeToken = new PasswordResetToken();
+        activeToken.setCustomerAccount(registeredAccount);
+        activeToken.setExpiresAt(OffsetDateTime.now().plusMinutes(15));
+        when(passwordResetTokenService.findActiveTokenByAccountId(ACCOUNT_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(activeToken));
+
+        request(REGISTERED_EMAIL).andExpect(status().isAccepted()).andExpect(content().string(""));
+        request(REGISTERED_EMAIL).andExpect(status().isAccepted()).andExpect(content().string(""));
+        request(UNKNOWN_EMAIL).andExpect(status().isAccepted()).andExpect(content().string(""));
+
+        verify(emailVerificationService, times(1)).sendPasswordResetCode(REGISTERED_EMAIL);
+        verify(securityEventLog, times(3)).record(any());
+    }
+
+    @Test
+    @DisplayName("Should answer a rate-limited contact like an unknown contact")
+    void request_RateLimited_ShouldAnswerLikeUnknownContact() throws Exception {
+        when(passwordResetTokenService.findActiveTokenByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(emailVerificationService.sendPasswordResetCode(REGISTERED_EMAIL))
+                .thenThrow(new OtpRateLimitExceededException(REGISTERED_EMAIL, 10));
+
+        request(REGISTERED_EMAIL).andExpect(status().isAccepted()).andExpect(content().string(""));
+    }
+
+    // ===== HELPER METHODS =====
+
+    private ResultActions request(String email) throws Exception {
+        return mockMvc.perform(post(REQUEST_URL).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contact\":\"" + email + "\",\"deliveryMethod\":\"EMAIL\"}"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.bizwaresol.loyalty_service_club_api.controller.verification;
+
+import com.bizwaresol.loyalty_service_club_api.config.SecurityConfig;
+import com.bizwaresol.loyalty_service_club_api.constant.ApiPaths;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
+import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomAuthenticationProvider;
+import com.bizwaresol.loyalty_service_club_api.security.auth.CustomerUserDetailsService;
+import com.bizwaresol.loyalty_service_club_api.service.verification.EmailVerificationService;
+import com.bizwaresol.loyalty_service_club_api.service.verification.PhoneVerificationService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(VerificationController.class)
+@Import(SecurityConfig.class)
+@DisplayName("VerificationController Web Tests")
+class VerificationControllerTest {
+
+    private static final String SEND_URL = ApiPaths.VERIFICATION + ApiPaths.VERIFICATION_SEND;
+    private static final String VERIFY_URL = ApiPaths.VERIFICATION + ApiPaths.VERIFICATION_VERIFY;
+
+    private static final String VALID_EMAIL = "member@gmail.com";
+    private static final String VALID_PHONE = "+381641234567";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmailVerificationService emailVerificationService;
+
+    @MockitoBean
+    private PhoneVerificationService phoneVerificationService;
+
+    // Dependencies of SecurityConfig
+    @MockitoBean
+    private CustomAuthenticationProvider customAuthenticationProvider;
+
+    @MockitoBean
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @MockitoBean
+    private DataSource dataSource;
+
+    // ===== SEND CODE TESTS =====
+
+    @Nested
+    @DisplayName("Send Code Tests")
+    class SendCodeTests {
+
+        @Test
+        @DisplayName("Should route an EMAIL request to the email service with a Content-Length")
+        void sendCode_Email_ShouldUseEmailService() throws Exception {
+            when(emailVerificationService.sendVerificationCode(VALID_EMAIL))
+                    .thenReturn(SendVerificationResponse.success(VALID_EMAIL, OtpDeliveryMethod.EMAIL));
+
+            MvcResult result = mockMvc.perform(post(SEND_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\",\"deliveryMethod\":\"EMAIL\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.deliveryMethod").value("EMAIL"))
+                    .andExpect(header().doesNotExist(HttpHeaders.TRANSFER_ENCODING))
+                    .andReturn();
+
+            int bodyLength = result.getResponse().getContentAsByteArray().length;
+            assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(bodyLength));
+            verifyNoInteractions(phoneVerificationService);
+        }
+
+        @Test
+        @DisplayName("Should route an SMS request to the phone service")
+        void sendCode_Sms_ShouldUsePhoneService() throws Exception {
+            when(phoneVerificationService.sendVerificationCode(VALID_PHONE))
+                    .thenReturn(SendVerificationResponse.success(VALID_PHONE, OtpDeliveryMethod.SMS));
+
+            mockMvc.perform(post(SEND_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_PHONE + "\",\"deliveryMethod\":\"SMS\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.deliveryMethod").value("SMS"));
+
+            verify(emailVerificationService, never()).sendVerificationCode(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject a missing deliveryMethod with 400 before calling either service")
+        void sendCode_MissingDeliveryMethod_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post(SEND_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("NULL_FIELD"));
+
+            verifyNoInteractions(emailVerificationService, phoneVerificationService);
+        }
+    }
+
+    // ===== VERIFY CODE TESTS =====
+
+    @Nested
+    @DisplayName("Verify Code Tests")
+    class VerifyCodeTests {
+
+        @Test
+        @DisplayName("Should route an EMAIL code to the email service")
+        void verifyCode_Email_ShouldUseEmailService() throws Exception {
+            when(emailVerificationService.verifyCode(VALID_EMAIL, "123456"))
+                    .thenReturn(VerifyCodeResponse.success(VALID_EMAIL, OtpDeliveryMethod.EMAIL));
+
+            mockMvc.perform(post(VERIFY_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_EMAIL + "\",\"deliveryMethod\":\"EMAIL\",\"otpCode\":\"123456\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.verified").value(true))
+                    .andExpect(jsonPath("$.contactVerified").value(true));
+
+            verifyNoInteractions(phoneVerificationService);
+        }
+
+        @Test
+        @DisplayName("Should route an SMS code to the phone service and return its remaining attempts")
+        void verifyCode_Sms_ShouldUsePhoneService() throws Exception {
+            when(phoneVerificationService.verifyCode(VALID_PHONE, "000000"))
+                    .thenReturn(VerifyCodeResponse.invalidCode(VALID_PHONE, OtpDeliveryMethod.SMS, 2, false));
+
+            mockMvc.perform(post(VERIFY_URL).contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"contact\":\"" + VALID_PHONE + "\",\"deliveryMethod\":\"SMS\",\"otpCode\":\"000000\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.verified").value(false))
+                    .andExpect(jsonPath("$.attemptsRemaining").value(2));
+
+            verify(emailVerificationService, never()).verifyCode(anyString(), anyString());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.bizwaresol.loyalty_service_club_api.data.audit;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.SecurityEventProperties;
+import com.bizwaresol.loyalty_service_club_api.config.properties.SecurityEventProperties.OverflowPolicy;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecurityEventLog Unit Tests")
+class SecurityEventLogTest {
+
+    private static final int CAPACITY = 3;
+
+    @Mock
+    private SecurityEventWriter writer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SecurityEventProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SecurityEventProperties();
+        properties.setBufferCapacity(CAPACITY);
+        properties.setBatchSize(2);
+        properties.setBlockTimeoutMs(1);
+        properties.setRetryDelayMs(1);
+    }
+
+    // ===== OVERFLOW POLICY TESTS =====
+
+    @Nested
+    @DisplayName("Overflow Policy Tests")
+    class OverflowPolicyTests {
+
+        @Test
+        @DisplayName("DROP_NEWEST should keep the buffered events and drop the new one")
+        void dropNewest_ShouldDropRecordedEvent() {
+            properties.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+            SecurityEventLog log = newLog();
+
+            recordLogins(log, "a", "b", "c", "d");
+
+            assertThat(drainIdentifiers(log)).containsExactly("a", "b", "c");
+            assertThat(count(MetricNames.SECURITY_EVENTS_RECORDED)).isEqualTo(3);
+            assertThat(dropped(MetricNames.REASON_BUFFER_FULL)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("DROP_OLDEST should make room by dropping the oldest buffered event")
+        void dropOldest_ShouldDropOldestEvent() {
+            properties.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+            SecurityEventLog log = newLog();
+
+            recordLogins(log, "a", "b", "c", "d");
+
+            assertThat(drainIdentifiers(log)).containsExactly("b", "c", "d");
+            assertThat(count(MetricNames.SECURITY_EVENTS_RECORDED)).isEqualTo(4);
+            assertThat(dropped(MetricNames.REASON_BUFFER_FULL)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("BLOCK should drop the new event once the timeout has passed")
+        void block_ShouldDropAfterTimeout() {
+            properties.setOverflowPolicy(OverflowPolicy.BLOCK);
+            SecurityEventLog log = newLog();
+
+            recordLogins(log, "a", "b", "c", "d");
+
+            assertThat(drainIdentifiers(log)).containsExactly("a", "b", "c");
+            assertThat(dropped(MetricNames.REASON_BUFFER_FULL)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore events when disabled")
+        void disabled_ShouldNotBuffer() {
+            properties.setEnabled(false);
+            SecurityEventLog log = newLog();
+
+            recordLogins(log, "a");
+
+            assertThat(log.flush()).isZero();
+            verifyNoInteractions(writer);
+        }
+    }
+
+    // ===== FLUSH TESTS =====
+
+    @Nested
+    @DisplayName("Flush Tests")
+    class FlushTests {
+
+        @Test
+        @DisplayName("Should write at most batch-size events per flush")
+        void flush_ShouldWriteOneBatch() {
+            SecurityEventLog log = newLog();
+            recordLogins(log, "a", "b", "c");
+
+            assertThat(log.flush()).isEqualTo(2);
+            assertThat(log.flush()).isEqualTo(1);
+            assertThat(log.flush()).isZero();
+
+            verify(writer, times(2)).write(anyList());
+            assertThat(count(MetricNames.SECURITY_EVENTS_WRITTEN)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should retry a failed batch and count it as written once it succeeds")
+        void flush_ShouldRetryFailedBatch() {
+            properties.setMaxWriteAttempts(3);
+            SecurityEventLog log = newLog();
+            recordLogins(log, "a", "b");
+            doThrow(new DataAccessResourceFailureException("connection refused")).doNothing().when(writer).write(anyList());
+
+            log.flush();
+
+            verify(writer, times(2)).write(anyList());
+            assertThat(count(MetricNames.SECURITY_EVENTS_WRITTEN)).isEqualTo(2);
+            assertThat(dropped(MetricNames.REASON_WRITE_FAILED)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drop a batch that fails on every attempt and row by row")
+        void flush_ShouldDropBatchAfterMaxAttempts() {
+            properties.setMaxWriteAttempts(2);
+            SecurityEventLog log = newLog();
+            recordLogins(log, "a", "b");
+            doThrow(new DataAccessResourceFailureException("connection refused")).when(writer).write(anyList());
+
+            log.flush();
+
+            // two batch attempts, then one attempt per event
+            verify(writer, times(4)).write(anyList());
+            assertThat(count(MetricNames.SECURITY_EVENTS_WRITTEN)).isZero();
+            assertThat(dropped(MetricNames.REASON_WRITE_FAILED)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should write the rest of a failed batch one by one and drop only the rejected event")
+        void flush_ShouldDropOnlyRejectedEvent() {
+            properties.setMaxWriteAttempts(2);
+            SecurityEventLog log = newLog();
+            recordLogins(log, "good", "bad");
+            List<String> writtenIdentifiers = new ArrayList<>();
+            doAnswer(invocation -> {
+                List<SecurityEvent> batch = invocation.getArgument(0);
+                if (batch.stream().anyMatch(event -> "bad".equals(event.identifier()))) {
+                    throw new DataIntegrityViolationException("value too long");
+                }
+                batch.forEach(event -> writtenIdentifiers.add(event.identifier()));
+                return null;
+            }).when(writer).write(anyList());
+
+            log.flush();
+
+            assertThat(writtenIdentifiers).containsExactly("good");
+            assertThat(count(MetricNames.SECURITY_EVENTS_WRITTEN)).isEqualTo(1);
+            assertThat(dropped(MetricNames.REASON_WRITE_FAILED)).isEqualTo(1);
+        }
+    }
+
+    // ===== LIFECYCLE TESTS =====
+
+    @Nested
+    @DisplayName("Lifecycle Tests")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should write buffered events in the background and drain on stop")
+        void startStop_ShouldDrainBuffer() {
+            properties.setFlushIntervalMs(10);
+            SecurityEventLog log = newLog();
+
+            log.start();
+            recordLogins(log, "a", "b", "c");
+            log.stop();
+
+            assertThat(log.isRunning()).isFalse();
+            assertThat(count(MetricNames.SECURITY_EVENTS_WRITTEN)).isEqualTo(3);
+            assertThat(dropped(MetricNames.REASON_SHUTDOWN)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not start the writer when disabled")
+        void start_Disabled_ShouldNotRun() {
+            properties.setEnabled(false);
+            SecurityEventLog log = newLog();
+
+            log.start();
+
+            assertThat(log.isRunning()).isFalse();
+            log.stop();
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private SecurityEventLog newLog() {
+        return new SecurityEventLog(writer, properties, meterRegistry);
+    }
+
+    private static void recordLogins(SecurityEventLog log, String... identifiers) {
+        for (String identifier : identifiers) {
+            log.record(SecurityEvent.login(identifier, null, MetricNames.OUTCOME_SUCCESS, null));
+        }
+    }
+
+    private List<String> drainIdentifiers(SecurityEventLog log) {
+        List<String> identifiers = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<SecurityEvent> batch = invocation.getArgument(0);
+            batch.forEach(event -> identifiers.add(event.identifier()));
+            return null;
+        }).when(writer).write(anyList());
+        while (log.flush() > 0) {
+            // one batch per call
+        }
+        return identifiers;
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get(MetricNames.SECURITY_EVENTS_DROPPED).tag(MetricNames.TAG_REASON, reason).counter().count();
+    }
+}
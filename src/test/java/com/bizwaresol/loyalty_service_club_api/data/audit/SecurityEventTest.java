@@ -0,0 +1,49 @@
+package com.bizwaresol.loyalty_service_club_api.data.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SecurityEvent Unit Tests")
+class SecurityEventTest {
+
+    // ===== SANITIZE TESTS =====
+
+    @Nested
+    @DisplayName("Sanitize Tests")
+    class SanitizeTests {
+
+        @Test
+        @DisplayName("Should keep a valid identifier as is")
+        void sanitize_ValidIdentifier_ShouldKeepIt() {
+            assertThat(SecurityEvent.sanitize("member@gmail.com")).isEqualTo("member@gmail.com");
+            assertThat(SecurityEvent.sanitize("\u010D\u0107\u017E \uD83D\uDE00")).isEqualTo("\u010D\u0107\u017E \uD83D\uDE00");
+            assertThat(SecurityEvent.sanitize(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should replace NUL and other control characters")
+        void sanitize_ControlCharacters_ShouldReplaceThem() {
+            assertThat(SecurityEvent.sanitize("a\u0000b\nc\u007F")).isEqualTo("a\uFFFDb\uFFFDc\uFFFD");
+        }
+
+        @Test
+        @DisplayName("Should replace unpaired surrogates")
+        void sanitize_UnpairedSurrogates_ShouldReplaceThem() {
+            assertThat(SecurityEvent.sanitize("a\uD83Db\uDE00")).isEqualTo("a\uFFFDb\uFFFD");
+        }
+
+        @Test
+        @DisplayName("Should truncate to the column size without splitting a surrogate pair")
+        void sanitize_LongIdentifier_ShouldTruncate() {
+            String atLimit = "a".repeat(SecurityEvent.MAX_IDENTIFIER_LENGTH);
+            String pairAcrossLimit = "a".repeat(SecurityEvent.MAX_IDENTIFIER_LENGTH - 1) + "\uD83D\uDE00";
+
+            assertThat(SecurityEvent.sanitize(atLimit + "b")).isEqualTo(atLimit);
+            assertThat(SecurityEvent.sanitize(pairAcrossLimit))
+                    .isEqualTo("a".repeat(SecurityEvent.MAX_IDENTIFIER_LENGTH - 1));
+        }
+    }
+}
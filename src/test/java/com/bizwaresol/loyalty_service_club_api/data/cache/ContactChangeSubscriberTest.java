@@ -0,0 +1,85 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactChangeSubscriber Unit Tests")
+class ContactChangeSubscriberTest {
+
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
+
+    @InjectMocks
+    private ContactChangeSubscriber contactChangeSubscriber;
+
+    // ===== INVALIDATE TESTS =====
+
+    @Nested
+    @DisplayName("Invalidate Tests")
+    class InvalidateTests {
+
+        @Test
+        @DisplayName("Should evict the changed email, and its natural id only when the value changed")
+        void shouldEvictChangedEmail() {
+            contactChangeSubscriber.invalidate(List.of("email:1", "email:2:key"), null);
+
+            verify(contactCacheEvictor).evictChangedEmail(1L, false);
+            verify(contactCacheEvictor).evictChangedEmail(2L, true);
+            verifyNoMoreInteractions(contactCacheEvictor);
+        }
+
+        @Test
+        @DisplayName("Should evict the changed phone")
+        void shouldEvictChangedPhone() {
+            contactChangeSubscriber.invalidate(List.of("phone:3:key"), null);
+
+            verify(contactCacheEvictor).evictChangedPhone(3L, true);
+            verifyNoMoreInteractions(contactCacheEvictor);
+        }
+
+        @Test
+        @DisplayName("Should evict the changed customer and account")
+        void shouldEvictChangedCustomerAndAccount() {
+            contactChangeSubscriber.invalidate(List.of("customer:4", "account:5"), null);
+
+            verify(contactCacheEvictor).evictChangedCustomer(4L);
+            verify(contactCacheEvictor).evictChangedAccount(5L);
+            verifyNoMoreInteractions(contactCacheEvictor);
+        }
+
+        @Test
+        @DisplayName("Should evict everything for messages it cannot read")
+        void shouldEvictAllForUnreadableMessages() {
+            contactChangeSubscriber.invalidate(List.of("", "email", "email:abc", "loyalty_card:6"), null);
+
+            verify(contactCacheEvictor, times(4)).evictAll();
+            verifyNoMoreInteractions(contactCacheEvictor);
+        }
+    }
+
+    // ===== RESYNC TESTS =====
+
+    @Nested
+    @DisplayName("Resync Tests")
+    class ResyncTests {
+
+        @Test
+        @DisplayName("Should evict every contact cache")
+        void shouldEvictAll() {
+            contactChangeSubscriber.resync(null);
+
+            verify(contactCacheEvictor).evictAll();
+            verifyNoMoreInteractions(contactCacheEvictor);
+        }
+    }
+}
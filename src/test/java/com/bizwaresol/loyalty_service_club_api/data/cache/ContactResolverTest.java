@@ -0,0 +1,99 @@
+package com.bizwaresol.loyalty_service_club_api.data.cache;
+
+import com.bizwaresol.loyalty_service_club_api.config.properties.CacheProperties;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
+import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerPhoneRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactResolver Unit Tests")
+class ContactResolverTest {
+
+    private static final String EMAIL = "member@gmail.com";
+    private static final ResolvedContact CONTACT = new ResolvedContact(1L, 2L, 3L);
+
+    @Mock
+    private CustomerEmailRepository customerEmailRepository;
+
+    @Mock
+    private CustomerPhoneRepository customerPhoneRepository;
+
+    private ContactResolver contactResolver;
+
+    @BeforeEach
+    void setUp() {
+        contactResolver = new ContactResolver(customerEmailRepository, customerPhoneRepository,
+                new CacheProperties(), new SimpleMeterRegistry());
+    }
+
+    // ===== RESOLVE TESTS =====
+
+    @Nested
+    @DisplayName("resolveEmail() Tests")
+    class ResolveEmailTests {
+
+        @Test
+        @DisplayName("Should cache a complete resolution under the trimmed, lower-cased email")
+        void resolveEmail_Complete_ShouldCache() {
+            when(customerEmailRepository.resolveByEmail(EMAIL)).thenReturn(Optional.of(CONTACT));
+
+            assertThat(contactResolver.resolveEmail(" Member@Gmail.com ")).contains(CONTACT);
+            assertThat(contactResolver.resolveEmail(EMAIL)).contains(CONTACT);
+
+            verify(customerEmailRepository, times(1)).resolveByEmail(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should not cache a resolution without an account")
+        void resolveEmail_Incomplete_ShouldNotCache() {
+            ResolvedContact withoutAccount = new ResolvedContact(1L, 2L, null);
+            when(customerEmailRepository.resolveByEmail(EMAIL)).thenReturn(Optional.of(withoutAccount));
+
+            contactResolver.resolveEmail(EMAIL);
+            contactResolver.resolveEmail(EMAIL);
+
+            verify(customerEmailRepository, times(2)).resolveByEmail(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should answer but not cache a load that overlaps an eviction")
+        void resolveEmail_EvictedDuringLoad_ShouldNotCache() {
+            // The row was read before the change committed and its after-commit eviction ran
+            when(customerEmailRepository.resolveByEmail(EMAIL)).thenAnswer(invocation -> {
+                contactResolver.evictEmail(CONTACT.contactId());
+                return Optional.of(CONTACT);
+            }).thenReturn(Optional.empty());
+
+            assertThat(contactResolver.resolveEmail(EMAIL)).contains(CONTACT);
+            assertThat(contactResolver.resolveEmail(EMAIL)).isEmpty();
+
+            verify(customerEmailRepository, times(2)).resolveByEmail(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should cache again once no eviction overlaps the load")
+        void resolveEmail_AfterEviction_ShouldCacheAgain() {
+            when(customerEmailRepository.resolveByEmail(EMAIL)).thenReturn(Optional.of(CONTACT));
+            contactResolver.resolveEmail(EMAIL);
+
+            contactResolver.evictAccount(CONTACT.accountId());
+            contactResolver.resolveEmail(EMAIL);
+            contactResolver.resolveEmail(EMAIL);
+
+            verify(customerEmailRepository, times(2)).resolveByEmail(EMAIL);
+        }
+    }
+}
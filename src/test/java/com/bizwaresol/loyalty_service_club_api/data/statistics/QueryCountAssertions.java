@@ -0,0 +1,74 @@
+package com.bizwaresol.loyalty_service_club_api.data.statistics;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets for flows run against a real database, to catch N+1 regressions:
+ * <pre>
+ * assertQueries(() -> authenticationService.authenticate(request)).issuesAtMost(4);
+ * </pre>
+ * Counts come from {@link QueryCounter}, so the flow must run on the calling thread and the application
+ * context must have query-statistics enabled.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+        throw new UnsupportedOperationException("Cannot instantiate this class");
+    }
+
+    public static QueryCounts countQueries(ThrowingCallable flow) {
+        QueryCounts before = QueryCounter.snapshot();
+        try {
+            flow.call();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Measured flow failed", e);
+        }
+        return QueryCounter.snapshot().since(before);
+    }
+
+    public static FlowQueries assertQueries(ThrowingCallable flow) {
+        return new FlowQueries(countQueries(flow));
+    }
+
+    public static final class FlowQueries {
+
+        private final QueryCounts counts;
+
+        private FlowQueries(QueryCounts counts) {
+            this.counts = counts;
+        }
+
+        public FlowQueries issuesAtMost(long statements) {
+            assertThat(counts.statements()).as("JDBC statements issued (%s)", counts).isLessThanOrEqualTo(statements);
+            return this;
+        }
+
+        public FlowQueries loadsAtMost(long entities) {
+            assertThat(counts.entityLoads()).as("entities loaded (%s)", counts).isLessThanOrEqualTo(entities);
+            return this;
+        }
+
+        public FlowQueries fetchesAtMost(long collections) {
+            assertThat(counts.collectionFetches()).as("collections fetched (%s)", counts).isLessThanOrEqualTo(collections);
+            return this;
+        }
+
+        public FlowQueries flushesAtMost(long flushes) {
+            assertThat(counts.flushes()).as("flushes (%s)", counts).isLessThanOrEqualTo(flushes);
+            return this;
+        }
+
+        public FlowQueries hasNoSlowQueries() {
+            assertThat(counts.slowQueries()).as("slow queries (%s)", counts).isZero();
+            return this;
+        }
+
+        public QueryCounts counts() {
+            return counts;
+        }
+    }
+}
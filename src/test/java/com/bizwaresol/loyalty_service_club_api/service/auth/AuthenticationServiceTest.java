@@ -3,6 +3,9 @@
 // =====================================================================================
 package com.bizwaresol.loyalty_service_club_api.service.auth;
 
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEvent;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
 import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.LoginRequest;
 import com.bizwaresol.loyalty_service_club_api.data.dto.auth.request.RegistrationRequest;
 import com.bizwaresol.loyalty_service_club_api.data.dto.auth.result.LoginResult;
@@ -13,6 +16,7 @@ import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.SecurityEventType;
 import com.bizwaresol.loyalty_service_club_api.exception.business.duplicate.DuplicateEmailException;
 import com.bizwaresol.loyalty_service_club_api.exception.business.duplicate.DuplicatePhoneException;
 import com.bizwaresol.loyalty_service_club_api.exception.business.resource.CustomerAccountNotFoundException;
@@ -30,16 +34,25 @@ import com.bizwaresol.loyalty_service_club_api.exception.validation.security.Pas
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerAccountService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerEmailService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerPhoneService;
+import com.bizwaresol.loyalty_service_club_api.metrics.AuthMetrics;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,6 +76,17 @@ class AuthenticationServiceTest {
     @Mock
     private CustomerPhoneService customerPhoneService;
 
+    @Mock
+    private SecurityEventLog securityEventLog;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -175,7 +199,7 @@ class AuthenticationServiceTest {
         void shouldAuthenticateSuccessfullyWithUsername() {
             when(customerAccountService.findByUsername(VALID_USERNAME)).thenReturn(sampleAccount);
             when(customerAccountService.verifyPassword(VALID_PASSWORD, sampleAccount.getPassword())).thenReturn(true);
-            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(sampleAccount);
+            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(1);
 
             LoginResult result = authenticationService.authenticate(validLoginRequest);
 
@@ -188,6 +212,14 @@ class AuthenticationServiceTest {
             verify(customerAccountService).findByUsername(VALID_USERNAME);
             verify(customerAccountService).verifyPassword(VALID_PASSWORD, sampleAccount.getPassword());
             verify(customerAccountService).updateLastLoginTime(VALID_ID);
+            assertThat(meterRegistry.get(MetricNames.AUTH_LOGIN)
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_SUCCESS).timer().count()).isEqualTo(1);
+
+            SecurityEvent event = recordedEvent();
+            assertThat(event.type()).isEqualTo(SecurityEventType.LOGIN);
+            assertThat(event.outcome()).isEqualTo(MetricNames.OUTCOME_SUCCESS);
+            assertThat(event.identifier()).isEqualTo(VALID_USERNAME);
+            assertThat(event.accountId()).isEqualTo(VALID_ID);
         }
 
         @Test
@@ -198,7 +230,7 @@ class AuthenticationServiceTest {
 
             when(customerAccountService.findByUsername(VALID_EMAIL)).thenReturn(sampleAccount);
             when(customerAccountService.verifyPassword(VALID_PASSWORD, sampleAccount.getPassword())).thenReturn(true);
-            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(sampleAccount);
+            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(1);
 
             LoginResult result = authenticationService.authenticate(emailLoginRequest);
 
@@ -219,7 +251,7 @@ class AuthenticationServiceTest {
 
             when(customerAccountService.findByUsername(VALID_PHONE)).thenReturn(sampleAccount);
             when(customerAccountService.verifyPassword(VALID_PASSWORD, sampleAccount.getPassword())).thenReturn(true);
-            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(sampleAccount);
+            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(1);
 
             LoginResult result = authenticationService.authenticate(phoneLoginRequest);
 
@@ -242,6 +274,7 @@ class AuthenticationServiceTest {
                     .hasMessage("Invalid login credentials for identifier: " + VALID_USERNAME);
 
             verify(customerAccountService).findByUsername(VALID_USERNAME);
+            assertThat(recordedEvent().accountId()).isNull();
         }
 
         @Test
@@ -257,6 +290,14 @@ class AuthenticationServiceTest {
             verify(customerAccountService).findByUsername(VALID_USERNAME);
             verify(customerAccountService).verifyPassword(VALID_PASSWORD, sampleAccount.getPassword());
             verify(customerAccountService, never()).updateLastLoginTime(any());
+            assertThat(meterRegistry.get(MetricNames.AUTH_LOGIN)
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_INVALID_CREDENTIALS).timer().count()).isEqualTo(1);
+
+            SecurityEvent event = recordedEvent();
+            assertThat(event.type()).isEqualTo(SecurityEventType.LOGIN);
+            assertThat(event.outcome()).isEqualTo(MetricNames.OUTCOME_INVALID_CREDENTIALS);
+            assertThat(event.errorCode()).isEqualTo("INVALID_LOGIN_CREDENTIALS");
+            assertThat(event.accountId()).isEqualTo(VALID_ID);
         }
 
         @Test
@@ -284,7 +325,7 @@ class AuthenticationServiceTest {
 
             when(customerAccountService.findByUsername(VALID_USERNAME)).thenReturn(sampleAccount);
             when(customerAccountService.verifyPassword(VALID_PASSWORD, sampleAccount.getPassword())).thenReturn(true);
-            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(sampleAccount);
+            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(1);
 
             LoginResult result = authenticationService.authenticate(validLoginRequest);
 
@@ -292,6 +333,46 @@ class AuthenticationServiceTest {
 
             verify(customerAccountService).updateLastLoginTime(VALID_ID);
         }
+
+        @Test
+        @DisplayName("Should record a successful login only once the transaction commits")
+        void shouldRecordSuccessfulLoginAfterCommit() {
+            when(customerAccountService.findByUsername(VALID_USERNAME)).thenReturn(sampleAccount);
+            when(customerAccountService.verifyPassword(VALID_PASSWORD, sampleAccount.getPassword())).thenReturn(true);
+            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(1);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                authenticationService.authenticate(validLoginRequest);
+                verify(securityEventLog, never()).record(any());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(recordedEvent().outcome()).isEqualTo(MetricNames.OUTCOME_SUCCESS);
+        }
+
+        @Test
+        @DisplayName("Should not record a successful login whose transaction rolls back")
+        void shouldNotRecordSuccessfulLoginThatRollsBack() {
+            when(customerAccountService.findByUsername(VALID_USERNAME)).thenReturn(sampleAccount);
+            when(customerAccountService.verifyPassword(VALID_PASSWORD, sampleAccount.getPassword())).thenReturn(true);
+            when(customerAccountService.updateLastLoginTime(VALID_ID)).thenReturn(1);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                authenticationService.authenticate(validLoginRequest);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(securityEventLog, never()).record(any());
+        }
     }
 
     // ===== REGISTRATION TESTS =====
@@ -388,6 +469,12 @@ class AuthenticationServiceTest {
             verify(customerService).createCustomer(VALID_FIRST_NAME, VALID_LAST_NAME, sampleEmail, null);
             verify(customerAccountService).createAccount(sampleCustomer, VALID_PASSWORD);
             verify(customerPhoneService, never()).createPhone(any());
+            verify(entityManager).flush();
+
+            SecurityEvent event = recordedEvent();
+            assertThat(event.type()).isEqualTo(SecurityEventType.REGISTRATION);
+            assertThat(event.identifier()).isEqualTo(VALID_EMAIL);
+            assertThat(event.accountId()).isEqualTo(VALID_ID);
         }
 
         @Test
@@ -465,6 +552,8 @@ class AuthenticationServiceTest {
 
             verify(customerEmailService).createEmail(VALID_EMAIL);
             verify(customerService, never()).createCustomer(any(), any(), any(), any());
+            assertThat(meterRegistry.get(MetricNames.AUTH_REGISTRATION)
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_CONTACT_TAKEN).timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -516,5 +605,50 @@ class AuthenticationServiceTest {
             verify(customerService).createCustomer(VALID_FIRST_NAME, VALID_LAST_NAME, sampleEmail, samplePhone);
             verify(customerAccountService).createAccount(sampleCustomer, VALID_PASSWORD);
         }
+
+        @Test
+        @DisplayName("Should throw ContactAlreadyRegisteredException when the registration flush hits a duplicate email")
+        void shouldThrowContactAlreadyRegisteredExceptionWhenFlushFindsDuplicateEmail() {
+            when(customerEmailService.createEmail(VALID_EMAIL)).thenReturn(sampleEmail);
+            when(customerPhoneService.createPhone(VALID_PHONE)).thenReturn(samplePhone);
+            when(customerService.createCustomer(VALID_FIRST_NAME, VALID_LAST_NAME, sampleEmail, samplePhone)).thenReturn(sampleCustomer);
+            when(customerAccountService.createAccount(sampleCustomer, VALID_PASSWORD)).thenReturn(sampleAccount);
+            doThrow(new ConstraintViolationException("duplicate key value violates unique constraint: " + VALID_EMAIL,
+                    new SQLException("duplicate key", "23505"), "customer_emails_email_key"))
+                    .when(entityManager).flush();
+
+            assertThatThrownBy(() -> authenticationService.register(validRegistrationRequest))
+                    .isInstanceOf(ContactAlreadyRegisteredException.class);
+        }
+
+        @Test
+        @DisplayName("Should not record a successful registration whose transaction rolls back")
+        void shouldNotRecordSuccessfulRegistrationThatRollsBack() {
+            RegistrationRequest request = new RegistrationRequest(VALID_FIRST_NAME, VALID_LAST_NAME, VALID_EMAIL, null, VALID_PASSWORD, false);
+
+            when(customerEmailService.createEmail(VALID_EMAIL)).thenReturn(sampleEmail);
+            when(customerService.createCustomer(VALID_FIRST_NAME, VALID_LAST_NAME, sampleEmail, null)).thenReturn(sampleCustomer);
+            when(customerAccountService.createAccount(sampleCustomer, VALID_PASSWORD)).thenReturn(sampleAccount);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                authenticationService.register(request);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(securityEventLog, never()).record(any());
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private SecurityEvent recordedEvent() {
+        ArgumentCaptor<SecurityEvent> captor = ArgumentCaptor.forClass(SecurityEvent.class);
+        verify(securityEventLog).record(captor.capture());
+        return captor.getValue();
     }
 }
@@ -1,11 +1,16 @@
 package com.bizwaresol.loyalty_service_club_api.service.auth;
 
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.PasswordResetToken;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.SecurityEventType;
 import com.bizwaresol.loyalty_service_club_api.exception.business.duplicate.DuplicateActivePasswordResetTokenException;
 import com.bizwaresol.loyalty_service_club_api.exception.business.resource.CustomerAccountNotFoundException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpCooldownActiveException;
+import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpRateLimitExceededException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.verification.InvalidOtpCodeException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.password.ActivePasswordResetTokenExistsException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.password.PasswordResetTokenAlreadyUsedException;
@@ -46,6 +51,8 @@ class PasswordResetServiceTest {
     private EmailVerificationService emailVerificationService;
     @Mock
     private PhoneVerificationService phoneVerificationService;
+    @Mock
+    private SecurityEventLog securityEventLog;
 
     @InjectMocks
     private PasswordResetService passwordResetService;
@@ -82,7 +89,7 @@ class PasswordResetServiceTest {
         @Test
         @DisplayName("Should successfully request password reset via EMAIL")
         void shouldSuccessfullyRequestResetViaEmail() {
-            when(customerAccountService.findByUsername(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
+            when(customerAccountService.findByEmailAddress(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
             when(passwordResetTokenService.findActiveTokenByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
 
             assertThatCode(() -> passwordResetService.requestPasswordReset(VALID_EMAIL, OtpDeliveryMethod.EMAIL))
@@ -95,7 +102,7 @@ class PasswordResetServiceTest {
         @Test
         @DisplayName("Should successfully request password reset via SMS")
         void shouldSuccessfullyRequestResetViaSms() {
-            when(customerAccountService.findByUsername(VALID_PHONE)).thenReturn(sampleCustomerAccount);
+            when(customerAccountService.findByPhoneNumber(VALID_PHONE)).thenReturn(sampleCustomerAccount);
             when(passwordResetTokenService.findActiveTokenByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
 
             assertThatCode(() -> passwordResetService.requestPasswordReset(VALID_PHONE, OtpDeliveryMethod.SMS))
@@ -106,25 +113,49 @@ class PasswordResetServiceTest {
         }
 
         @Test
-        @DisplayName("Should throw CustomerAccountNotFoundException if contact does not exist")
-        void shouldThrowExceptionIfContactNotFound() {
-            when(customerAccountService.findByUsername(VALID_EMAIL))
+        @DisplayName("Should return normally without sending a code if contact does not exist")
+        void shouldNotRevealUnknownContact() {
+            when(customerAccountService.findByEmailAddress(VALID_EMAIL))
                     .thenThrow(new CustomerAccountNotFoundException(VALID_EMAIL));
 
-            assertThatThrownBy(() -> passwordResetService.requestPasswordReset(VALID_EMAIL, OtpDeliveryMethod.EMAIL))
-                    .isInstanceOf(CustomerAccountNotFoundException.class);
+            assertThatCode(() -> passwordResetService.requestPasswordReset(VALID_EMAIL, OtpDeliveryMethod.EMAIL))
+                    .doesNotThrowAnyException();
+
+            verify(emailVerificationService, never()).sendPasswordResetCode(anyString());
+            verify(phoneVerificationService, never()).sendPasswordResetCode(anyString());
+            verify(securityEventLog).record(argThat(event -> event.type() == SecurityEventType.PASSWORD_RESET_REQUEST
+                    && event.outcome().equals(MetricNames.OUTCOME_INVALID)));
         }
 
         @Test
-        @DisplayName("Should throw ActivePasswordResetTokenExistsException if an active token already exists")
-        void shouldThrowExceptionIfActiveTokenExists() {
-            when(customerAccountService.findByUsername(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
+        @DisplayName("Should return normally without sending a code if an active token already exists")
+        void shouldNotRevealActiveToken() {
+            when(customerAccountService.findByEmailAddress(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
             when(passwordResetTokenService.findActiveTokenByAccountId(ACCOUNT_ID)).thenReturn(Optional.of(sampleToken));
 
-            assertThatThrownBy(() -> passwordResetService.requestPasswordReset(VALID_EMAIL, OtpDeliveryMethod.EMAIL))
-                    .isInstanceOf(ActivePasswordResetTokenExistsException.class);
+            assertThatCode(() -> passwordResetService.requestPasswordReset(VALID_EMAIL, OtpDeliveryMethod.EMAIL))
+                    .doesNotThrowAnyException();
 
             verify(emailVerificationService, never()).sendPasswordResetCode(anyString());
+            verify(securityEventLog).record(argThat(event -> event.type() == SecurityEventType.PASSWORD_RESET_REQUEST
+                    && event.outcome().equals(MetricNames.OUTCOME_INVALID)));
+        }
+
+        @Test
+        @DisplayName("Should return normally if the OTP cooldown or rate limit refuses the code")
+        void shouldNotRevealOtpSendingLimits() {
+            when(customerAccountService.findByPhoneNumber(VALID_PHONE)).thenReturn(sampleCustomerAccount);
+            when(passwordResetTokenService.findActiveTokenByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+            when(phoneVerificationService.sendPasswordResetCode(VALID_PHONE))
+                    .thenThrow(new OtpCooldownActiveException(VALID_PHONE, 1))
+                    .thenThrow(new OtpRateLimitExceededException(VALID_PHONE, 10));
+
+            assertThatCode(() -> passwordResetService.requestPasswordReset(VALID_PHONE, OtpDeliveryMethod.SMS))
+                    .doesNotThrowAnyException();
+            assertThatCode(() -> passwordResetService.requestPasswordReset(VALID_PHONE, OtpDeliveryMethod.SMS))
+                    .doesNotThrowAnyException();
+
+            verify(securityEventLog, times(2)).record(argThat(event -> event.type() == SecurityEventType.PASSWORD_RESET_REQUEST));
         }
     }
 
@@ -138,7 +169,7 @@ class PasswordResetServiceTest {
         void shouldVerifyEmailOtpAndCreateToken() {
             when(emailVerificationService.verifyPasswordResetCode(VALID_EMAIL, VALID_OTP))
                     .thenReturn(VerifyCodeResponse.success(VALID_EMAIL, OtpDeliveryMethod.EMAIL));
-            when(customerAccountService.findByUsername(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
+            when(customerAccountService.findByEmailAddress(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
             when(passwordResetTokenService.createToken(any(CustomerAccount.class), any(OffsetDateTime.class)))
                     .thenReturn(sampleToken);
 
@@ -153,7 +184,7 @@ class PasswordResetServiceTest {
         void shouldVerifySmsOtpAndCreateToken() {
             when(phoneVerificationService.verifyPasswordResetCode(VALID_PHONE, VALID_OTP))
                     .thenReturn(VerifyCodeResponse.success(VALID_PHONE, OtpDeliveryMethod.SMS));
-            when(customerAccountService.findByUsername(VALID_PHONE)).thenReturn(sampleCustomerAccount);
+            when(customerAccountService.findByPhoneNumber(VALID_PHONE)).thenReturn(sampleCustomerAccount);
             when(passwordResetTokenService.createToken(any(CustomerAccount.class), any(OffsetDateTime.class)))
                     .thenReturn(sampleToken);
 
@@ -179,7 +210,7 @@ class PasswordResetServiceTest {
         void shouldHandleDuplicateTokenRaceCondition() {
             when(emailVerificationService.verifyPasswordResetCode(VALID_EMAIL, VALID_OTP))
                     .thenReturn(VerifyCodeResponse.success(VALID_EMAIL, OtpDeliveryMethod.EMAIL));
-            when(customerAccountService.findByUsername(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
+            when(customerAccountService.findByEmailAddress(VALID_EMAIL)).thenReturn(sampleCustomerAccount);
             when(passwordResetTokenService.createToken(any(CustomerAccount.class), any(OffsetDateTime.class)))
                     .thenThrow(new DuplicateActivePasswordResetTokenException("account_id: 1"));
 
@@ -197,7 +228,7 @@ class PasswordResetServiceTest {
         @DisplayName("Should successfully reset password with a valid token")
         void shouldSuccessfullyResetPassword() {
             when(passwordResetTokenService.findByToken(VALID_TOKEN_STRING)).thenReturn(sampleToken);
-            when(customerAccountService.updatePassword(ACCOUNT_ID, VALID_NEW_PASSWORD)).thenReturn(sampleCustomerAccount);
+            when(customerAccountService.updatePassword(ACCOUNT_ID, VALID_NEW_PASSWORD)).thenReturn(1);
             doNothing().when(passwordResetTokenService).markTokenAsUsed(sampleToken);
 
             assertThatCode(() -> passwordResetService.resetPassword(VALID_TOKEN_STRING, VALID_NEW_PASSWORD))
@@ -205,6 +236,9 @@ class PasswordResetServiceTest {
 
             verify(customerAccountService).updatePassword(ACCOUNT_ID, VALID_NEW_PASSWORD);
             verify(passwordResetTokenService).markTokenAsUsed(sampleToken);
+            verify(securityEventLog).record(argThat(event -> event.type() == SecurityEventType.PASSWORD_RESET
+                    && event.outcome().equals(MetricNames.OUTCOME_SUCCESS)
+                    && ACCOUNT_ID.equals(event.accountId())));
         }
 
         @Test
@@ -228,6 +262,9 @@ class PasswordResetServiceTest {
                     .isInstanceOf(PasswordResetTokenExpiredException.class);
 
             verify(customerAccountService, never()).updatePassword(anyLong(), anyString());
+            verify(securityEventLog).record(argThat(event -> event.type() == SecurityEventType.PASSWORD_RESET
+                    && event.outcome().equals(MetricNames.OUTCOME_INVALID)
+                    && ACCOUNT_ID.equals(event.accountId())));
         }
 
         @Test
@@ -3,12 +3,15 @@ package com.bizwaresol.loyalty_service_club_api.service.client;
 import com.bizwaresol.loyalty_service_club_api.client.aws.ses.SesClient;
 import com.bizwaresol.loyalty_service_club_api.client.aws.ses.dto.request.SesEmailRequest;
 import com.bizwaresol.loyalty_service_club_api.client.aws.ses.dto.response.SesEmailResponse;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
 import com.bizwaresol.loyalty_service_club_api.exception.system.client.aws.ses.SesQuotaExceededException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidEmailFormatException;
+import com.bizwaresol.loyalty_service_club_api.metrics.AwsClientMetrics;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.ses.model.SesException;
@@ -32,6 +36,11 @@ class SesClientServiceTest {
     @Mock
     private SesClient sesClient;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AwsClientMetrics awsClientMetrics = new AwsClientMetrics(meterRegistry);
+
     @InjectMocks
     private SesClientService sesClientService;
 
@@ -228,6 +237,8 @@ class SesClientServiceTest {
                     .isInstanceOf(SesQuotaExceededException.class);
 
             verify(sesClient).sendEmail(any(SesEmailRequest.class));
+            assertThat(meterRegistry.get(MetricNames.AWS_CLIENT_REQUESTS)
+                    .tag(MetricNames.TAG_ERROR, "SesQuotaExceededException").timer().count()).isEqualTo(1);
         }
     }
 
@@ -3,12 +3,15 @@ package com.bizwaresol.loyalty_service_club_api.service.client;
 import com.bizwaresol.loyalty_service_club_api.client.aws.sns.SnsClient;
 import com.bizwaresol.loyalty_service_club_api.client.aws.sns.dto.request.SnsMessageRequest;
 import com.bizwaresol.loyalty_service_club_api.client.aws.sns.dto.response.SnsMessageResponse;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
 import com.bizwaresol.loyalty_service_club_api.exception.system.client.aws.sns.SnsThrottlingException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidPhoneFormatException;
+import com.bizwaresol.loyalty_service_club_api.metrics.AwsClientMetrics;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.sns.model.SnsException;
@@ -34,6 +38,11 @@ class SnsClientServiceTest {
     @Mock
     private SnsClient snsClient;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AwsClientMetrics awsClientMetrics = new AwsClientMetrics(meterRegistry);
+
     @InjectMocks
     private SnsClientService snsClientService;
 
@@ -230,6 +239,8 @@ class SnsClientServiceTest {
                     .isInstanceOf(SnsThrottlingException.class);
 
             verify(snsClient).sendMessage(any(SnsMessageRequest.class));
+            assertThat(meterRegistry.get(MetricNames.AWS_CLIENT_REQUESTS)
+                    .tag(MetricNames.TAG_ERROR, "SnsThrottlingException").timer().count()).isEqualTo(1);
         }
     }
 
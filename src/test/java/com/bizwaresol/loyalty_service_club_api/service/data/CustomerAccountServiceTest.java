@@ -1,21 +1,29 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactResolver;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerAccountRepository;
-import com.bizwaresol.loyalty_service_club_api.data.repository.lookup.CustomerContactLookupRepository;
+import com.bizwaresol.loyalty_service_club_api.data.repository.lookup.AccountReadModelRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerAccount;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
-import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.CustomerContactLookup;
+import com.bizwaresol.loyalty_service_club_api.domain.entity.lookup.AccountReadModel;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountActivityStatus;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.CustomerAccountVerificationStatus;
 import com.bizwaresol.loyalty_service_club_api.exception.business.resource.CustomerAccountNotFoundException;
 import com.bizwaresol.loyalty_service_club_api.exception.system.database.DatabaseSystemException;
+import com.bizwaresol.loyalty_service_club_api.exception.system.database.OptimisticLockingException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.security.PasswordValidationException;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,11 +52,20 @@ class CustomerAccountServiceTest {
     private CustomerAccountRepository customerAccountRepository;
 
     @Mock
-    private CustomerContactLookupRepository customerContactLookupRepository;
+    private AccountReadModelRepository accountReadModelRepository;
+
+    @Mock
+    private ContactResolver contactResolver;
+
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private CustomerAccountService customerAccountService;
 
@@ -753,6 +771,171 @@ class CustomerAccountServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Read Model Query Tests")
+    class ReadModelQueryTests {
+
+        @Test
+        @DisplayName("Should count accounts by calculated status from the read model")
+        void shouldCountByCalculatedStatus() {
+            when(accountReadModelRepository.countByCalculatedStatus(CustomerAccountVerificationStatus.EMAIL_VERIFIED)).thenReturn(7L);
+
+            long result = customerAccountService.countByCalculatedStatus(CustomerAccountVerificationStatus.EMAIL_VERIFIED);
+
+            assertThat(result).isEqualTo(7L);
+            verifyNoInteractions(customerAccountRepository);
+        }
+
+        @Test
+        @DisplayName("Should count accounts by activity status from the read model")
+        void shouldCountByActivityStatus() {
+            when(accountReadModelRepository.countByActivityStatus(CustomerAccountActivityStatus.INACTIVE)).thenReturn(3L);
+
+            long result = customerAccountService.countByActivityStatus(CustomerAccountActivityStatus.INACTIVE);
+
+            assertThat(result).isEqualTo(3L);
+            verifyNoInteractions(customerAccountRepository);
+        }
+
+        @Test
+        @DisplayName("Should count accounts by activity status and last login from the read model")
+        void shouldCountByActivityStatusWithLastLoginBefore() {
+            OffsetDateTime cutoff = OffsetDateTime.now().minusDays(90);
+            when(accountReadModelRepository.countByActivityStatusAndLastLoginAtBefore(CustomerAccountActivityStatus.ACTIVE, cutoff)).thenReturn(12L);
+
+            long result = customerAccountService.countByActivityStatusWithLastLoginBefore(CustomerAccountActivityStatus.ACTIVE, cutoff);
+
+            assertThat(result).isEqualTo(12L);
+            verifyNoInteractions(customerAccountRepository);
+        }
+
+        @Test
+        @DisplayName("Should return the read model rows whose verification status is stale")
+        void shouldFindAccountsWithStaleVerificationStatus() {
+            AccountReadModel stale = new AccountReadModel();
+            stale.setAccountId(VALID_ACCOUNT_ID);
+            when(accountReadModelRepository.findByStatusNeedsUpdateTrue()).thenReturn(List.of(stale));
+
+            List<AccountReadModel> result = customerAccountService.findAccountsWithStaleVerificationStatus();
+
+            assertThat(result).containsExactly(stale);
+        }
+
+        @Test
+        @DisplayName("Should throw NullFieldException when a status or date is null")
+        void shouldThrowNullFieldExceptionWhenArgumentIsNull() {
+            assertThatThrownBy(() -> customerAccountService.countByCalculatedStatus(null))
+                    .isInstanceOf(NullFieldException.class);
+            assertThatThrownBy(() -> customerAccountService.countByActivityStatus(null))
+                    .isInstanceOf(NullFieldException.class);
+            assertThatThrownBy(() -> customerAccountService.countByActivityStatusWithLastLoginBefore(CustomerAccountActivityStatus.ACTIVE, null))
+                    .isInstanceOf(NullFieldException.class);
+
+            verifyNoInteractions(accountReadModelRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw DatabaseSystemException when repository error occurs")
+        void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
+            when(accountReadModelRepository.countByCalculatedStatus(any()))
+                    .thenThrow(new RuntimeException("Database connection failed"));
+
+            assertThatThrownBy(() -> customerAccountService.countByCalculatedStatus(CustomerAccountVerificationStatus.UNVERIFIED))
+                    .isInstanceOf(DatabaseSystemException.class)
+                    .hasMessageContaining("Unexpected repository error");
+        }
+    }
+
+    @Nested
+    @DisplayName("getAccountsPage() Tests")
+    class GetAccountsPageTests {
+
+        @Test
+        @DisplayName("Should start from the first row when afterId is null")
+        void shouldStartFromFirstRowWhenAfterIdIsNull() {
+            when(customerAccountRepository.findPageAfter(0L, Limit.of(100))).thenReturn(List.of(sampleAccount));
+
+            List<CustomerAccount> result = customerAccountService.getAccountsPage(null, 100);
+
+            assertThat(result).containsExactly(sampleAccount);
+            verify(customerAccountRepository).findPageAfter(0L, Limit.of(100));
+        }
+
+        @Test
+        @DisplayName("Should continue after the given ID")
+        void shouldContinueAfterGivenId() {
+            when(customerAccountRepository.findPageAfter(VALID_ACCOUNT_ID, Limit.of(50))).thenReturn(List.of());
+
+            List<CustomerAccount> result = customerAccountService.getAccountsPage(VALID_ACCOUNT_ID, 50);
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should throw ValueOutOfRangeException when page size is out of range")
+        void shouldThrowValueOutOfRangeExceptionWhenPageSizeIsOutOfRange() {
+            assertThatThrownBy(() -> customerAccountService.getAccountsPage(null, 0))
+                    .isInstanceOf(ValueOutOfRangeException.class);
+            assertThatThrownBy(() -> customerAccountService.getAccountsPage(null, 1001))
+                    .isInstanceOf(ValueOutOfRangeException.class);
+
+            verifyNoInteractions(customerAccountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("findByActivityStatusPage() Tests")
+    class FindByActivityStatusPageTests {
+
+        @Test
+        @DisplayName("Should return a page of accounts with the given activity status")
+        void shouldReturnPageOfAccountsWithActivityStatus() {
+            when(customerAccountRepository.findPageByActivityStatusAfter(CustomerAccountActivityStatus.ACTIVE, 0L, Limit.of(10)))
+                    .thenReturn(List.of(sampleAccount));
+
+            List<CustomerAccount> result = customerAccountService.findByActivityStatusPage(CustomerAccountActivityStatus.ACTIVE, null, 10);
+
+            assertThat(result).containsExactly(sampleAccount);
+        }
+
+        @Test
+        @DisplayName("Should throw NullFieldException when activity status is null")
+        void shouldThrowNullFieldExceptionWhenActivityStatusIsNull() {
+            assertThatThrownBy(() -> customerAccountService.findByActivityStatusPage(null, null, 10))
+                    .isInstanceOf(NullFieldException.class);
+
+            verifyNoInteractions(customerAccountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("streamAllAccounts() Tests")
+    class StreamAllAccountsTests {
+
+        @Test
+        @DisplayName("Should detach each account and its customer as it is consumed")
+        void shouldDetachEachAccountAndCustomer() {
+            when(customerAccountRepository.streamAll()).thenReturn(Stream.of(sampleAccount));
+
+            try (Stream<CustomerAccount> stream = customerAccountService.streamAllAccounts()) {
+                assertThat(stream).containsExactly(sampleAccount);
+            }
+
+            verify(entityManager).detach(sampleCustomer);
+            verify(entityManager).detach(sampleAccount);
+        }
+
+        @Test
+        @DisplayName("Should throw DatabaseSystemException when repository error occurs")
+        void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
+            when(customerAccountRepository.streamAll()).thenThrow(new RuntimeException("Database connection failed"));
+
+            assertThatThrownBy(() -> customerAccountService.streamAllAccounts())
+                    .isInstanceOf(DatabaseSystemException.class)
+                    .hasMessageContaining("Unexpected repository error");
+        }
+    }
+
     // ===== UPDATE OPERATIONS TESTS =====
 
     @Nested
@@ -787,21 +970,23 @@ class CustomerAccountServiceTest {
         @DisplayName("Should update password successfully")
         void shouldUpdatePasswordSuccessfully() {
             when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$newHashedPassword");
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(sampleAccount));
-            when(customerAccountRepository.save(any(CustomerAccount.class))).thenReturn(sampleAccount);
+            when(customerAccountRepository.updatePassword(eq(VALID_ACCOUNT_ID), eq("$2a$10$newHashedPassword"), any(OffsetDateTime.class)))
+                    .thenReturn(1);
 
-            CustomerAccount result = customerAccountService.updatePassword(VALID_ACCOUNT_ID, NEW_PASSWORD);
+            int result = customerAccountService.updatePassword(VALID_ACCOUNT_ID, NEW_PASSWORD);
 
-            assertThat(result).isNotNull();
+            assertThat(result).isEqualTo(1);
             verify(passwordEncoder).encode(NEW_PASSWORD);
-            verify(customerAccountRepository).findById(VALID_ACCOUNT_ID);
-            verify(customerAccountRepository).save(any(CustomerAccount.class));
+            verify(customerAccountRepository, never()).findById(any());
+            verify(customerAccountRepository, never()).save(any(CustomerAccount.class));
         }
 
         @Test
         @DisplayName("Should throw CustomerAccountNotFoundException when account does not exist")
         void shouldThrowCustomerAccountNotFoundExceptionWhenAccountDoesNotExist() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.empty());
+            when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$newHashedPassword");
+            when(customerAccountRepository.updatePassword(eq(VALID_ACCOUNT_ID), anyString(), any(OffsetDateTime.class)))
+                    .thenReturn(0);
 
             assertThatThrownBy(() -> customerAccountService.updatePassword(VALID_ACCOUNT_ID, NEW_PASSWORD))
                     .isInstanceOf(CustomerAccountNotFoundException.class)
@@ -811,7 +996,8 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID))
+            when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$newHashedPassword");
+            when(customerAccountRepository.updatePassword(eq(VALID_ACCOUNT_ID), anyString(), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerAccountService.updatePassword(VALID_ACCOUNT_ID, NEW_PASSWORD))
@@ -843,20 +1029,19 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should update activity status successfully")
         void shouldUpdateActivityStatusSuccessfully() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(sampleAccount));
-            when(customerAccountRepository.save(any(CustomerAccount.class))).thenReturn(sampleAccount);
+            when(customerAccountRepository.updateActivityStatus(eq(VALID_ACCOUNT_ID), eq(CustomerAccountActivityStatus.INACTIVE), any(OffsetDateTime.class))).thenReturn(1);
 
-            CustomerAccount result = customerAccountService.updateActivityStatus(VALID_ACCOUNT_ID, CustomerAccountActivityStatus.INACTIVE);
+            int result = customerAccountService.updateActivityStatus(VALID_ACCOUNT_ID, CustomerAccountActivityStatus.INACTIVE);
 
-            assertThat(result).isNotNull();
-            verify(customerAccountRepository).findById(VALID_ACCOUNT_ID);
-            verify(customerAccountRepository).save(any(CustomerAccount.class));
+            assertThat(result).isEqualTo(1);
+            verify(customerAccountRepository, never()).findById(any());
+            verify(customerAccountRepository, never()).save(any(CustomerAccount.class));
         }
 
         @Test
         @DisplayName("Should throw CustomerAccountNotFoundException when account does not exist")
         void shouldThrowCustomerAccountNotFoundExceptionWhenAccountDoesNotExist() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.empty());
+            when(customerAccountRepository.updateActivityStatus(eq(VALID_ACCOUNT_ID), eq(CustomerAccountActivityStatus.INACTIVE), any(OffsetDateTime.class))).thenReturn(0);
 
             assertThatThrownBy(() -> customerAccountService.updateActivityStatus(VALID_ACCOUNT_ID, CustomerAccountActivityStatus.INACTIVE))
                     .isInstanceOf(CustomerAccountNotFoundException.class)
@@ -866,7 +1051,7 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID))
+            when(customerAccountRepository.updateActivityStatus(eq(VALID_ACCOUNT_ID), eq(CustomerAccountActivityStatus.INACTIVE), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerAccountService.updateActivityStatus(VALID_ACCOUNT_ID, CustomerAccountActivityStatus.INACTIVE))
@@ -898,20 +1083,19 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should update verification status successfully")
         void shouldUpdateVerificationStatusSuccessfully() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(sampleAccount));
-            when(customerAccountRepository.save(any(CustomerAccount.class))).thenReturn(sampleAccount);
+            when(customerAccountRepository.updateVerificationStatus(eq(VALID_ACCOUNT_ID), eq(CustomerAccountVerificationStatus.EMAIL_VERIFIED), any(OffsetDateTime.class))).thenReturn(1);
 
-            CustomerAccount result = customerAccountService.updateVerificationStatus(VALID_ACCOUNT_ID, CustomerAccountVerificationStatus.EMAIL_VERIFIED);
+            int result = customerAccountService.updateVerificationStatus(VALID_ACCOUNT_ID, CustomerAccountVerificationStatus.EMAIL_VERIFIED);
 
-            assertThat(result).isNotNull();
-            verify(customerAccountRepository).findById(VALID_ACCOUNT_ID);
-            verify(customerAccountRepository).save(any(CustomerAccount.class));
+            assertThat(result).isEqualTo(1);
+            verify(customerAccountRepository, never()).findById(any());
+            verify(customerAccountRepository, never()).save(any(CustomerAccount.class));
         }
 
         @Test
         @DisplayName("Should throw CustomerAccountNotFoundException when account does not exist")
         void shouldThrowCustomerAccountNotFoundExceptionWhenAccountDoesNotExist() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.empty());
+            when(customerAccountRepository.updateVerificationStatus(eq(VALID_ACCOUNT_ID), eq(CustomerAccountVerificationStatus.EMAIL_VERIFIED), any(OffsetDateTime.class))).thenReturn(0);
 
             assertThatThrownBy(() -> customerAccountService.updateVerificationStatus(VALID_ACCOUNT_ID, CustomerAccountVerificationStatus.EMAIL_VERIFIED))
                     .isInstanceOf(CustomerAccountNotFoundException.class)
@@ -921,7 +1105,7 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID))
+            when(customerAccountRepository.updateVerificationStatus(eq(VALID_ACCOUNT_ID), eq(CustomerAccountVerificationStatus.EMAIL_VERIFIED), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerAccountService.updateVerificationStatus(VALID_ACCOUNT_ID, CustomerAccountVerificationStatus.EMAIL_VERIFIED))
@@ -945,20 +1129,42 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should update last login time successfully")
         void shouldUpdateLastLoginTimeSuccessfully() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(sampleAccount));
-            when(customerAccountRepository.save(any(CustomerAccount.class))).thenReturn(sampleAccount);
+            when(customerAccountRepository.updateLastLoginAt(eq(VALID_ACCOUNT_ID), any(OffsetDateTime.class))).thenReturn(1);
 
-            CustomerAccount result = customerAccountService.updateLastLoginTime(VALID_ACCOUNT_ID);
+            int result = customerAccountService.updateLastLoginTime(VALID_ACCOUNT_ID);
 
-            assertThat(result).isNotNull();
-            verify(customerAccountRepository).findById(VALID_ACCOUNT_ID);
-            verify(customerAccountRepository).save(any(CustomerAccount.class));
+            assertThat(result).isEqualTo(1);
+            verify(customerAccountRepository, never()).findById(any());
+            verify(customerAccountRepository, never()).save(any(CustomerAccount.class));
+        }
+
+        @Test
+        @DisplayName("Should refresh the account when this transaction already holds it")
+        void shouldRefreshManagedAccount() {
+            when(customerAccountRepository.updateLastLoginAt(eq(VALID_ACCOUNT_ID), any(OffsetDateTime.class))).thenReturn(1);
+            when(entityManager.getReference(CustomerAccount.class, VALID_ACCOUNT_ID)).thenReturn(sampleAccount);
+
+            customerAccountService.updateLastLoginTime(VALID_ACCOUNT_ID);
+
+            verify(entityManager).refresh(sampleAccount);
+            verify(entityManager, never()).clear();
+        }
+
+        @Test
+        @DisplayName("Should not refresh when the account was not updated")
+        void shouldNotRefreshWhenAccountDoesNotExist() {
+            when(customerAccountRepository.updateLastLoginAt(eq(VALID_ACCOUNT_ID), any(OffsetDateTime.class))).thenReturn(0);
+
+            assertThatThrownBy(() -> customerAccountService.updateLastLoginTime(VALID_ACCOUNT_ID))
+                    .isInstanceOf(CustomerAccountNotFoundException.class);
+
+            verify(entityManager, never()).refresh(any());
         }
 
         @Test
         @DisplayName("Should throw CustomerAccountNotFoundException when account does not exist")
         void shouldThrowCustomerAccountNotFoundExceptionWhenAccountDoesNotExist() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.empty());
+            when(customerAccountRepository.updateLastLoginAt(eq(VALID_ACCOUNT_ID), any(OffsetDateTime.class))).thenReturn(0);
 
             assertThatThrownBy(() -> customerAccountService.updateLastLoginTime(VALID_ACCOUNT_ID))
                     .isInstanceOf(CustomerAccountNotFoundException.class)
@@ -968,7 +1174,7 @@ class CustomerAccountServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerAccountRepository.findById(VALID_ACCOUNT_ID))
+            when(customerAccountRepository.updateLastLoginAt(eq(VALID_ACCOUNT_ID), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerAccountService.updateLastLoginTime(VALID_ACCOUNT_ID))
@@ -1010,6 +1216,16 @@ class CustomerAccountServiceTest {
                     .isInstanceOf(DatabaseSystemException.class)
                     .hasMessageContaining("Unexpected repository error");
         }
+
+        @Test
+        @DisplayName("Should throw OptimisticLockingException when account was changed concurrently")
+        void shouldThrowOptimisticLockingExceptionWhenAccountWasChangedConcurrently() {
+            when(customerAccountRepository.save(any(CustomerAccount.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(CustomerAccount.class, VALID_ACCOUNT_ID));
+
+            assertThatThrownBy(() -> customerAccountService.saveAccount(sampleAccount))
+                    .isInstanceOf(OptimisticLockingException.class);
+        }
     }
 
     // ===== DELETE OPERATIONS TESTS =====
@@ -1035,6 +1251,7 @@ class CustomerAccountServiceTest {
                     .doesNotThrowAnyException();
 
             verify(customerAccountRepository).deleteById(VALID_ACCOUNT_ID);
+            verify(contactCacheEvictor).evictAccountResolution(VALID_ACCOUNT_ID);
         }
 
         @Test
@@ -1077,6 +1294,7 @@ class CustomerAccountServiceTest {
             customerAccountService.deleteAccount(sampleAccount);
 
             verify(customerAccountRepository).delete(sampleAccount);
+            verify(contactCacheEvictor).evictAccountResolution(VALID_ACCOUNT_ID);
         }
 
         @Test
@@ -1140,14 +1358,12 @@ class CustomerAccountServiceTest {
     @DisplayName("findByPhoneNumber() Tests")
     class FindByPhoneNumberTests {
 
-        private CustomerContactLookup sampleContactLookup;
+        private ResolvedContact sampleResolvedContact;
         private final String VALID_PHONE = "+381123456789";
 
         @BeforeEach
-        void setUpContactLookup() {
-            sampleContactLookup = new CustomerContactLookup();
-            sampleContactLookup.setCustomerId(VALID_CUSTOMER_ID);
-            sampleContactLookup.setPhone(VALID_PHONE);
+        void setUpResolvedContact() {
+            sampleResolvedContact = new ResolvedContact(4L, VALID_CUSTOMER_ID, VALID_ACCOUNT_ID);
         }
 
         @Test
@@ -1175,32 +1391,43 @@ class CustomerAccountServiceTest {
         }
 
         @Test
-        @DisplayName("Should find account by phone number successfully")
+        @DisplayName("Should find account by the resolved account id")
         void shouldFindAccountByPhoneNumberSuccessfully() {
-            when(customerContactLookupRepository.findByPhone(VALID_PHONE)).thenReturn(Optional.of(sampleContactLookup));
-            when(customerAccountRepository.findById(VALID_CUSTOMER_ID)).thenReturn(Optional.of(sampleAccount));
+            when(contactResolver.resolvePhone(VALID_PHONE)).thenReturn(Optional.of(sampleResolvedContact));
+            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(sampleAccount));
 
             CustomerAccount result = customerAccountService.findByPhoneNumber(VALID_PHONE);
 
             assertThat(result).isEqualTo(sampleAccount);
-            verify(customerContactLookupRepository).findByPhone(VALID_PHONE);
-            verify(customerAccountRepository).findById(VALID_CUSTOMER_ID);
+            verify(contactResolver).resolvePhone(VALID_PHONE);
+            verify(customerAccountRepository).findById(VALID_ACCOUNT_ID);
         }
 
         @Test
-        @DisplayName("Should throw CustomerAccountNotFoundException when contact lookup fails")
+        @DisplayName("Should throw CustomerAccountNotFoundException when phone does not resolve")
         void shouldThrowCustomerAccountNotFoundExceptionWhenContactLookupFails() {
-            when(customerContactLookupRepository.findByPhone(VALID_PHONE)).thenReturn(Optional.empty());
+            when(contactResolver.resolvePhone(VALID_PHONE)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> customerAccountService.findByPhoneNumber(VALID_PHONE))
                     .isInstanceOf(CustomerAccountNotFoundException.class)
                     .hasMessage("Customer account not found: No customer account found with phone: " + VALID_PHONE);
         }
 
+        @Test
+        @DisplayName("Should throw CustomerAccountNotFoundException when the customer has no account")
+        void shouldThrowCustomerAccountNotFoundExceptionWhenCustomerHasNoAccount() {
+            when(contactResolver.resolvePhone(VALID_PHONE))
+                    .thenReturn(Optional.of(new ResolvedContact(4L, VALID_CUSTOMER_ID, null)));
+
+            assertThatThrownBy(() -> customerAccountService.findByPhoneNumber(VALID_PHONE))
+                    .isInstanceOf(CustomerAccountNotFoundException.class);
+            verifyNoInteractions(customerAccountRepository);
+        }
+
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerContactLookupRepository.findByPhone(VALID_PHONE))
+            when(contactResolver.resolvePhone(VALID_PHONE))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerAccountService.findByPhoneNumber(VALID_PHONE))
@@ -1208,4 +1435,42 @@ class CustomerAccountServiceTest {
                     .hasMessageContaining("Unexpected repository error");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("findByEmailAddress() Tests")
+    class FindByEmailAddressTests {
+
+        private final String VALID_EMAIL = "test@gmail.com";
+
+        @Test
+        @DisplayName("Should throw NullFieldException when email is null")
+        void shouldThrowNullFieldExceptionWhenEmailIsNull() {
+            assertThatThrownBy(() -> customerAccountService.findByEmailAddress(null))
+                    .isInstanceOf(NullFieldException.class)
+                    .hasMessage("Field 'email' cannot be null");
+        }
+
+        @Test
+        @DisplayName("Should find account by the resolved account id")
+        void shouldFindAccountByEmailAddressSuccessfully() {
+            when(contactResolver.resolveEmail(VALID_EMAIL))
+                    .thenReturn(Optional.of(new ResolvedContact(3L, VALID_CUSTOMER_ID, VALID_ACCOUNT_ID)));
+            when(customerAccountRepository.findById(VALID_ACCOUNT_ID)).thenReturn(Optional.of(sampleAccount));
+
+            CustomerAccount result = customerAccountService.findByEmailAddress(VALID_EMAIL);
+
+            assertThat(result).isEqualTo(sampleAccount);
+            verify(customerAccountRepository).findById(VALID_ACCOUNT_ID);
+        }
+
+        @Test
+        @DisplayName("Should throw CustomerAccountNotFoundException when email does not resolve")
+        void shouldThrowCustomerAccountNotFoundExceptionWhenEmailDoesNotResolve() {
+            when(contactResolver.resolveEmail(VALID_EMAIL)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> customerAccountService.findByEmailAddress(VALID_EMAIL))
+                    .isInstanceOf(CustomerAccountNotFoundException.class)
+                    .hasMessage("Customer account not found: No customer account found with email: " + VALID_EMAIL);
+        }
+    }
+}
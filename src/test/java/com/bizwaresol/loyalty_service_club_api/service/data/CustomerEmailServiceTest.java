@@ -1,5 +1,6 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerEmailRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.exception.business.duplicate.DuplicateEmailException;
@@ -9,9 +10,11 @@ import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyF
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooLongException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
+import com.bizwaresol.loyalty_service_club_api.exception.validation.field.ValueOutOfRangeException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.BusinessEmailNotAllowedException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidEmailFormatException;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,10 +24,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,6 +43,12 @@ class CustomerEmailServiceTest {
     @Mock
     private CustomerEmailRepository customerEmailRepository;
 
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private CustomerEmailService customerEmailService;
 
@@ -262,7 +274,7 @@ class CustomerEmailServiceTest {
         @Test
         @DisplayName("Should throw EmailNotFoundException when email does not exist")
         void shouldThrowEmailNotFoundExceptionWhenEmailDoesNotExist() {
-            when(customerEmailRepository.findByEmail(VALID_EMAIL.toLowerCase())).thenReturn(Optional.empty());
+            when(customerEmailRepository.findByEmail(VALID_EMAIL.toLowerCase(Locale.ROOT))).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> customerEmailService.findByEmail(VALID_EMAIL))
                     .isInstanceOf(EmailNotFoundException.class)
@@ -272,7 +284,7 @@ class CustomerEmailServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerEmailRepository.findByEmail(VALID_EMAIL.toLowerCase()))
+            when(customerEmailRepository.findByEmail(VALID_EMAIL.toLowerCase(Locale.ROOT)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerEmailService.findByEmail(VALID_EMAIL))
@@ -309,6 +321,48 @@ class CustomerEmailServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getVerifiedEmailsPage() Tests")
+    class GetVerifiedEmailsPageTests {
+
+        @Test
+        @DisplayName("Should return a keyset page of verified emails")
+        void shouldReturnKeysetPageOfVerifiedEmails() {
+            when(customerEmailRepository.findByVerifiedAndIdGreaterThanOrderByIdAsc(true, 0L, Limit.of(100)))
+                    .thenReturn(List.of(sampleEmail));
+
+            List<CustomerEmail> result = customerEmailService.getVerifiedEmailsPage(null, 100);
+
+            assertThat(result).containsExactly(sampleEmail);
+        }
+
+        @Test
+        @DisplayName("Should throw ValueOutOfRangeException when page size is out of range")
+        void shouldThrowValueOutOfRangeExceptionWhenPageSizeIsOutOfRange() {
+            assertThatThrownBy(() -> customerEmailService.getVerifiedEmailsPage(VALID_ID, -1))
+                    .isInstanceOf(ValueOutOfRangeException.class);
+
+            verifyNoInteractions(customerEmailRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("streamVerifiedEmails() Tests")
+    class StreamVerifiedEmailsTests {
+
+        @Test
+        @DisplayName("Should detach each email as it is consumed")
+        void shouldDetachEachEmail() {
+            when(customerEmailRepository.streamByVerified(true)).thenReturn(Stream.of(sampleEmail));
+
+            try (Stream<CustomerEmail> stream = customerEmailService.streamVerifiedEmails()) {
+                assertThat(stream).containsExactly(sampleEmail);
+            }
+
+            verify(entityManager).detach(sampleEmail);
+        }
+    }
+
     @Nested
     @DisplayName("getUnverifiedEmails() Tests")
     class GetUnverifiedEmailsTests {
@@ -514,7 +568,7 @@ class CustomerEmailServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(customerEmailRepository.existsByEmail(VALID_EMAIL.toLowerCase()))
+            when(customerEmailRepository.existsByEmail(VALID_EMAIL.toLowerCase(Locale.ROOT)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> customerEmailService.emailExists(VALID_EMAIL))
@@ -567,6 +621,7 @@ class CustomerEmailServiceTest {
             // Verify the business logic outcome - email was found and saved
             verify(customerEmailRepository).findById(VALID_ID);
             verify(customerEmailRepository).save(any(CustomerEmail.class));
+            verify(contactCacheEvictor).evictEmailResolution(VALID_ID);
 
             // Don't test implementation details like field setting order or verification reset
         }
@@ -716,6 +771,7 @@ class CustomerEmailServiceTest {
 
             // Verify deletion happened, but don't dictate the exact implementation approach
             verify(customerEmailRepository).deleteById(VALID_ID);
+            verify(contactCacheEvictor).evictEmailResolution(VALID_ID);
         }
 
         @Test
@@ -1,5 +1,6 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerPhoneRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
 import com.bizwaresol.loyalty_service_club_api.exception.business.duplicate.DuplicatePhoneException;
@@ -36,6 +37,9 @@ class CustomerPhoneServiceTest {
     @Mock
     private CustomerPhoneRepository customerPhoneRepository;
 
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
+
     @InjectMocks
     private CustomerPhoneService customerPhoneService;
 
@@ -560,6 +564,7 @@ class CustomerPhoneServiceTest {
             // Verify business logic flow - find then save
             verify(customerPhoneRepository).findById(VALID_ID);
             verify(customerPhoneRepository).save(any(CustomerPhone.class));
+            verify(contactCacheEvictor).evictPhoneResolution(VALID_ID);
         }
 
         @Test
@@ -707,6 +712,7 @@ class CustomerPhoneServiceTest {
 
             // Verify deletion happened, but don't dictate the exact implementation approach
             verify(customerPhoneRepository).deleteById(VALID_ID);
+            verify(contactCacheEvictor).evictPhoneResolution(VALID_ID);
         }
 
         @Test
@@ -1,5 +1,6 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.repository.CustomerRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.Customer;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
@@ -36,6 +37,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -649,6 +653,8 @@ class CustomerServiceTest {
             assertThat(result).isNotNull();
             verify(customerRepository).findById(VALID_ID);
             verify(customerRepository).save(any(Customer.class));
+            verify(contactCacheEvictor).evictCustomerResolution(VALID_ID);
+            verify(contactCacheEvictor).evictEmailResolution(EMAIL_ID);
         }
 
         @Test
@@ -804,6 +810,7 @@ class CustomerServiceTest {
                     .doesNotThrowAnyException();
 
             verify(customerRepository).deleteById(VALID_ID);
+            verify(contactCacheEvictor).evictCustomerResolution(VALID_ID);
         }
 
         @Test
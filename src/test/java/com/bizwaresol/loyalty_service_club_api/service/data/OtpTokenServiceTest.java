@@ -1,5 +1,7 @@
 package com.bizwaresol.loyalty_service_club_api.service.data;
 
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactResolver;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ResolvedContact;
 import com.bizwaresol.loyalty_service_club_api.data.repository.OtpTokenRepository;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
@@ -38,6 +40,9 @@ class OtpTokenServiceTest {
     @Mock
     private OtpTokenRepository otpTokenRepository;
 
+    @Mock
+    private ContactResolver contactResolver;
+
     @InjectMocks
     private OtpTokenService otpTokenService;
 
@@ -47,15 +52,23 @@ class OtpTokenServiceTest {
     private final String VALID_OTP_CODE = "123456";
     private final String NEW_OTP_CODE = "654321";
     private final String VALID_EMAIL = "test@gmail.com";
+    private final String UNKNOWN_EMAIL = "unknown@gmail.com";
     private final String VALID_PHONE = "+381123456789";
     private final Long VALID_ID = 1L;
     private final Long EMAIL_ID = 2L;
     private final Long PHONE_ID = 3L;
+    private final Long CUSTOMER_ID = 4L;
+    private final Long ACCOUNT_ID = 5L;
     private final OffsetDateTime VALID_EXPIRES_AT = OffsetDateTime.now().plusMinutes(10);
     private final Integer VALID_MAX_ATTEMPTS = 3;
 
     @BeforeEach
     void setUp() {
+        lenient().when(contactResolver.resolveEmail(VALID_EMAIL))
+                .thenReturn(Optional.of(new ResolvedContact(EMAIL_ID, CUSTOMER_ID, ACCOUNT_ID)));
+        lenient().when(contactResolver.resolvePhone(VALID_PHONE))
+                .thenReturn(Optional.of(new ResolvedContact(PHONE_ID, CUSTOMER_ID, ACCOUNT_ID)));
+
         sampleEmail = new CustomerEmail();
         sampleEmail.setId(EMAIL_ID);
         sampleEmail.setEmail(VALID_EMAIL);
@@ -330,22 +343,22 @@ class OtpTokenServiceTest {
         @Test
         @DisplayName("Should find valid email verification OTP successfully")
         void shouldFindValidEmailVerificationOtpSuccessfully() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.of(sampleOtpToken));
 
             OtpToken result = otpTokenService.findValidEmailVerificationOtp(VALID_OTP_CODE, VALID_EMAIL);
 
             assertThat(result).isEqualTo(sampleOtpToken);
-            verify(otpTokenRepository).findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3));
+            verify(otpTokenRepository).findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3));
         }
 
         @Test
         @DisplayName("Should throw OtpTokenNotFoundException when valid OTP does not exist")
         void shouldThrowOtpTokenNotFoundExceptionWhenValidOtpDoesNotExist() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> otpTokenService.findValidEmailVerificationOtp(VALID_OTP_CODE, VALID_EMAIL))
@@ -353,11 +366,21 @@ class OtpTokenServiceTest {
                     .hasMessage("OTP token not found: " + VALID_OTP_CODE);
         }
 
+        @Test
+        @DisplayName("Should throw OtpTokenNotFoundException without querying OTPs when email does not resolve to a contact")
+        void shouldThrowOtpTokenNotFoundExceptionWhenEmailDoesNotResolve() {
+            when(contactResolver.resolveEmail(UNKNOWN_EMAIL)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> otpTokenService.findValidEmailVerificationOtp(VALID_OTP_CODE, UNKNOWN_EMAIL))
+                    .isInstanceOf(OtpTokenNotFoundException.class);
+            verifyNoInteractions(otpTokenRepository);
+        }
+
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class), eq(3)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> otpTokenService.findValidEmailVerificationOtp(VALID_OTP_CODE, VALID_EMAIL))
@@ -381,32 +404,32 @@ class OtpTokenServiceTest {
         @Test
         @DisplayName("Should find latest email verification OTP successfully")
         void shouldFindLatestEmailVerificationOtpSuccessfully() {
-            when(otpTokenRepository.findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION)))
+            when(otpTokenRepository.findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
                     .thenReturn(Optional.of(sampleOtpToken));
 
             Optional<OtpToken> result = otpTokenService.findLatestEmailVerificationOtp(VALID_EMAIL);
 
             assertThat(result).isPresent();
             assertThat(result.get()).isEqualTo(sampleOtpToken);
-            verify(otpTokenRepository).findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION));
+            verify(otpTokenRepository).findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION));
         }
 
         @Test
         @DisplayName("Should return empty when no OTP exists")
         void shouldReturnEmptyWhenNoOtpExists() {
-            when(otpTokenRepository.findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION)))
+            when(otpTokenRepository.findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
                     .thenReturn(Optional.empty());
 
             Optional<OtpToken> result = otpTokenService.findLatestEmailVerificationOtp(VALID_EMAIL);
 
             assertThat(result).isEmpty();
-            verify(otpTokenRepository).findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION));
+            verify(otpTokenRepository).findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION));
         }
 
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(otpTokenRepository.findTopByCustomerEmailEmailAndPurposeOrderByCreatedDateDesc(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION)))
+            when(otpTokenRepository.findTopByCustomerEmailIdAndPurposeOrderByCreatedDateDesc(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> otpTokenService.findLatestEmailVerificationOtp(VALID_EMAIL))
@@ -441,20 +464,31 @@ class OtpTokenServiceTest {
         void shouldCountEmailVerificationOtpsInWindowSuccessfully() {
             OffsetDateTime since = OffsetDateTime.now().minusHours(1);
             long expectedCount = 5L;
-            when(otpTokenRepository.countByCustomerEmailEmailAndPurposeAndCreatedDateAfter(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class)))
+            when(otpTokenRepository.countByCustomerEmailIdAndPurposeAndCreatedDateAfter(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class)))
                     .thenReturn(expectedCount);
 
             long result = otpTokenService.countEmailVerificationOtpsInWindow(VALID_EMAIL, since);
 
             assertThat(result).isEqualTo(expectedCount);
-            verify(otpTokenRepository).countByCustomerEmailEmailAndPurposeAndCreatedDateAfter(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), eq(since));
+            verify(otpTokenRepository).countByCustomerEmailIdAndPurposeAndCreatedDateAfter(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), eq(since));
+        }
+
+        @Test
+        @DisplayName("Should return zero without querying OTPs when email does not resolve to a contact")
+        void shouldReturnZeroWhenEmailDoesNotResolve() {
+            when(contactResolver.resolveEmail(UNKNOWN_EMAIL)).thenReturn(Optional.empty());
+
+            long result = otpTokenService.countEmailVerificationOtpsInWindow(UNKNOWN_EMAIL, OffsetDateTime.now().minusHours(1));
+
+            assertThat(result).isZero();
+            verifyNoInteractions(otpTokenRepository);
         }
 
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
             OffsetDateTime since = OffsetDateTime.now().minusHours(1);
-            when(otpTokenRepository.countByCustomerEmailEmailAndPurposeAndCreatedDateAfter(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class)))
+            when(otpTokenRepository.countByCustomerEmailIdAndPurposeAndCreatedDateAfter(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> otpTokenService.countEmailVerificationOtpsInWindow(VALID_EMAIL, since))
@@ -479,35 +513,53 @@ class OtpTokenServiceTest {
         @DisplayName("Should invalidate active email verification OTPs successfully")
         void shouldInvalidateActiveEmailVerificationOtpsSuccessfully() {
             List<OtpToken> activeOtps = List.of(sampleOtpToken);
-            when(otpTokenRepository.findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION)))
+            when(otpTokenRepository.findByCustomerEmailIdAndPurposeAndUsedAtIsNull(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
                     .thenReturn(activeOtps);
-            when(otpTokenRepository.markOtpsAsUsed(any(List.class), any(OffsetDateTime.class)))
+            when(otpTokenRepository.markOtpsAsUsed(any(List.class), any(OffsetDateTime.class), any(OffsetDateTime.class)))
                     .thenReturn(1);
 
             int result = otpTokenService.invalidateActiveEmailVerificationOtps(VALID_EMAIL);
 
             assertThat(result).isEqualTo(1);
-            verify(otpTokenRepository).findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION));
-            verify(otpTokenRepository).markOtpsAsUsed(eq(activeOtps), any(OffsetDateTime.class));
+            verify(otpTokenRepository).findByCustomerEmailIdAndPurposeAndUsedAtIsNull(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION));
+            verify(otpTokenRepository).markOtpsAsUsed(eq(activeOtps), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should bound the update by the created date of the oldest OTP")
+        void shouldBoundUpdateByOldestCreatedDate() {
+            OtpToken olderOtp = new OtpToken();
+            olderOtp.setId(VALID_ID + 10);
+            olderOtp.setCreatedDate(sampleOtpToken.getCreatedDate().minusMinutes(5));
+            List<OtpToken> activeOtps = List.of(sampleOtpToken, olderOtp);
+            when(otpTokenRepository.findByCustomerEmailIdAndPurposeAndUsedAtIsNull(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
+                    .thenReturn(activeOtps);
+            when(otpTokenRepository.markOtpsAsUsed(any(List.class), any(OffsetDateTime.class), any(OffsetDateTime.class)))
+                    .thenReturn(2);
+
+            int result = otpTokenService.invalidateActiveEmailVerificationOtps(VALID_EMAIL);
+
+            assertThat(result).isEqualTo(2);
+            verify(otpTokenRepository).markOtpsAsUsed(eq(activeOtps), eq(olderOtp.getCreatedDate()), any(OffsetDateTime.class));
         }
 
         @Test
         @DisplayName("Should return 0 when no active OTPs exist")
         void shouldReturn0WhenNoActiveOtpsExist() {
-            when(otpTokenRepository.findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION)))
+            when(otpTokenRepository.findByCustomerEmailIdAndPurposeAndUsedAtIsNull(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
                     .thenReturn(List.of());
 
             int result = otpTokenService.invalidateActiveEmailVerificationOtps(VALID_EMAIL);
 
             assertThat(result).isEqualTo(0);
-            verify(otpTokenRepository).findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION));
-            verify(otpTokenRepository, never()).markOtpsAsUsed(any(List.class), any(OffsetDateTime.class));
+            verify(otpTokenRepository).findByCustomerEmailIdAndPurposeAndUsedAtIsNull(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION));
+            verify(otpTokenRepository, never()).markOtpsAsUsed(any(List.class), any(OffsetDateTime.class), any(OffsetDateTime.class));
         }
 
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(otpTokenRepository.findByCustomerEmailEmailAndPurposeAndUsedAtIsNull(anyString(), eq(OtpPurpose.EMAIL_VERIFICATION)))
+            when(otpTokenRepository.findByCustomerEmailIdAndPurposeAndUsedAtIsNull(eq(EMAIL_ID), eq(OtpPurpose.EMAIL_VERIFICATION)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> otpTokenService.invalidateActiveEmailVerificationOtps(VALID_EMAIL))
@@ -546,22 +598,22 @@ class OtpTokenServiceTest {
             phoneOtpToken.setCustomerPhone(samplePhone);
             phoneOtpToken.setPurpose(OtpPurpose.PHONE_VERIFICATION);
 
-            when(otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.of(phoneOtpToken));
 
             OtpToken result = otpTokenService.findValidPhoneVerificationOtp(VALID_OTP_CODE, VALID_PHONE);
 
             assertThat(result).isEqualTo(phoneOtpToken);
-            verify(otpTokenRepository).findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3));
+            verify(otpTokenRepository).findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3));
         }
 
         @Test
         @DisplayName("Should throw OtpTokenNotFoundException when valid OTP does not exist")
         void shouldThrowOtpTokenNotFoundExceptionWhenValidOtpDoesNotExist() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> otpTokenService.findValidPhoneVerificationOtp(VALID_OTP_CODE, VALID_PHONE))
@@ -572,8 +624,8 @@ class OtpTokenServiceTest {
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PHONE_VERIFICATION), any(OffsetDateTime.class), eq(3)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             assertThatThrownBy(() -> otpTokenService.findValidPhoneVerificationOtp(VALID_OTP_CODE, VALID_PHONE))
@@ -666,31 +718,39 @@ class OtpTokenServiceTest {
         @Test
         @DisplayName("Should throw NullFieldException when otpTokenId is null")
         void shouldThrowNullFieldExceptionWhenOtpTokenIdIsNull() {
-            assertThatThrownBy(() -> otpTokenService.incrementAttemptCount(null))
+            assertThatThrownBy(() -> otpTokenService.incrementAttemptCount(null, sampleOtpToken.getCreatedDate()))
                     .isInstanceOf(NullFieldException.class)
                     .hasMessage("Field 'otpTokenId' cannot be null");
         }
 
+        @Test
+        @DisplayName("Should throw NullFieldException when createdDate is null")
+        void shouldThrowNullFieldExceptionWhenCreatedDateIsNull() {
+            assertThatThrownBy(() -> otpTokenService.incrementAttemptCount(VALID_ID, null))
+                    .isInstanceOf(NullFieldException.class)
+                    .hasMessage("Field 'createdDate' cannot be null");
+        }
+
         @Test
         @DisplayName("Should increment attempt count successfully")
         void shouldIncrementAttemptCountSuccessfully() {
             int expectedRowsAffected = 1;
-            when(otpTokenRepository.incrementAttemptCount(eq(VALID_ID), any(OffsetDateTime.class)))
+            when(otpTokenRepository.incrementAttemptCount(eq(VALID_ID), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class)))
                     .thenReturn(expectedRowsAffected);
 
-            int result = otpTokenService.incrementAttemptCount(VALID_ID);
+            int result = otpTokenService.incrementAttemptCount(VALID_ID, sampleOtpToken.getCreatedDate());
 
             assertThat(result).isEqualTo(expectedRowsAffected);
-            verify(otpTokenRepository).incrementAttemptCount(eq(VALID_ID), any(OffsetDateTime.class));
+            verify(otpTokenRepository).incrementAttemptCount(eq(VALID_ID), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class));
         }
 
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(otpTokenRepository.incrementAttemptCount(eq(VALID_ID), any(OffsetDateTime.class)))
+            when(otpTokenRepository.incrementAttemptCount(eq(VALID_ID), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
-            assertThatThrownBy(() -> otpTokenService.incrementAttemptCount(VALID_ID))
+            assertThatThrownBy(() -> otpTokenService.incrementAttemptCount(VALID_ID, sampleOtpToken.getCreatedDate()))
                     .isInstanceOf(DatabaseSystemException.class)
                     .hasMessageContaining("Unexpected repository error");
         }
@@ -703,31 +763,39 @@ class OtpTokenServiceTest {
         @Test
         @DisplayName("Should throw NullFieldException when otpTokenId is null")
         void shouldThrowNullFieldExceptionWhenOtpTokenIdIsNull() {
-            assertThatThrownBy(() -> otpTokenService.markOtpAsUsed(null))
+            assertThatThrownBy(() -> otpTokenService.markOtpAsUsed(null, sampleOtpToken.getCreatedDate()))
                     .isInstanceOf(NullFieldException.class)
                     .hasMessage("Field 'otpTokenId' cannot be null");
         }
 
+        @Test
+        @DisplayName("Should throw NullFieldException when createdDate is null")
+        void shouldThrowNullFieldExceptionWhenCreatedDateIsNull() {
+            assertThatThrownBy(() -> otpTokenService.markOtpAsUsed(VALID_ID, null))
+                    .isInstanceOf(NullFieldException.class)
+                    .hasMessage("Field 'createdDate' cannot be null");
+        }
+
         @Test
         @DisplayName("Should mark OTP as used successfully")
         void shouldMarkOtpAsUsedSuccessfully() {
             int expectedRowsAffected = 1;
-            when(otpTokenRepository.markOtpAsUsed(eq(VALID_ID), any(OffsetDateTime.class)))
+            when(otpTokenRepository.markOtpAsUsed(eq(VALID_ID), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class)))
                     .thenReturn(expectedRowsAffected);
 
-            int result = otpTokenService.markOtpAsUsed(VALID_ID);
+            int result = otpTokenService.markOtpAsUsed(VALID_ID, sampleOtpToken.getCreatedDate());
 
             assertThat(result).isEqualTo(expectedRowsAffected);
-            verify(otpTokenRepository).markOtpAsUsed(eq(VALID_ID), any(OffsetDateTime.class));
+            verify(otpTokenRepository).markOtpAsUsed(eq(VALID_ID), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class));
         }
 
         @Test
         @DisplayName("Should throw DatabaseSystemException when repository error occurs")
         void shouldThrowDatabaseSystemExceptionWhenRepositoryErrorOccurs() {
-            when(otpTokenRepository.markOtpAsUsed(eq(VALID_ID), any(OffsetDateTime.class)))
+            when(otpTokenRepository.markOtpAsUsed(eq(VALID_ID), eq(sampleOtpToken.getCreatedDate()), any(OffsetDateTime.class)))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
-            assertThatThrownBy(() -> otpTokenService.markOtpAsUsed(VALID_ID))
+            assertThatThrownBy(() -> otpTokenService.markOtpAsUsed(VALID_ID, sampleOtpToken.getCreatedDate()))
                     .isInstanceOf(DatabaseSystemException.class)
                     .hasMessageContaining("Unexpected repository error");
         }
@@ -938,22 +1006,22 @@ class OtpTokenServiceTest {
             passwordResetOtpToken.setPurpose(OtpPurpose.PASSWORD_RESET);
             passwordResetOtpToken.setDeliveryMethod(OtpDeliveryMethod.EMAIL);
 
-            when(otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.of(passwordResetOtpToken));
 
             OtpToken result = otpTokenService.findValidPasswordResetEmailOtp(VALID_OTP_CODE, VALID_EMAIL);
 
             assertThat(result).isEqualTo(passwordResetOtpToken);
-            verify(otpTokenRepository).findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3));
+            verify(otpTokenRepository).findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3));
         }
 
         @Test
         @DisplayName("Should throw OtpTokenNotFoundException when valid password reset OTP does not exist")
         void shouldThrowOtpTokenNotFoundExceptionWhenValidPasswordResetOtpDoesNotExist() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerEmailEmailAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerEmailIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(EMAIL_ID), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> otpTokenService.findValidPasswordResetEmailOtp(VALID_OTP_CODE, VALID_EMAIL))
@@ -975,22 +1043,22 @@ class OtpTokenServiceTest {
             passwordResetPhoneOtpToken.setPurpose(OtpPurpose.PASSWORD_RESET);
             passwordResetPhoneOtpToken.setDeliveryMethod(OtpDeliveryMethod.SMS);
 
-            when(otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.of(passwordResetPhoneOtpToken));
 
             OtpToken result = otpTokenService.findValidPasswordResetPhoneOtp(VALID_OTP_CODE, VALID_PHONE);
 
             assertThat(result).isEqualTo(passwordResetPhoneOtpToken);
-            verify(otpTokenRepository).findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3));
+            verify(otpTokenRepository).findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3));
         }
 
         @Test
         @DisplayName("Should throw OtpTokenNotFoundException when valid password reset phone OTP does not exist")
         void shouldThrowOtpTokenNotFoundExceptionWhenValidPasswordResetPhoneOtpDoesNotExist() {
-            when(otpTokenRepository.findByOtpCodeAndCustomerPhonePhoneAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
-                    anyString(), anyString(), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
+            when(otpTokenRepository.findByOtpCodeAndCustomerPhoneIdAndPurposeAndUsedAtIsNullAndExpiresAtAfterAndAttemptsCountLessThan(
+                    anyString(), eq(PHONE_ID), eq(OtpPurpose.PASSWORD_RESET), any(OffsetDateTime.class), eq(3)))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> otpTokenService.findValidPasswordResetPhoneOtp(VALID_OTP_CODE, VALID_PHONE))
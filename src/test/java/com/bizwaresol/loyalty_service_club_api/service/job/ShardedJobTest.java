@@ -0,0 +1,70 @@
+package com.bizwaresol.loyalty_service_club_api.service.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShardedJob Unit Tests")
+class ShardedJobTest {
+
+    private static final String CLEANUP_SCHEDULE = "db/migration/jobs/V302__schedule_cleanup_jobs.sql";
+    private static final String MASTER_CLEANUP_FUNCTION = "db/migration/functions/V214__create_master_cleanup_function.sql";
+    private static final String MASTER_CLEANUP_JOB = "run_all_cleanup_jobs";
+
+    private static final Pattern SCHEDULED_ROUTINE = Pattern.compile("'(?:SELECT|CALL) (\\w+)\\(\\);'");
+    private static final Pattern CALLED_PROCEDURE = Pattern.compile("CALL (\\w+)\\(FALSE, job_error\\);");
+
+    @Test
+    @DisplayName("Every cleanup job scheduled in pg_cron should have a ShardedJob entry")
+    void everyPgCronCleanupJob_ShouldHaveEntry() throws IOException {
+        // Unscheduling the pg_cron jobs once the runner is on must not stop any of them
+        List<String> scheduled = find(SCHEDULED_ROUTINE, read(CLEANUP_SCHEDULE));
+        assertThat(scheduled).contains(MASTER_CLEANUP_JOB);
+
+        List<String> jobNames = new ArrayList<>();
+        for (String function : scheduled) {
+            if (function.equals(MASTER_CLEANUP_JOB)) {
+                jobNames.addAll(find(CALLED_PROCEDURE, read(MASTER_CLEANUP_FUNCTION)));
+            } else {
+                jobNames.add(function);
+            }
+        }
+
+        assertThat(jobNames).isNotEmpty().allSatisfy(jobName ->
+                assertThatCode(() -> ShardedJob.fromJobName(jobName)).doesNotThrowAnyException());
+    }
+
+    @Test
+    @DisplayName("Partitioned tables should be cleaned up unsharded")
+    void partitionedTableJobs_ShouldNotBeSharded() {
+        assertThat(ShardedJob.CLEANUP_JOB_EXECUTION_AUDIT.isSharded()).isFalse();
+        assertThat(ShardedJob.CLEANUP_ACCOUNT_STATUS_AUDIT.isSharded()).isFalse();
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static String read(String resource) throws IOException {
+        try (InputStream in = ShardedJobTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertThat(in).as(resource).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<String> find(Pattern pattern, String sql) {
+        List<String> functions = new ArrayList<>();
+        Matcher matcher = pattern.matcher(sql);
+        while (matcher.find()) {
+            functions.add(matcher.group(1));
+        }
+        return functions;
+    }
+}
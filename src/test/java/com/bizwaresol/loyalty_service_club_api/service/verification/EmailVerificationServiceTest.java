@@ -6,12 +6,16 @@ package com.bizwaresol.loyalty_service_club_api.service.verification;
 import com.bizwaresol.loyalty_service_club_api.config.properties.SesProperties;
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTemplateProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerEmail;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.OtpToken;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpDeliveryMethod;
 import com.bizwaresol.loyalty_service_club_api.domain.enums.OtpPurpose;
+import com.bizwaresol.loyalty_service_club_api.domain.enums.SecurityEventType;
 import com.bizwaresol.loyalty_service_club_api.exception.business.resource.EmailNotFoundException;
 import com.bizwaresol.loyalty_service_club_api.exception.business.resource.OtpTokenNotFoundException;
 import com.bizwaresol.loyalty_service_club_api.exception.security.auth.customer.otp.sending.OtpDeliveryFailedException;
@@ -20,9 +24,11 @@ import com.bizwaresol.loyalty_service_club_api.exception.system.client.aws.ses.S
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidEmailFormatException;
+import com.bizwaresol.loyalty_service_club_api.metrics.OtpMetrics;
 import com.bizwaresol.loyalty_service_club_api.service.client.SesClientService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerEmailService;
 import com.bizwaresol.loyalty_service_club_api.service.data.OtpTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -44,6 +51,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("EmailVerificationService Unit Tests")
 class EmailVerificationServiceTest {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private OtpTokenService otpTokenService;
     @Mock
@@ -56,6 +65,12 @@ class EmailVerificationServiceTest {
     private VerificationTemplateProperties templateProperties;
     @Mock
     private SesProperties sesProperties;
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
+    @Mock
+    private SecurityEventLog securityEventLog;
+    @Spy
+    private OtpMetrics otpMetrics = new OtpMetrics(meterRegistry);
     @InjectMocks
     private EmailVerificationService emailVerificationService;
 
@@ -202,6 +217,10 @@ class EmailVerificationServiceTest {
             verify(customerEmailService).findByEmail(VALID_EMAIL);
             verify(otpTokenService).invalidateActiveEmailVerificationOtps(VALID_EMAIL);
             verify(otpTokenService).createEmailVerificationOtp(eq(sampleCustomerEmail), anyString(), any(OffsetDateTime.class), eq(MAX_ATTEMPTS));
+            verify(securityEventLog).record(argThat(event -> event.type() == SecurityEventType.OTP_SEND
+                    && event.outcome().equals(MetricNames.OUTCOME_SUCCESS)
+                    && event.identifier().equals(VALID_EMAIL)
+                    && event.otpPurpose() == OtpPurpose.EMAIL_VERIFICATION));
             verify(sesClientService).sendHtmlEmail(eq(SOURCE_EMAIL), eq(VALID_EMAIL), anyString(), anyString());
         }
 
@@ -222,6 +241,9 @@ class EmailVerificationServiceTest {
             assertThat(result.nextAllowedSend()).isNotNull();
 
             verify(otpTokenService, never()).createEmailVerificationOtp(any(), any(), any(), any());
+            assertThat(meterRegistry.get(MetricNames.OTP_SEND)
+                    .tags(MetricNames.TAG_CHANNEL, "email", MetricNames.TAG_PURPOSE, "email_verification")
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_COOLDOWN).timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -241,6 +263,29 @@ class EmailVerificationServiceTest {
             assertThat(result.cooldownMinutes()).isEqualTo(300);
 
             verify(otpTokenService, never()).createEmailVerificationOtp(any(), any(), any(), any());
+            assertThat(meterRegistry.get(MetricNames.OTP_SEND)
+                    .tags(MetricNames.TAG_CHANNEL, "email", MetricNames.TAG_PURPOSE, "email_verification")
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_RATE_LIMITED).timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return rate limit response when hourly send limit is reached")
+        void shouldReturnRateLimitResponseWhenHourlyLimitReached() {
+            when(verificationProperties.getOtpRateLimitResetHours()).thenReturn(1);
+            when(verificationProperties.getOtpRateLimitPerHour()).thenReturn(3);
+
+            when(customerEmailService.findByEmail(VALID_EMAIL)).thenReturn(sampleCustomerEmail);
+            when(otpTokenService.findLatestEmailVerificationOtp(VALID_EMAIL)).thenReturn(Optional.empty());
+            when(otpTokenService.countEmailVerificationOtpsInWindow(eq(VALID_EMAIL), any(OffsetDateTime.class))).thenReturn(3L);
+
+            SendVerificationResponse result = emailVerificationService.sendVerificationCode(VALID_EMAIL);
+
+            assertThat(result.success()).isFalse();
+            assertThat(result.message()).isEqualTo("Rate limit exceeded. Please wait before requesting another code.");
+            assertThat(result.cooldownMinutes()).isEqualTo(3600);
+
+            verify(otpTokenService, never()).createEmailVerificationOtp(any(), any(), any(), any());
+            verify(verificationProperties, never()).getWaitTimeForAttempt(anyInt());
         }
 
         @Test
@@ -360,6 +405,9 @@ class EmailVerificationServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.message()).isEqualTo("Verification code has expired. Please request a new code.");
+            assertThat(meterRegistry.get(MetricNames.OTP_VERIFY)
+                    .tags(MetricNames.TAG_CHANNEL, "email", MetricNames.TAG_PURPOSE, "email_verification")
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_EXPIRED).timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -399,7 +447,7 @@ class EmailVerificationServiceTest {
             assertThat(result.attemptsRemaining()).isEqualTo(2);
             assertThat(result.maxAttemptsReached()).isFalse();
 
-            verify(otpTokenService).incrementAttemptCount(OTP_ID);
+            verify(otpTokenService).incrementAttemptCount(OTP_ID, sampleOtpToken.getCreatedDate());
         }
 
         @Test
@@ -413,8 +461,9 @@ class EmailVerificationServiceTest {
             assertThat(result.success()).isTrue();
             assertThat(result.message()).isEqualTo("Verification successful");
 
-            verify(otpTokenService).markOtpAsUsed(OTP_ID);
+            verify(otpTokenService).markOtpAsUsed(OTP_ID, sampleOtpToken.getCreatedDate());
             verify(customerEmailService, never()).changeVerificationStatus(anyLong(), anyBoolean());
+            verify(contactCacheEvictor).evictEmail(EMAIL_ID);
         }
 
         @Test
@@ -445,7 +494,7 @@ class EmailVerificationServiceTest {
             assertThat(result.attemptsRemaining()).isEqualTo(0);
             assertThat(result.maxAttemptsReached()).isTrue();
 
-            verify(otpTokenService).incrementAttemptCount(OTP_ID);
+            verify(otpTokenService).incrementAttemptCount(OTP_ID, sampleOtpToken.getCreatedDate());
         }
     }
 
@@ -474,7 +523,8 @@ class EmailVerificationServiceTest {
 
             assertThat(result.success()).isTrue();
             assertThat(result.message()).isEqualTo("Verification successful");
-            verify(otpTokenService).markOtpAsUsed(samplePasswordResetOtpToken.getId());
+            verify(otpTokenService).markOtpAsUsed(samplePasswordResetOtpToken.getId(), samplePasswordResetOtpToken.getCreatedDate());
+            verifyNoInteractions(contactCacheEvictor);
         }
 
         @Test
@@ -487,7 +537,7 @@ class EmailVerificationServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.message()).isEqualTo("Invalid verification code. Please try again.");
-            verify(otpTokenService).incrementAttemptCount(samplePasswordResetOtpToken.getId());
+            verify(otpTokenService).incrementAttemptCount(samplePasswordResetOtpToken.getId(), samplePasswordResetOtpToken.getCreatedDate());
         }
     }
 }
@@ -5,6 +5,9 @@ package com.bizwaresol.loyalty_service_club_api.service.verification;
 
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationProperties;
 import com.bizwaresol.loyalty_service_club_api.config.properties.VerificationTemplateProperties;
+import com.bizwaresol.loyalty_service_club_api.constant.MetricNames;
+import com.bizwaresol.loyalty_service_club_api.data.audit.SecurityEventLog;
+import com.bizwaresol.loyalty_service_club_api.data.cache.ContactCacheEvictor;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.SendVerificationResponse;
 import com.bizwaresol.loyalty_service_club_api.data.dto.verification.response.VerifyCodeResponse;
 import com.bizwaresol.loyalty_service_club_api.domain.entity.CustomerPhone;
@@ -23,9 +26,11 @@ import com.bizwaresol.loyalty_service_club_api.exception.validation.field.EmptyF
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.FieldTooShortException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.field.NullFieldException;
 import com.bizwaresol.loyalty_service_club_api.exception.validation.format.InvalidPhoneFormatException;
+import com.bizwaresol.loyalty_service_club_api.metrics.OtpMetrics;
 import com.bizwaresol.loyalty_service_club_api.service.client.SnsClientService;
 import com.bizwaresol.loyalty_service_club_api.service.data.CustomerPhoneService;
 import com.bizwaresol.loyalty_service_club_api.service.data.OtpTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -47,6 +53,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("PhoneVerificationService Unit Tests")
 class PhoneVerificationServiceTest {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private OtpTokenService otpTokenService;
     @Mock
@@ -57,6 +65,12 @@ class PhoneVerificationServiceTest {
     private VerificationProperties verificationProperties;
     @Mock
     private VerificationTemplateProperties templateProperties;
+    @Mock
+    private ContactCacheEvictor contactCacheEvictor;
+    @Mock
+    private SecurityEventLog securityEventLog;
+    @Spy
+    private OtpMetrics otpMetrics = new OtpMetrics(meterRegistry);
     @InjectMocks
     private PhoneVerificationService phoneVerificationService;
 
@@ -214,6 +228,9 @@ class PhoneVerificationServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.message()).isEqualTo("Please wait before requesting another verification code.");
+            assertThat(meterRegistry.get(MetricNames.OTP_SEND)
+                    .tags(MetricNames.TAG_CHANNEL, "sms", MetricNames.TAG_PURPOSE, "phone_verification")
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_COOLDOWN).timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -230,6 +247,28 @@ class PhoneVerificationServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.message()).isEqualTo("Rate limit exceeded. Please wait before requesting another code.");
+            assertThat(meterRegistry.get(MetricNames.OTP_SEND)
+                    .tags(MetricNames.TAG_CHANNEL, "sms", MetricNames.TAG_PURPOSE, "phone_verification")
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_RATE_LIMITED).timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return rate limit response when hourly send limit is reached")
+        void shouldReturnRateLimitResponseWhenHourlyLimitReached() {
+            when(verificationProperties.getOtpRateLimitResetHours()).thenReturn(1);
+            when(verificationProperties.getOtpRateLimitPerHour()).thenReturn(3);
+
+            when(customerPhoneService.findByPhone(VALID_PHONE)).thenReturn(sampleCustomerPhone);
+            when(otpTokenService.findLatestPhoneVerificationOtp(VALID_PHONE)).thenReturn(Optional.empty());
+            when(otpTokenService.countPhoneVerificationOtpsInWindow(eq(VALID_PHONE), any(OffsetDateTime.class))).thenReturn(3L);
+
+            SendVerificationResponse result = phoneVerificationService.sendVerificationCode(VALID_PHONE);
+
+            assertThat(result.success()).isFalse();
+            assertThat(result.cooldownMinutes()).isEqualTo(3600);
+
+            verify(otpTokenService, never()).createPhoneVerificationOtp(any(), any(), any(), any());
+            verify(verificationProperties, never()).getWaitTimeForAttempt(anyInt());
         }
 
         @Test
@@ -325,6 +364,9 @@ class PhoneVerificationServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.message()).isEqualTo("Verification code has expired. Please request a new code.");
+            assertThat(meterRegistry.get(MetricNames.OTP_VERIFY)
+                    .tags(MetricNames.TAG_CHANNEL, "sms", MetricNames.TAG_PURPOSE, "phone_verification")
+                    .tag(MetricNames.TAG_OUTCOME, MetricNames.OUTCOME_EXPIRED).timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -364,7 +406,7 @@ class PhoneVerificationServiceTest {
             assertThat(result.attemptsRemaining()).isEqualTo(2);
             assertThat(result.maxAttemptsReached()).isFalse();
 
-            verify(otpTokenService).incrementAttemptCount(OTP_ID);
+            verify(otpTokenService).incrementAttemptCount(OTP_ID, sampleOtpToken.getCreatedDate());
         }
 
         @Test
@@ -378,8 +420,9 @@ class PhoneVerificationServiceTest {
             assertThat(result.success()).isTrue();
             assertThat(result.message()).isEqualTo("Verification successful");
 
-            verify(otpTokenService).markOtpAsUsed(OTP_ID);
+            verify(otpTokenService).markOtpAsUsed(OTP_ID, sampleOtpToken.getCreatedDate());
             verify(customerPhoneService, never()).changeVerificationStatus(anyLong(), anyBoolean());
+            verify(contactCacheEvictor).evictPhone(PHONE_ID);
         }
     }
 
@@ -407,7 +450,8 @@ class PhoneVerificationServiceTest {
             VerifyCodeResponse result = phoneVerificationService.verifyPasswordResetCode(VALID_PHONE, VALID_OTP_CODE);
 
             assertThat(result.success()).isTrue();
-            verify(otpTokenService).markOtpAsUsed(samplePasswordResetOtpToken.getId());
+            verify(otpTokenService).markOtpAsUsed(samplePasswordResetOtpToken.getId(), samplePasswordResetOtpToken.getCreatedDate());
+            verifyNoInteractions(contactCacheEvictor);
         }
 
         @Test
@@ -419,7 +463,7 @@ class PhoneVerificationServiceTest {
             VerifyCodeResponse result = phoneVerificationService.verifyPasswordResetCode(VALID_PHONE, INVALID_OTP_CODE);
 
             assertThat(result.success()).isFalse();
-            verify(otpTokenService).incrementAttemptCount(samplePasswordResetOtpToken.getId());
+            verify(otpTokenService).incrementAttemptCount(samplePasswordResetOtpToken.getId(), samplePasswordResetOtpToken.getCreatedDate());
         }
     }
 }
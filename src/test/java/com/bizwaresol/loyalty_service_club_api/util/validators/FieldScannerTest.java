@@ -0,0 +1,127 @@
+package com.bizwaresol.loyalty_service_club_api.util.validators;
+
+import com.bizwaresol.loyalty_service_club_api.constant.ValidationConstants;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FieldScanner Unit Tests")
+class FieldScannerTest {
+
+    // ===== TRIM BOUNDS TESTS =====
+
+    @Nested
+    @DisplayName("trimStart()/trimEnd() Tests")
+    class TrimBoundsTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", " ", "abc", "  abc", "abc  ", " \t a b \n ", "\u0000x\u001F"})
+        @DisplayName("Should produce the same region as String.trim()")
+        void shouldProduceSameRegionAsTrim(String value) {
+            int start = FieldScanner.trimStart(value);
+            int end = FieldScanner.trimEnd(value, start);
+
+            assertThat(value.substring(start, end)).isEqualTo(value.trim());
+            assertThat(FieldScanner.trimmedLength(value)).isEqualTo(value.trim().length());
+        }
+    }
+
+    // ===== REGEX EQUIVALENCE TESTS =====
+
+    @Nested
+    @DisplayName("Regex equivalence Tests")
+    class RegexEquivalenceTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"test@gmail.com", " test@gmail.com ", "a.b+c%d_e-f@sub.domain.rs", "a@b.co",
+                "@b.co", "a@.co", "a@b.c", "a@b.c1", "a@b..co", "a@b.co.", "a@@b.co", "a b@c.co", "ab.co",
+                "a@b-c.d-e", "a@b.CoM", "a@1.23"})
+        @DisplayName("isEmail() should match EMAIL_PATTERN")
+        void isEmailShouldMatchEmailPattern(String value) {
+            assertEquivalent(ValidationConstants.EMAIL_PATTERN, value, Matcher.EMAIL);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"+38161234567", "+381612345678", " +381612345678 ", "+3816123456", "+3816123456789",
+                "38161234567", "+38261234567", "+38161234a67", "+381 1234567"})
+        @DisplayName("isSerbianPhone() should match PHONE_PATTERN")
+        void isSerbianPhoneShouldMatchPhonePattern(String value) {
+            assertEquivalent(ValidationConstants.PHONE_PATTERN, value, Matcher.PHONE);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"123456", " 000789 ", "12345", "1234567", "12a456", "12 456"})
+        @DisplayName("isOtpCode() should match OTP_CODE_PATTERN")
+        void isOtpCodeShouldMatchOtpCodePattern(String value) {
+            assertEquivalent(ValidationConstants.OTP_CODE_PATTERN, value, Matcher.OTP);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"123e4567-e89b-12d3-a456-426614174000", " 123E4567-E89B-12D3-A456-426614174000 ",
+                "123e4567e89b12d3a456426614174000", "123e4567-e89b-12d3-a456-42661417400g",
+                "123e4567-e89b-12d3-a456_426614174000", "123e4567-e89b-12d3-a456-4266141740000"})
+        @DisplayName("isUuid() should match UUID_PATTERN")
+        void isUuidShouldMatchUuidPattern(String value) {
+            assertEquivalent(ValidationConstants.UUID_PATTERN, value, Matcher.UUID);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"John", " Mary-Jane ", "O'Neil", "Ana\tMaria", "J0hn", "Jovan Jovanović", "A_B"})
+        @DisplayName("isName() should match NAME_PATTERN")
+        void isNameShouldMatchNamePattern(String value) {
+            assertEquivalent(ValidationConstants.NAME_PATTERN, value, Matcher.NAME);
+        }
+
+        @Test
+        @DisplayName("Should agree with every pattern on randomized input")
+        void shouldAgreeWithEveryPatternOnRandomizedInput() {
+            Random random = new Random(42);
+            String alphabet = "aZ09._%+-@ \t\n'fF\u000Bé";
+            String[] seeds = {"", "+381", "ab.c@d-e.fg", UUID.randomUUID().toString()};
+
+            for (int n = 0; n < 200_000; n++) {
+                StringBuilder value = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+                int edits = random.nextInt(value.isEmpty() ? 30 : 4);
+                for (int i = 0; i < edits; i++) {
+                    value.insert(random.nextInt(value.length() + 1), alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+
+                String input = value.toString();
+                assertEquivalent(ValidationConstants.EMAIL_PATTERN, input, Matcher.EMAIL);
+                assertEquivalent(ValidationConstants.PHONE_PATTERN, input, Matcher.PHONE);
+                assertEquivalent(ValidationConstants.OTP_CODE_PATTERN, input, Matcher.OTP);
+                assertEquivalent(ValidationConstants.UUID_PATTERN, input, Matcher.UUID);
+                assertEquivalent(ValidationConstants.NAME_PATTERN, input, Matcher.NAME);
+            }
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private enum Matcher { EMAIL, PHONE, OTP, UUID, NAME }
+
+    private static void assertEquivalent(Pattern pattern, String value, Matcher matcher) {
+        int start = FieldScanner.trimStart(value);
+        int end = FieldScanner.trimEnd(value, start);
+        boolean scanned = switch (matcher) {
+            case EMAIL -> FieldScanner.isEmail(value, start, end);
+            case PHONE -> FieldScanner.isSerbianPhone(value, start, end);
+            case OTP -> FieldScanner.isOtpCode(value, start, end);
+            case UUID -> FieldScanner.isUuid(value, start, end);
+            case NAME -> FieldScanner.isName(value, start, end);
+        };
+
+        assertThat(scanned)
+                .as("%s scan of [%s]", matcher, value)
+                .isEqualTo(pattern.matcher(value.trim()).matches());
+    }
+}